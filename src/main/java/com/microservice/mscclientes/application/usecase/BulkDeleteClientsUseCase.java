@@ -0,0 +1,153 @@
+package com.microservice.mscclientes.application.usecase;
+
+import com.microservice.mscclientes.domain.entity.ClientDeletionJob;
+import com.microservice.mscclientes.domain.event.ClientsBulkDeletedEvent;
+import com.microservice.mscclientes.domain.repository.ClientDeletionJobRepository;
+import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionChunk;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionCriteria;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Use case for deleting every client that matches a criteria in the background.
+ * The deletion runs as a series of chunks, each a short transaction over the next
+ * few hundred ids, so row locks are held for milliseconds rather than for the
+ * whole deletion. Between chunks the worker sleeps at least as long as the
+ * chunk took times the pause ratio, which caps the share of database time the
+ * deletion takes from regular traffic. Jobs run one at a time on a dedicated
+ * thread; further jobs wait in a bounded queue.
+ */
+@Service
+public class BulkDeleteClientsUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(BulkDeleteClientsUseCase.class);
+
+    private final ClientRepository clientRepository;
+    private final ClientDeletionJobRepository jobRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Executor executor;
+    private final int chunkSize;
+    private final long minPauseMillis;
+    private final double pauseRatio;
+
+    @Autowired
+    public BulkDeleteClientsUseCase(ClientRepository clientRepository,
+                                    ClientDeletionJobRepository jobRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${clients.bulk-delete.chunk-size:500}") int chunkSize,
+                                    @Value("${clients.bulk-delete.pause:50}") long minPauseMillis,
+                                    @Value("${clients.bulk-delete.pause-ratio:1.0}") double pauseRatio,
+                                    @Value("${clients.bulk-delete.max-queued:10}") int maxQueued) {
+        this(clientRepository, jobRepository, eventPublisher, workerExecutor(maxQueued),
+                chunkSize, minPauseMillis, pauseRatio);
+    }
+
+    BulkDeleteClientsUseCase(ClientRepository clientRepository,
+                             ClientDeletionJobRepository jobRepository,
+                             ApplicationEventPublisher eventPublisher,
+                             Executor executor,
+                             int chunkSize,
+                             long minPauseMillis,
+                             double pauseRatio) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunk size must be positive");
+        }
+        this.clientRepository = clientRepository;
+        this.jobRepository = jobRepository;
+        this.eventPublisher = eventPublisher;
+        this.executor = executor;
+        this.chunkSize = chunkSize;
+        this.minPauseMillis = minPauseMillis;
+        this.pauseRatio = pauseRatio;
+    }
+
+    private static ExecutorService workerExecutor(int maxQueued) {
+        return new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(maxQueued),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "client-bulk-delete");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    /**
+     * Execute the bulk delete use case
+     * @param criteria which clients to delete
+     * @return the submitted job; its progress can be followed by id
+     * @throws IllegalStateException if too many jobs are already waiting
+     */
+    public ClientDeletionJob execute(ClientDeletionCriteria criteria) {
+        ClientDeletionJob job = new ClientDeletionJob(UUID.randomUUID().toString(), criteria, LocalDateTime.now());
+        jobRepository.save(job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            job.fail("Rejected: too many bulk deletions queued");
+            throw new IllegalStateException("Too many bulk deletions queued", e);
+        }
+        logger.info("Bulk deletion {} submitted for {}", job.getId(), criteria);
+        return job;
+    }
+
+    void run(ClientDeletionJob job) {
+        job.start();
+        long afterId = 0L;
+        try {
+            while (true) {
+                if (job.isCancelRequested()) {
+                    job.cancel();
+                    break;
+                }
+                long start = System.nanoTime();
+                ClientDeletionChunk chunk = clientRepository.deleteChunk(job.getCriteria(), afterId, chunkSize);
+                long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                job.recordChunk(chunk);
+                afterId = chunk.getLastScannedId();
+                if (chunk.getScanned() < chunkSize) {
+                    job.complete();
+                    break;
+                }
+                pause(Math.max(minPauseMillis, (long) (elapsedMillis * pauseRatio)));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.cancel();
+        } catch (RuntimeException e) {
+            logger.error("Bulk deletion {} failed after {} clients", job.getId(), job.getDeleted(), e);
+            job.fail(e.getMessage());
+        }
+        logger.info("Bulk deletion {} {}: {} clients deleted, {} scanned in {} chunks",
+                job.getId(), job.getStatus(), job.getDeleted(), job.getScanned(), job.getChunks());
+        if (job.getDeleted() > 0) {
+            eventPublisher.publishEvent(new ClientsBulkDeletedEvent(job.getId(), job.getDeleted()));
+        }
+    }
+
+    private static void pause(long millis) throws InterruptedException {
+        if (millis > 0) {
+            Thread.sleep(millis);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor instanceof ExecutorService) {
+            ((ExecutorService) executor).shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.microservice.mscclientes.application.usecase;
+
+import com.microservice.mscclientes.domain.entity.ClientDeletionJob;
+import com.microservice.mscclientes.domain.repository.ClientDeletionJobRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Use case for stopping a bulk deletion job.
+ * The worker stops before its next chunk; chunks already committed stay deleted.
+ */
+@Service
+public class CancelClientDeletionJobUseCase {
+
+    private final ClientDeletionJobRepository jobRepository;
+
+    public CancelClientDeletionJobUseCase(ClientDeletionJobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    /**
+     * Execute the cancel deletion job use case
+     * @param jobId id returned when the job was submitted
+     * @return Optional containing the job if it is still retained; finished jobs are returned unchanged
+     */
+    public Optional<ClientDeletionJob> execute(String jobId) {
+        Optional<ClientDeletionJob> job = jobRepository.findById(jobId);
+        job.ifPresent(ClientDeletionJob::requestCancel);
+        return job;
+    }
+}
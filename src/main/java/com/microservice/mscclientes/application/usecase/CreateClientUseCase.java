@@ -1,9 +1,12 @@
 package com.microservice.mscclientes.application.usecase;
 
 import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.exception.DuplicateClientException;
 import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,19 +23,33 @@ public class CreateClientUseCase {
     private static final Logger logger = LoggerFactory.getLogger(CreateClientUseCase.class);
     
     private final ClientRepository clientRepository;
+    private final boolean duplicateGuardEnabled;
     
-    public CreateClientUseCase(ClientRepository clientRepository) {
+    public CreateClientUseCase(ClientRepository clientRepository,
+                               @Value("${clients.duplicate-guard.enabled:false}") boolean duplicateGuardEnabled) {
         this.clientRepository = clientRepository;
+        this.duplicateGuardEnabled = duplicateGuardEnabled;
     }
     
     /**
      * Execute the create client use case
      * @param client the client to create
      * @return the created client with generated ID
+     * @throws DuplicateClientException if a client with the same normalized name and
+     *         birth date already exists; the unique identity index rejects it on insert,
+     *         and the duplicate guard, when enabled, rejects most before reaching the database
      */
     public Client execute(Client client) {
         logger.info("Creating new client: {}", client.getFullName());
         
+        if (duplicateGuardEnabled) {
+            ClientIdentity identity = ClientIdentity.of(client.getFirstName(), client.getLastName(), client.getBirthDate());
+            if (clientRepository.existsByIdentity(identity)) {
+                logger.warn("Rejecting duplicate client: {}", identity);
+                throw new DuplicateClientException(identity);
+            }
+        }
+        
         // Build client with timestamps
         Client clientToSave = Client.builder()
                 .firstName(client.getFirstName())
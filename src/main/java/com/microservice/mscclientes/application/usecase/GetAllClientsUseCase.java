@@ -2,19 +2,24 @@ package com.microservice.mscclientes.application.usecase;
 
 import com.microservice.mscclientes.domain.entity.Client;
 import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.ClientField;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Use case for retrieving all clients.
  * Implements business logic for client retrieval.
+ * Does not open its own transaction, so reads answered by the in-memory
+ * read model never borrow a database connection.
  */
 @Service
-@Transactional(readOnly = true)
+@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 public class GetAllClientsUseCase {
     
     private static final Logger logger = LoggerFactory.getLogger(GetAllClientsUseCase.class);
@@ -37,4 +42,30 @@ public class GetAllClientsUseCase {
         logger.info("Retrieved {} clients", clients.size());
         return clients;
     }
+    
+    /**
+     * Retrieve all clients reading only what the given fields need
+     * @param fields fields the caller will use
+     * @return list of all clients; fields not needed may be null
+     */
+    public List<Client> execute(Set<ClientField> fields) {
+        logger.info("Retrieving all clients with fields {}", fields);
+        
+        List<Client> clients = clientRepository.findAll(fields);
+        
+        logger.info("Retrieved {} clients", clients.size());
+        return clients;
+    }
+    
+    /**
+     * Retrieve the next page of clients in id order, for callers that walk
+     * every client without holding them all at once
+     * @param afterId exclusive id cursor; 0 to start from the beginning
+     * @param limit maximum number of clients returned
+     * @return up to {@code limit} clients after the cursor
+     */
+    public List<Client> executePage(long afterId, int limit) {
+        logger.debug("Retrieving up to {} clients after id {}", limit, afterId);
+        return clientRepository.findPage(afterId, limit);
+    }
 }
@@ -0,0 +1,68 @@
+package com.microservice.mscclientes.application.usecase;
+
+import com.microservice.mscclientes.domain.entity.ClientChange;
+import com.microservice.mscclientes.domain.repository.ClientChangeRepository;
+import com.microservice.mscclientes.domain.valueobject.ClientChangePage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Use case for reading the client change feed from a cursor.
+ * Only changes older than the visibility delay are returned: sequences are
+ * assigned at insert time, so a slower transaction can commit a lower sequence
+ * after a reader has already moved past it.
+ */
+@Service
+@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+public class GetClientChangesUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(GetClientChangesUseCase.class);
+
+    static final int MAX_LIMIT = 1000;
+
+    private final ClientChangeRepository changeRepository;
+    private final long visibilityDelayMillis;
+
+    public GetClientChangesUseCase(ClientChangeRepository changeRepository,
+                                   @Value("${clients.changes.visibility-delay:2000}") long visibilityDelayMillis) {
+        this.changeRepository = changeRepository;
+        this.visibilityDelayMillis = visibilityDelayMillis;
+    }
+
+    /**
+     * Execute the get client changes use case
+     * @param since sequence of the last change already seen by the reader; 0 to start from the beginning
+     * @param limit maximum number of changes to return
+     * @return page of changes ordered by sequence
+     * @throws IllegalArgumentException if since is negative or limit is not positive
+     */
+    public ClientChangePage execute(long since, int limit) {
+        if (since < 0) {
+            throw new IllegalArgumentException("since must be zero or positive");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("limit must be positive");
+        }
+        int pageSize = Math.min(limit, MAX_LIMIT);
+        logger.debug("Reading client changes after sequence {} (limit {})", since, pageSize);
+
+        LocalDateTime visibleBefore = LocalDateTime.now().minusNanos(visibilityDelayMillis * 1_000_000L);
+        List<ClientChange> changes = changeRepository.findAfter(since, visibleBefore, pageSize + 1);
+
+        boolean hasMore = changes.size() > pageSize;
+        if (hasMore) {
+            changes = changes.subList(0, pageSize);
+        }
+        long nextSince = changes.isEmpty() ? since : changes.get(changes.size() - 1).getSequence();
+        Long oldestAvailable = changeRepository.findOldestSequence().orElse(null);
+
+        return new ClientChangePage(changes, nextSince, hasMore, oldestAvailable);
+    }
+}
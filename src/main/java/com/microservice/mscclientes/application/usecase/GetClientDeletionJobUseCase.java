@@ -0,0 +1,29 @@
+package com.microservice.mscclientes.application.usecase;
+
+import com.microservice.mscclientes.domain.entity.ClientDeletionJob;
+import com.microservice.mscclientes.domain.repository.ClientDeletionJobRepository;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+
+/**
+ * Use case for following the progress of a bulk deletion job.
+ */
+@Service
+public class GetClientDeletionJobUseCase {
+
+    private final ClientDeletionJobRepository jobRepository;
+
+    public GetClientDeletionJobUseCase(ClientDeletionJobRepository jobRepository) {
+        this.jobRepository = jobRepository;
+    }
+
+    /**
+     * Execute the get deletion job use case
+     * @param jobId id returned when the job was submitted
+     * @return Optional containing the job if it is still retained
+     */
+    public Optional<ClientDeletionJob> execute(String jobId) {
+        return jobRepository.findById(jobId);
+    }
+}
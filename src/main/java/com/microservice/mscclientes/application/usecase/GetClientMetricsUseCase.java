@@ -5,14 +5,17 @@ import com.microservice.mscclientes.domain.valueobject.ClientMetrics;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Use case for calculating client age metrics.
  * Implements business logic for statistical calculations.
+ * Joins a surrounding transaction if present; the repository owns the
+ * transaction when the metrics have to be queried from the database.
  */
 @Service
-@Transactional(readOnly = true)
+@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
 public class GetClientMetricsUseCase {
     
     private static final Logger logger = LoggerFactory.getLogger(GetClientMetricsUseCase.class);
@@ -0,0 +1,49 @@
+package com.microservice.mscclientes.application.usecase;
+
+import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.ClientNameStatistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Use case for calculating distinct name counts and the most common last names.
+ * Implements business logic for name analytics.
+ */
+@Service
+@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+public class GetClientNameMetricsUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(GetClientNameMetricsUseCase.class);
+
+    static final int MAX_TOP = 100;
+
+    private final ClientRepository clientRepository;
+
+    public GetClientNameMetricsUseCase(ClientRepository clientRepository) {
+        this.clientRepository = clientRepository;
+    }
+
+    /**
+     * Execute the get client name metrics use case
+     * @param top number of most common last names to return, between 1 and 100
+     * @return name statistics
+     * @throws IllegalArgumentException if top is out of range
+     */
+    public ClientNameStatistics execute(int top) {
+        if (top <= 0 || top > MAX_TOP) {
+            throw new IllegalArgumentException("Top must be between 1 and " + MAX_TOP);
+        }
+        logger.info("Calculating client name metrics with top {} last names", top);
+
+        ClientNameStatistics statistics = clientRepository.calculateNameStatistics(top);
+
+        logger.info("Calculated name metrics - Distinct first names: {}, Distinct last names: {}, Approximate: {}",
+                statistics.getDistinctFirstNames().getEstimate(),
+                statistics.getDistinctLastNames().getEstimate(),
+                statistics.isApproximate());
+        return statistics;
+    }
+}
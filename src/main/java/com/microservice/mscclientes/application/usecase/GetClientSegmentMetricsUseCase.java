@@ -0,0 +1,49 @@
+package com.microservice.mscclientes.application.usecase;
+
+import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.ClientSegmentMetrics;
+import com.microservice.mscclientes.domain.valueobject.SegmentDimension;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Use case for calculating client age metrics broken down by segment.
+ * Implements business logic for grouped statistical calculations.
+ */
+@Service
+@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+public class GetClientSegmentMetricsUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(GetClientSegmentMetricsUseCase.class);
+
+    private final ClientRepository clientRepository;
+
+    public GetClientSegmentMetricsUseCase(ClientRepository clientRepository) {
+        this.clientRepository = clientRepository;
+    }
+
+    /**
+     * Execute the get client segment metrics use case
+     * @param dimensions dimensions to segment by; duplicates are ignored
+     * @return metrics per segment, ordered by segment labels
+     */
+    public List<ClientSegmentMetrics> execute(List<SegmentDimension> dimensions) {
+        List<SegmentDimension> distinctDimensions = new ArrayList<>(new LinkedHashSet<>(dimensions));
+        logger.info("Calculating client age metrics segmented by {}", distinctDimensions);
+
+        List<ClientSegmentMetrics> segments =
+                new ArrayList<>(clientRepository.calculateSegmentedAgeMetrics(distinctDimensions));
+        segments.sort(Comparator.comparing(metrics -> String.join("|", metrics.getSegment().values())));
+
+        logger.info("Calculated metrics for {} segments", segments.size());
+        return segments;
+    }
+}
@@ -0,0 +1,34 @@
+package com.microservice.mscclientes.application.usecase;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.repository.ClientRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Use case for retrieving one client by ID.
+ * Does not open its own transaction, so reads answered by the in-memory
+ * read model never borrow a database connection.
+ */
+@Service
+@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+public class GetClientUseCase {
+
+    private final ClientRepository clientRepository;
+
+    public GetClientUseCase(ClientRepository clientRepository) {
+        this.clientRepository = clientRepository;
+    }
+
+    /**
+     * Execute the get client use case
+     * @param id the client ID
+     * @return Optional containing the client if found
+     */
+    public Optional<Client> execute(Long id) {
+        return clientRepository.findById(id);
+    }
+}
@@ -0,0 +1,46 @@
+package com.microservice.mscclientes.application.usecase;
+
+import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+import com.microservice.mscclientes.domain.valueobject.ClientWindowMetrics;
+import com.microservice.mscclientes.domain.valueobject.MetricsWindow;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Use case for calculating age metrics of clients created within a rolling window.
+ * Implements business logic for time-windowed statistical calculations.
+ */
+@Service
+@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+public class GetClientWindowMetricsUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(GetClientWindowMetricsUseCase.class);
+
+    private final ClientRepository clientRepository;
+
+    public GetClientWindowMetricsUseCase(ClientRepository clientRepository) {
+        this.clientRepository = clientRepository;
+    }
+
+    /**
+     * Execute the get client window metrics use case
+     * @param window rolling window ending now
+     * @return metrics for clients created within the window
+     */
+    public ClientWindowMetrics execute(MetricsWindow window) {
+        LocalDateTime to = LocalDateTime.now();
+        LocalDateTime from = to.minus(window.getDuration());
+        logger.info("Calculating client age metrics for clients created in the last {}", window);
+
+        AgeAggregate ages = clientRepository.aggregateAgesCreatedBetween(from, to);
+
+        logger.info("Calculated window metrics - Created: {}, Average: {}", ages.getCount(), ages.getAverage());
+        return new ClientWindowMetrics(window, from, to, ages);
+    }
+}
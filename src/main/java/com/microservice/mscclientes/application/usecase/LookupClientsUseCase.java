@@ -0,0 +1,64 @@
+package com.microservice.mscclientes.application.usecase;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.ClientLookup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Use case for retrieving many clients by ID in one request.
+ * The distinct IDs are sorted and cut into chunks, each fetched with one
+ * repository call, so the database sees a few bounded IN lists over narrow
+ * primary key ranges instead of one statement per ID or a single huge one.
+ * Like the single-client lookup it opens no transaction of its own, so a
+ * lookup answered by the read model never borrows a connection.
+ */
+@Service
+@Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+public class LookupClientsUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(LookupClientsUseCase.class);
+
+    private final ClientRepository clientRepository;
+    private final int chunkSize;
+
+    public LookupClientsUseCase(ClientRepository clientRepository,
+                                @Value("${clients.lookup.chunk-size:500}") int chunkSize) {
+        this.clientRepository = clientRepository;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Execute the lookup
+     * @param ids requested IDs; duplicates are answered once
+     * @return the requested IDs in order with the clients found
+     * @throws IllegalArgumentException if the list is empty, too long or holds a non-positive id
+     */
+    public ClientLookup execute(List<Long> ids) {
+        List<Long> distinct = ClientLookup.distinctIds(ids);
+        List<Long> sorted = new ArrayList<>(distinct);
+        sorted.sort(null);
+
+        Map<Long, Client> found = new HashMap<>(distinct.size() * 2);
+        for (int from = 0; from < sorted.size(); from += chunkSize) {
+            List<Long> chunk = sorted.subList(from, Math.min(from + chunkSize, sorted.size()));
+            for (Client client : clientRepository.findAllById(chunk)) {
+                found.put(client.getId(), client);
+            }
+        }
+        ClientLookup lookup = new ClientLookup(distinct, found);
+        logger.debug("Looked up {} clients in {} chunks: {} found", distinct.size(),
+                (sorted.size() + chunkSize - 1) / chunkSize, lookup.getFoundCount());
+        return lookup;
+    }
+}
@@ -0,0 +1,77 @@
+package com.microservice.mscclientes.application.usecase;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.exception.ClientVersionConflictException;
+import com.microservice.mscclientes.domain.exception.DuplicateClientException;
+import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
+import com.microservice.mscclientes.domain.valueobject.ClientPatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * Use case for partially updating a client.
+ * The patch is written without reading the client first; concurrent editors are
+ * told apart by the client version rather than by row locks. The stored client
+ * is only read when the duplicate guard is enabled and the patch changes the
+ * name or birth date, since the resulting identity depends on the other fields.
+ */
+@Service
+@Transactional
+public class UpdateClientUseCase {
+
+    private static final Logger logger = LoggerFactory.getLogger(UpdateClientUseCase.class);
+
+    private final ClientRepository clientRepository;
+    private final boolean duplicateGuardEnabled;
+
+    public UpdateClientUseCase(ClientRepository clientRepository,
+                               @Value("${clients.duplicate-guard.enabled:false}") boolean duplicateGuardEnabled) {
+        this.clientRepository = clientRepository;
+        this.duplicateGuardEnabled = duplicateGuardEnabled;
+    }
+
+    /**
+     * Execute the update client use case
+     * @param id the client ID
+     * @param patch fields to change
+     * @param expectedVersion version the caller last saw, or null to update unconditionally
+     * @return Optional containing the updated client, empty if no client has this ID
+     * @throws ClientVersionConflictException if the client is no longer at the expected version
+     * @throws DuplicateClientException if the update would give the client the identity
+     *         of another one; checked up front only when the duplicate guard is enabled
+     */
+    public Optional<Client> execute(Long id, ClientPatch patch, Long expectedVersion) {
+        logger.info("Updating client {} with {}", id, patch);
+
+        if (duplicateGuardEnabled && changesIdentity(patch)) {
+            Optional<Client> current = clientRepository.findById(id);
+            if (current.isEmpty()) {
+                return Optional.empty();
+            }
+            Client client = current.get();
+            ClientIdentity before = ClientIdentity.of(client.getFirstName(), client.getLastName(), client.getBirthDate());
+            ClientIdentity after = ClientIdentity.of(
+                    patch.getFirstName() != null ? patch.getFirstName() : client.getFirstName(),
+                    patch.getLastName() != null ? patch.getLastName() : client.getLastName(),
+                    patch.getBirthDate() != null ? patch.getBirthDate() : client.getBirthDate());
+            if (!after.equals(before) && clientRepository.existsByIdentity(after)) {
+                logger.warn("Rejecting update of client {} to duplicate identity: {}", id, after);
+                throw new DuplicateClientException(after);
+            }
+        }
+
+        Optional<Client> updated = clientRepository.update(id, patch, expectedVersion);
+        updated.ifPresent(client -> logger.info("Client {} updated to version {}", id, client.getVersion()));
+        return updated;
+    }
+
+    private static boolean changesIdentity(ClientPatch patch) {
+        return patch.getFirstName() != null || patch.getLastName() != null || patch.getBirthDate() != null;
+    }
+}
@@ -1,5 +1,6 @@
 package com.microservice.mscclientes.domain.entity;
 
+import com.microservice.mscclientes.domain.exception.ClientValidationException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Period;
@@ -16,10 +17,42 @@ public class Client {
     private LocalDate birthDate;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
+    private LocalDate estimatedDeathDate;
 
     // Private constructor for Builder pattern
     private Client() {}
 
+    /**
+     * Reconstitute a client loaded from storage.
+     * Skips validation: stored rows were validated when written and are
+     * guarded by the table's constraints. Only persistence adapters should
+     * call this; new or user-supplied data must go through {@link #builder()}.
+     */
+    public static Client reconstitute(Long id, String firstName, String lastName, Integer age,
+                                      LocalDate birthDate, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        return reconstitute(id, firstName, lastName, age, birthDate, createdAt, updatedAt, null);
+    }
+
+    /**
+     * Reconstitute a client loaded from storage together with its version,
+     * which increases on every update and backs optimistic concurrency checks
+     */
+    public static Client reconstitute(Long id, String firstName, String lastName, Integer age,
+                                      LocalDate birthDate, LocalDateTime createdAt, LocalDateTime updatedAt,
+                                      Long version) {
+        Client client = new Client();
+        client.id = id;
+        client.firstName = firstName;
+        client.lastName = lastName;
+        client.age = age;
+        client.birthDate = birthDate;
+        client.createdAt = createdAt;
+        client.updatedAt = updatedAt;
+        client.version = version;
+        return client;
+    }
+
     // Builder pattern implementation
     public static class Builder {
         private Client client = new Client();
@@ -59,6 +92,11 @@ public class Client {
             return this;
         }
 
+        public Builder version(Long version) {
+            client.version = version;
+            return this;
+        }
+
         public Client build() {
             validateClient(client);
             return client;
@@ -66,19 +104,19 @@ public class Client {
 
         private void validateClient(Client client) {
             if (client.firstName == null || client.firstName.trim().isEmpty()) {
-                throw new IllegalArgumentException("First name cannot be null or empty");
+                throw new ClientValidationException("First name cannot be null or empty");
             }
             if (client.lastName == null || client.lastName.trim().isEmpty()) {
-                throw new IllegalArgumentException("Last name cannot be null or empty");
+                throw new ClientValidationException("Last name cannot be null or empty");
             }
             if (client.age == null || client.age < 0 || client.age > 150) {
-                throw new IllegalArgumentException("Age must be between 0 and 150");
+                throw new ClientValidationException("Age must be between 0 and 150");
             }
             if (client.birthDate == null) {
-                throw new IllegalArgumentException("Birth date cannot be null");
+                throw new ClientValidationException("Birth date cannot be null");
             }
-            if (client.birthDate.isAfter(LocalDate.now())) {
-                throw new IllegalArgumentException("Birth date cannot be in the future");
+            if (client.birthDate.isAfter(DayClock.today())) {
+                throw new ClientValidationException("Birth date cannot be in the future");
             }
         }
     }
@@ -89,8 +127,13 @@ public class Client {
 
     // Business logic methods
     public LocalDate calculateEstimatedDeathDate() {
-        // Using average life expectancy of 78 years
-        return this.birthDate.plusYears(78);
+        // Using average life expectancy of 78 years; updates build a new Client, so compute once
+        LocalDate deathDate = this.estimatedDeathDate;
+        if (deathDate == null) {
+            deathDate = this.birthDate.plusYears(78);
+            this.estimatedDeathDate = deathDate;
+        }
+        return deathDate;
     }
 
     public boolean isAdult() {
@@ -102,7 +145,7 @@ public class Client {
     }
 
     public int calculateCurrentAge() {
-        return Period.between(this.birthDate, LocalDate.now()).getYears();
+        return Period.between(this.birthDate, DayClock.today()).getYears();
     }
 
     // Getters
@@ -134,6 +177,13 @@ public class Client {
         return updatedAt;
     }
 
+    /**
+     * Version of the stored row; null for clients not yet persisted
+     */
+    public Long getVersion() {
+        return version;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
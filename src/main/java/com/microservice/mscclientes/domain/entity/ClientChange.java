@@ -0,0 +1,84 @@
+package com.microservice.mscclientes.domain.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * Client change feed entry.
+ * Records one committed write to a client, identified by a monotonically
+ * increasing sequence assigned by the store.
+ */
+public class ClientChange {
+
+    /**
+     * Kind of write recorded by a change
+     */
+    public enum Type {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Long sequence;
+    private final Long clientId;
+    private final Type type;
+    private final Client client;
+    private final LocalDateTime occurredAt;
+
+    public ClientChange(Long sequence, Long clientId, Type type, Client client, LocalDateTime occurredAt) {
+        this.sequence = sequence;
+        this.clientId = clientId;
+        this.type = type;
+        this.client = client;
+        this.occurredAt = occurredAt;
+    }
+
+    /**
+     * Creation of a client, dated at the client's creation time so windows over
+     * the feed and over the clients table put it in the same instant
+     */
+    public static ClientChange created(Client client) {
+        LocalDateTime occurredAt = client.getCreatedAt() != null ? client.getCreatedAt() : LocalDateTime.now();
+        return new ClientChange(null, client.getId(), Type.CREATED, client, occurredAt);
+    }
+
+    public static ClientChange updated(Client client) {
+        return new ClientChange(null, client.getId(), Type.UPDATED, client, LocalDateTime.now());
+    }
+
+    public static ClientChange deleted(Long clientId) {
+        return new ClientChange(null, clientId, Type.DELETED, null, LocalDateTime.now());
+    }
+
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public Long getClientId() {
+        return clientId;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Client state after the change; null for deletions
+     */
+    public Client getClient() {
+        return client;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientChange{" +
+                "sequence=" + sequence +
+                ", clientId=" + clientId +
+                ", type=" + type +
+                ", occurredAt=" + occurredAt +
+                '}';
+    }
+}
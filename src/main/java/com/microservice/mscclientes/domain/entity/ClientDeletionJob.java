@@ -0,0 +1,158 @@
+package com.microservice.mscclientes.domain.entity;
+
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionChunk;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionCriteria;
+
+import java.time.LocalDateTime;
+
+/**
+ * Bulk deletion job.
+ * Tracks the progress of a deletion that runs in the background as a series
+ * of small chunks. The job is updated by the worker thread and read by status
+ * requests, so every accessor is synchronized.
+ */
+public class ClientDeletionJob {
+
+    /**
+     * Lifecycle of a job; COMPLETED, FAILED and CANCELLED are final
+     */
+    public enum Status {
+        PENDING,
+        RUNNING,
+        COMPLETED,
+        FAILED,
+        CANCELLED;
+
+        public boolean isFinished() {
+            return this == COMPLETED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    private final String id;
+    private final ClientDeletionCriteria criteria;
+    private final LocalDateTime submittedAt;
+
+    private Status status = Status.PENDING;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long lastScannedId;
+    private long scanned;
+    private long deleted;
+    private int chunks;
+    private boolean cancelRequested;
+    private String error;
+
+    public ClientDeletionJob(String id, ClientDeletionCriteria criteria, LocalDateTime submittedAt) {
+        this.id = id;
+        this.criteria = criteria;
+        this.submittedAt = submittedAt;
+    }
+
+    public synchronized void start() {
+        if (status == Status.PENDING) {
+            status = Status.RUNNING;
+            startedAt = LocalDateTime.now();
+        }
+    }
+
+    public synchronized void recordChunk(ClientDeletionChunk chunk) {
+        lastScannedId = chunk.getLastScannedId();
+        scanned += chunk.getScanned();
+        deleted += chunk.getDeletedIds().size();
+        chunks++;
+    }
+
+    public synchronized void complete() {
+        finish(Status.COMPLETED);
+    }
+
+    public synchronized void fail(String reason) {
+        error = reason;
+        finish(Status.FAILED);
+    }
+
+    public synchronized void cancel() {
+        finish(Status.CANCELLED);
+    }
+
+    /**
+     * Ask the worker to stop after the chunk in progress
+     * @return false if the job had already finished
+     */
+    public synchronized boolean requestCancel() {
+        if (status.isFinished()) {
+            return false;
+        }
+        cancelRequested = true;
+        return true;
+    }
+
+    private void finish(Status finalStatus) {
+        if (!status.isFinished()) {
+            status = finalStatus;
+            finishedAt = LocalDateTime.now();
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public ClientDeletionCriteria getCriteria() {
+        return criteria;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public synchronized Status getStatus() {
+        return status;
+    }
+
+    public synchronized LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public synchronized LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    /**
+     * Id of the last row examined; the deletion resumes after it
+     */
+    public synchronized long getLastScannedId() {
+        return lastScannedId;
+    }
+
+    public synchronized long getScanned() {
+        return scanned;
+    }
+
+    public synchronized long getDeleted() {
+        return deleted;
+    }
+
+    public synchronized int getChunks() {
+        return chunks;
+    }
+
+    public synchronized boolean isCancelRequested() {
+        return cancelRequested;
+    }
+
+    public synchronized String getError() {
+        return error;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "ClientDeletionJob{" +
+                "id='" + id + '\'' +
+                ", criteria=" + criteria +
+                ", status=" + status +
+                ", scanned=" + scanned +
+                ", deleted=" + deleted +
+                '}';
+    }
+}
@@ -0,0 +1,48 @@
+package com.microservice.mscclientes.domain.entity;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Today's date, recomputed only when the current day ends.
+ * Date-derived values are evaluated for every client in a list, and
+ * LocalDate.now() resolves the zone and converts the instant on each call;
+ * here the common path is a single comparison against the end of the day.
+ */
+final class DayClock {
+
+    private static volatile Day current = Day.containing(System.currentTimeMillis());
+
+    private DayClock() {}
+
+    static LocalDate today() {
+        Day day = current;
+        long now = System.currentTimeMillis();
+        if (now >= day.endMillis || now < day.startMillis) {
+            day = Day.containing(now);
+            current = day;
+        }
+        return day.date;
+    }
+
+    private static final class Day {
+        private final LocalDate date;
+        private final long startMillis;
+        private final long endMillis;
+
+        private Day(LocalDate date, long startMillis, long endMillis) {
+            this.date = date;
+            this.startMillis = startMillis;
+            this.endMillis = endMillis;
+        }
+
+        static Day containing(long epochMillis) {
+            ZoneId zone = ZoneId.systemDefault();
+            LocalDate date = Instant.ofEpochMilli(epochMillis).atZone(zone).toLocalDate();
+            return new Day(date,
+                    date.atStartOfDay(zone).toInstant().toEpochMilli(),
+                    date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli());
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.microservice.mscclientes.domain.event;
+
+/**
+ * Domain event raised when a bulk deletion job stops after removing at least
+ * one client. Row-level writes already keep the read model and response cache
+ * current; listeners use this event to rebuild approximate aggregates that
+ * cannot forget individual clients.
+ */
+public class ClientsBulkDeletedEvent {
+    private final String jobId;
+    private final long deleted;
+
+    public ClientsBulkDeletedEvent(String jobId, long deleted) {
+        this.jobId = jobId;
+        this.deleted = deleted;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public long getDeleted() {
+        return deleted;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientsBulkDeletedEvent{" +
+                "jobId='" + jobId + '\'' +
+                ", deleted=" + deleted +
+                '}';
+    }
+}
@@ -0,0 +1,18 @@
+package com.microservice.mscclientes.domain.exception;
+
+/**
+ * Thrown when client data breaks a domain rule.
+ * Rejections are expected input handling, not faults, so no stack trace is
+ * captured; extends IllegalArgumentException so existing handlers still apply.
+ */
+public class ClientValidationException extends IllegalArgumentException {
+
+    public ClientValidationException(String message) {
+        super(message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
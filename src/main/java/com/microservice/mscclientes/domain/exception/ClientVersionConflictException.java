@@ -0,0 +1,31 @@
+package com.microservice.mscclientes.domain.exception;
+
+/**
+ * Thrown when a conditional update targets a client version that is no
+ * longer current because another writer updated the client first.
+ * Captures no stack trace, as it reports an expected race rather than a fault.
+ */
+public class ClientVersionConflictException extends RuntimeException {
+
+    private final Long clientId;
+    private final long expectedVersion;
+
+    public ClientVersionConflictException(Long clientId, long expectedVersion) {
+        super("Client " + clientId + " is no longer at version " + expectedVersion);
+        this.clientId = clientId;
+        this.expectedVersion = expectedVersion;
+    }
+
+    public Long getClientId() {
+        return clientId;
+    }
+
+    public long getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
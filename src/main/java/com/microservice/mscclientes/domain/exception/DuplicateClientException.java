@@ -0,0 +1,26 @@
+package com.microservice.mscclientes.domain.exception;
+
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
+
+/**
+ * Thrown when creating a client whose identity already exists.
+ * Captures no stack trace, as it reports expected input rather than a fault.
+ */
+public class DuplicateClientException extends RuntimeException {
+
+    private final ClientIdentity identity;
+
+    public DuplicateClientException(ClientIdentity identity) {
+        super("A client with the same name and birth date already exists");
+        this.identity = identity;
+    }
+
+    public ClientIdentity getIdentity() {
+        return identity;
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -0,0 +1,77 @@
+package com.microservice.mscclientes.domain.repository;
+
+import com.microservice.mscclientes.domain.entity.ClientChange;
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for the client change feed.
+ * Defines the contract for appending and reading change records.
+ * This is part of the domain layer and should not have framework dependencies.
+ */
+public interface ClientChangeRepository {
+
+    /**
+     * Append a change; must run in the same transaction as the write it records
+     * @param change the change to record
+     * @return the stored change with its assigned sequence
+     */
+    ClientChange append(ClientChange change);
+
+    /**
+     * Find changes after a sequence, oldest first
+     * @param sequence exclusive lower bound
+     * @param visibleBefore only changes that occurred before this instant are returned
+     * @param limit maximum number of changes
+     * @return changes ordered by sequence
+     */
+    List<ClientChange> findAfter(long sequence, LocalDateTime visibleBefore, int limit);
+
+    /**
+     * Find the oldest sequence still retained
+     * @return Optional containing the oldest sequence if any change is stored
+     */
+    Optional<Long> findOldestSequence();
+
+    /**
+     * Find the newest sequence assigned so far
+     * @return Optional containing the newest sequence if any change is stored
+     */
+    Optional<Long> findLatestSequence();
+
+    /**
+     * Find the newest sequence among changes that occurred before an instant.
+     * With the instant set back by the visibility delay, every transaction
+     * holding a lower sequence has committed, so the result is safe to use as
+     * a high-water mark for a read of the clients table taken afterwards.
+     * @param before only changes that occurred before this instant are considered
+     * @return Optional containing the sequence if any such change is stored
+     */
+    Optional<Long> findLatestSequenceBefore(LocalDateTime before);
+
+    /**
+     * Find when the oldest retained change occurred; every change from then on is still stored
+     * @return Optional containing the time of the oldest change if any change is stored
+     */
+    Optional<LocalDateTime> findOldestChangeTime();
+
+    /**
+     * Aggregate the ages clients were created with, from the CREATED changes in a range.
+     * Clients updated or deleted since are still counted, with their age at creation.
+     * @param from inclusive start of the range
+     * @param to exclusive end of the range
+     * @return age aggregate of the creations in the range
+     */
+    AgeAggregate aggregateCreatedAgesBetween(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Delete one batch of changes older than the cutoff
+     * @param cutoff changes that occurred before this instant are removed
+     * @param batchSize maximum number of rows removed
+     * @return number of rows removed
+     */
+    int deleteOlderThan(LocalDateTime cutoff, int batchSize);
+}
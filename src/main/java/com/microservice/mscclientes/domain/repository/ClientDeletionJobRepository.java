@@ -0,0 +1,25 @@
+package com.microservice.mscclientes.domain.repository;
+
+import com.microservice.mscclientes.domain.entity.ClientDeletionJob;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for bulk deletion jobs.
+ * This is part of the domain layer and should not have framework dependencies.
+ */
+public interface ClientDeletionJobRepository {
+
+    /**
+     * Store a job so its progress can be looked up by id
+     * @param job the job to store
+     */
+    void save(ClientDeletionJob job);
+
+    /**
+     * Find a job by id
+     * @param id the job id
+     * @return Optional containing the job if it is still retained
+     */
+    Optional<ClientDeletionJob> findById(String id);
+}
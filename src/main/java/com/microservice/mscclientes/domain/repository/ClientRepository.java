@@ -1,10 +1,22 @@
 package com.microservice.mscclientes.domain.repository;
 
 import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionChunk;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionCriteria;
+import com.microservice.mscclientes.domain.valueobject.ClientField;
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
 import com.microservice.mscclientes.domain.valueobject.ClientMetrics;
+import com.microservice.mscclientes.domain.valueobject.ClientNameStatistics;
+import com.microservice.mscclientes.domain.valueobject.ClientPatch;
+import com.microservice.mscclientes.domain.valueobject.ClientSegmentMetrics;
+import com.microservice.mscclientes.domain.valueobject.SegmentDimension;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Repository interface for Client entity.
@@ -27,18 +39,68 @@ public interface ClientRepository {
      */
     Optional<Client> findById(Long id);
     
+    /**
+     * Find the clients with the given IDs.
+     * Callers keep each call to a few hundred IDs, so implementations can
+     * answer it with a single IN list per database
+     * @param ids the client IDs, without duplicates
+     * @return the clients found, in no particular order; IDs with no client are left out
+     */
+    List<Client> findAllById(Collection<Long> ids);
+    
+    /**
+     * Update only the fields set in the patch and increment the client version.
+     * With an expected version the write succeeds only if the stored version still
+     * matches; without one the patch is applied to whatever version is current
+     * @param id the client ID
+     * @param patch fields to change
+     * @param expectedVersion version the caller last saw, or null to skip the check
+     * @return Optional containing the updated client, empty if no client has this ID
+     * @throws com.microservice.mscclientes.domain.exception.ClientVersionConflictException if the version no longer matches
+     */
+    Optional<Client> update(Long id, ClientPatch patch, Long expectedVersion);
+    
     /**
      * Find all clients
      * @return list of all clients
      */
     List<Client> findAll();
     
+    /**
+     * Find all clients, reading only the stored fields needed for the given ones.
+     * The ID and version are always read; other fields not needed may be left
+     * null, and implementations that hold whole clients anyway may fill them in
+     * @param fields fields the caller will use
+     * @return list of all clients
+     */
+    List<Client> findAll(Set<ClientField> fields);
+    
+    /**
+     * Find the next page of clients in id order.
+     * Lets callers walk every client while holding one page at a time
+     * @param afterId exclusive id cursor; 0 to start from the beginning
+     * @param limit maximum number of clients returned
+     * @return up to {@code limit} clients with an id greater than {@code afterId}, in id order
+     */
+    List<Client> findPage(long afterId, int limit);
+    
     /**
      * Delete a client by ID
      * @param id the client ID to delete
      */
     void deleteById(Long id);
     
+    /**
+     * Delete one chunk of a bulk deletion in its own short transaction.
+     * Examines at most {@code limit} clients with an id greater than {@code afterId},
+     * in id order, and deletes those that match the criteria
+     * @param criteria which clients to delete
+     * @param afterId exclusive id cursor; 0 to start from the beginning
+     * @param limit maximum number of clients examined
+     * @return the ids deleted and the cursor to resume from; scanned below limit means the end was reached
+     */
+    ClientDeletionChunk deleteChunk(ClientDeletionCriteria criteria, long afterId, int limit);
+    
     /**
      * Check if a client exists by ID
      * @param id the client ID
@@ -46,6 +108,13 @@ public interface ClientRepository {
      */
     boolean existsById(Long id);
     
+    /**
+     * Check if a client with the same normalized name and birth date exists
+     * @param identity the identity to look for
+     * @return true if such a client exists
+     */
+    boolean existsByIdentity(ClientIdentity identity);
+    
     /**
      * Count total number of clients
      * @return total count of clients
@@ -57,4 +126,26 @@ public interface ClientRepository {
      * @return ClientMetrics containing average age and standard deviation
      */
     ClientMetrics calculateAgeMetrics();
+    
+    /**
+     * Calculate client age statistics grouped by the given dimensions in a single pass
+     * @param dimensions dimensions to group by, in order; empty for one overall segment
+     * @return one entry per non-empty segment
+     */
+    List<ClientSegmentMetrics> calculateSegmentedAgeMetrics(List<SegmentDimension> dimensions);
+    
+    /**
+     * Aggregate the ages of clients created within a time range
+     * @param from inclusive start of the range
+     * @param to exclusive end of the range
+     * @return age aggregate, empty if no client was created in the range
+     */
+    AgeAggregate aggregateAgesCreatedBetween(LocalDateTime from, LocalDateTime to);
+    
+    /**
+     * Calculate distinct first and last name counts and the most common last names
+     * @param topLastNames number of most common last names to return
+     * @return name statistics, exact or approximate depending on the implementation
+     */
+    ClientNameStatistics calculateNameStatistics(int topLastNames);
 }
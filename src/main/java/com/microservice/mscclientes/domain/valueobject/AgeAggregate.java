@@ -0,0 +1,165 @@
+package com.microservice.mscclientes.domain.valueobject;
+
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+/**
+ * Mergeable partial aggregate over client ages.
+ * Keeps exact integer count, sum and sum of squares so partials computed on
+ * different threads, time buckets or databases combine without loss.
+ */
+public final class AgeAggregate {
+
+    public static final AgeAggregate EMPTY = new AgeAggregate(0, 0, 0, Integer.MAX_VALUE, Integer.MIN_VALUE);
+
+    private final long count;
+    private final long sum;
+    private final long sumOfSquares;
+    private final int min;
+    private final int max;
+
+    public AgeAggregate(long count, long sum, long sumOfSquares, int min, int max) {
+        this.count = count;
+        this.sum = sum;
+        this.sumOfSquares = sumOfSquares;
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Aggregate of a single age
+     * @param age client age
+     * @return aggregate with count 1
+     */
+    public static AgeAggregate of(int age) {
+        return new AgeAggregate(1, age, (long) age * age, age, age);
+    }
+
+    /**
+     * Collector that folds ages into an aggregate using a mutable accumulator,
+     * so parallel streams build one partial per fork-join task and merge them
+     * @param ageExtractor function returning the age of an element
+     * @param <T> element type
+     * @return collector producing an AgeAggregate
+     */
+    public static <T> Collector<T, ?, AgeAggregate> collector(ToIntFunction<T> ageExtractor) {
+        return Collector.of(
+                () -> new long[]{0, 0, 0, Integer.MAX_VALUE, Integer.MIN_VALUE},
+                (acc, element) -> {
+                    int age = ageExtractor.applyAsInt(element);
+                    acc[0]++;
+                    acc[1] += age;
+                    acc[2] += (long) age * age;
+                    acc[3] = Math.min(acc[3], age);
+                    acc[4] = Math.max(acc[4], age);
+                },
+                (left, right) -> {
+                    left[0] += right[0];
+                    left[1] += right[1];
+                    left[2] += right[2];
+                    left[3] = Math.min(left[3], right[3]);
+                    left[4] = Math.max(left[4], right[4]);
+                    return left;
+                },
+                acc -> acc[0] == 0 ? EMPTY : new AgeAggregate(acc[0], acc[1], acc[2], (int) acc[3], (int) acc[4])
+        );
+    }
+
+    /**
+     * Combine two partial aggregates
+     * @param other aggregate to merge
+     * @return aggregate covering both inputs
+     */
+    public AgeAggregate merge(AgeAggregate other) {
+        if (other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            return other;
+        }
+        return new AgeAggregate(
+                count + other.count,
+                sum + other.sum,
+                sumOfSquares + other.sumOfSquares,
+                Math.min(min, other.min),
+                Math.max(max, other.max)
+        );
+    }
+
+    /**
+     * Add one age to this aggregate
+     * @param age client age
+     * @return aggregate including the age
+     */
+    public AgeAggregate add(int age) {
+        return merge(of(age));
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getSum() {
+        return sum;
+    }
+
+    public long getSumOfSquares() {
+        return sumOfSquares;
+    }
+
+    public int getMin() {
+        return min;
+    }
+
+    public int getMax() {
+        return max;
+    }
+
+    public double getAverage() {
+        return count == 0 ? 0.0 : (double) sum / count;
+    }
+
+    /**
+     * Population standard deviation, matching the database query
+     */
+    public double getStandardDeviation() {
+        if (count == 0) {
+            return 0.0;
+        }
+        double average = getAverage();
+        double variance = (double) sumOfSquares / count - average * average;
+        return Math.sqrt(Math.max(variance, 0.0));
+    }
+
+    public ClientMetrics toClientMetrics() {
+        return new ClientMetrics(getAverage(), getStandardDeviation(), count);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AgeAggregate that = (AgeAggregate) o;
+        return count == that.count &&
+               sum == that.sum &&
+               sumOfSquares == that.sumOfSquares &&
+               min == that.min &&
+               max == that.max;
+    }
+
+    @Override
+    public int hashCode() {
+        return java.util.Objects.hash(count, sum, sumOfSquares, min, max);
+    }
+
+    @Override
+    public String toString() {
+        return "AgeAggregate{" +
+                "count=" + count +
+                ", sum=" + sum +
+                ", sumOfSquares=" + sumOfSquares +
+                ", min=" + min +
+                ", max=" + max +
+                '}';
+    }
+}
@@ -0,0 +1,52 @@
+package com.microservice.mscclientes.domain.valueobject;
+
+/**
+ * Value object holding an estimated number of distinct values and its error.
+ * Exact counts have a relative standard error of zero.
+ */
+public class CardinalityEstimate {
+
+    private static final double Z_95 = 1.96;
+
+    private final long estimate;
+    private final double relativeStandardError;
+
+    public CardinalityEstimate(long estimate, double relativeStandardError) {
+        this.estimate = estimate;
+        this.relativeStandardError = relativeStandardError;
+    }
+
+    public static CardinalityEstimate exact(long count) {
+        return new CardinalityEstimate(count, 0.0);
+    }
+
+    public long getEstimate() {
+        return estimate;
+    }
+
+    public double getRelativeStandardError() {
+        return relativeStandardError;
+    }
+
+    /**
+     * Lower bound of the 95% confidence interval
+     */
+    public long getLowerBound() {
+        return Math.max(0, (long) Math.floor(estimate * (1 - Z_95 * relativeStandardError)));
+    }
+
+    /**
+     * Upper bound of the 95% confidence interval
+     */
+    public long getUpperBound() {
+        return (long) Math.ceil(estimate * (1 + Z_95 * relativeStandardError));
+    }
+
+    @Override
+    public String toString() {
+        return "CardinalityEstimate{" +
+                "estimate=" + estimate +
+                ", relativeStandardError=" + relativeStandardError +
+                '}';
+    }
+}
@@ -0,0 +1,50 @@
+package com.microservice.mscclientes.domain.valueobject;
+
+import com.microservice.mscclientes.domain.entity.ClientChange;
+
+import java.util.List;
+
+/**
+ * Value object holding one page of the client change feed.
+ * Readers resume from {@code nextSince}; if {@code oldestAvailableSequence}
+ * is beyond their cursor, older changes were compacted and a full resync is needed.
+ */
+public class ClientChangePage {
+    private final List<ClientChange> changes;
+    private final long nextSince;
+    private final boolean hasMore;
+    private final Long oldestAvailableSequence;
+
+    public ClientChangePage(List<ClientChange> changes, long nextSince, boolean hasMore, Long oldestAvailableSequence) {
+        this.changes = List.copyOf(changes);
+        this.nextSince = nextSince;
+        this.hasMore = hasMore;
+        this.oldestAvailableSequence = oldestAvailableSequence;
+    }
+
+    public List<ClientChange> getChanges() {
+        return changes;
+    }
+
+    public long getNextSince() {
+        return nextSince;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public Long getOldestAvailableSequence() {
+        return oldestAvailableSequence;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientChangePage{" +
+                "changes=" + changes.size() +
+                ", nextSince=" + nextSince +
+                ", hasMore=" + hasMore +
+                ", oldestAvailableSequence=" + oldestAvailableSequence +
+                '}';
+    }
+}
@@ -0,0 +1,49 @@
+package com.microservice.mscclientes.domain.valueobject;
+
+import java.util.List;
+
+/**
+ * Value object describing one chunk of a bulk deletion.
+ * A chunk examines up to a fixed number of candidate rows in id order after
+ * the cursor and deletes the ones that match; the next chunk resumes after
+ * {@code lastScannedId}.
+ */
+public class ClientDeletionChunk {
+    private final long lastScannedId;
+    private final int scanned;
+    private final List<Long> deletedIds;
+
+    public ClientDeletionChunk(long lastScannedId, int scanned, List<Long> deletedIds) {
+        this.lastScannedId = lastScannedId;
+        this.scanned = scanned;
+        this.deletedIds = List.copyOf(deletedIds);
+    }
+
+    /**
+     * Chunk that examined nothing; the deletion has reached the end
+     */
+    public static ClientDeletionChunk empty(long afterId) {
+        return new ClientDeletionChunk(afterId, 0, List.of());
+    }
+
+    public long getLastScannedId() {
+        return lastScannedId;
+    }
+
+    public int getScanned() {
+        return scanned;
+    }
+
+    public List<Long> getDeletedIds() {
+        return deletedIds;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientDeletionChunk{" +
+                "lastScannedId=" + lastScannedId +
+                ", scanned=" + scanned +
+                ", deleted=" + deletedIds.size() +
+                '}';
+    }
+}
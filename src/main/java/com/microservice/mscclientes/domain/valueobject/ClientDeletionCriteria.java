@@ -0,0 +1,188 @@
+package com.microservice.mscclientes.domain.valueobject;
+
+import com.microservice.mscclientes.domain.entity.Client;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+
+/**
+ * Value object describing which clients a bulk deletion removes.
+ * Exactly one criterion applies: an explicit id list, a creation time range
+ * or an age range. Age ranges are turned into a birth date range when the
+ * criteria are created, so the set of matching clients does not shift while
+ * a long deletion runs across midnight.
+ */
+public class ClientDeletionCriteria {
+
+    public static final int MAX_IDS = 10_000;
+
+    /**
+     * Kind of criterion applied
+     */
+    public enum Type {
+        IDS,
+        CREATED_BETWEEN,
+        AGE_BETWEEN
+    }
+
+    private final Type type;
+    private final List<Long> ids;
+    private final LocalDateTime createdFrom;
+    private final LocalDateTime createdTo;
+    private final Integer minAge;
+    private final Integer maxAge;
+    private final LocalDate bornAfter;
+    private final LocalDate bornOnOrBefore;
+
+    private ClientDeletionCriteria(Type type, List<Long> ids, LocalDateTime createdFrom, LocalDateTime createdTo,
+                                   Integer minAge, Integer maxAge, LocalDate bornAfter, LocalDate bornOnOrBefore) {
+        this.type = type;
+        this.ids = ids;
+        this.createdFrom = createdFrom;
+        this.createdTo = createdTo;
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+        this.bornAfter = bornAfter;
+        this.bornOnOrBefore = bornOnOrBefore;
+    }
+
+    /**
+     * Clients with the given ids; duplicates are ignored
+     * @throws IllegalArgumentException if the list is empty, too long or holds a non-positive id
+     */
+    public static ClientDeletionCriteria byIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("ids must not be empty");
+        }
+        if (ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_IDS + " ids can be deleted at once");
+        }
+        TreeSet<Long> sorted = new TreeSet<>();
+        for (Long id : ids) {
+            if (id == null || id <= 0) {
+                throw new IllegalArgumentException("ids must be positive");
+            }
+            sorted.add(id);
+        }
+        return new ClientDeletionCriteria(Type.IDS, List.copyOf(sorted), null, null, null, null, null, null);
+    }
+
+    /**
+     * Clients created within [from, to)
+     * @throws IllegalArgumentException if a bound is missing or the range is empty
+     */
+    public static ClientDeletionCriteria createdBetween(LocalDateTime from, LocalDateTime to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("createdFrom and createdTo are required");
+        }
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("createdFrom must be before createdTo");
+        }
+        return new ClientDeletionCriteria(Type.CREATED_BETWEEN, List.of(), from, to, null, null, null, null);
+    }
+
+    /**
+     * Clients whose current age is within [minAge, maxAge] as of today
+     * @throws IllegalArgumentException if a bound is missing, negative or the range is empty
+     */
+    public static ClientDeletionCriteria ageBetween(Integer minAge, Integer maxAge) {
+        return ageBetween(minAge, maxAge, LocalDate.now());
+    }
+
+    static ClientDeletionCriteria ageBetween(Integer minAge, Integer maxAge, LocalDate today) {
+        if (minAge == null || maxAge == null) {
+            throw new IllegalArgumentException("minAge and maxAge are required");
+        }
+        if (minAge < 0 || minAge > maxAge) {
+            throw new IllegalArgumentException("minAge must be zero or positive and not greater than maxAge");
+        }
+        return new ClientDeletionCriteria(Type.AGE_BETWEEN, List.of(), null, null, minAge, maxAge,
+                today.minusYears(maxAge + 1L), today.minusYears(minAge));
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Ids in ascending order; empty unless the type is IDS
+     */
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public LocalDateTime getCreatedFrom() {
+        return createdFrom;
+    }
+
+    public LocalDateTime getCreatedTo() {
+        return createdTo;
+    }
+
+    public Integer getMinAge() {
+        return minAge;
+    }
+
+    public Integer getMaxAge() {
+        return maxAge;
+    }
+
+    /**
+     * Exclusive lower birth date bound for AGE_BETWEEN
+     */
+    public LocalDate getBornAfter() {
+        return bornAfter;
+    }
+
+    /**
+     * Inclusive upper birth date bound for AGE_BETWEEN
+     */
+    public LocalDate getBornOnOrBefore() {
+        return bornOnOrBefore;
+    }
+
+    /**
+     * Whether a client is removed by these criteria, for clients held outside the database
+     * @param client the client to test
+     * @return true if the client matches
+     */
+    public boolean matches(Client client) {
+        return switch (type) {
+            case IDS -> Collections.binarySearch(ids, client.getId()) >= 0;
+            case CREATED_BETWEEN -> client.getCreatedAt() != null
+                    && !client.getCreatedAt().isBefore(createdFrom) && client.getCreatedAt().isBefore(createdTo);
+            case AGE_BETWEEN -> client.getBirthDate().isAfter(bornAfter) && !client.getBirthDate().isAfter(bornOnOrBefore);
+        };
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ClientDeletionCriteria that = (ClientDeletionCriteria) o;
+        return type == that.type && ids.equals(that.ids)
+                && Objects.equals(createdFrom, that.createdFrom) && Objects.equals(createdTo, that.createdTo)
+                && Objects.equals(bornAfter, that.bornAfter) && Objects.equals(bornOnOrBefore, that.bornOnOrBefore);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, ids, createdFrom, createdTo, bornAfter, bornOnOrBefore);
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+            case IDS:
+                return "ids(" + ids.size() + ")";
+            case CREATED_BETWEEN:
+                return "createdBetween(" + createdFrom + ", " + createdTo + ")";
+            default:
+                return "ageBetween(" + minAge + ", " + maxAge + ")";
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.microservice.mscclientes.domain.valueobject;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Client fields a caller can select in a sparse fieldset.
+ * Stored fields are read from the clients table; derived ones are computed
+ * from a stored field, which has to be read when they are selected.
+ */
+public enum ClientField {
+
+    ID("id", null),
+    FIRST_NAME("firstName", null),
+    LAST_NAME("lastName", null),
+    AGE("age", null),
+    BIRTH_DATE("birthDate", null),
+    ESTIMATED_DEATH_DATE("estimatedDeathDate", BIRTH_DATE),
+    CREATED_AT("createdAt", null),
+    UPDATED_AT("updatedAt", null);
+
+    private final String parameterName;
+    private final ClientField derivedFrom;
+
+    ClientField(String parameterName, ClientField derivedFrom) {
+        this.parameterName = parameterName;
+        this.derivedFrom = derivedFrom;
+    }
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    public boolean isDerived() {
+        return derivedFrom != null;
+    }
+
+    /**
+     * Every field, as returned when no fieldset is given
+     */
+    public static Set<ClientField> all() {
+        return EnumSet.allOf(ClientField.class);
+    }
+
+    /**
+     * Stored fields that must be read to produce the given ones
+     * @param fields selected fields
+     * @return the stored fields among them plus those the derived ones are computed from
+     */
+    public static Set<ClientField> storedFieldsFor(Set<ClientField> fields) {
+        Set<ClientField> stored = EnumSet.noneOf(ClientField.class);
+        for (ClientField field : fields) {
+            stored.add(field.isDerived() ? field.derivedFrom : field);
+        }
+        return stored;
+    }
+
+    /**
+     * Resolve a field from its query parameter name
+     * @param parameterName name such as "firstName"
+     * @return matching field
+     */
+    public static ClientField fromParameterName(String parameterName) {
+        for (ClientField field : values()) {
+            if (field.parameterName.equalsIgnoreCase(parameterName.trim())) {
+                return field;
+            }
+        }
+        throw new IllegalArgumentException("Unknown client field: " + parameterName);
+    }
+
+    /**
+     * Resolve a fieldset from query parameter names
+     * @param parameterNames names such as ["id", "firstName"]; duplicates are ignored
+     * @return the selected fields
+     * @throws IllegalArgumentException if the list is empty or a name is unknown
+     */
+    public static Set<ClientField> fromParameterNames(List<String> parameterNames) {
+        Set<ClientField> fields = EnumSet.noneOf(ClientField.class);
+        for (String parameterName : parameterNames) {
+            if (!parameterName.isBlank()) {
+                fields.add(fromParameterName(parameterName));
+            }
+        }
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("fields must name at least one client field");
+        }
+        return fields;
+    }
+}
@@ -0,0 +1,72 @@
+package com.microservice.mscclientes.domain.valueobject;
+
+import java.text.Normalizer;
+import java.time.LocalDate;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * Value object identifying a person independently of how the name was typed.
+ * Names are trimmed, inner whitespace collapsed, accents removed and case
+ * folded, so "José  Pérez" and "jose perez" born the same day are the same
+ * identity.
+ */
+public class ClientIdentity {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final String key;
+    private final LocalDate birthDate;
+
+    private ClientIdentity(String key, LocalDate birthDate) {
+        this.key = key;
+        this.birthDate = birthDate;
+    }
+
+    public static ClientIdentity of(String firstName, String lastName, LocalDate birthDate) {
+        Objects.requireNonNull(birthDate, "Birth date is required");
+        String key = normalize(firstName) + '\u0000' + normalize(lastName) + '\u0000' + birthDate;
+        return new ClientIdentity(key, birthDate);
+    }
+
+    static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(name.trim(), Normalizer.Form.NFD);
+        String unaccented = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return WHITESPACE.matcher(unaccented).replaceAll(" ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Normalized identity key
+     */
+    public String getKey() {
+        return key;
+    }
+
+    public LocalDate getBirthDate() {
+        return birthDate;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        return key.equals(((ClientIdentity) o).key);
+    }
+
+    @Override
+    public int hashCode() {
+        return key.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "ClientIdentity{" +
+                "key='" + key.replace('\u0000', '|') + '\'' +
+                '}';
+    }
+}
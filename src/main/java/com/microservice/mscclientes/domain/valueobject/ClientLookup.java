@@ -0,0 +1,76 @@
+package com.microservice.mscclientes.domain.valueobject;
+
+import com.microservice.mscclientes.domain.entity.Client;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Value object holding the outcome of a lookup of many clients by ID.
+ * Keeps the requested IDs in the order the caller gave them, without
+ * duplicates, so every ID gets exactly one answer: its client or not found.
+ */
+public class ClientLookup {
+
+    public static final int MAX_IDS = 5_000;
+
+    private final List<Long> ids;
+    private final Map<Long, Client> found;
+
+    public ClientLookup(List<Long> ids, Map<Long, Client> found) {
+        this.ids = List.copyOf(ids);
+        this.found = Map.copyOf(found);
+    }
+
+    /**
+     * The distinct IDs of a lookup request, in first-seen order
+     * @throws IllegalArgumentException if the list is empty, too long or holds a non-positive id
+     */
+    public static List<Long> distinctIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            throw new IllegalArgumentException("ids must not be empty");
+        }
+        if (ids.size() > MAX_IDS) {
+            throw new IllegalArgumentException("At most " + MAX_IDS + " ids can be looked up at once");
+        }
+        Set<Long> distinct = new LinkedHashSet<>();
+        for (Long id : ids) {
+            if (id == null || id <= 0) {
+                throw new IllegalArgumentException("ids must be positive");
+            }
+            distinct.add(id);
+        }
+        return new ArrayList<>(distinct);
+    }
+
+    /**
+     * Requested IDs in request order, without duplicates
+     */
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public Optional<Client> get(long id) {
+        return Optional.ofNullable(found.get(id));
+    }
+
+    public int getFoundCount() {
+        return found.size();
+    }
+
+    public int getNotFoundCount() {
+        return ids.size() - found.size();
+    }
+
+    @Override
+    public String toString() {
+        return "ClientLookup{" +
+                "ids=" + ids.size() +
+                ", found=" + found.size() +
+                '}';
+    }
+}
@@ -0,0 +1,58 @@
+package com.microservice.mscclientes.domain.valueobject;
+
+import java.util.List;
+
+/**
+ * Value object holding distinct name counts and the most common surnames.
+ * When approximate, the figures come from sketches and carry error bounds.
+ */
+public class ClientNameStatistics {
+    private final long clientsObserved;
+    private final CardinalityEstimate distinctFirstNames;
+    private final CardinalityEstimate distinctLastNames;
+    private final List<NameFrequency> topLastNames;
+    private final boolean approximate;
+
+    public ClientNameStatistics(long clientsObserved,
+                                CardinalityEstimate distinctFirstNames,
+                                CardinalityEstimate distinctLastNames,
+                                List<NameFrequency> topLastNames,
+                                boolean approximate) {
+        this.clientsObserved = clientsObserved;
+        this.distinctFirstNames = distinctFirstNames;
+        this.distinctLastNames = distinctLastNames;
+        this.topLastNames = List.copyOf(topLastNames);
+        this.approximate = approximate;
+    }
+
+    public long getClientsObserved() {
+        return clientsObserved;
+    }
+
+    public CardinalityEstimate getDistinctFirstNames() {
+        return distinctFirstNames;
+    }
+
+    public CardinalityEstimate getDistinctLastNames() {
+        return distinctLastNames;
+    }
+
+    public List<NameFrequency> getTopLastNames() {
+        return topLastNames;
+    }
+
+    public boolean isApproximate() {
+        return approximate;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientNameStatistics{" +
+                "clientsObserved=" + clientsObserved +
+                ", distinctFirstNames=" + distinctFirstNames +
+                ", distinctLastNames=" + distinctLastNames +
+                ", topLastNames=" + topLastNames +
+                ", approximate=" + approximate +
+                '}';
+    }
+}
@@ -0,0 +1,69 @@
+package com.microservice.mscclientes.domain.valueobject;
+
+import com.microservice.mscclientes.domain.exception.ClientValidationException;
+
+import java.time.LocalDate;
+
+/**
+ * Value object holding a partial update of a client.
+ * Null fields are left unchanged. The client rules apply to each field on its
+ * own, so a patch is validated without reading the stored client.
+ */
+public class ClientPatch {
+    private final String firstName;
+    private final String lastName;
+    private final Integer age;
+    private final LocalDate birthDate;
+
+    /**
+     * @throws ClientValidationException if no field is set or a set field breaks a client rule
+     */
+    public ClientPatch(String firstName, String lastName, Integer age, LocalDate birthDate) {
+        if (firstName == null && lastName == null && age == null && birthDate == null) {
+            throw new ClientValidationException("At least one field must be updated");
+        }
+        if (firstName != null && firstName.trim().isEmpty()) {
+            throw new ClientValidationException("First name cannot be null or empty");
+        }
+        if (lastName != null && lastName.trim().isEmpty()) {
+            throw new ClientValidationException("Last name cannot be null or empty");
+        }
+        if (age != null && (age < 0 || age > 150)) {
+            throw new ClientValidationException("Age must be between 0 and 150");
+        }
+        if (birthDate != null && birthDate.isAfter(LocalDate.now())) {
+            throw new ClientValidationException("Birth date cannot be in the future");
+        }
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.age = age;
+        this.birthDate = birthDate;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public LocalDate getBirthDate() {
+        return birthDate;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder fields = new StringBuilder();
+        if (firstName != null) fields.append("firstName,");
+        if (lastName != null) fields.append("lastName,");
+        if (age != null) fields.append("age,");
+        if (birthDate != null) fields.append("birthDate,");
+        fields.setLength(fields.length() - 1);
+        return "ClientPatch{" + fields + '}';
+    }
+}
@@ -0,0 +1,48 @@
+package com.microservice.mscclientes.domain.valueobject;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Value object holding age statistics for one client segment.
+ * The segment is the label of each requested dimension, in request order.
+ */
+public class ClientSegmentMetrics {
+    private final Map<SegmentDimension, String> segment;
+    private final AgeAggregate ages;
+
+    public ClientSegmentMetrics(Map<SegmentDimension, String> segment, AgeAggregate ages) {
+        this.segment = Collections.unmodifiableMap(new LinkedHashMap<>(segment));
+        this.ages = ages;
+    }
+
+    public Map<SegmentDimension, String> getSegment() {
+        return segment;
+    }
+
+    public AgeAggregate getAges() {
+        return ages;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ClientSegmentMetrics that = (ClientSegmentMetrics) o;
+        return segment.equals(that.segment) && ages.equals(that.ages);
+    }
+
+    @Override
+    public int hashCode() {
+        return java.util.Objects.hash(segment, ages);
+    }
+
+    @Override
+    public String toString() {
+        return "ClientSegmentMetrics{" +
+                "segment=" + segment +
+                ", ages=" + ages +
+                '}';
+    }
+}
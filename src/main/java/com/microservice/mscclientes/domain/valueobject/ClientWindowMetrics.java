@@ -0,0 +1,46 @@
+package com.microservice.mscclientes.domain.valueobject;
+
+import java.time.LocalDateTime;
+
+/**
+ * Value object holding age statistics for clients created within a time window.
+ */
+public class ClientWindowMetrics {
+    private final MetricsWindow window;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final AgeAggregate ages;
+
+    public ClientWindowMetrics(MetricsWindow window, LocalDateTime from, LocalDateTime to, AgeAggregate ages) {
+        this.window = window;
+        this.from = from;
+        this.to = to;
+        this.ages = ages;
+    }
+
+    public MetricsWindow getWindow() {
+        return window;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public AgeAggregate getAges() {
+        return ages;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientWindowMetrics{" +
+                "window=" + window +
+                ", from=" + from +
+                ", to=" + to +
+                ", ages=" + ages +
+                '}';
+    }
+}
@@ -0,0 +1,77 @@
+package com.microservice.mscclientes.domain.valueobject;
+
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Value object for a rolling time window such as "30m", "24h" or "7d".
+ * Windows range from one minute to one year.
+ */
+public final class MetricsWindow {
+
+    private static final Duration MIN = Duration.ofMinutes(1);
+    private static final Duration MAX = Duration.ofDays(366);
+
+    private final String label;
+    private final Duration duration;
+
+    private MetricsWindow(String label, Duration duration) {
+        this.label = label;
+        this.duration = duration;
+    }
+
+    /**
+     * Parse a window expressed as a positive amount followed by m, h or d
+     * @param value window text
+     * @return parsed window
+     * @throws IllegalArgumentException if the text is malformed or out of range
+     */
+    public static MetricsWindow parse(String value) {
+        if (value == null || value.length() < 2) {
+            throw new IllegalArgumentException("Window must look like 30m, 24h or 7d");
+        }
+        String trimmed = value.trim().toLowerCase();
+        long amount;
+        try {
+            amount = Long.parseLong(trimmed.substring(0, trimmed.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Window must look like 30m, 24h or 7d");
+        }
+        Duration duration = switch (trimmed.charAt(trimmed.length() - 1)) {
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            case 'd' -> Duration.ofDays(amount);
+            default -> throw new IllegalArgumentException("Window unit must be m, h or d");
+        };
+        if (duration.compareTo(MIN) < 0 || duration.compareTo(MAX) > 0) {
+            throw new IllegalArgumentException("Window must be between 1m and 366d");
+        }
+        return new MetricsWindow(trimmed, duration);
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MetricsWindow that = (MetricsWindow) o;
+        return duration.equals(that.duration);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(duration);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
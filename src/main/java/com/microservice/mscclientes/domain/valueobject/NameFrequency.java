@@ -0,0 +1,43 @@
+package com.microservice.mscclientes.domain.valueobject;
+
+/**
+ * Value object holding how many clients share a name.
+ * The true count lies between count - maxOverestimate and count.
+ */
+public class NameFrequency {
+
+    private final String name;
+    private final long count;
+    private final long maxOverestimate;
+
+    public NameFrequency(String name, long count, long maxOverestimate) {
+        this.name = name;
+        this.count = count;
+        this.maxOverestimate = maxOverestimate;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMaxOverestimate() {
+        return maxOverestimate;
+    }
+
+    public long getGuaranteedCount() {
+        return count - maxOverestimate;
+    }
+
+    @Override
+    public String toString() {
+        return "NameFrequency{" +
+                "name='" + name + '\'' +
+                ", count=" + count +
+                ", maxOverestimate=" + maxOverestimate +
+                '}';
+    }
+}
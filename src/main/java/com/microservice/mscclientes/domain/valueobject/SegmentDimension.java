@@ -0,0 +1,70 @@
+package com.microservice.mscclientes.domain.valueobject;
+
+import com.microservice.mscclientes.domain.entity.Client;
+
+import java.time.YearMonth;
+
+/**
+ * Dimensions by which client metrics can be segmented.
+ * Each dimension maps a client to a stable segment label.
+ */
+public enum SegmentDimension {
+
+    ADULT("adult") {
+        @Override
+        public String segmentOf(Client client) {
+            return adultLabel(client.isAdult());
+        }
+    },
+    BIRTH_DECADE("birthDecade") {
+        @Override
+        public String segmentOf(Client client) {
+            return birthDecadeLabel(client.getBirthDate().getYear());
+        }
+    },
+    CREATED_MONTH("createdMonth") {
+        @Override
+        public String segmentOf(Client client) {
+            return client.getCreatedAt() != null ? YearMonth.from(client.getCreatedAt()).toString() : "unknown";
+        }
+    };
+
+    private final String parameterName;
+
+    SegmentDimension(String parameterName) {
+        this.parameterName = parameterName;
+    }
+
+    /**
+     * Segment label of a client for this dimension
+     * @param client the client to classify
+     * @return segment label
+     */
+    public abstract String segmentOf(Client client);
+
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    public static String adultLabel(boolean adult) {
+        return adult ? "adult" : "minor";
+    }
+
+    public static String birthDecadeLabel(int birthYear) {
+        return Integer.toString(Math.floorDiv(birthYear, 10) * 10);
+    }
+
+    /**
+     * Resolve a dimension from its query parameter name
+     * @param parameterName name such as "birthDecade"
+     * @return matching dimension
+     */
+    public static SegmentDimension fromParameterName(String parameterName) {
+        for (SegmentDimension dimension : values()) {
+            if (dimension.parameterName.equalsIgnoreCase(parameterName.trim())) {
+                return dimension;
+            }
+        }
+        throw new IllegalArgumentException("Unknown segment dimension: " + parameterName);
+    }
+}
@@ -0,0 +1,250 @@
+package com.microservice.mscclientes.infrastructure.analytics;
+
+import com.microservice.mscclientes.domain.entity.ClientChange;
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * Fixed-size ring of per-minute age aggregates over client creations.
+ * Slot {@code minute % capacity} holds count, sum, sum of squares, min and max
+ * for that minute, so any rolling window inside the ring is answered by merging
+ * at most {@code capacity} slots without touching the database.
+ * The ring covers creations from {@code startMinute} up to {@code coveredUpTo};
+ * callers query the database for whatever part of a range lies outside.
+ * A single writer applies batches under a write lock; readers use optimistic reads.
+ */
+public class ClientCreationRing {
+
+    private final int capacity;
+    private final long[] slotMinutes;
+    private final long[] counts;
+    private final long[] sums;
+    private final long[] sumsOfSquares;
+    private final int[] mins;
+    private final int[] maxs;
+    private final StampedLock lock = new StampedLock();
+
+    private boolean started;
+    private long startMinute;
+    private long coveredUpToMillis;
+
+    /**
+     * @param capacity number of minutes retained
+     */
+    public ClientCreationRing(int capacity) {
+        this.capacity = capacity;
+        this.slotMinutes = new long[capacity];
+        this.counts = new long[capacity];
+        this.sums = new long[capacity];
+        this.sumsOfSquares = new long[capacity];
+        this.mins = new int[capacity];
+        this.maxs = new int[capacity];
+        Arrays.fill(slotMinutes, Long.MIN_VALUE);
+    }
+
+    /**
+     * Record one creation; callers must follow with {@link #markCovered}
+     * or use {@link #apply} so readers see a consistent range
+     * @param createdAt creation time
+     * @param age client age
+     */
+    public void add(LocalDateTime createdAt, int age) {
+        long stamp = lock.writeLock();
+        try {
+            record(createdAt, age);
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Record the creations in a batch of changes and advance coverage atomically
+     * @param changes changes to record; updates and deletions are ignored
+     * @param coveredUpTo every creation before this instant has now been recorded
+     */
+    public void apply(Iterable<ClientChange> changes, LocalDateTime coveredUpTo) {
+        long stamp = lock.writeLock();
+        try {
+            for (ClientChange change : changes) {
+                if (change.getType() == ClientChange.Type.CREATED) {
+                    record(change.getOccurredAt(), change.getClient().getAge());
+                }
+            }
+            coveredUpToMillis = Math.max(coveredUpToMillis, toMillis(coveredUpTo));
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Declare the range the ring covers completely
+     * @param from first instant covered; rounded up to a whole minute
+     * @param coveredUpTo every creation before this instant has been recorded
+     */
+    public void markCovered(LocalDateTime from, LocalDateTime coveredUpTo) {
+        long stamp = lock.writeLock();
+        try {
+            startMinute = Math.floorDiv(toMillis(from) + 59_999, 60_000);
+            coveredUpToMillis = toMillis(coveredUpTo);
+            started = true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Answer as much of a range as the ring covers
+     * @param from inclusive start of the range
+     * @param to exclusive end of the range
+     * @return aggregate and the sub-range it covers; the sub-range is empty if nothing is covered
+     */
+    public Answer query(LocalDateTime from, LocalDateTime to) {
+        long stamp = lock.tryOptimisticRead();
+        Answer answer = read(from, to);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                answer = read(from, to);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return answer;
+    }
+
+    /**
+     * Minutes of history the ring can currently answer
+     */
+    public long coveredMinutes() {
+        long stamp = lock.readLock();
+        try {
+            if (!started) {
+                return 0;
+            }
+            return Math.max(0, Math.floorDiv(coveredUpToMillis, 60_000) - effectiveStartMinute());
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    private Answer read(LocalDateTime from, LocalDateTime to) {
+        if (!started) {
+            return Answer.NONE;
+        }
+        long fromMillis = toMillis(from);
+        long toMillis = toMillis(to);
+        long firstMinute = Math.max(Math.floorDiv(fromMillis + 59_999, 60_000), effectiveStartMinute());
+
+        long endMillis;
+        long lastMinuteExclusive;
+        if (toMillis >= coveredUpToMillis) {
+            // The slot holding coveredUpTo is complete up to that instant
+            endMillis = coveredUpToMillis;
+            lastMinuteExclusive = Math.floorDiv(coveredUpToMillis, 60_000) + 1;
+        } else {
+            lastMinuteExclusive = Math.floorDiv(toMillis, 60_000);
+            endMillis = lastMinuteExclusive * 60_000;
+        }
+        if (firstMinute * 60_000 >= endMillis) {
+            return Answer.NONE;
+        }
+
+        long count = 0;
+        long sum = 0;
+        long sumOfSquares = 0;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (long minute = firstMinute; minute < lastMinuteExclusive; minute++) {
+            int slot = (int) Math.floorMod(minute, (long) capacity);
+            if (slotMinutes[slot] == minute && counts[slot] > 0) {
+                count += counts[slot];
+                sum += sums[slot];
+                sumOfSquares += sumsOfSquares[slot];
+                min = Math.min(min, mins[slot]);
+                max = Math.max(max, maxs[slot]);
+            }
+        }
+        AgeAggregate ages = count == 0 ? AgeAggregate.EMPTY : new AgeAggregate(count, sum, sumOfSquares, min, max);
+        return new Answer(ages, fromMinute(firstMinute), fromMillisUtc(endMillis));
+    }
+
+    private void record(LocalDateTime createdAt, int age) {
+        long minute = Math.floorDiv(toMillis(createdAt), 60_000);
+        long newestMinute = Math.max(Math.floorDiv(coveredUpToMillis, 60_000), minute);
+        if (minute <= newestMinute - capacity) {
+            return;
+        }
+        int slot = (int) Math.floorMod(minute, (long) capacity);
+        if (slotMinutes[slot] != minute) {
+            slotMinutes[slot] = minute;
+            counts[slot] = 0;
+            sums[slot] = 0;
+            sumsOfSquares[slot] = 0;
+            mins[slot] = Integer.MAX_VALUE;
+            maxs[slot] = Integer.MIN_VALUE;
+        }
+        counts[slot]++;
+        sums[slot] += age;
+        sumsOfSquares[slot] += (long) age * age;
+        mins[slot] = Math.min(mins[slot], age);
+        maxs[slot] = Math.max(maxs[slot], age);
+    }
+
+    /**
+     * First minute still guaranteed to be in the ring, given the newest covered minute
+     */
+    private long effectiveStartMinute() {
+        return Math.max(startMinute, Math.floorDiv(coveredUpToMillis, 60_000) - capacity + 1);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private static LocalDateTime fromMinute(long minute) {
+        return fromMillisUtc(minute * 60_000);
+    }
+
+    private static LocalDateTime fromMillisUtc(long millis) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(millis, 1000), (int) Math.floorMod(millis, 1000) * 1_000_000,
+                ZoneOffset.UTC);
+    }
+
+    /**
+     * Part of a range answered from the ring
+     */
+    public static final class Answer {
+
+        static final Answer NONE = new Answer(AgeAggregate.EMPTY, null, null);
+
+        private final AgeAggregate ages;
+        private final LocalDateTime coveredFrom;
+        private final LocalDateTime coveredTo;
+
+        Answer(AgeAggregate ages, LocalDateTime coveredFrom, LocalDateTime coveredTo) {
+            this.ages = ages;
+            this.coveredFrom = coveredFrom;
+            this.coveredTo = coveredTo;
+        }
+
+        public AgeAggregate getAges() {
+            return ages;
+        }
+
+        public LocalDateTime getCoveredFrom() {
+            return coveredFrom;
+        }
+
+        public LocalDateTime getCoveredTo() {
+            return coveredTo;
+        }
+
+        public boolean isEmpty() {
+            return coveredFrom == null;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.microservice.mscclientes.infrastructure.analytics;
+
+import com.microservice.mscclientes.domain.entity.ClientChange;
+import com.microservice.mscclientes.domain.repository.ClientChangeRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Feeds the ClientCreationRing from the client change feed.
+ * At startup the retained feed is replayed to seed the ring, so the ring covers
+ * history back to the oldest retained change; afterwards the feed is tailed on a
+ * fixed interval. Because the feed records writes from every instance, windows
+ * stay correct when the service is scaled out. Only CREATED changes are
+ * recorded, with the age the client was created with; later updates and
+ * deletions do not change the window they were created in.
+ */
+@Component
+@ConditionalOnProperty(name = "clients.windowed-metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class ClientCreationRingLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientCreationRingLoader.class);
+
+    private static final int PAGE_SIZE = 1000;
+
+    private final ClientChangeRepository changeRepository;
+    private final ClientCreationRing ring;
+    private final long visibilityDelayMillis;
+
+    private long cursor;
+    private boolean seeded;
+
+    public ClientCreationRingLoader(ClientChangeRepository changeRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${clients.windowed-metrics.retention-minutes:10080}") int retentionMinutes,
+                                    @Value("${clients.changes.visibility-delay:2000}") long visibilityDelayMillis) {
+        this.changeRepository = changeRepository;
+        this.ring = new ClientCreationRing(retentionMinutes);
+        this.visibilityDelayMillis = visibilityDelayMillis;
+        Gauge.builder("clients.windowed_metrics.covered_minutes", ring, ClientCreationRing::coveredMinutes)
+                .description("Minutes of client creation history answerable from memory")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        poll();
+    }
+
+    /**
+     * Consume new changes from the feed; seeds the ring on the first successful run
+     */
+    @Scheduled(fixedDelayString = "${clients.windowed-metrics.poll-interval:5000}",
+               initialDelayString = "${clients.windowed-metrics.poll-interval:5000}")
+    public synchronized void poll() {
+        try {
+            if (seeded) {
+                tail();
+            } else {
+                seed();
+            }
+        } catch (DataAccessException e) {
+            logger.warn("Could not read client change feed for windowed metrics: {}", e.getMessage());
+        }
+    }
+
+    public ClientCreationRing getRing() {
+        return ring;
+    }
+
+    private void seed() {
+        long start = System.nanoTime();
+        LocalDateTime visibleBefore = visibleBefore();
+        LocalDateTime oldest = null;
+        long replayed = 0;
+        List<ClientChange> page;
+        do {
+            page = changeRepository.findAfter(cursor, visibleBefore, PAGE_SIZE);
+            for (ClientChange change : page) {
+                if (oldest == null) {
+                    oldest = change.getOccurredAt();
+                }
+                if (change.getType() == ClientChange.Type.CREATED) {
+                    ring.add(change.getOccurredAt(), change.getClient().getAge());
+                }
+                cursor = change.getSequence();
+            }
+            replayed += page.size();
+        } while (page.size() == PAGE_SIZE);
+
+        ring.markCovered(oldest != null ? oldest : visibleBefore, visibleBefore);
+        seeded = true;
+        logger.info("Client creation ring seeded from {} changes in {} ms",
+                replayed, (System.nanoTime() - start) / 1_000_000);
+    }
+
+    private void tail() {
+        LocalDateTime visibleBefore = visibleBefore();
+        List<ClientChange> pending = new ArrayList<>();
+        List<ClientChange> page;
+        do {
+            page = changeRepository.findAfter(cursor, visibleBefore, PAGE_SIZE);
+            if (!page.isEmpty()) {
+                pending.addAll(page);
+                cursor = page.get(page.size() - 1).getSequence();
+            }
+        } while (page.size() == PAGE_SIZE);
+        ring.apply(pending, visibleBefore);
+    }
+
+    private LocalDateTime visibleBefore() {
+        return LocalDateTime.now().minusNanos(visibilityDelayMillis * 1_000_000L);
+    }
+}
@@ -0,0 +1,278 @@
+package com.microservice.mscclientes.infrastructure.analytics;
+
+import com.microservice.mscclientes.domain.entity.ClientChange;
+import com.microservice.mscclientes.domain.event.ClientsBulkDeletedEvent;
+import com.microservice.mscclientes.domain.repository.ClientChangeRepository;
+import com.microservice.mscclientes.domain.valueobject.CardinalityEstimate;
+import com.microservice.mscclientes.domain.valueobject.ClientNameStatistics;
+import com.microservice.mscclientes.domain.valueobject.NameFrequency;
+import com.microservice.mscclientes.infrastructure.archive.ClientArchive;
+import com.microservice.mscclientes.infrastructure.persistence.repository.ShardedClientRepository;
+import com.microservice.mscclientes.infrastructure.warmstart.ClientSnapshotStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps HyperLogLog sketches of first and last names and a Space-Saving
+ * sketch of last names, so name analytics never scan or group the table.
+ * The sketches are built by streaming the clients table, or the warm start
+ * snapshot if one is usable, at startup and from the table on a long
+ * interval, and in between every creation recorded in the change feed is
+ * added as it is read. When the table is sharded every shard is streamed.
+ * Sketches cannot forget values, so deleted clients and renamed clients keep
+ * counting until the next rebuild.
+ */
+@Component
+@ConditionalOnProperty(name = "clients.name-sketches.enabled", havingValue = "true", matchIfMissing = true)
+public class ClientNameSketches {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientNameSketches.class);
+
+    private static final String SELECT_SQL = "SELECT first_name, last_name FROM clients";
+    private static final int PAGE_SIZE = 1000;
+
+    private final ClientChangeRepository changeRepository;
+    private final List<JdbcTemplate> jdbcTemplates; // one per shard when sharded
+    private final ObjectProvider<ClientArchive> archive;
+    private final ObjectProvider<ClientSnapshotStore> snapshotStore;
+    private final int precision;
+    private final int topCapacity;
+    private final long visibilityDelayMillis;
+    private final Timer rebuildTimer;
+
+    private final Object sketchLock = new Object();
+    private HyperLogLog firstNames;
+    private HyperLogLog lastNames;
+    private SpaceSaving lastNameCounts;
+    private long observed;
+    private volatile boolean ready;
+
+    private long cursor;
+
+    public ClientNameSketches(ClientChangeRepository changeRepository,
+                              DataSource dataSource,
+                              ObjectProvider<ShardedClientRepository> shardedRepository,
+                              ObjectProvider<ClientArchive> archive,
+                              ObjectProvider<ClientSnapshotStore> snapshotStore,
+                              MeterRegistry meterRegistry,
+                              @Value("${clients.name-sketches.precision:14}") int precision,
+                              @Value("${clients.name-sketches.top-capacity:1000}") int topCapacity,
+                              @Value("${clients.name-sketches.fetch-size:10000}") int fetchSize,
+                              @Value("${clients.changes.visibility-delay:2000}") long visibilityDelayMillis) {
+        this.changeRepository = changeRepository;
+        ShardedClientRepository sharded = shardedRepository.getIfAvailable();
+        this.jdbcTemplates = (sharded != null ? sharded.getShardDataSources() : List.of(dataSource)).stream()
+                .map(source -> {
+                    JdbcTemplate jdbcTemplate = new JdbcTemplate(source);
+                    jdbcTemplate.setFetchSize(fetchSize);
+                    return jdbcTemplate;
+                })
+                .collect(Collectors.toList());
+        this.archive = archive;
+        this.snapshotStore = snapshotStore;
+        this.precision = precision;
+        this.topCapacity = topCapacity;
+        this.visibilityDelayMillis = visibilityDelayMillis;
+        this.firstNames = new HyperLogLog(precision);
+        this.lastNames = new HyperLogLog(precision);
+        this.lastNameCounts = new SpaceSaving(topCapacity);
+        this.rebuildTimer = Timer.builder("clients.name_sketches.rebuild")
+                .description("Time taken to rebuild the name sketches from the clients table")
+                .register(meterRegistry);
+        Gauge.builder("clients.name_sketches.observed", this, sketches -> sketches.observed)
+                .description("Clients added to the name sketches since the last rebuild")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!loadFromSnapshot()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Deleted clients cannot be removed from the sketches, so a bulk deletion
+     * triggers a rebuild instead of waiting for the daily one
+     */
+    @EventListener
+    public void onClientsBulkDeleted(ClientsBulkDeletedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Replace the sketches with fresh ones built from the clients table and
+     * the archive, if enabled.
+     * The feed is resumed from the newest settled change, read before the scan,
+     * so a creation committed late with a lower sequence is still polled rather
+     * than missed. Creations from the last visibility delay and from the scan
+     * itself are both scanned and polled: the distinct-count sketch absorbs
+     * them, and the surname frequencies overcount them once, far below the
+     * sketches' own error.
+     */
+    @Scheduled(fixedDelayString = "${clients.name-sketches.rebuild-interval:86400000}",
+               initialDelayString = "${clients.name-sketches.rebuild-interval:86400000}")
+    public synchronized void rebuild() {
+        try {
+            LocalDateTime settledBefore = LocalDateTime.now().minusNanos(visibilityDelayMillis * 1_000_000L);
+            long feedPosition = changeRepository.findLatestSequenceBefore(settledBefore).orElse(0L);
+            build(feedPosition, "clients table", names -> {
+                for (JdbcTemplate jdbcTemplate : jdbcTemplates) {
+                    jdbcTemplate.query(SELECT_SQL, rs -> {
+                        names.accept(rs.getString(1), rs.getString(2));
+                    });
+                }
+            });
+        } catch (DataAccessException e) {
+            logger.warn("Could not rebuild name sketches: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Build the sketches from the warm start snapshot instead of the table;
+     * the feed is then polled from the snapshot's sequence, which adds the
+     * clients created since
+     * @return whether a snapshot was available
+     */
+    private synchronized boolean loadFromSnapshot() {
+        ClientSnapshotStore store = snapshotStore.getIfAvailable();
+        Optional<ClientSnapshotStore.StoredSnapshot> stored = store != null ? store.startupSnapshot() : Optional.empty();
+        if (stored.isEmpty()) {
+            return false;
+        }
+        ClientArchive archived = archive.getIfAvailable();
+        build(stored.get().getSequence(), "snapshot", names ->
+                stored.get().forEach(client -> {
+                    // Archived since the snapshot; counted with the archive
+                    if (archived == null || !archived.contains(client.getId())) {
+                        names.accept(client.getFirstName(), client.getLastName());
+                    }
+                }));
+        return true;
+    }
+
+    private void build(long feedPosition, String source, Consumer<BiConsumer<String, String>> clients) {
+        long start = System.nanoTime();
+        HyperLogLog newFirstNames = new HyperLogLog(precision);
+        HyperLogLog newLastNames = new HyperLogLog(precision);
+        SpaceSaving newLastNameCounts = new SpaceSaving(topCapacity);
+        long[] rows = new long[1];
+        BiConsumer<String, String> names = (firstName, lastName) -> {
+            newFirstNames.offer(firstName);
+            newLastNames.offer(lastName);
+            newLastNameCounts.offer(lastName);
+            rows[0]++;
+        };
+
+        clients.accept(names);
+        ClientArchive archived = archive.getIfAvailable();
+        if (archived != null) {
+            archived.forEach(client -> names.accept(client.getFirstName(), client.getLastName()));
+        }
+
+        synchronized (sketchLock) {
+            firstNames = newFirstNames;
+            lastNames = newLastNames;
+            lastNameCounts = newLastNameCounts;
+            observed = rows[0];
+        }
+        cursor = feedPosition;
+        ready = true;
+
+        long elapsed = System.nanoTime() - start;
+        rebuildTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        logger.info("Name sketches built from {} clients ({}) in {} ms", rows[0], source, elapsed / 1_000_000);
+    }
+
+    /**
+     * Add clients created since the last poll
+     */
+    @Scheduled(fixedDelayString = "${clients.name-sketches.poll-interval:5000}",
+               initialDelayString = "${clients.name-sketches.poll-interval:5000}")
+    public synchronized void poll() {
+        if (!ready) {
+            return;
+        }
+        try {
+            LocalDateTime visibleBefore = LocalDateTime.now().minusNanos(visibilityDelayMillis * 1_000_000L);
+            List<ClientChange> page;
+            do {
+                page = changeRepository.findAfter(cursor, visibleBefore, PAGE_SIZE);
+                synchronized (sketchLock) {
+                    for (ClientChange change : page) {
+                        if (change.getType() == ClientChange.Type.CREATED) {
+                            offer(change.getClient().getFirstName(), change.getClient().getLastName());
+                        }
+                    }
+                }
+                if (!page.isEmpty()) {
+                    cursor = page.get(page.size() - 1).getSequence();
+                }
+            } while (page.size() == PAGE_SIZE);
+        } catch (DataAccessException e) {
+            logger.warn("Could not read client change feed for name sketches: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Whether the sketches have been built at least once
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Number of last names the heavy-hitter sketch tracks
+     */
+    public int getTopCapacity() {
+        return topCapacity;
+    }
+
+    /**
+     * Current estimates
+     * @param topLastNames number of most common last names to return
+     * @return approximate name statistics
+     */
+    public ClientNameStatistics statistics(int topLastNames) {
+        synchronized (sketchLock) {
+            List<NameFrequency> top = lastNameCounts.top(topLastNames).stream()
+                    .map(estimate -> new NameFrequency(estimate.getItem(), estimate.getCount(), estimate.getError()))
+                    .collect(Collectors.toList());
+            return new ClientNameStatistics(
+                    observed,
+                    new CardinalityEstimate(firstNames.estimate(), firstNames.relativeStandardError()),
+                    new CardinalityEstimate(lastNames.estimate(), lastNames.relativeStandardError()),
+                    top,
+                    true
+            );
+        }
+    }
+
+    private void offer(String firstName, String lastName) {
+        firstNames.offer(firstName);
+        lastNames.offer(lastName);
+        lastNameCounts.offer(lastName);
+        observed++;
+    }
+}
@@ -0,0 +1,119 @@
+package com.microservice.mscclientes.infrastructure.analytics;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionChunk;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionCriteria;
+import com.microservice.mscclientes.domain.valueobject.ClientField;
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
+import com.microservice.mscclientes.domain.valueobject.ClientMetrics;
+import com.microservice.mscclientes.domain.valueobject.ClientNameStatistics;
+import com.microservice.mscclientes.domain.valueobject.ClientPatch;
+import com.microservice.mscclientes.domain.valueobject.ClientSegmentMetrics;
+import com.microservice.mscclientes.domain.valueobject.SegmentDimension;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * ClientRepository decorator that answers name statistics from the name
+ * sketches. Falls back to the exact database query until the sketches have
+ * been built, or when more top names are requested than the sketch tracks.
+ */
+public class NameSketchClientRepository implements ClientRepository {
+
+    private final ClientRepository delegate;
+    private final ClientNameSketches sketches;
+
+    public NameSketchClientRepository(ClientRepository delegate, ClientNameSketches sketches) {
+        this.delegate = delegate;
+        this.sketches = sketches;
+    }
+
+    @Override
+    public ClientNameStatistics calculateNameStatistics(int topLastNames) {
+        if (!sketches.isReady() || topLastNames > sketches.getTopCapacity()) {
+            return delegate.calculateNameStatistics(topLastNames);
+        }
+        return sketches.statistics(topLastNames);
+    }
+
+    @Override
+    public Client save(Client client) {
+        return delegate.save(client);
+    }
+
+    @Override
+    public Optional<Client> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Client> findAllById(Collection<Long> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Optional<Client> update(Long id, ClientPatch patch, Long expectedVersion) {
+        return delegate.update(id, patch, expectedVersion);
+    }
+
+    @Override
+    public List<Client> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Client> findAll(Set<ClientField> fields) {
+        return delegate.findAll(fields);
+    }
+
+    @Override
+    public List<Client> findPage(long afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public ClientDeletionChunk deleteChunk(ClientDeletionCriteria criteria, long afterId, int limit) {
+        return delegate.deleteChunk(criteria, afterId, limit);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public boolean existsByIdentity(ClientIdentity identity) {
+        return delegate.existsByIdentity(identity);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public ClientMetrics calculateAgeMetrics() {
+        return delegate.calculateAgeMetrics();
+    }
+
+    @Override
+    public List<ClientSegmentMetrics> calculateSegmentedAgeMetrics(List<SegmentDimension> dimensions) {
+        return delegate.calculateSegmentedAgeMetrics(dimensions);
+    }
+
+    @Override
+    public AgeAggregate aggregateAgesCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        return delegate.aggregateAgesCreatedBetween(from, to);
+    }
+}
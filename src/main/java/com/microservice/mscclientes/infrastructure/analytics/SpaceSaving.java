@@ -0,0 +1,179 @@
+package com.microservice.mscclientes.infrastructure.analytics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Space-Saving heavy-hitter sketch.
+ * Tracks at most {@code capacity} items; when a new item arrives at a full
+ * sketch it replaces the item with the smallest count and inherits that count
+ * as its error. Every reported count overestimates the true count by at most
+ * its error, and every error is at most total / capacity, so any item more
+ * frequent than that is guaranteed to be tracked.
+ * Items are kept in count buckets so offers and evictions are O(log capacity).
+ */
+public class SpaceSaving {
+
+    private final int capacity;
+    private final Map<String, Counter> counters = new HashMap<>();
+    private final TreeMap<Long, LinkedHashSet<Counter>> buckets = new TreeMap<>();
+    private long total;
+
+    public SpaceSaving(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+    }
+
+    /**
+     * Count one occurrence of an item
+     * @param item item to count; null is ignored
+     */
+    public void offer(String item) {
+        if (item == null) {
+            return;
+        }
+        total++;
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            move(counter, counter.count + 1);
+            return;
+        }
+        if (counters.size() < capacity) {
+            counter = new Counter(item, 0);
+            counters.put(item, counter);
+            move(counter, 1);
+            return;
+        }
+        Map.Entry<Long, LinkedHashSet<Counter>> smallest = buckets.firstEntry();
+        Iterator<Counter> iterator = smallest.getValue().iterator();
+        Counter evicted = iterator.next();
+        counters.remove(evicted.item);
+        counter = new Counter(item, evicted.count);
+        counters.put(item, counter);
+        move(evicted, -1);
+        move(counter, evicted.count + 1);
+    }
+
+    /**
+     * Fold another sketch into this one. Items missing from one side may have
+     * occurred up to that side's smallest count, which is added to their error.
+     * @param other sketch to merge
+     */
+    public void merge(SpaceSaving other) {
+        long thisFloor = counters.size() < capacity ? 0 : buckets.firstKey();
+        long otherFloor = other.counters.size() < other.capacity ? 0 : other.buckets.firstKey();
+
+        Map<String, long[]> combined = new HashMap<>();
+        counters.values().forEach(c -> combined.put(c.item, new long[]{c.count + otherFloor, c.error + otherFloor}));
+        other.counters.values().forEach(c -> combined.merge(c.item, new long[]{c.count + thisFloor, c.error + thisFloor},
+                (mine, theirs) -> new long[]{mine[0] - otherFloor + c.count, mine[1] - otherFloor + c.error}));
+
+        long mergedTotal = total + other.total;
+        counters.clear();
+        buckets.clear();
+        combined.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue()[0], a.getValue()[0]))
+                .limit(capacity)
+                .forEach(entry -> {
+                    Counter counter = new Counter(entry.getKey(), entry.getValue()[1]);
+                    counters.put(counter.item, counter);
+                    move(counter, entry.getValue()[0]);
+                });
+        total = mergedTotal;
+    }
+
+    /**
+     * Most frequent items, highest estimated count first
+     * @param k number of items
+     * @return up to k items with their estimated counts and error bounds
+     */
+    public List<Estimate> top(int k) {
+        List<Estimate> result = new ArrayList<>(Math.min(k, counters.size()));
+        for (Map.Entry<Long, LinkedHashSet<Counter>> bucket : buckets.descendingMap().entrySet()) {
+            for (Counter counter : bucket.getValue()) {
+                if (result.size() == k) {
+                    return result;
+                }
+                result.add(new Estimate(counter.item, counter.count, counter.error));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Number of items offered
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Upper bound on the overestimate of any reported count
+     */
+    public long maxError() {
+        return counters.size() < capacity ? 0 : buckets.firstKey();
+    }
+
+    private void move(Counter counter, long newCount) {
+        if (counter.count > 0) {
+            LinkedHashSet<Counter> bucket = buckets.get(counter.count);
+            bucket.remove(counter);
+            if (bucket.isEmpty()) {
+                buckets.remove(counter.count);
+            }
+        }
+        if (newCount > 0) {
+            counter.count = newCount;
+            buckets.computeIfAbsent(newCount, key -> new LinkedHashSet<>()).add(counter);
+        }
+    }
+
+    private static final class Counter {
+        private final String item;
+        private final long error;
+        private long count;
+
+        private Counter(String item, long error) {
+            this.item = item;
+            this.error = error;
+        }
+    }
+
+    /**
+     * Estimated frequency of one item; the true count lies in [count - error, count]
+     */
+    public static final class Estimate {
+        private final String item;
+        private final long count;
+        private final long error;
+
+        Estimate(String item, long count, long error) {
+            this.item = item;
+            this.count = count;
+            this.error = error;
+        }
+
+        public String getItem() {
+            return item;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.microservice.mscclientes.infrastructure.analytics;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.repository.ClientChangeRepository;
+import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionChunk;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionCriteria;
+import com.microservice.mscclientes.domain.valueobject.ClientField;
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
+import com.microservice.mscclientes.domain.valueobject.ClientMetrics;
+import com.microservice.mscclientes.domain.valueobject.ClientNameStatistics;
+import com.microservice.mscclientes.domain.valueobject.ClientPatch;
+import com.microservice.mscclientes.domain.valueobject.ClientSegmentMetrics;
+import com.microservice.mscclientes.domain.valueobject.SegmentDimension;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * ClientRepository decorator that answers created-at range aggregations from
+ * the per-minute creation ring. Only the parts of a range the ring does not
+ * cover go to the database: history older than the ring after a restart, the
+ * partial first minute, and the last few seconds not yet read from the feed.
+ * The ring counts creations: every client created in the range, with the age
+ * it was created with, even if it was updated or deleted since. To match, the
+ * uncovered parts are read from the CREATED rows of the change feed. Only the
+ * part older than the oldest retained change reads the clients table, where
+ * clients deleted since are gone and ages are current.
+ */
+public class WindowedMetricsClientRepository implements ClientRepository {
+
+    private final ClientRepository delegate;
+    private final ClientCreationRing ring;
+    private final ClientChangeRepository changeRepository;
+    private final Counter databaseQueries;
+
+    public WindowedMetricsClientRepository(ClientRepository delegate, ClientCreationRing ring,
+                                           ClientChangeRepository changeRepository, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.ring = ring;
+        this.changeRepository = changeRepository;
+        this.databaseQueries = Counter.builder("clients.windowed_metrics.db_queries")
+                .description("Range aggregations sent to the database for parts of a window outside the ring")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public AgeAggregate aggregateAgesCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        ClientCreationRing.Answer answer = ring.query(from, to);
+        if (answer.isEmpty()) {
+            return fromDatabase(from, to);
+        }
+
+        AgeAggregate ages = answer.getAges();
+        if (from.isBefore(answer.getCoveredFrom())) {
+            ages = ages.merge(fromDatabase(from, answer.getCoveredFrom()));
+        }
+        if (answer.getCoveredTo().isBefore(to)) {
+            ages = ages.merge(fromDatabase(answer.getCoveredTo(), to));
+        }
+        return ages;
+    }
+
+    @Override
+    public Client save(Client client) {
+        return delegate.save(client);
+    }
+
+    @Override
+    public Optional<Client> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Client> findAllById(Collection<Long> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Optional<Client> update(Long id, ClientPatch patch, Long expectedVersion) {
+        return delegate.update(id, patch, expectedVersion);
+    }
+
+    @Override
+    public List<Client> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Client> findAll(Set<ClientField> fields) {
+        return delegate.findAll(fields);
+    }
+
+    @Override
+    public List<Client> findPage(long afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public ClientDeletionChunk deleteChunk(ClientDeletionCriteria criteria, long afterId, int limit) {
+        return delegate.deleteChunk(criteria, afterId, limit);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public boolean existsByIdentity(ClientIdentity identity) {
+        return delegate.existsByIdentity(identity);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public ClientMetrics calculateAgeMetrics() {
+        return delegate.calculateAgeMetrics();
+    }
+
+    @Override
+    public List<ClientSegmentMetrics> calculateSegmentedAgeMetrics(List<SegmentDimension> dimensions) {
+        return delegate.calculateSegmentedAgeMetrics(dimensions);
+    }
+
+    @Override
+    public ClientNameStatistics calculateNameStatistics(int topLastNames) {
+        return delegate.calculateNameStatistics(topLastNames);
+    }
+
+    /**
+     * Creations in a range, from the change feed where it still has them and
+     * from the clients table before that. The split is rounded down to a whole
+     * second because created_at may be stored without fractional seconds.
+     */
+    private AgeAggregate fromDatabase(LocalDateTime from, LocalDateTime to) {
+        databaseQueries.increment();
+        LocalDateTime feedFrom = changeRepository.findOldestChangeTime()
+                .map(oldest -> oldest.truncatedTo(ChronoUnit.SECONDS))
+                .orElse(to);
+        AgeAggregate ages = AgeAggregate.EMPTY;
+        if (from.isBefore(feedFrom)) {
+            ages = delegate.aggregateAgesCreatedBetween(from, feedFrom.isBefore(to) ? feedFrom : to);
+        }
+        if (feedFrom.isBefore(to)) {
+            ages = ages.merge(changeRepository.aggregateCreatedAgesBetween(from.isAfter(feedFrom) ? from : feedFrom, to));
+        }
+        return ages;
+    }
+}
@@ -0,0 +1,464 @@
+package com.microservice.mscclientes.infrastructure.archive;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
+import com.microservice.mscclientes.domain.valueobject.ClientSegmentMetrics;
+import com.microservice.mscclientes.domain.valueobject.SegmentDimension;
+import com.microservice.mscclientes.infrastructure.duplicate.BloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Cold tier of the client store: append-only segment files on local disk.
+ * Segments are never rewritten. A client that leaves the archive, because it
+ * was deleted or moved back to the clients table to be updated, is hidden by
+ * a tombstone that covers every segment existing at that moment, so the same
+ * id archived again later in a newer segment is visible again.
+ * <p>
+ * Aggregates over archived clients only change when segments or tombstones
+ * are added, so they are computed once and cached until then. The identity
+ * filter and the tombstones live in memory: a few bytes per archived client.
+ */
+@Component
+@ConditionalOnProperty(name = "clients.archive.enabled", havingValue = "true")
+public class ClientArchive {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientArchive.class);
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final String TOMBSTONE_FILE = "tombstones.bin";
+    private static final int TOMBSTONE_BYTES = 8 + 4;
+    private static final long MIN_FILTER_INSERTIONS = 10_000;
+    private static final double FILTER_FALSE_POSITIVE_RATE = 0.01;
+
+    private final Path directory;
+    private final int blockSize;
+    private final FileChannel tombstoneLog;
+    private final Map<Long, Integer> tombstones = new ConcurrentHashMap<>();
+    private final Map<List<SegmentDimension>, List<ClientSegmentMetrics>> segmentMetricsCache = new ConcurrentHashMap<>();
+
+    private volatile List<ClientSegment> segments = List.of();
+    private volatile BloomFilter identities;
+    private volatile AgeAggregate ages; // null until computed
+    private volatile long size;
+
+    @Autowired
+    public ClientArchive(MeterRegistry meterRegistry,
+                         @Value("${clients.archive.directory:./data/archive}") String directory,
+                         @Value("${clients.archive.block-size:256}") int blockSize) {
+        this(Paths.get(directory), blockSize);
+        Gauge.builder("clients.archive.clients", this, ClientArchive::size)
+                .description("Clients held in the archive tier")
+                .register(meterRegistry);
+        Gauge.builder("clients.archive.segments", this, archive -> archive.segments.size())
+                .description("Segment files in the archive tier")
+                .register(meterRegistry);
+        Gauge.builder("clients.archive.size", this, ClientArchive::sizeInBytes)
+                .description("Disk space taken by archive segments")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    ClientArchive(Path directory, int blockSize) {
+        this.directory = directory;
+        this.blockSize = blockSize;
+        try {
+            Files.createDirectories(directory);
+            List<ClientSegment> opened = new ArrayList<>();
+            try (Stream<Path> files = Files.list(directory)) {
+                for (Path file : files.sorted().collect(Collectors.toList())) {
+                    String name = file.getFileName().toString();
+                    if (name.endsWith(SEGMENT_SUFFIX + ".tmp")) {
+                        // Left behind by a crash before the rename; its clients are still in the table
+                        Files.delete(file);
+                    } else if (name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX)) {
+                        opened.add(ClientSegment.open(file));
+                    }
+                }
+            }
+            this.segments = List.copyOf(opened);
+            this.tombstoneLog = FileChannel.open(directory.resolve(TOMBSTONE_FILE),
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            readTombstones();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open client archive in " + directory, e);
+        }
+        loadSummaries();
+        logger.info("Client archive opened with {} clients in {} segments ({} bytes)",
+                size, segments.size(), sizeInBytes());
+    }
+
+    /**
+     * Find an archived client
+     * @param id client ID
+     * @return the client, empty if it is not archived or was removed from the archive
+     */
+    public Optional<Client> findById(long id) {
+        List<ClientSegment> current = segments;
+        Integer hiddenBelow = tombstones.get(id);
+        // Newest first, so a client archived again wins over its earlier copy
+        for (int index = current.size() - 1; index >= 0; index--) {
+            if (hiddenBelow != null && index < hiddenBelow) {
+                return Optional.empty();
+            }
+            Optional<Client> client = current.get(index).findById(id);
+            if (client.isPresent()) {
+                return client;
+            }
+        }
+        return Optional.empty();
+    }
+
+    public boolean contains(long id) {
+        return findById(id).isPresent();
+    }
+
+    /**
+     * Visit every archived client, segment by segment
+     * @param action called once per client
+     */
+    public void forEach(Consumer<Client> action) {
+        List<ClientSegment> current = segments;
+        for (int index = 0; index < current.size(); index++) {
+            int segmentIndex = index;
+            current.get(index).forEach(client -> {
+                if (isVisible(client.getId(), segmentIndex)) {
+                    action.accept(client);
+                }
+            });
+        }
+    }
+
+    /**
+     * IDs of archived clients within an ID range that match a condition.
+     * Segments outside the range are skipped without being decoded.
+     * @param condition clients to select
+     * @param afterId exclusive lower ID bound
+     * @param upToId inclusive upper ID bound
+     * @return matching IDs in ascending order
+     */
+    public List<Long> findIds(Predicate<Client> condition, long afterId, long upToId) {
+        List<Long> ids = new ArrayList<>();
+        List<ClientSegment> current = segments;
+        for (int index = 0; index < current.size(); index++) {
+            ClientSegment segment = current.get(index);
+            if (segment.getMaxId() <= afterId || segment.getMinId() > upToId) {
+                continue;
+            }
+            int segmentIndex = index;
+            segment.forEach(client -> {
+                long id = client.getId();
+                if (id > afterId && id <= upToId && isVisible(id, segmentIndex) && condition.test(client)) {
+                    ids.add(id);
+                }
+            });
+        }
+        ids.sort(null);
+        return ids;
+    }
+
+    /**
+     * Archived clients above an ID cursor. Each segment decodes only the
+     * blocks from the cursor until it has found {@code limit} visible clients.
+     * @param afterId exclusive ID cursor
+     * @param limit maximum number of clients returned
+     * @return up to {@code limit} clients in ascending ID order
+     */
+    public List<Client> findPage(long afterId, int limit) {
+        List<Client> clients = new ArrayList<>();
+        List<ClientSegment> current = segments;
+        for (int index = 0; index < current.size(); index++) {
+            int segmentIndex = index;
+            int[] found = {0};
+            current.get(index).forEachAfter(afterId, client -> {
+                if (isVisible(client.getId(), segmentIndex)) {
+                    clients.add(client);
+                    found[0]++;
+                }
+                return found[0] < limit;
+            });
+        }
+        clients.sort(Comparator.comparing(Client::getId));
+        return clients.size() > limit ? new ArrayList<>(clients.subList(0, limit)) : clients;
+    }
+
+    /**
+     * All archived clients sorted by ID
+     */
+    public List<Client> findAll() {
+        List<Client> clients = new ArrayList<>((int) Math.min(size, Integer.MAX_VALUE));
+        forEach(clients::add);
+        clients.sort(Comparator.comparing(Client::getId));
+        return clients;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Highest ID ever archived, 0 if the archive is empty
+     */
+    public long getMaxId() {
+        return segments.stream().mapToLong(ClientSegment::getMaxId).max().orElse(0L);
+    }
+
+    public long sizeInBytes() {
+        return segments.stream().mapToLong(ClientSegment::getSizeInBytes).sum();
+    }
+
+    /**
+     * Whether an archived client has this identity; the in-memory filter
+     * avoids decoding the archive for almost every identity that is absent
+     */
+    public boolean existsByIdentity(ClientIdentity identity) {
+        if (!identities.mightContain(identity.getKey())) {
+            return false;
+        }
+        boolean[] found = new boolean[1];
+        forEach(client -> {
+            if (!found[0] && client.getBirthDate().equals(identity.getBirthDate())
+                    && identity.equals(ClientIdentity.of(client.getFirstName(), client.getLastName(), client.getBirthDate()))) {
+                found[0] = true;
+            }
+        });
+        return found[0];
+    }
+
+    /**
+     * Ages of all archived clients; recomputed on first use after a removal,
+     * since minimum and maximum cannot be taken back
+     */
+    public AgeAggregate aggregateAges() {
+        AgeAggregate current = ages;
+        if (current == null) {
+            synchronized (this) {
+                current = ages;
+                if (current == null) {
+                    current = computeAges();
+                    ages = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Ages of archived clients created within a time range; segments whose
+     * creation range does not overlap are skipped without being decoded
+     * @param from inclusive start of the range
+     * @param to exclusive end of the range
+     */
+    public AgeAggregate aggregateAgesCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        AgeAggregate result = AgeAggregate.EMPTY;
+        List<ClientSegment> current = segments;
+        for (int index = 0; index < current.size(); index++) {
+            ClientSegment segment = current.get(index);
+            if (!segment.getMaxCreatedAt().isBefore(from) && segment.getMinCreatedAt().isBefore(to)) {
+                int segmentIndex = index;
+                AgeAggregate[] partial = {AgeAggregate.EMPTY};
+                segment.forEach(client -> {
+                    if (isVisible(client.getId(), segmentIndex)
+                            && !client.getCreatedAt().isBefore(from) && client.getCreatedAt().isBefore(to)) {
+                        partial[0] = partial[0].add(client.getAge());
+                    }
+                });
+                result = result.merge(partial[0]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Age statistics of archived clients grouped by the given dimensions.
+     * Labels match those computed by the database, so results merge by segment.
+     */
+    public List<ClientSegmentMetrics> segmentMetrics(List<SegmentDimension> dimensions) {
+        return segmentMetricsCache.computeIfAbsent(List.copyOf(dimensions), key -> {
+            Map<Map<SegmentDimension, String>, AgeAggregate> groups = new LinkedHashMap<>();
+            forEach(client -> {
+                Map<SegmentDimension, String> segment = new LinkedHashMap<>();
+                for (SegmentDimension dimension : key) {
+                    segment.put(dimension, dimension.segmentOf(client));
+                }
+                groups.merge(segment, AgeAggregate.of(client.getAge()), AgeAggregate::merge);
+            });
+            return groups.entrySet().stream()
+                    .map(entry -> new ClientSegmentMetrics(entry.getKey(), entry.getValue()))
+                    .collect(Collectors.toUnmodifiableList());
+        });
+    }
+
+    /**
+     * Write clients to a new segment. The segment is durable and visible when
+     * this returns; the caller removes the clients from the table afterwards.
+     * @param clients clients sorted by ascending ID
+     * @return the new segment
+     */
+    public synchronized ClientSegment append(List<Client> clients) {
+        List<ClientSegment> current = segments;
+        int number = current.isEmpty() ? 1 : segmentNumber(current.get(current.size() - 1).getPath()) + 1;
+        Path path = directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+        ClientSegment segment = ClientSegment.write(path, clients, blockSize);
+
+        AgeAggregate segmentAges = AgeAggregate.EMPTY;
+        for (Client client : clients) {
+            identities.put(identityKey(client));
+            segmentAges = segmentAges.add(client.getAge());
+        }
+        List<ClientSegment> updated = new ArrayList<>(current);
+        updated.add(segment);
+        segments = List.copyOf(updated);
+        size += clients.size();
+        AgeAggregate currentAges = ages;
+        ages = currentAges != null ? currentAges.merge(segmentAges) : null;
+        segmentMetricsCache.clear();
+        logger.info("Archived {} clients with IDs {} to {} into {} ({} bytes)",
+                segment.getRowCount(), segment.getMinId(), segment.getMaxId(), path.getFileName(), segment.getSizeInBytes());
+        return segment;
+    }
+
+    /**
+     * Hide clients from every existing segment and persist the tombstones.
+     * The identity filter keeps their identities until the next restart, which
+     * only costs a scan of the archive when one of them is checked again.
+     * @param ids IDs of clients leaving the archive; IDs not archived are ignored
+     */
+    public synchronized void remove(Collection<Long> ids) {
+        List<Long> archived = ids.stream().filter(this::contains).collect(Collectors.toList());
+        if (archived.isEmpty()) {
+            return;
+        }
+        int segmentCount = segments.size();
+        ByteBuffer records = ByteBuffer.allocate(archived.size() * TOMBSTONE_BYTES);
+        for (Long id : archived) {
+            records.putLong(id).putInt(segmentCount);
+        }
+        records.flip();
+        try {
+            long position = tombstoneLog.size();
+            while (records.hasRemaining()) {
+                position += tombstoneLog.write(records, position);
+            }
+            tombstoneLog.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write archive tombstones", e);
+        }
+        for (Long id : archived) {
+            tombstones.put(id, segmentCount);
+        }
+        size -= archived.size();
+        ages = null;
+        segmentMetricsCache.clear();
+    }
+
+    /**
+     * Hide a client once the surrounding transaction commits, so a rolled back
+     * move to the clients table leaves the archived copy visible
+     * @param id ID of the archived client
+     */
+    public void removeAfterCommit(Long id) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    remove(List.of(id));
+                }
+            });
+        } else {
+            remove(List.of(id));
+        }
+    }
+
+    private boolean isVisible(long id, int segmentIndex) {
+        Integer hiddenBelow = tombstones.get(id);
+        return hiddenBelow == null || segmentIndex >= hiddenBelow;
+    }
+
+    /**
+     * Build the count, age aggregate and identity filter by decoding the whole archive once
+     */
+    private void loadSummaries() {
+        long rows = segments.stream().mapToLong(ClientSegment::getRowCount).sum();
+        BloomFilter filter = BloomFilter.create(Math.max(MIN_FILTER_INSERTIONS, 2 * rows), FILTER_FALSE_POSITIVE_RATE);
+        long[] visible = new long[1];
+        forEach(client -> {
+            visible[0]++;
+            filter.put(identityKey(client));
+        });
+        identities = filter;
+        size = visible[0];
+        ages = null;
+    }
+
+    private AgeAggregate computeAges() {
+        long[] acc = {0, 0, 0, Integer.MAX_VALUE, Integer.MIN_VALUE};
+        forEach(client -> {
+            int age = client.getAge();
+            acc[0]++;
+            acc[1] += age;
+            acc[2] += (long) age * age;
+            acc[3] = Math.min(acc[3], age);
+            acc[4] = Math.max(acc[4], age);
+        });
+        return acc[0] == 0 ? AgeAggregate.EMPTY : new AgeAggregate(acc[0], acc[1], acc[2], (int) acc[3], (int) acc[4]);
+    }
+
+    private static String identityKey(Client client) {
+        return ClientIdentity.of(client.getFirstName(), client.getLastName(), client.getBirthDate()).getKey();
+    }
+
+    private void readTombstones() throws IOException {
+        long entries = tombstoneLog.size() / TOMBSTONE_BYTES;
+        ByteBuffer records = ByteBuffer.allocate((int) entries * TOMBSTONE_BYTES);
+        long position = 0;
+        while (records.hasRemaining()) {
+            int read = tombstoneLog.read(records, position);
+            if (read < 0) {
+                break;
+            }
+            position += read;
+        }
+        records.flip();
+        while (records.remaining() >= TOMBSTONE_BYTES) {
+            tombstones.put(records.getLong(), records.getInt());
+        }
+    }
+
+    private static int segmentNumber(Path path) {
+        String name = path.getFileName().toString();
+        return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
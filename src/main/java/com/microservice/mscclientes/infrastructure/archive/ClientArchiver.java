@@ -0,0 +1,144 @@
+package com.microservice.mscclientes.infrastructure.archive;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
+import com.microservice.mscclientes.infrastructure.persistence.entity.ClientJpaEntity;
+import com.microservice.mscclientes.infrastructure.persistence.mapper.ClientMapper;
+import com.microservice.mscclientes.infrastructure.persistence.readmodel.ClientReadModel;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Moves clients between the clients table and the archive.
+ * Each move runs in one transaction with the rows locked, and the archive side
+ * is written so that a crash at any point leaves a client in both tiers rather
+ * than in neither; the copy in the table always wins and
+ * {@link #removeArchivedCopiesStillInTable()} cleans up the other.
+ */
+@Component
+@ConditionalOnProperty(name = "clients.archive.enabled", havingValue = "true")
+public class ClientArchiver {
+
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final EntityManager entityManager;
+    private final ClientMapper mapper;
+    private final ClientArchive archive;
+    private final ObjectProvider<ClientReadModel> readModel;
+
+    public ClientArchiver(EntityManager entityManager, ClientMapper mapper, ClientArchive archive,
+                          ObjectProvider<ClientReadModel> readModel) {
+        this.entityManager = entityManager;
+        this.mapper = mapper;
+        this.archive = archive;
+        this.readModel = readModel;
+    }
+
+    /**
+     * Archive the oldest clients created before the cutoff.
+     * The rows are locked so no update can slip in between the copy and the
+     * delete, written to a new segment, and then deleted from the table. The
+     * deletion is not a client change: the clients still exist, so nothing is
+     * added to the change feed and no cache is invalidated.
+     * @param cutoff clients created before this instant are archived
+     * @param limit maximum number of clients moved
+     * @return number of clients moved
+     */
+    @Transactional
+    public int archiveOlderThan(LocalDateTime cutoff, int limit) {
+        List<Client> clients = entityManager.createQuery(
+                        "SELECT c FROM ClientJpaEntity c WHERE c.createdAt < :cutoff ORDER BY c.id", ClientJpaEntity.class)
+                .setParameter("cutoff", cutoff)
+                .setMaxResults(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList()
+                .stream()
+                .map(mapper::toDomainEntity)
+                .collect(Collectors.toList());
+        if (clients.isEmpty()) {
+            return 0;
+        }
+
+        archive.append(clients);
+
+        List<Long> ids = clients.stream().map(Client::getId).collect(Collectors.toList());
+        for (int from = 0; from < ids.size(); from += DELETE_BATCH_SIZE) {
+            entityManager.createQuery("DELETE FROM ClientJpaEntity c WHERE c.id IN :ids")
+                    .setParameter("ids", ids.subList(from, Math.min(ids.size(), from + DELETE_BATCH_SIZE)))
+                    .executeUpdate();
+        }
+        ClientReadModel model = readModel.getIfAvailable();
+        if (model != null) {
+            ids.forEach(model::removeAfterCommit);
+        }
+        return clients.size();
+    }
+
+    /**
+     * Drop archived copies of clients that are also in the table, left behind
+     * by a crash between writing a segment and committing the delete, or
+     * between moving a client back and hiding its archived copy
+     * @return number of archived copies removed
+     */
+    @Transactional(readOnly = true)
+    public int removeArchivedCopiesStillInTable() {
+        long maxArchivedId = archive.getMaxId();
+        if (maxArchivedId == 0) {
+            return 0;
+        }
+        List<Long> duplicated = entityManager.createQuery(
+                        "SELECT c.id FROM ClientJpaEntity c WHERE c.id <= :maxId", Long.class)
+                .setParameter("maxId", maxArchivedId)
+                .getResultList()
+                .stream()
+                .filter(archive::contains)
+                .collect(Collectors.toList());
+        archive.remove(duplicated);
+        return duplicated.size();
+    }
+
+    /**
+     * Move archived clients back into the table and run an operation on them
+     * in the same transaction. Writes to archived clients go through the table
+     * like any other, so they reach the change feed and the caches; the
+     * archived copies are hidden only if the transaction commits.
+     * @param ids IDs of archived clients
+     * @param operation write to apply once the clients are back in the table
+     * @param <T> result type of the operation
+     * @return the operation's result
+     */
+    @Transactional
+    public <T> T moveToTableAnd(Collection<Long> ids, Supplier<T> operation) {
+        for (Long id : ids) {
+            archive.findById(id).ifPresent(client -> {
+                entityManager.createNativeQuery(
+                                "INSERT INTO clients (id, first_name, last_name, age, birth_date, created_at, updated_at, version, " +
+                                "identity_key) VALUES (:id, :firstName, :lastName, :age, :birthDate, :createdAt, :updatedAt, " +
+                                ":version, :identityKey)")
+                        .setParameter("id", client.getId())
+                        .setParameter("firstName", client.getFirstName())
+                        .setParameter("lastName", client.getLastName())
+                        .setParameter("age", client.getAge())
+                        .setParameter("birthDate", client.getBirthDate())
+                        .setParameter("createdAt", client.getCreatedAt())
+                        .setParameter("updatedAt", client.getUpdatedAt())
+                        .setParameter("version", client.getVersion())
+                        .setParameter("identityKey", ClientIdentity.of(
+                                client.getFirstName(), client.getLastName(), client.getBirthDate()).getKey())
+                        .executeUpdate();
+                archive.removeAfterCommit(id);
+            });
+        }
+        return operation.get();
+    }
+}
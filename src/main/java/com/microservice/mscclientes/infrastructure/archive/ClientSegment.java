@@ -0,0 +1,399 @@
+package com.microservice.mscclientes.infrastructure.archive;
+
+import com.microservice.mscclientes.domain.entity.Client;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Immutable file of archived clients, read through a memory mapping.
+ * Clients are stored in id order in blocks of a fixed number of rows, each
+ * block deflate-compressed on its own. A sparse index holding the first id of
+ * every block is kept in memory, so a lookup inflates a single block.
+ * <p>
+ * Layout: magic and format version, the compressed blocks, the block index
+ * (first id, offset, compressed length, raw length and row count per block)
+ * and a fixed-size trailer locating the index.
+ */
+public final class ClientSegment {
+
+    private static final int MAGIC = 0x43534547; // "CSEG"
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 8;
+    private static final int INDEX_ENTRY_BYTES = 8 + 8 + 4 + 4 + 4;
+    private static final int TRAILER_BYTES = 8 + 4 + 4 + 8 + 8 + 8 + 8 + 4;
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+
+    private final Path path;
+    private final MappedByteBuffer buffer;
+    private final long[] blockFirstIds;
+    private final long[] blockOffsets;
+    private final int[] blockCompressedLengths;
+    private final int[] blockRawLengths;
+    private final int[] blockRowCounts;
+    private final int rowCount;
+    private final long minId;
+    private final long maxId;
+    private final LocalDateTime minCreatedAt;
+    private final LocalDateTime maxCreatedAt;
+
+    private ClientSegment(Path path, MappedByteBuffer buffer) {
+        this.path = path;
+        this.buffer = buffer;
+
+        int size = buffer.capacity();
+        if (size < HEADER_BYTES + TRAILER_BYTES || buffer.getInt(0) != MAGIC || buffer.getInt(size - 4) != MAGIC) {
+            throw new IllegalStateException("Not a client segment: " + path);
+        }
+        if (buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported segment format " + buffer.getInt(4) + ": " + path);
+        }
+        int trailer = size - TRAILER_BYTES;
+        long indexOffset = buffer.getLong(trailer);
+        int blockCount = buffer.getInt(trailer + 8);
+        this.rowCount = buffer.getInt(trailer + 12);
+        this.minId = buffer.getLong(trailer + 16);
+        this.maxId = buffer.getLong(trailer + 24);
+        this.minCreatedAt = fromEpochSecond(buffer.getLong(trailer + 32));
+        this.maxCreatedAt = fromEpochSecond(buffer.getLong(trailer + 40));
+
+        this.blockFirstIds = new long[blockCount];
+        this.blockOffsets = new long[blockCount];
+        this.blockCompressedLengths = new int[blockCount];
+        this.blockRawLengths = new int[blockCount];
+        this.blockRowCounts = new int[blockCount];
+        for (int block = 0; block < blockCount; block++) {
+            int entry = (int) indexOffset + block * INDEX_ENTRY_BYTES;
+            blockFirstIds[block] = buffer.getLong(entry);
+            blockOffsets[block] = buffer.getLong(entry + 8);
+            blockCompressedLengths[block] = buffer.getInt(entry + 16);
+            blockRawLengths[block] = buffer.getInt(entry + 20);
+            blockRowCounts[block] = buffer.getInt(entry + 24);
+        }
+    }
+
+    /**
+     * Map an existing segment file
+     * @param path segment file
+     * @return the opened segment
+     * @throws IllegalStateException if the file is not a complete segment
+     */
+    public static ClientSegment open(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new ClientSegment(path, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open client segment " + path, e);
+        }
+    }
+
+    /**
+     * Write clients to a new segment file and open it.
+     * The file is written under a temporary name, forced to disk and then
+     * renamed, so a crash never leaves a partial segment under the final name.
+     * @param path final segment file
+     * @param clients clients sorted by ascending id, all with a creation timestamp
+     * @param blockSize clients per compressed block
+     * @return the opened segment
+     */
+    public static ClientSegment write(Path path, List<Client> clients, int blockSize) {
+        if (clients.isEmpty()) {
+            throw new IllegalArgumentException("A segment needs at least one client");
+        }
+        int blockCount = (clients.size() + blockSize - 1) / blockSize;
+        long[] firstIds = new long[blockCount];
+        long[] offsets = new long[blockCount];
+        int[] compressedLengths = new int[blockCount];
+        int[] rawLengths = new int[blockCount];
+        int[] rowCounts = new int[blockCount];
+        LocalDateTime minCreatedAt = clients.get(0).getCreatedAt();
+        LocalDateTime maxCreatedAt = minCreatedAt;
+
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, ByteBuffer.allocate(HEADER_BYTES).putInt(MAGIC).putInt(FORMAT_VERSION).flip());
+
+            ByteArrayOutputStream raw = new ByteArrayOutputStream();
+            byte[] compressed = new byte[0];
+            long previousId = Long.MIN_VALUE;
+            for (int block = 0; block < blockCount; block++) {
+                List<Client> rows = clients.subList(block * blockSize, Math.min(clients.size(), (block + 1) * blockSize));
+                raw.reset();
+                DataOutputStream out = new DataOutputStream(raw);
+                for (Client client : rows) {
+                    if (client.getId() <= previousId) {
+                        throw new IllegalArgumentException("Clients must be sorted by ascending id");
+                    }
+                    previousId = client.getId();
+                    writeClient(out, client);
+                    if (client.getCreatedAt().isBefore(minCreatedAt)) {
+                        minCreatedAt = client.getCreatedAt();
+                    }
+                    if (client.getCreatedAt().isAfter(maxCreatedAt)) {
+                        maxCreatedAt = client.getCreatedAt();
+                    }
+                }
+                byte[] bytes = raw.toByteArray();
+                if (compressed.length < bytes.length + 64) {
+                    compressed = new byte[bytes.length + bytes.length / 8 + 64];
+                }
+                deflater.reset();
+                deflater.setInput(bytes);
+                deflater.finish();
+                int length = 0;
+                while (!deflater.finished()) {
+                    if (length == compressed.length) {
+                        compressed = Arrays.copyOf(compressed, compressed.length * 2);
+                    }
+                    length += deflater.deflate(compressed, length, compressed.length - length);
+                }
+
+                firstIds[block] = rows.get(0).getId();
+                offsets[block] = channel.position();
+                compressedLengths[block] = length;
+                rawLengths[block] = bytes.length;
+                rowCounts[block] = rows.size();
+                writeFully(channel, ByteBuffer.wrap(compressed, 0, length));
+            }
+
+            long indexOffset = channel.position();
+            ByteBuffer index = ByteBuffer.allocate(blockCount * INDEX_ENTRY_BYTES + TRAILER_BYTES);
+            for (int block = 0; block < blockCount; block++) {
+                index.putLong(firstIds[block]).putLong(offsets[block])
+                        .putInt(compressedLengths[block]).putInt(rawLengths[block]).putInt(rowCounts[block]);
+            }
+            index.putLong(indexOffset).putInt(blockCount).putInt(clients.size())
+                    .putLong(clients.get(0).getId()).putLong(clients.get(clients.size() - 1).getId())
+                    .putLong(toEpochSecond(minCreatedAt))
+                    .putLong(toEpochSecond(maxCreatedAt) + (maxCreatedAt.getNano() > 0 ? 1 : 0))
+                    .putInt(MAGIC);
+            writeFully(channel, index.flip());
+            channel.force(true);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write client segment " + path, e);
+        } finally {
+            deflater.end();
+        }
+
+        try {
+            Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not publish client segment " + path, e);
+        }
+        return open(path);
+    }
+
+    /**
+     * Find a client by id, inflating only the block that may hold it
+     * @param id client id
+     * @return the archived client, empty if this segment does not hold it
+     */
+    public Optional<Client> findById(long id) {
+        if (id < minId || id > maxId) {
+            return Optional.empty();
+        }
+        int block = Arrays.binarySearch(blockFirstIds, id);
+        if (block < 0) {
+            block = -block - 2;
+        }
+        DataInputStream in = inflate(block);
+        try {
+            for (int row = 0; row < blockRowCounts[block]; row++) {
+                Client client = readClient(in);
+                if (client.getId() == id) {
+                    return Optional.of(client);
+                }
+                if (client.getId() > id) {
+                    break;
+                }
+            }
+            return Optional.empty();
+        } catch (IOException e) {
+            throw corrupted(e);
+        }
+    }
+
+    /**
+     * Decode every client in id order
+     * @param action called once per client
+     */
+    public void forEach(Consumer<Client> action) {
+        try {
+            for (int block = 0; block < blockFirstIds.length; block++) {
+                DataInputStream in = inflate(block);
+                for (int row = 0; row < blockRowCounts[block]; row++) {
+                    action.accept(readClient(in));
+                }
+            }
+        } catch (IOException e) {
+            throw corrupted(e);
+        }
+    }
+
+    /**
+     * Decode clients above an id in id order, starting at the block that may
+     * hold the first of them
+     * @param afterId exclusive id cursor
+     * @param action called once per client; returning false stops the scan
+     */
+    public void forEachAfter(long afterId, Predicate<Client> action) {
+        if (afterId >= maxId) {
+            return;
+        }
+        int first = Arrays.binarySearch(blockFirstIds, afterId + 1);
+        if (first < 0) {
+            first = Math.max(0, -first - 2);
+        }
+        try {
+            for (int block = first; block < blockFirstIds.length; block++) {
+                DataInputStream in = inflate(block);
+                for (int row = 0; row < blockRowCounts[block]; row++) {
+                    Client client = readClient(in);
+                    if (client.getId() > afterId && !action.test(client)) {
+                        return;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw corrupted(e);
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public long getMinId() {
+        return minId;
+    }
+
+    public long getMaxId() {
+        return maxId;
+    }
+
+    /**
+     * Earliest creation timestamp, truncated to the second
+     */
+    public LocalDateTime getMinCreatedAt() {
+        return minCreatedAt;
+    }
+
+    /**
+     * Latest creation timestamp, rounded up to the second
+     */
+    public LocalDateTime getMaxCreatedAt() {
+        return maxCreatedAt;
+    }
+
+    /**
+     * Bytes taken by the file, compressed blocks and index included
+     */
+    public long getSizeInBytes() {
+        return buffer.capacity();
+    }
+
+    private DataInputStream inflate(int block) {
+        // Duplicate so concurrent readers do not share a position
+        ByteBuffer input = buffer.duplicate();
+        input.position((int) blockOffsets[block]).limit((int) blockOffsets[block] + blockCompressedLengths[block]);
+        byte[] bytes = new byte[blockRawLengths[block]];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            int length = inflater.inflate(bytes);
+            if (length != bytes.length) {
+                throw new IllegalStateException("Truncated block " + block + " in " + path);
+            }
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupted block " + block + " in " + path, e);
+        } finally {
+            inflater.end();
+        }
+        return new DataInputStream(new ByteArrayInputStream(bytes));
+    }
+
+    private IllegalStateException corrupted(IOException e) {
+        return new IllegalStateException("Corrupted client segment " + path, e);
+    }
+
+    private static void writeClient(DataOutputStream out, Client client) throws IOException {
+        out.writeLong(client.getId());
+        out.writeUTF(client.getFirstName());
+        out.writeUTF(client.getLastName());
+        out.writeInt(client.getAge());
+        out.writeInt((int) client.getBirthDate().toEpochDay());
+        writeTimestamp(out, client.getCreatedAt());
+        writeTimestamp(out, client.getUpdatedAt());
+        out.writeLong(client.getVersion() != null ? client.getVersion() : 0L);
+    }
+
+    private static Client readClient(DataInputStream in) throws IOException {
+        long id = in.readLong();
+        String firstName = in.readUTF();
+        String lastName = in.readUTF();
+        int age = in.readInt();
+        LocalDate birthDate = LocalDate.ofEpochDay(in.readInt());
+        LocalDateTime createdAt = readTimestamp(in);
+        LocalDateTime updatedAt = readTimestamp(in);
+        long version = in.readLong();
+        return Client.reconstitute(id, firstName, lastName, age, birthDate, createdAt, updatedAt, version);
+    }
+
+    private static void writeTimestamp(DataOutputStream out, LocalDateTime timestamp) throws IOException {
+        if (timestamp == null) {
+            out.writeLong(NO_TIMESTAMP);
+            return;
+        }
+        out.writeLong(timestamp.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(timestamp.getNano());
+    }
+
+    private static LocalDateTime readTimestamp(DataInputStream in) throws IOException {
+        long seconds = in.readLong();
+        if (seconds == NO_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(seconds, in.readInt(), ZoneOffset.UTC);
+    }
+
+    private static long toEpochSecond(LocalDateTime timestamp) {
+        return timestamp.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    private static LocalDateTime fromEpochSecond(long seconds) {
+        return LocalDateTime.ofEpochSecond(seconds, 0, ZoneOffset.UTC);
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer bytes) throws IOException {
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.microservice.mscclientes.infrastructure.archive;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionChunk;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionCriteria;
+import com.microservice.mscclientes.domain.valueobject.ClientField;
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
+import com.microservice.mscclientes.domain.valueobject.ClientMetrics;
+import com.microservice.mscclientes.domain.valueobject.ClientNameStatistics;
+import com.microservice.mscclientes.domain.valueobject.ClientPatch;
+import com.microservice.mscclientes.domain.valueobject.ClientSegmentMetrics;
+import com.microservice.mscclientes.domain.valueobject.SegmentDimension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * ClientRepository decorator that serves the clients table and the archive as
+ * one store. Reads look at the table first and fall back to the archive;
+ * aggregates combine both tiers. Archived clients are read-only, so a write to
+ * one first moves it back into the table within the write's transaction.
+ * Name statistics are left to the delegate: without name sketches they cover
+ * the table only, as distinct counts cannot be merged exactly.
+ */
+public class TieredClientRepository implements ClientRepository {
+
+    private final ClientRepository delegate;
+    private final ClientArchive archive;
+    private final ClientArchiver archiver;
+
+    public TieredClientRepository(ClientRepository delegate, ClientArchive archive, ClientArchiver archiver) {
+        this.delegate = delegate;
+        this.archive = archive;
+        this.archiver = archiver;
+    }
+
+    @Override
+    public Client save(Client client) {
+        return delegate.save(client);
+    }
+
+    @Override
+    public Optional<Client> findById(Long id) {
+        Optional<Client> client = delegate.findById(id);
+        return client.isPresent() ? client : archive.findById(id);
+    }
+
+    /**
+     * IDs missing from the table are looked up in the archive, each one a
+     * sparse index probe into a single block.
+     */
+    @Override
+    public List<Client> findAllById(Collection<Long> ids) {
+        List<Client> clients = delegate.findAllById(ids);
+        if (archive.size() == 0 || clients.size() == ids.size()) {
+            return clients;
+        }
+        Set<Long> currentIds = new HashSet<>(clients.size() * 2);
+        clients.forEach(client -> currentIds.add(client.getId()));
+
+        List<Client> found = new ArrayList<>(clients);
+        for (Long id : ids) {
+            if (!currentIds.contains(id)) {
+                archive.findById(id).ifPresent(found::add);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public Optional<Client> update(Long id, ClientPatch patch, Long expectedVersion) {
+        Optional<Client> updated = delegate.update(id, patch, expectedVersion);
+        if (updated.isPresent() || !archive.contains(id)) {
+            return updated;
+        }
+        return archiver.moveToTableAnd(List.of(id), () -> delegate.update(id, patch, expectedVersion));
+    }
+
+    /**
+     * Both tiers in ID order. A client caught in both while being archived is
+     * taken from the table.
+     */
+    @Override
+    public List<Client> findAll() {
+        return withArchived(delegate.findAll());
+    }
+
+    /**
+     * Archived clients are decoded whole; only the table read is projected
+     */
+    @Override
+    public List<Client> findAll(Set<ClientField> fields) {
+        return withArchived(delegate.findAll(fields));
+    }
+
+    private List<Client> withArchived(List<Client> current) {
+        if (archive.size() == 0) {
+            return current;
+        }
+        Set<Long> currentIds = new HashSet<>(current.size() * 2);
+        current.forEach(client -> currentIds.add(client.getId()));
+
+        List<Client> archived = archive.findAll();
+        List<Client> clients = new ArrayList<>(archived.size() + current.size());
+        for (Client client : archived) {
+            if (!currentIds.contains(client.getId())) {
+                clients.add(client);
+            }
+        }
+        clients.addAll(current);
+        clients.sort(Comparator.comparing(Client::getId));
+        return clients;
+    }
+
+    /**
+     * Merges a page from the table with a page from the archive, the table
+     * copy winning when a client is in both while it is being moved.
+     */
+    @Override
+    public List<Client> findPage(long afterId, int limit) {
+        List<Client> current = delegate.findPage(afterId, limit);
+        if (archive.size() == 0) {
+            return current;
+        }
+        Set<Long> currentIds = new HashSet<>(current.size() * 2);
+        current.forEach(client -> currentIds.add(client.getId()));
+
+        List<Client> clients = new ArrayList<>(current);
+        for (Client client : archive.findPage(afterId, limit)) {
+            if (!currentIds.contains(client.getId())) {
+                clients.add(client);
+            }
+        }
+        clients.sort(Comparator.comparing(Client::getId));
+        return clients.size() > limit ? clients.subList(0, limit) : clients;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        if (!delegate.existsById(id) && archive.contains(id)) {
+            archiver.moveToTableAnd(List.of(id), () -> {
+                delegate.deleteById(id);
+                return null;
+            });
+            return;
+        }
+        delegate.deleteById(id);
+    }
+
+    /**
+     * Delete a chunk from the table, then the archived clients matching the
+     * criteria within the same ID range. Once the table is exhausted the range
+     * extends to the end of the archive. At most {@code limit} archived clients
+     * are deleted per chunk.
+     */
+    @Override
+    public ClientDeletionChunk deleteChunk(ClientDeletionCriteria criteria, long afterId, int limit) {
+        ClientDeletionChunk chunk = delegate.deleteChunk(criteria, afterId, limit);
+        long upToId = chunk.getScanned() < limit ? Long.MAX_VALUE : chunk.getLastScannedId();
+
+        List<Long> archived;
+        if (criteria.getType() == ClientDeletionCriteria.Type.IDS) {
+            archived = criteria.getIds().stream()
+                    .filter(id -> id > afterId && id <= upToId && archive.contains(id))
+                    .collect(Collectors.toList());
+        } else {
+            archived = archive.findIds(criteria::matches, afterId, upToId);
+        }
+        if (archived.isEmpty()) {
+            return chunk;
+        }
+        // Bound the work per chunk; the cursor then resumes inside the archived range
+        boolean truncated = archived.size() > limit;
+        if (truncated) {
+            archived = archived.subList(0, limit);
+        }
+
+        List<Long> deleted = new ArrayList<>(chunk.getDeletedIds());
+        for (int from = 0; from < archived.size(); from += ClientDeletionCriteria.MAX_IDS) {
+            List<Long> batch = archived.subList(from, Math.min(archived.size(), from + ClientDeletionCriteria.MAX_IDS));
+            ClientDeletionChunk moved = archiver.moveToTableAnd(batch,
+                    () -> delegate.deleteChunk(ClientDeletionCriteria.byIds(batch), 0, batch.size()));
+            deleted.addAll(moved.getDeletedIds());
+        }
+        if (truncated) {
+            return new ClientDeletionChunk(archived.get(archived.size() - 1), limit, deleted);
+        }
+        return new ClientDeletionChunk(chunk.getLastScannedId(), chunk.getScanned(), deleted);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return delegate.existsById(id) || archive.contains(id);
+    }
+
+    @Override
+    public boolean existsByIdentity(ClientIdentity identity) {
+        return delegate.existsByIdentity(identity) || archive.existsByIdentity(identity);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count() + archive.size();
+    }
+
+    /**
+     * Combines the table's metrics with the archive's cached aggregate, so the
+     * delegate can keep answering from the read model
+     */
+    @Override
+    public ClientMetrics calculateAgeMetrics() {
+        AgeAggregate archived = archive.aggregateAges();
+        ClientMetrics current = delegate.calculateAgeMetrics();
+        if (archived.getCount() == 0) {
+            return current;
+        }
+        long count = current.getTotalClients() + archived.getCount();
+        double average = current.getAverageAge();
+        double deviation = current.getStandardDeviation();
+        double sum = average * current.getTotalClients() + archived.getSum();
+        double sumOfSquares = (deviation * deviation + average * average) * current.getTotalClients()
+                + archived.getSumOfSquares();
+        double combinedAverage = sum / count;
+        double variance = sumOfSquares / count - combinedAverage * combinedAverage;
+        return new ClientMetrics(combinedAverage, Math.sqrt(Math.max(variance, 0.0)), count);
+    }
+
+    @Override
+    public List<ClientSegmentMetrics> calculateSegmentedAgeMetrics(List<SegmentDimension> dimensions) {
+        List<ClientSegmentMetrics> archived = archive.segmentMetrics(dimensions);
+        List<ClientSegmentMetrics> current = delegate.calculateSegmentedAgeMetrics(dimensions);
+        if (archived.isEmpty()) {
+            return current;
+        }
+        Map<Map<SegmentDimension, String>, AgeAggregate> merged = new LinkedHashMap<>();
+        for (ClientSegmentMetrics segment : current) {
+            merged.merge(segment.getSegment(), segment.getAges(), AgeAggregate::merge);
+        }
+        for (ClientSegmentMetrics segment : archived) {
+            merged.merge(segment.getSegment(), segment.getAges(), AgeAggregate::merge);
+        }
+        return merged.entrySet().stream()
+                .map(entry -> new ClientSegmentMetrics(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public AgeAggregate aggregateAgesCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        return delegate.aggregateAgesCreatedBetween(from, to).merge(archive.aggregateAgesCreatedBetween(from, to));
+    }
+
+    @Override
+    public ClientNameStatistics calculateNameStatistics(int topLastNames) {
+        return delegate.calculateNameStatistics(topLastNames);
+    }
+}
@@ -0,0 +1,219 @@
+package com.microservice.mscclientes.infrastructure.cache;
+
+import com.microservice.mscclientes.infrastructure.persistence.entity.CacheEpochJpaEntity;
+import com.microservice.mscclientes.infrastructure.persistence.repository.CacheEpochJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Keeps in-process client caches coherent across instances without a message broker.
+ * Each committed write transaction increments the clients epoch once, in a short
+ * transaction of its own, so writers never hold the epoch row lock while they work;
+ * each instance polls that single row on a fixed interval. Epochs this instance
+ * produced itself are remembered, so only writes made elsewhere raise a REMOTE
+ * ClientDataChangedEvent; listeners invalidate on it within one poll interval.
+ */
+@Component
+public class ClientCacheCoherence {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientCacheCoherence.class);
+
+    static final String CLIENTS = "clients";
+
+    private final CacheEpochJpaRepository epochRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate epochTransaction;
+    private final NavigableSet<Long> localEpochs = new ConcurrentSkipListSet<>();
+    private final Timer invalidationLag;
+    private final Counter remoteChanges;
+
+    private volatile long lastSeenEpoch = -1;
+
+    public ClientCacheCoherence(CacheEpochJpaRepository epochRepository,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry) {
+        this.epochRepository = epochRepository;
+        this.eventPublisher = eventPublisher;
+        this.epochTransaction = new TransactionTemplate(transactionManager);
+        this.epochTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.invalidationLag = Timer.builder("clients.cache.invalidation_lag")
+                .description("Time from a write on another instance to its detection by this instance")
+                .register(meterRegistry);
+        this.remoteChanges = Counter.builder("clients.cache.remote_changes")
+                .description("Client writes made by other instances detected by the epoch poll")
+                .register(meterRegistry);
+        Gauge.builder("clients.cache.epoch", this, coherence -> coherence.lastSeenEpoch)
+                .description("Latest clients epoch observed by this instance")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Record the starting epoch before any cache loads, so writes racing with
+     * the initial load are still detected by the first poll
+     */
+    @PostConstruct
+    void initialize() {
+        try {
+            lastSeenEpoch = ensureEpochRow();
+            logger.info("Cache coherence starting at clients epoch {}", lastSeenEpoch);
+        } catch (DataAccessException e) {
+            logger.warn("Could not read clients epoch at startup, first poll will invalidate caches: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Record a client write. Inside a transaction the epoch is incremented once,
+     * after the transaction commits, however many times this is called;
+     * a rolled back transaction leaves the epoch untouched.
+     */
+    public void recordWrite() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            onLocalCommit(bumpEpoch());
+            return;
+        }
+        if (TransactionSynchronizationManager.hasResource(this)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                onLocalCommit(bumpEpoch());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ClientCacheCoherence.this);
+            }
+        });
+    }
+
+    /**
+     * Increment the clients epoch in its own transaction, holding the row lock only for the update
+     * @return the new epoch, or the last seen one if the database could not be reached;
+     *         other instances then catch up on their periodic consistency checks
+     */
+    private long bumpEpoch() {
+        try {
+            Long epoch = epochTransaction.execute(status -> {
+                if (epochRepository.increment(CLIENTS) == 0) {
+                    ensureEpochRow();
+                    epochRepository.increment(CLIENTS);
+                }
+                return epochRepository.findEpoch(CLIENTS);
+            });
+            return epoch != null ? epoch : lastSeenEpoch;
+        } catch (DataAccessException e) {
+            logger.warn("Could not increment clients epoch after commit: {}", e.getMessage());
+            return lastSeenEpoch;
+        }
+    }
+
+    /**
+     * Poll the clients epoch and raise a REMOTE event if another instance wrote.
+     * The interval is the upper bound on cross-instance staleness of local caches.
+     */
+    @Scheduled(fixedDelayString = "${clients.cache-coherence.poll-interval:1000}",
+               initialDelayString = "${clients.cache-coherence.poll-interval:1000}")
+    public void poll() {
+        List<Object[]> rows;
+        try {
+            rows = epochRepository.findEpochWithTimestamps(CLIENTS);
+        } catch (DataAccessException e) {
+            logger.warn("Clients epoch poll failed: {}", e.getMessage());
+            return;
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        Object[] row = rows.get(0);
+        long epoch = ((Number) row[0]).longValue();
+        long remote = observe(epoch);
+        if (remote > 0) {
+            LocalDateTime updatedAt = toLocalDateTime(row[1]);
+            LocalDateTime databaseNow = toLocalDateTime(row[2]);
+            invalidationLag.record(Duration.between(updatedAt, databaseNow).abs());
+            remoteChanges.increment(remote);
+            logger.debug("Detected {} remote client writes, clients epoch now {}", remote, epoch);
+            eventPublisher.publishEvent(new ClientDataChangedEvent(ClientDataChangedEvent.Origin.REMOTE, epoch));
+        }
+    }
+
+    public long getLastSeenEpoch() {
+        return lastSeenEpoch;
+    }
+
+    /**
+     * Advance to a polled epoch, discounting epochs produced by this instance
+     * @param epoch epoch read from the database
+     * @return number of writes made by other instances since the last poll;
+     *         1 if the epoch went backwards or the starting epoch was unknown
+     */
+    long observe(long epoch) {
+        long previous = lastSeenEpoch;
+        if (epoch == previous) {
+            return 0;
+        }
+
+        NavigableSet<Long> committedLocally = localEpochs.headSet(epoch, true);
+        int local = committedLocally.size();
+        committedLocally.clear();
+        lastSeenEpoch = epoch;
+
+        if (previous < 0 || epoch < previous) {
+            return 1;
+        }
+        return Math.max(0, epoch - previous - local);
+    }
+
+    void onLocalCommit(long epoch) {
+        if (epoch > lastSeenEpoch) {
+            localEpochs.add(epoch);
+        }
+        eventPublisher.publishEvent(new ClientDataChangedEvent(ClientDataChangedEvent.Origin.LOCAL, epoch));
+    }
+
+    private long ensureEpochRow() {
+        Long epoch = epochRepository.findEpoch(CLIENTS);
+        if (epoch != null) {
+            return epoch;
+        }
+        try {
+            epochRepository.saveAndFlush(new CacheEpochJpaEntity(CLIENTS, 0L, LocalDateTime.now()));
+        } catch (DataIntegrityViolationException e) {
+            logger.debug("Clients epoch row created concurrently by another instance");
+        }
+        return epochRepository.findEpoch(CLIENTS);
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
+}
@@ -0,0 +1,48 @@
+package com.microservice.mscclientes.infrastructure.cache;
+
+/**
+ * Application event signalling that client data changed after a committed write.
+ * Local events follow writes made by this instance; remote events are raised when
+ * the epoch poll detects writes made by another instance sharing the database.
+ */
+public class ClientDataChangedEvent {
+
+    /**
+     * Where the write that raised the event was made
+     */
+    public enum Origin {
+        LOCAL,
+        REMOTE
+    }
+
+    private final Origin origin;
+    private final long epoch;
+
+    public ClientDataChangedEvent(Origin origin, long epoch) {
+        this.origin = origin;
+        this.epoch = epoch;
+    }
+
+    public Origin getOrigin() {
+        return origin;
+    }
+
+    public boolean isRemote() {
+        return origin == Origin.REMOTE;
+    }
+
+    /**
+     * Epoch of the clients data set once the change is visible
+     */
+    public long getEpoch() {
+        return epoch;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientDataChangedEvent{" +
+                "origin=" + origin +
+                ", epoch=" + epoch +
+                '}';
+    }
+}
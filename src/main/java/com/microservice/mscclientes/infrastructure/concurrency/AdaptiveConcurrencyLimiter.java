@@ -0,0 +1,144 @@
+package com.microservice.mscclientes.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limit that adapts to observed latency using a gradient algorithm.
+ * A slow-moving average of response times serves as the no-load baseline, kept
+ * separately for heavy and light requests since their costs differ; when
+ * recent requests take longer than the baseline allows, the limit shrinks in
+ * proportion, and it grows again while latency stays near the baseline and the
+ * limit is actually being used. Server errors back the limit off multiplicatively.
+ * Heavy requests may only occupy a fraction of the limit, so cheap requests
+ * keep getting through when list and metrics calls pile up.
+ */
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double DROP_BACKOFF = 0.9;
+    private static final int BASELINE_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double heavyFraction;
+    private final double smoothing;
+    private final double tolerance;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Counter heavyRejections;
+    private final Counter lightRejections;
+
+    private volatile double limit;
+    private double heavyBaselineRttNanos;
+    private double lightBaselineRttNanos;
+
+    @Autowired
+    public AdaptiveConcurrencyLimiter(@Value("${clients.concurrency.initial-limit:20}") int initialLimit,
+                                      @Value("${clients.concurrency.min-limit:4}") int minLimit,
+                                      @Value("${clients.concurrency.max-limit:200}") int maxLimit,
+                                      @Value("${clients.concurrency.heavy-fraction:0.5}") double heavyFraction,
+                                      @Value("${clients.concurrency.smoothing:0.2}") double smoothing,
+                                      @Value("${clients.concurrency.tolerance:1.5}") double tolerance,
+                                      MeterRegistry meterRegistry) {
+        this.limit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.heavyFraction = heavyFraction;
+        this.smoothing = smoothing;
+        this.tolerance = tolerance;
+        this.heavyRejections = rejections(meterRegistry, "heavy");
+        this.lightRejections = rejections(meterRegistry, "light");
+        Gauge.builder("clients.concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit for client endpoints")
+                .register(meterRegistry);
+        Gauge.builder("clients.concurrency.inflight", inflight, AtomicInteger::get)
+                .description("Client requests currently being processed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Try to admit a request
+     * @param heavy whether the request is a full-table read
+     * @return in-flight count at admission, or -1 if the request must be shed
+     */
+    public int tryAcquire(boolean heavy) {
+        int allowed = heavy ? Math.max(1, (int) (limit * heavyFraction)) : (int) limit;
+        while (true) {
+            int current = inflight.get();
+            if (current >= allowed) {
+                (heavy ? heavyRejections : lightRejections).increment();
+                return -1;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Release an admitted request and feed its outcome into the limit
+     * @param heavy whether the request was admitted as heavy
+     * @param inflightAtStart value returned by tryAcquire
+     * @param rttNanos time taken to process the request
+     * @param dropped whether the request failed with a server error
+     */
+    public void release(boolean heavy, int inflightAtStart, long rttNanos, boolean dropped) {
+        inflight.decrementAndGet();
+        update(heavy, inflightAtStart, Math.max(1L, rttNanos), dropped);
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    private synchronized void update(boolean heavy, int inflightAtStart, long rttNanos, boolean dropped) {
+        if (dropped) {
+            limit = Math.max(minLimit, limit * DROP_BACKOFF);
+            return;
+        }
+
+        double baseline = heavy ? heavyBaselineRttNanos : lightBaselineRttNanos;
+        if (baseline == 0) {
+            baseline = rttNanos;
+        } else {
+            baseline += (rttNanos - baseline) / BASELINE_WINDOW;
+        }
+        // Let the baseline follow a sustained drop instead of tolerating inflated latency forever
+        if (baseline / rttNanos > 2) {
+            baseline *= 0.95;
+        }
+        if (heavy) {
+            heavyBaselineRttNanos = baseline;
+        } else {
+            lightBaselineRttNanos = baseline;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(1.0, tolerance * baseline / rttNanos));
+        // Don't grow a limit that isn't being used
+        if (gradient == 1.0 && inflightAtStart < limit / 2) {
+            return;
+        }
+
+        double newLimit = limit * gradient + Math.sqrt(limit);
+        newLimit = limit * (1 - smoothing) + newLimit * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+
+    private static Counter rejections(MeterRegistry meterRegistry, String priority) {
+        return Counter.builder("clients.concurrency.rejected")
+                .description("Client requests shed by the adaptive concurrency limit")
+                .tag("priority", priority)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,93 @@
+package com.microservice.mscclientes.infrastructure.config;
+
+import com.microservice.mscclientes.domain.repository.ClientChangeRepository;
+import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.infrastructure.analytics.ClientCreationRingLoader;
+import com.microservice.mscclientes.infrastructure.analytics.ClientNameSketches;
+import com.microservice.mscclientes.infrastructure.analytics.NameSketchClientRepository;
+import com.microservice.mscclientes.infrastructure.analytics.WindowedMetricsClientRepository;
+import com.microservice.mscclientes.infrastructure.archive.ClientArchive;
+import com.microservice.mscclientes.infrastructure.archive.ClientArchiver;
+import com.microservice.mscclientes.infrastructure.archive.TieredClientRepository;
+import com.microservice.mscclientes.infrastructure.duplicate.BloomDuplicateClientRepository;
+import com.microservice.mscclientes.infrastructure.duplicate.ClientIdentityFilter;
+import com.microservice.mscclientes.infrastructure.persistence.readmodel.ClientReadModel;
+import com.microservice.mscclientes.infrastructure.persistence.readmodel.ReadModelClientRepository;
+import com.microservice.mscclientes.infrastructure.persistence.repository.ClientRepositoryImpl;
+import com.microservice.mscclientes.infrastructure.persistence.repository.ShardedClientRepository;
+import com.microservice.mscclientes.infrastructure.web.ResponseCache;
+import com.microservice.mscclientes.infrastructure.web.ResponseCacheClientRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+/**
+ * Assembles the ClientRepository seen by the use cases.
+ * Optional decorators are layered over the JPA implementation, or the sharded
+ * one when enabled.
+ */
+@Configuration
+public class ClientRepositoryConfig {
+
+    @Bean
+    @Primary
+    public ClientRepository clientRepository(ClientRepositoryImpl jpaClientRepository,
+                                             ObjectProvider<ShardedClientRepository> shardedRepository,
+                                             ObjectProvider<ClientReadModel> readModel,
+                                             ObjectProvider<ClientArchive> archive,
+                                             ObjectProvider<ClientArchiver> archiver,
+                                             ObjectProvider<ClientCreationRingLoader> creationRing,
+                                             ObjectProvider<ClientNameSketches> nameSketches,
+                                             ObjectProvider<ClientIdentityFilter> identityFilter,
+                                             ObjectProvider<ResponseCache> responseCache,
+                                             ClientChangeRepository changeRepository,
+                                             MeterRegistry meterRegistry) {
+        ClientRepository repository = jpaClientRepository;
+
+        ShardedClientRepository sharded = shardedRepository.getIfAvailable();
+        if (sharded != null) {
+            // These load straight from the primary database's clients table
+            if (readModel.getIfAvailable() != null || archive.getIfAvailable() != null) {
+                throw new IllegalStateException("clients.sharding cannot be combined with "
+                        + "clients.read-model or clients.archive");
+            }
+            repository = sharded;
+        }
+
+        ClientReadModel model = readModel.getIfAvailable();
+        if (model != null) {
+            repository = new ReadModelClientRepository(repository, model);
+        }
+
+        // Above the read model, which mirrors only the clients table
+        ClientArchive clientArchive = archive.getIfAvailable();
+        if (clientArchive != null) {
+            repository = new TieredClientRepository(repository, clientArchive, archiver.getObject());
+        }
+
+        ClientCreationRingLoader ringLoader = creationRing.getIfAvailable();
+        if (ringLoader != null) {
+            repository = new WindowedMetricsClientRepository(repository, ringLoader.getRing(), changeRepository, meterRegistry);
+        }
+
+        ClientNameSketches sketches = nameSketches.getIfAvailable();
+        if (sketches != null) {
+            repository = new NameSketchClientRepository(repository, sketches);
+        }
+
+        ClientIdentityFilter filter = identityFilter.getIfAvailable();
+        if (filter != null) {
+            repository = new BloomDuplicateClientRepository(repository, filter, meterRegistry);
+        }
+
+        // Outermost, so cached responses are dropped only after every inner decorator saw the write
+        ResponseCache cache = responseCache.getIfAvailable();
+        if (cache != null) {
+            repository = new ResponseCacheClientRepository(repository, cache);
+        }
+
+        return repository;
+    }
+}
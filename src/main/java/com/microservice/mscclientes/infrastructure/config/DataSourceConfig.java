@@ -0,0 +1,45 @@
+package com.microservice.mscclientes.infrastructure.config;
+
+import com.microservice.mscclientes.infrastructure.pool.ConnectionUsageDataSource;
+import com.microservice.mscclientes.infrastructure.pool.PoolWindowStats;
+import com.microservice.mscclientes.infrastructure.profiling.ProfilingDataSource;
+import com.microservice.mscclientes.infrastructure.profiling.QueryProfiler;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration for connection pool instrumentation.
+ * Wraps the pooled DataSource so connection waits and hold times are recorded
+ * per use case and sampled statements are profiled; Hikari's own hikaricp.*
+ * meters keep reading the unwrapped pool.
+ */
+@Configuration
+public class DataSourceConfig {
+    
+    @Bean
+    public PoolWindowStats poolWindowStats() {
+        return new PoolWindowStats();
+    }
+    
+    @Bean
+    public static BeanPostProcessor connectionUsageDataSourcePostProcessor(ObjectProvider<MeterRegistry> meterRegistry,
+                                                                           ObjectProvider<PoolWindowStats> windowStats,
+                                                                           ObjectProvider<QueryProfiler> queryProfiler) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionUsageDataSource)) {
+                    QueryProfiler profiler = queryProfiler.getIfAvailable();
+                    DataSource target = profiler != null ? new ProfilingDataSource(dataSource, profiler) : dataSource;
+                    return new ConnectionUsageDataSource(target, meterRegistry.getObject(), windowStats.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+}
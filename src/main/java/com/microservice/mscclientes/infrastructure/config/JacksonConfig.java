@@ -0,0 +1,26 @@
+package com.microservice.mscclientes.infrastructure.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.microservice.mscclientes.interface_.json.ClientJsonModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration for JSON serialization.
+ * Registers the hand-written client DTO serializers and replaces reflective
+ * property access with generated lambdas for every other bean.
+ */
+@Configuration
+public class JacksonConfig {
+    
+    @Bean
+    public Module clientJsonModule() {
+        return new ClientJsonModule();
+    }
+    
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
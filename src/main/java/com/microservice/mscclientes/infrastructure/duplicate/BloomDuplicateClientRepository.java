@@ -0,0 +1,159 @@
+package com.microservice.mscclientes.infrastructure.duplicate;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionChunk;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionCriteria;
+import com.microservice.mscclientes.domain.valueobject.ClientField;
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
+import com.microservice.mscclientes.domain.valueobject.ClientMetrics;
+import com.microservice.mscclientes.domain.valueobject.ClientNameStatistics;
+import com.microservice.mscclientes.domain.valueobject.ClientPatch;
+import com.microservice.mscclientes.domain.valueobject.ClientSegmentMetrics;
+import com.microservice.mscclientes.domain.valueobject.SegmentDimension;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * ClientRepository decorator that answers identity checks from the Bloom
+ * filter when it can. A negative answer is final; only possible hits are
+ * confirmed against the database. Saved clients are added to the filter
+ * straight away so an immediate retry on this instance is caught.
+ */
+public class BloomDuplicateClientRepository implements ClientRepository {
+
+    private final ClientRepository delegate;
+    private final ClientIdentityFilter filter;
+    private final Counter filtered;
+    private final Counter duplicates;
+    private final Counter falsePositives;
+    private final Counter unfiltered;
+
+    public BloomDuplicateClientRepository(ClientRepository delegate, ClientIdentityFilter filter,
+                                          MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.filter = filter;
+        this.filtered = Counter.builder("clients.duplicate_guard.checks")
+                .description("Identity checks answered by the Bloom filter without a database probe")
+                .tag("outcome", "filtered")
+                .register(meterRegistry);
+        this.duplicates = Counter.builder("clients.duplicate_guard.probes")
+                .description("Database probes made for possible duplicates")
+                .tag("result", "duplicate")
+                .register(meterRegistry);
+        this.falsePositives = Counter.builder("clients.duplicate_guard.probes")
+                .description("Database probes made for possible duplicates")
+                .tag("result", "false_positive")
+                .register(meterRegistry);
+        this.unfiltered = Counter.builder("clients.duplicate_guard.probes")
+                .description("Database probes made for possible duplicates")
+                .tag("result", "unfiltered")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Probes made before the filter is loaded are counted as unfiltered, so the
+     * false positive count only reflects the filter's own misses
+     */
+    @Override
+    public boolean existsByIdentity(ClientIdentity identity) {
+        if (!filter.isReady()) {
+            unfiltered.increment();
+            return delegate.existsByIdentity(identity);
+        }
+        if (!filter.mightContain(identity)) {
+            filtered.increment();
+            return false;
+        }
+        boolean exists = delegate.existsByIdentity(identity);
+        (exists ? duplicates : falsePositives).increment();
+        return exists;
+    }
+
+    @Override
+    public Client save(Client client) {
+        Client saved = delegate.save(client);
+        filter.put(ClientIdentity.of(saved.getFirstName(), saved.getLastName(), saved.getBirthDate()));
+        return saved;
+    }
+
+    @Override
+    public Optional<Client> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Client> findAllById(Collection<Long> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Optional<Client> update(Long id, ClientPatch patch, Long expectedVersion) {
+        Optional<Client> updated = delegate.update(id, patch, expectedVersion);
+        updated.ifPresent(client -> filter.put(
+                ClientIdentity.of(client.getFirstName(), client.getLastName(), client.getBirthDate())));
+        return updated;
+    }
+
+    @Override
+    public List<Client> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Client> findAll(Set<ClientField> fields) {
+        return delegate.findAll(fields);
+    }
+
+    @Override
+    public List<Client> findPage(long afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+    }
+
+    @Override
+    public ClientDeletionChunk deleteChunk(ClientDeletionCriteria criteria, long afterId, int limit) {
+        return delegate.deleteChunk(criteria, afterId, limit);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public ClientMetrics calculateAgeMetrics() {
+        return delegate.calculateAgeMetrics();
+    }
+
+    @Override
+    public List<ClientSegmentMetrics> calculateSegmentedAgeMetrics(List<SegmentDimension> dimensions) {
+        return delegate.calculateSegmentedAgeMetrics(dimensions);
+    }
+
+    @Override
+    public AgeAggregate aggregateAgesCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        return delegate.aggregateAgesCreatedBetween(from, to);
+    }
+
+    @Override
+    public ClientNameStatistics calculateNameStatistics(int topLastNames) {
+        return delegate.calculateNameStatistics(topLastNames);
+    }
+}
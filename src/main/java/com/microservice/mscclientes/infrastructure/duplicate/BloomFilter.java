@@ -0,0 +1,120 @@
+package com.microservice.mscclientes.infrastructure.duplicate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter over strings.
+ * Sized from the expected number of insertions and the target false positive
+ * rate; the k bit positions are derived from one 64-bit hash by double hashing.
+ * Bits are set with CAS so request threads and the loader can insert
+ * concurrently without a lock.
+ */
+public class BloomFilter {
+
+    private final AtomicLongArray words;
+    private final long bitSize;
+    private final int hashFunctions;
+    private final AtomicLong bitsSet = new AtomicLong();
+
+    private BloomFilter(long bitSize, int hashFunctions) {
+        this.words = new AtomicLongArray((int) ((bitSize + 63) / 64));
+        this.bitSize = (long) words.length() * 64;
+        this.hashFunctions = hashFunctions;
+    }
+
+    /**
+     * Create a filter sized for the given load
+     * @param expectedInsertions number of keys the filter should hold at the target rate
+     * @param falsePositiveRate target false positive rate, between 0 and 1
+     */
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("False positive rate must be between 0 and 1");
+        }
+        long n = Math.max(1, expectedInsertions);
+        long bits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        bits = Math.min(Math.max(bits, 64), Integer.MAX_VALUE);
+        int k = Math.max(1, (int) Math.round((double) bits / n * Math.log(2)));
+        return new BloomFilter(bits, k);
+    }
+
+    /**
+     * Add a key
+     * @param key key to add
+     */
+    public void put(String key) {
+        long hash = hash64(key);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            setBit(index(hash1 + i * hash2));
+        }
+    }
+
+    /**
+     * Whether the key may have been added; false means it certainly was not
+     * @param key key to look up
+     */
+    public boolean mightContain(String key) {
+        long hash = hash64(key);
+        int hash1 = (int) hash;
+        int hash2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashFunctions; i++) {
+            long bit = index(hash1 + i * hash2);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * False positive rate implied by the current fill
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) bitsSet.get() / bitSize, hashFunctions);
+    }
+
+    public long getBitSize() {
+        return bitSize;
+    }
+
+    public int getHashFunctions() {
+        return hashFunctions;
+    }
+
+    private long index(int combined) {
+        return (combined & Integer.MAX_VALUE) % bitSize;
+    }
+
+    private void setBit(long bit) {
+        int word = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        long current;
+        do {
+            current = words.get(word);
+            if ((current & mask) != 0) {
+                return;
+            }
+        } while (!words.compareAndSet(word, current, current | mask));
+        bitsSet.incrementAndGet();
+    }
+
+    /**
+     * 64-bit FNV-1a followed by the MurmurHash3 finalizer
+     */
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
@@ -0,0 +1,229 @@
+package com.microservice.mscclientes.infrastructure.duplicate;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.entity.ClientChange;
+import com.microservice.mscclientes.domain.event.ClientsBulkDeletedEvent;
+import com.microservice.mscclientes.domain.repository.ClientChangeRepository;
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
+import com.microservice.mscclientes.infrastructure.archive.ClientArchive;
+import com.microservice.mscclientes.infrastructure.persistence.repository.ShardedClientRepository;
+import com.microservice.mscclientes.infrastructure.warmstart.ClientSnapshotStore;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Bloom filter over the identities of all stored clients.
+ * Built by streaming the clients table, or the warm start snapshot if one is
+ * usable, at startup and from the table on a long interval; in between, local
+ * saves are added immediately and writes made by other instances are added as
+ * they are read from the change feed. When the table is sharded every shard
+ * is streamed. The filter never forgets, so deleted or renamed clients only
+ * cost an extra database probe until the next rebuild.
+ */
+@Component
+@ConditionalOnProperty(name = "clients.duplicate-guard.enabled", havingValue = "true")
+public class ClientIdentityFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientIdentityFilter.class);
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM clients";
+    private static final String SELECT_SQL = "SELECT first_name, last_name, birth_date FROM clients";
+    private static final int PAGE_SIZE = 1000;
+
+    private final ClientChangeRepository changeRepository;
+    private final List<JdbcTemplate> jdbcTemplates; // one per shard when sharded
+    private final ObjectProvider<ClientArchive> archive;
+    private final ObjectProvider<ClientSnapshotStore> snapshotStore;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long visibilityDelayMillis;
+
+    private volatile BloomFilter filter;
+    private volatile boolean ready;
+    private long cursor;
+
+    public ClientIdentityFilter(ClientChangeRepository changeRepository,
+                                DataSource dataSource,
+                                ObjectProvider<ShardedClientRepository> shardedRepository,
+                                ObjectProvider<ClientArchive> archive,
+                                ObjectProvider<ClientSnapshotStore> snapshotStore,
+                                MeterRegistry meterRegistry,
+                                @Value("${clients.duplicate-guard.expected-insertions:1000000}") long expectedInsertions,
+                                @Value("${clients.duplicate-guard.false-positive-rate:0.01}") double falsePositiveRate,
+                                @Value("${clients.duplicate-guard.fetch-size:10000}") int fetchSize,
+                                @Value("${clients.changes.visibility-delay:2000}") long visibilityDelayMillis) {
+        this.changeRepository = changeRepository;
+        ShardedClientRepository sharded = shardedRepository.getIfAvailable();
+        this.jdbcTemplates = (sharded != null ? sharded.getShardDataSources() : List.of(dataSource)).stream()
+                .map(source -> {
+                    JdbcTemplate jdbcTemplate = new JdbcTemplate(source);
+                    jdbcTemplate.setFetchSize(fetchSize);
+                    return jdbcTemplate;
+                })
+                .collect(Collectors.toList());
+        this.archive = archive;
+        this.snapshotStore = snapshotStore;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.visibilityDelayMillis = visibilityDelayMillis;
+        this.filter = BloomFilter.create(expectedInsertions, falsePositiveRate);
+        Gauge.builder("clients.duplicate_guard.false_positive_rate", this,
+                        guard -> guard.filter.expectedFalsePositiveRate())
+                .description("False positive rate implied by the current Bloom filter fill")
+                .register(meterRegistry);
+        Gauge.builder("clients.duplicate_guard.filter_bits", this, guard -> guard.filter.getBitSize())
+                .description("Size of the Bloom filter")
+                .baseUnit("bits")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!loadFromSnapshot()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * A Bloom filter cannot forget identities, so a bulk deletion triggers a
+     * rebuild; otherwise every deleted identity would keep costing a database
+     * probe when created again, until the daily rebuild
+     */
+    @EventListener
+    public void onClientsBulkDeleted(ClientsBulkDeletedEvent event) {
+        rebuild();
+    }
+
+    /**
+     * Replace the filter with one built from the clients table and the
+     * archive, if enabled, sized for twice the current client count so it stays near the target rate as the
+     * table grows until the next rebuild. The feed is resumed from the newest
+     * settled change, so a write committing late with a lower sequence than
+     * the table scan saw is still polled afterwards.
+     */
+    @Scheduled(fixedDelayString = "${clients.duplicate-guard.rebuild-interval:86400000}",
+               initialDelayString = "${clients.duplicate-guard.rebuild-interval:86400000}")
+    public synchronized void rebuild() {
+        try {
+            LocalDateTime settledBefore = LocalDateTime.now().minusNanos(visibilityDelayMillis * 1_000_000L);
+            long feedPosition = changeRepository.findLatestSequenceBefore(settledBefore).orElse(0L);
+            long tableRows = 0;
+            for (JdbcTemplate jdbcTemplate : jdbcTemplates) {
+                Long rows = jdbcTemplate.queryForObject(COUNT_SQL, Long.class);
+                tableRows += rows != null ? rows : 0L;
+            }
+            build(feedPosition, tableRows, "clients table", identities -> {
+                for (JdbcTemplate jdbcTemplate : jdbcTemplates) {
+                    jdbcTemplate.query(SELECT_SQL, rs -> {
+                        identities.accept(ClientIdentity.of(rs.getString(1), rs.getString(2),
+                                rs.getDate(3).toLocalDate()));
+                    });
+                }
+            });
+        } catch (DataAccessException e) {
+            logger.warn("Could not rebuild duplicate guard filter: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Build the filter from the warm start snapshot instead of the table; the
+     * feed is then polled from the snapshot's sequence, which adds every
+     * identity written since
+     * @return whether a snapshot was available
+     */
+    private synchronized boolean loadFromSnapshot() {
+        ClientSnapshotStore store = snapshotStore.getIfAvailable();
+        Optional<ClientSnapshotStore.StoredSnapshot> stored = store != null ? store.startupSnapshot() : Optional.empty();
+        if (stored.isEmpty()) {
+            return false;
+        }
+        build(stored.get().getSequence(), stored.get().size(), "snapshot", identities ->
+                stored.get().forEach(client -> identities.accept(
+                        ClientIdentity.of(client.getFirstName(), client.getLastName(), client.getBirthDate()))));
+        return true;
+    }
+
+    private void build(long feedPosition, long tableRows, String source, Consumer<Consumer<ClientIdentity>> clients) {
+        long start = System.nanoTime();
+        ClientArchive archived = archive.getIfAvailable();
+        long rows = tableRows + (archived != null ? archived.size() : 0L);
+        BloomFilter newFilter = BloomFilter.create(Math.max(expectedInsertions, 2 * rows), falsePositiveRate);
+
+        clients.accept(identity -> newFilter.put(identity.getKey()));
+        if (archived != null) {
+            archived.forEach(client -> newFilter.put(
+                    ClientIdentity.of(client.getFirstName(), client.getLastName(), client.getBirthDate()).getKey()));
+        }
+
+        filter = newFilter;
+        cursor = feedPosition;
+        ready = true;
+        logger.info("Duplicate guard filter built from {} clients ({}) in {} ms ({} bits, {} hash functions)",
+                rows, source, (System.nanoTime() - start) / 1_000_000, newFilter.getBitSize(), newFilter.getHashFunctions());
+    }
+
+    /**
+     * Add identities written by any instance since the last poll
+     */
+    @Scheduled(fixedDelayString = "${clients.duplicate-guard.poll-interval:1000}",
+               initialDelayString = "${clients.duplicate-guard.poll-interval:1000}")
+    public synchronized void poll() {
+        if (!ready) {
+            return;
+        }
+        try {
+            LocalDateTime visibleBefore = LocalDateTime.now().minusNanos(visibilityDelayMillis * 1_000_000L);
+            List<ClientChange> page;
+            do {
+                page = changeRepository.findAfter(cursor, visibleBefore, PAGE_SIZE);
+                for (ClientChange change : page) {
+                    Client client = change.getClient();
+                    if (client != null) {
+                        put(ClientIdentity.of(client.getFirstName(), client.getLastName(), client.getBirthDate()));
+                    }
+                }
+                if (!page.isEmpty()) {
+                    cursor = page.get(page.size() - 1).getSequence();
+                }
+            } while (page.size() == PAGE_SIZE);
+        } catch (DataAccessException e) {
+            logger.warn("Could not read client change feed for duplicate guard: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Whether the filter has been built at least once
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Whether a client with this identity may exist; false means it certainly does not
+     */
+    public boolean mightContain(ClientIdentity identity) {
+        return filter.mightContain(identity.getKey());
+    }
+
+    public void put(ClientIdentity identity) {
+        filter.put(identity.getKey());
+    }
+}
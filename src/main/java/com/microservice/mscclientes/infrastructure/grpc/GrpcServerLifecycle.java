@@ -0,0 +1,108 @@
+package com.microservice.mscclientes.infrastructure.grpc;
+
+import com.microservice.mscclientes.infrastructure.security.JwtServerInterceptor;
+import com.microservice.mscclientes.interface_.grpc.ClientGrpcService;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the gRPC server on its own port next to the servlet container.
+ * Calls run on a fixed pool, so the pool size bounds how many calls touch the
+ * database at once just like the servlet thread pool does for REST. The
+ * server starts with the context and drains in-flight calls on shutdown.
+ */
+@Component
+@ConditionalOnProperty(name = "clients.grpc.enabled", havingValue = "true")
+public class GrpcServerLifecycle implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(GrpcServerLifecycle.class);
+
+    private final ClientGrpcService clientService;
+    private final JwtServerInterceptor jwtInterceptor;
+    private final int port;
+    private final int threads;
+    private final long shutdownGracePeriod;
+
+    private ExecutorService executor;
+    private volatile Server server;
+
+    public GrpcServerLifecycle(ClientGrpcService clientService,
+                               JwtServerInterceptor jwtInterceptor,
+                               @Value("${clients.grpc.port:9090}") int port,
+                               @Value("${clients.grpc.threads:16}") int threads,
+                               @Value("${clients.grpc.shutdown-grace-period:10000}") long shutdownGracePeriod) {
+        this.clientService = clientService;
+        this.jwtInterceptor = jwtInterceptor;
+        this.port = port;
+        this.threads = threads;
+        this.shutdownGracePeriod = shutdownGracePeriod;
+    }
+
+    @Override
+    public synchronized void start() {
+        AtomicInteger count = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "grpc-call-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            server = NettyServerBuilder.forPort(port)
+                    .executor(executor)
+                    .addService(ServerInterceptors.intercept(clientService, jwtInterceptor))
+                    .build()
+                    .start();
+        } catch (IOException e) {
+            executor.shutdownNow();
+            throw new UncheckedIOException("Could not start gRPC server on port " + port, e);
+        }
+        logger.info("gRPC server listening on port {}", server.getPort());
+    }
+
+    @Override
+    public synchronized void stop() {
+        Server running = server;
+        if (running == null) {
+            return;
+        }
+        running.shutdown();
+        try {
+            if (!running.awaitTermination(shutdownGracePeriod, TimeUnit.MILLISECONDS)) {
+                running.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            running.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        executor.shutdownNow();
+        server = null;
+        logger.info("gRPC server stopped");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+
+    /**
+     * Port the server is bound to, useful when configured with port 0
+     */
+    public int getPort() {
+        Server running = server;
+        return running == null ? -1 : running.getPort();
+    }
+}
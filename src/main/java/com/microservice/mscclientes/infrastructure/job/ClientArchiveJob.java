@@ -0,0 +1,73 @@
+package com.microservice.mscclientes.infrastructure.job;
+
+import com.microservice.mscclientes.infrastructure.archive.ClientArchiver;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Moves clients created before the archive threshold from the clients table
+ * into archive segments. Each batch becomes one segment and is moved in its
+ * own transaction; a run stops after a bounded number of batches and
+ * continues on the next run if the backlog is larger.
+ */
+@Component
+@ConditionalOnProperty(name = "clients.archive.enabled", havingValue = "true")
+public class ClientArchiveJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientArchiveJob.class);
+
+    private final ClientArchiver archiver;
+    private final long olderThanMillis;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Counter archived;
+
+    public ClientArchiveJob(ClientArchiver archiver,
+                            MeterRegistry meterRegistry,
+                            @Value("${clients.archive.older-than:2592000000}") long olderThanMillis,
+                            @Value("${clients.archive.batch-size:10000}") int batchSize,
+                            @Value("${clients.archive.max-batches:10}") int maxBatchesPerRun) {
+        this.archiver = archiver;
+        this.olderThanMillis = olderThanMillis;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.archived = Counter.builder("clients.archive.moved")
+                .description("Clients moved from the clients table into the archive")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Clean up copies left in both tiers by an interrupted move, then archive
+     * old clients batch by batch
+     */
+    @Scheduled(fixedDelayString = "${clients.archive.interval:3600000}",
+               initialDelayString = "${clients.archive.initial-delay:60000}")
+    public void archiveOldClients() {
+        int reconciled = archiver.removeArchivedCopiesStillInTable();
+        if (reconciled > 0) {
+            logger.warn("Dropped {} archived clients also found in the clients table", reconciled);
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(olderThanMillis * 1_000_000L);
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int moved = archiver.archiveOlderThan(cutoff, batchSize);
+            total += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        archived.increment(total);
+        if (total > 0) {
+            logger.info("Archived {} clients created before {}", total, cutoff);
+        }
+    }
+}
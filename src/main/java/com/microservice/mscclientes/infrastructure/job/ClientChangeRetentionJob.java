@@ -0,0 +1,65 @@
+package com.microservice.mscclientes.infrastructure.job;
+
+import com.microservice.mscclientes.domain.repository.ClientChangeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Compacts the client change feed by removing changes older than the retention period.
+ * Rows are deleted in small batches, each in its own transaction, so compaction
+ * never holds long locks on the table that writers append to.
+ */
+@Component
+public class ClientChangeRetentionJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientChangeRetentionJob.class);
+
+    private final ClientChangeRepository changeRepository;
+    private final long retentionMillis;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final Counter purged;
+
+    public ClientChangeRetentionJob(ClientChangeRepository changeRepository,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${clients.changes.retention:604800000}") long retentionMillis,
+                                    @Value("${clients.changes.purge-batch-size:1000}") int batchSize,
+                                    @Value("${clients.changes.purge-max-batches:100}") int maxBatchesPerRun) {
+        this.changeRepository = changeRepository;
+        this.retentionMillis = retentionMillis;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.purged = Counter.builder("clients.changes.purged")
+                .description("Change feed rows removed by retention")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Remove expired changes; stops after a bounded number of batches and
+     * continues on the next run if the backlog is larger
+     */
+    @Scheduled(fixedDelayString = "${clients.changes.purge-interval:3600000}",
+               initialDelayString = "${clients.changes.purge-interval:3600000}")
+    public void purgeExpiredChanges() {
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(retentionMillis * 1_000_000L);
+        int total = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            int deleted = changeRepository.deleteOlderThan(cutoff, batchSize);
+            total += deleted;
+            if (deleted < batchSize) {
+                break;
+            }
+        }
+        purged.increment(total);
+        if (total > 0) {
+            logger.info("Purged {} client changes older than {}", total, cutoff);
+        }
+    }
+}
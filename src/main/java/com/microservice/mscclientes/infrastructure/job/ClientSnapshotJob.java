@@ -0,0 +1,74 @@
+package com.microservice.mscclientes.infrastructure.job;
+
+import com.microservice.mscclientes.infrastructure.persistence.readmodel.ClientReadModel;
+import com.microservice.mscclientes.infrastructure.persistence.readmodel.ClientSnapshot;
+import com.microservice.mscclientes.infrastructure.warmstart.ClientSnapshotStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the read model to the warm start snapshot on a fixed interval and on
+ * shutdown. The read model is the source so writing never touches MySQL;
+ * without it enabled no snapshot is written. A snapshot is only rewritten
+ * when the read model has changed since the last one.
+ */
+@Component
+@ConditionalOnProperty(name = "clients.warm-start.enabled", havingValue = "true")
+public class ClientSnapshotJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientSnapshotJob.class);
+
+    private final ClientSnapshotStore store;
+    private final ObjectProvider<ClientReadModel> readModel;
+    private final Timer writeTimer;
+
+    private ClientSnapshot lastWritten;
+
+    public ClientSnapshotJob(ClientSnapshotStore store, ObjectProvider<ClientReadModel> readModel,
+                             MeterRegistry meterRegistry) {
+        this.store = store;
+        this.readModel = readModel;
+        this.writeTimer = Timer.builder("clients.warm_start.write")
+                .description("Time taken to write the warm start snapshot")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${clients.warm-start.write-interval:300000}",
+               initialDelayString = "${clients.warm-start.write-interval:300000}")
+    public synchronized void writeSnapshot() {
+        ClientReadModel model = readModel.getIfAvailable();
+        if (model == null || !model.isReady()) {
+            return;
+        }
+        long sequence = model.getSequence();
+        ClientSnapshot current = model.current();
+        if (current == lastWritten) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            store.write(sequence, current.getClients());
+            lastWritten = current;
+            long elapsed = System.nanoTime() - start;
+            writeTimer.record(elapsed, TimeUnit.NANOSECONDS);
+            logger.info("Wrote snapshot of {} clients at sequence {} in {} ms",
+                    current.size(), sequence, elapsed / 1_000_000);
+        } catch (RuntimeException e) {
+            logger.warn("Could not write client snapshot: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void onShutdown() {
+        writeSnapshot();
+    }
+}
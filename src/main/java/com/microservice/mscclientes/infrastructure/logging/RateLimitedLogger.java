@@ -0,0 +1,57 @@
+package com.microservice.mscclientes.infrastructure.logging;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Warn-level logger that writes at most a fixed number of messages per
+ * interval and summarizes the rest, so a flood of rejected requests cannot
+ * turn logging into the bottleneck. Suppressed messages are never formatted.
+ */
+public final class RateLimitedLogger {
+
+    private final Logger logger;
+    private final int messagesPerInterval;
+    private final long intervalNanos;
+
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger logged = new AtomicInteger();
+    private final AtomicLong suppressed = new AtomicLong();
+
+    public RateLimitedLogger(Logger logger, int messagesPerInterval, long intervalMillis) {
+        this.logger = logger;
+        this.messagesPerInterval = messagesPerInterval;
+        this.intervalNanos = intervalMillis * 1_000_000L;
+    }
+
+    /**
+     * Log at WARN unless this interval's budget is spent
+     * @param format SLF4J message format
+     * @param arguments message arguments
+     */
+    public void warn(String format, Object... arguments) {
+        if (!logger.isWarnEnabled()) {
+            return;
+        }
+        if (!tryAcquire()) {
+            suppressed.incrementAndGet();
+            return;
+        }
+        long dropped = suppressed.getAndSet(0);
+        if (dropped > 0) {
+            logger.warn("{} similar messages suppressed", dropped);
+        }
+        logger.warn(format, arguments);
+    }
+
+    private boolean tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= intervalNanos && windowStart.compareAndSet(start, now)) {
+            logged.set(0);
+        }
+        return logged.incrementAndGet() <= messagesPerInterval;
+    }
+}
@@ -0,0 +1,68 @@
+package com.microservice.mscclientes.infrastructure.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity for cache epoch persistence.
+ * Holds a counter per cached data set that is incremented by every write.
+ */
+@Entity
+@Table(name = "cache_epochs")
+public class CacheEpochJpaEntity {
+
+    @Id
+    @Column(length = 64)
+    private String name;
+
+    @Column(nullable = false)
+    private Long epoch;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // Default constructor for JPA
+    public CacheEpochJpaEntity() {}
+
+    // Constructor with all fields
+    public CacheEpochJpaEntity(String name, Long epoch, LocalDateTime updatedAt) {
+        this.name = name;
+        this.epoch = epoch;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public Long getEpoch() {
+        return epoch;
+    }
+
+    public void setEpoch(Long epoch) {
+        this.epoch = epoch;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheEpochJpaEntity{" +
+                "name='" + name + '\'' +
+                ", epoch=" + epoch +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
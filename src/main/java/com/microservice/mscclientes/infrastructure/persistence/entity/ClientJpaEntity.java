@@ -1,7 +1,9 @@
 package com.microservice.mscclientes.infrastructure.persistence.entity;
 
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
@@ -10,15 +12,24 @@ import java.time.LocalDateTime;
 /**
  * JPA Entity for Client persistence.
  * This is the infrastructure layer representation of the Client domain entity.
+ * Updates write only the changed columns and are guarded by the version column.
+ * The normalized identity key is derived from the names and birth date before
+ * every write, so the unique index rejects duplicates however they were typed.
  */
 @Entity
+@DynamicUpdate
 @Table(name = "clients", indexes = {
     @Index(name = "idx_age", columnList = "age"),
     @Index(name = "idx_birth_date", columnList = "birthDate"),
-    @Index(name = "idx_full_name", columnList = "firstName, lastName")
+    @Index(name = "idx_full_name", columnList = "firstName, lastName"),
+    @Index(name = "idx_clients_created_at", columnList = "createdAt")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = ClientJpaEntity.IDENTITY_CONSTRAINT, columnNames = "identity_key")
 })
 public class ClientJpaEntity {
     
+    public static final String IDENTITY_CONSTRAINT = "uk_clients_identity";
+    
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -43,6 +54,13 @@ public class ClientJpaEntity {
     @Column(name = "updated_at", nullable = false)
     private LocalDateTime updatedAt;
     
+    @Version
+    @Column(nullable = false)
+    private Long version;
+    
+    @Column(name = "identity_key", length = 255)
+    private String identityKey;
+    
     // Default constructor for JPA
     public ClientJpaEntity() {}
     
@@ -54,6 +72,12 @@ public class ClientJpaEntity {
         this.birthDate = birthDate;
     }
     
+    @PrePersist
+    @PreUpdate
+    void updateIdentityKey() {
+        this.identityKey = ClientIdentity.of(firstName, lastName, birthDate).getKey();
+    }
+    
     // Getters and Setters
     public Long getId() {
         return id;
@@ -111,6 +135,18 @@ public class ClientJpaEntity {
         this.updatedAt = updatedAt;
     }
     
+    public Long getVersion() {
+        return version;
+    }
+    
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+    
+    public String getIdentityKey() {
+        return identityKey;
+    }
+    
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
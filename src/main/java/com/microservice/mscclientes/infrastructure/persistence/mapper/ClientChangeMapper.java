@@ -0,0 +1,74 @@
+package com.microservice.mscclientes.infrastructure.persistence.mapper;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.entity.ClientChange;
+import com.microservice.mscclientes.infrastructure.persistence.entity.ClientChangeJpaEntity;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper between domain ClientChange entity and JPA ClientChangeJpaEntity.
+ * Implements the Adapter pattern to convert between layers.
+ */
+@Component
+public class ClientChangeMapper {
+
+    /**
+     * Convert domain ClientChange to JPA entity
+     * @param change domain entity
+     * @return JPA entity
+     */
+    public ClientChangeJpaEntity toJpaEntity(ClientChange change) {
+        if (change == null) {
+            return null;
+        }
+
+        ClientChangeJpaEntity jpaEntity = new ClientChangeJpaEntity();
+        jpaEntity.setSequence(change.getSequence());
+        jpaEntity.setClientId(change.getClientId());
+        jpaEntity.setChangeType(change.getType().name());
+        jpaEntity.setChangedAt(change.getOccurredAt());
+
+        Client client = change.getClient();
+        if (client != null) {
+            jpaEntity.setFirstName(client.getFirstName());
+            jpaEntity.setLastName(client.getLastName());
+            jpaEntity.setAge(client.getAge());
+            jpaEntity.setBirthDate(client.getBirthDate());
+        }
+
+        return jpaEntity;
+    }
+
+    /**
+     * Convert JPA entity to domain ClientChange
+     * @param jpaEntity JPA entity
+     * @return domain entity
+     */
+    public ClientChange toDomainEntity(ClientChangeJpaEntity jpaEntity) {
+        if (jpaEntity == null) {
+            return null;
+        }
+
+        ClientChange.Type type = ClientChange.Type.valueOf(jpaEntity.getChangeType());
+        Client client = null;
+        if (type != ClientChange.Type.DELETED) {
+            client = Client.reconstitute(
+                    jpaEntity.getClientId(),
+                    jpaEntity.getFirstName(),
+                    jpaEntity.getLastName(),
+                    jpaEntity.getAge(),
+                    jpaEntity.getBirthDate(),
+                    null,
+                    null
+            );
+        }
+
+        return new ClientChange(
+                jpaEntity.getSequence(),
+                jpaEntity.getClientId(),
+                type,
+                client,
+                jpaEntity.getChangedAt()
+        );
+    }
+}
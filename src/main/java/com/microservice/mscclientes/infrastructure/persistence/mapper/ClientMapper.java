@@ -29,12 +29,13 @@ public class ClientMapper {
         jpaEntity.setBirthDate(client.getBirthDate());
         jpaEntity.setCreatedAt(client.getCreatedAt());
         jpaEntity.setUpdatedAt(client.getUpdatedAt());
+        jpaEntity.setVersion(client.getVersion());
         
         return jpaEntity;
     }
     
     /**
-     * Convert JPA entity to domain Client
+     * Convert JPA entity to domain Client; stored rows are not revalidated
      * @param jpaEntity JPA entity
      * @return domain entity
      */
@@ -43,14 +44,15 @@ public class ClientMapper {
             return null;
         }
         
-        return Client.builder()
-                .id(jpaEntity.getId())
-                .firstName(jpaEntity.getFirstName())
-                .lastName(jpaEntity.getLastName())
-                .age(jpaEntity.getAge())
-                .birthDate(jpaEntity.getBirthDate())
-                .createdAt(jpaEntity.getCreatedAt())
-                .updatedAt(jpaEntity.getUpdatedAt())
-                .build();
+        return Client.reconstitute(
+                jpaEntity.getId(),
+                jpaEntity.getFirstName(),
+                jpaEntity.getLastName(),
+                jpaEntity.getAge(),
+                jpaEntity.getBirthDate(),
+                jpaEntity.getCreatedAt(),
+                jpaEntity.getUpdatedAt(),
+                jpaEntity.getVersion()
+        );
     }
 }
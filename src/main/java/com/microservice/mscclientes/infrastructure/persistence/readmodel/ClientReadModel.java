@@ -0,0 +1,326 @@
+package com.microservice.mscclientes.infrastructure.persistence.readmodel;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.entity.ClientChange;
+import com.microservice.mscclientes.domain.repository.ClientChangeRepository;
+import com.microservice.mscclientes.infrastructure.archive.ClientArchive;
+import com.microservice.mscclientes.infrastructure.cache.ClientDataChangedEvent;
+import com.microservice.mscclientes.infrastructure.persistence.mapper.ClientMapper;
+import com.microservice.mscclientes.infrastructure.persistence.repository.ClientJpaRepository;
+import com.microservice.mscclientes.infrastructure.warmstart.ClientSnapshotStore;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory read model holding an immutable snapshot of all clients.
+ * The snapshot is loaded at startup, patched copy-on-write after each
+ * committed write and swapped atomically, so reads never touch MySQL.
+ * Writes made by other instances are caught up from the change feed when the
+ * cache epoch poll reports them: only the clients changed since
+ * {@link #getSequence()} are reloaded by ID. The periodic check catches up
+ * the same way and rebuilds from the full table only if the fingerprint
+ * still differs.
+ * <p>
+ * With warm start enabled the startup load reads the local snapshot and
+ * reloads only the clients changed after it instead, falling back to a full load if
+ * the result does not match the table's fingerprint. The fingerprint cannot see
+ * an update that keeps the row count and IDs, so the snapshot's sequence must
+ * never claim a change the snapshot lacks; see {@link #getSequence()}.
+ */
+@Component
+@ConditionalOnProperty(name = "clients.read-model.enabled", havingValue = "true")
+public class ClientReadModel {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientReadModel.class);
+
+    private static final int PAGE_SIZE = 1000;
+
+    private final ClientJpaRepository jpaRepository;
+    private final ClientMapper mapper;
+    private final ClientChangeRepository changeRepository;
+    private final ObjectProvider<ClientSnapshotStore> snapshotStore;
+    private final ObjectProvider<ClientArchive> archive;
+    private final long visibilityDelayMillis;
+    private final AtomicReference<ClientSnapshot> snapshot = new AtomicReference<>(ClientSnapshot.EMPTY);
+    private final Timer rebuildTimer;
+    private final Timer catchUpTimer;
+    private final Counter inconsistencyCounter;
+
+    private volatile boolean ready;
+    private volatile Instant lastVerifiedAt = Instant.EPOCH;
+    private volatile long sequence;
+
+    public ClientReadModel(ClientJpaRepository jpaRepository, ClientMapper mapper,
+                           ClientChangeRepository changeRepository,
+                           ObjectProvider<ClientSnapshotStore> snapshotStore,
+                           ObjectProvider<ClientArchive> archive,
+                           @Value("${clients.changes.visibility-delay:2000}") long visibilityDelayMillis,
+                           MeterRegistry meterRegistry) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+        this.changeRepository = changeRepository;
+        this.snapshotStore = snapshotStore;
+        this.archive = archive;
+        this.visibilityDelayMillis = visibilityDelayMillis;
+        this.rebuildTimer = Timer.builder("clients.read_model.rebuild")
+                .description("Time taken to rebuild the client read model from the database")
+                .register(meterRegistry);
+        this.catchUpTimer = Timer.builder("clients.read_model.catch_up")
+                .description("Time taken to apply changes made by other instances from the change feed")
+                .register(meterRegistry);
+        this.inconsistencyCounter = Counter.builder("clients.read_model.inconsistencies")
+                .description("Consistency checks that found the read model out of sync with the database")
+                .register(meterRegistry);
+        Gauge.builder("clients.read_model.size", snapshot, ref -> ref.get().size())
+                .description("Number of clients held in the read model")
+                .register(meterRegistry);
+        Gauge.builder("clients.read_model.staleness", this,
+                        model -> Duration.between(model.lastVerifiedAt, Instant.now()).toMillis() / 1000.0)
+                .description("Seconds since the read model was last verified against the database")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!loadFromSnapshot()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Catch up when another instance has written; local writes are already patched in.
+     * Runs before other listeners so caches derived from the read model see the new snapshot.
+     * @param event client data change
+     */
+    @EventListener(condition = "#event.remote")
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onClientDataChanged(ClientDataChangedEvent event) {
+        if (ready) {
+            logger.debug("Catching up client read model after remote change at epoch {}", event.getEpoch());
+            catchUp();
+        }
+    }
+
+    /**
+     * Reload the clients changed in the feed after {@link #getSequence()} and
+     * patch them into the snapshot. Changes not yet settled are applied too,
+     * but the sequence only advances to the settled one, so a transaction that
+     * commits late with a lower sequence is picked up by the next catch-up.
+     */
+    public synchronized void catchUp() {
+        long start = System.nanoTime();
+        long settled = settledSequence();
+        List<Long> ids = changedIdsAfter(sequence);
+        if (!ids.isEmpty()) {
+            Map<Long, Client> reloaded = reload(ids);
+            snapshot.updateAndGet(current -> current.withReloaded(ids, reloaded));
+            catchUpTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            logger.debug("Client read model caught up with {} changed clients", ids.size());
+        }
+        sequence = Math.max(sequence, settled);
+    }
+
+    /**
+     * Reload every client from the database and swap in a fresh snapshot
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        long feedPosition = settledSequence();
+        List<Client> clients = jpaRepository.findAll()
+                .stream()
+                .map(mapper::toDomainEntity)
+                .collect(Collectors.toList());
+        ClientSnapshot rebuilt = ClientSnapshot.of(clients);
+        snapshot.set(rebuilt);
+        sequence = feedPosition;
+        lastVerifiedAt = rebuilt.getBuiltAt();
+        ready = true;
+        rebuildTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        logger.info("Client read model rebuilt with {} clients", rebuilt.size());
+    }
+
+    /**
+     * Catch up from the feed, then compare the snapshot against the database and
+     * rebuild on mismatch, as after archiving, which leaves no change in the feed.
+     * The interval is the upper bound on staleness for writes made by other instances.
+     */
+    @Scheduled(fixedDelayString = "${clients.read-model.max-staleness:30000}",
+               initialDelayString = "${clients.read-model.max-staleness:30000}")
+    public void verifyConsistency() {
+        if (!ready) {
+            return;
+        }
+        catchUp();
+        ClientTableFingerprint expected = jpaRepository.calculateFingerprint();
+        ClientTableFingerprint actual = snapshot.get().fingerprint();
+        if (!expected.equals(actual)) {
+            inconsistencyCounter.increment();
+            logger.info("Client read model out of sync (database: {}, snapshot: {}), rebuilding", expected, actual);
+            rebuild();
+        } else {
+            lastVerifiedAt = Instant.now();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Change feed sequence the last load started from: every change up to it
+     * is in the current snapshot. It is the newest change older than the
+     * feed's visibility delay, not the newest change, because a transaction
+     * holding a lower sequence may still commit after the table is read.
+     * Later changes may be in the snapshot too, which only means a few clients
+     * are reloaded needlessly after a warm start.
+     * Read it before {@link #current()} so the pair errs on the old side.
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public ClientSnapshot current() {
+        return snapshot.get();
+    }
+
+    /**
+     * Apply a saved client once the surrounding transaction commits
+     * @param client persisted client
+     */
+    public void upsertAfterCommit(Client client) {
+        afterCommit(current -> current.withClient(client));
+    }
+
+    /**
+     * Drop a deleted client once the surrounding transaction commits
+     * @param id deleted client ID
+     */
+    public void removeAfterCommit(Long id) {
+        afterCommit(current -> current.withoutClient(id));
+    }
+
+    /**
+     * Load the local snapshot and reload the clients changed since it was
+     * written. The feed only says which clients changed, so their current rows
+     * are read by ID; a missing row means the client was deleted. Clients
+     * archived in the meantime are dropped, as archiving leaves no change in
+     * the feed. The result must then match the table's fingerprint.
+     * @return whether the snapshot was loaded
+     */
+    private boolean loadFromSnapshot() {
+        ClientSnapshotStore store = snapshotStore.getIfAvailable();
+        Optional<ClientSnapshotStore.StoredSnapshot> stored = store != null ? store.startupSnapshot() : Optional.empty();
+        if (stored.isEmpty()) {
+            return false;
+        }
+        long start = System.nanoTime();
+        Map<Long, Client> clients = new HashMap<>(stored.get().size() * 4 / 3 + 1);
+        stored.get().forEach(client -> clients.put(client.getId(), client));
+
+        long settled = settledSequence();
+        List<Long> ids = changedIdsAfter(stored.get().getSequence());
+        ids.forEach(clients::remove);
+        clients.putAll(reload(ids));
+        ClientArchive archived = archive.getIfAvailable();
+        if (archived != null) {
+            clients.keySet().removeIf(archived::contains);
+        }
+
+        ClientSnapshot loaded = ClientSnapshot.of(clients.values());
+        ClientTableFingerprint expected = jpaRepository.calculateFingerprint();
+        if (!expected.equals(loaded.fingerprint())) {
+            logger.info("Client snapshot does not match the database after reloading {} changed clients "
+                    + "(database: {}, snapshot: {}), loading from the database", ids.size(), expected, loaded.fingerprint());
+            return false;
+        }
+        snapshot.set(loaded);
+        sequence = Math.max(stored.get().getSequence(), settled);
+        lastVerifiedAt = Instant.now();
+        ready = true;
+        rebuildTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        logger.info("Client read model loaded with {} clients from snapshot at sequence {}, {} reloaded as changed since",
+                loaded.size(), stored.get().getSequence(), ids.size());
+        return true;
+    }
+
+    /**
+     * IDs of the clients with a change after the given sequence, in feed order
+     */
+    private List<Long> changedIdsAfter(long after) {
+        Set<Long> changedIds = new LinkedHashSet<>();
+        long feedPosition = after;
+        List<ClientChange> page;
+        do {
+            page = changeRepository.findAfter(feedPosition, LocalDateTime.now(), PAGE_SIZE);
+            for (ClientChange change : page) {
+                changedIds.add(change.getClientId());
+                feedPosition = change.getSequence();
+            }
+        } while (page.size() == PAGE_SIZE);
+        return new ArrayList<>(changedIds);
+    }
+
+    /**
+     * Current rows of the given clients; a missing row means the client was deleted
+     */
+    private Map<Long, Client> reload(List<Long> ids) {
+        Map<Long, Client> reloaded = new HashMap<>(ids.size() * 4 / 3 + 1);
+        for (int from = 0; from < ids.size(); from += PAGE_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(ids.size(), from + PAGE_SIZE));
+            jpaRepository.findAllById(batch).forEach(entity -> reloaded.put(entity.getId(), mapper.toDomainEntity(entity)));
+        }
+        return reloaded;
+    }
+
+    /**
+     * Newest sequence whose change, and every change before it, has committed
+     */
+    private long settledSequence() {
+        LocalDateTime settledBefore = LocalDateTime.now().minusNanos(visibilityDelayMillis * 1_000_000L);
+        return changeRepository.findLatestSequenceBefore(settledBefore).orElse(0L);
+    }
+
+    private void afterCommit(UnaryOperator<ClientSnapshot> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    snapshot.updateAndGet(change);
+                }
+            });
+        } else {
+            snapshot.updateAndGet(change);
+        }
+    }
+}
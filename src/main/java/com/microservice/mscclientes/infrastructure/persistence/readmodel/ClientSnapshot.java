@@ -0,0 +1,214 @@
+package com.microservice.mscclientes.infrastructure.persistence.readmodel;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+import com.microservice.mscclientes.domain.valueobject.ClientMetrics;
+import com.microservice.mscclientes.domain.valueobject.ClientSegmentMetrics;
+import com.microservice.mscclientes.domain.valueobject.SegmentDimension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Immutable point-in-time copy of every client.
+ * Writers never mutate a snapshot; they derive a new one and swap it in,
+ * so readers can iterate without locks.
+ */
+public final class ClientSnapshot {
+
+    public static final ClientSnapshot EMPTY = new ClientSnapshot(List.of(), Instant.EPOCH);
+
+    private final List<Client> clients;
+    private final Map<Long, Client> clientsById;
+    private final long ageSum;
+    private final long ageSumOfSquares;
+    private final long maxId;
+    private final Instant builtAt;
+
+    private ClientSnapshot(List<Client> sortedClients, Instant builtAt) {
+        Map<Long, Client> byId = new HashMap<>(sortedClients.size() * 4 / 3 + 1);
+        long sum = 0;
+        long sumOfSquares = 0;
+        long highestId = 0;
+        for (Client client : sortedClients) {
+            byId.put(client.getId(), client);
+            long age = client.getAge();
+            sum += age;
+            sumOfSquares += age * age;
+            highestId = Math.max(highestId, client.getId());
+        }
+        this.clients = Collections.unmodifiableList(sortedClients);
+        this.clientsById = Collections.unmodifiableMap(byId);
+        this.ageSum = sum;
+        this.ageSumOfSquares = sumOfSquares;
+        this.maxId = highestId;
+        this.builtAt = builtAt;
+    }
+
+    private static boolean isNewer(Client current, Client fresh) {
+        return current.getVersion() != null && fresh.getVersion() != null && current.getVersion() > fresh.getVersion();
+    }
+
+    /**
+     * Build a snapshot from persisted clients
+     * @param clients clients with assigned IDs
+     * @return snapshot ordered by ID
+     */
+    public static ClientSnapshot of(Collection<Client> clients) {
+        List<Client> sorted = new ArrayList<>(clients);
+        sorted.sort(Comparator.comparing(Client::getId));
+        return new ClientSnapshot(sorted, Instant.now());
+    }
+
+    /**
+     * Copy of this snapshot with the given client inserted or replaced
+     * @param client persisted client
+     * @return new snapshot
+     */
+    public ClientSnapshot withClient(Client client) {
+        List<Client> copy = new ArrayList<>(clients.size() + 1);
+        for (Client existing : clients) {
+            if (!existing.getId().equals(client.getId())) {
+                copy.add(existing);
+            }
+        }
+        copy.add(client);
+        if (client.getId() < maxId) {
+            copy.sort(Comparator.comparing(Client::getId));
+        }
+        return new ClientSnapshot(copy, builtAt);
+    }
+
+    /**
+     * Copy of this snapshot without the given client
+     * @param id client ID
+     * @return new snapshot, or this one if the client is not present
+     */
+    public ClientSnapshot withoutClient(Long id) {
+        if (!clientsById.containsKey(id)) {
+            return this;
+        }
+        List<Client> copy = new ArrayList<>(clients.size());
+        for (Client existing : clients) {
+            if (!existing.getId().equals(id)) {
+                copy.add(existing);
+            }
+        }
+        return new ClientSnapshot(copy, builtAt);
+    }
+
+    /**
+     * Copy of this snapshot with a batch of clients reloaded from the database.
+     * A client already held at a higher version is kept, as it was patched in
+     * by a local commit after the reload read its row.
+     * @param ids changed client IDs
+     * @param reloaded current rows of those clients; IDs without a row were deleted
+     * @return new snapshot
+     */
+    public ClientSnapshot withReloaded(Collection<Long> ids, Map<Long, Client> reloaded) {
+        Set<Long> changed = new HashSet<>(ids);
+        List<Client> copy = new ArrayList<>(clients.size() + reloaded.size());
+        for (Client existing : clients) {
+            if (!changed.contains(existing.getId())) {
+                copy.add(existing);
+            }
+        }
+        for (Long id : changed) {
+            Client fresh = reloaded.get(id);
+            if (fresh != null) {
+                Client current = clientsById.get(id);
+                copy.add(current != null && isNewer(current, fresh) ? current : fresh);
+            }
+        }
+        copy.sort(Comparator.comparing(Client::getId));
+        return new ClientSnapshot(copy, builtAt);
+    }
+
+    public List<Client> getClients() {
+        return clients;
+    }
+
+    /**
+     * Clients with an ID above the cursor, located by binary search
+     * @param afterId exclusive ID cursor
+     * @param limit maximum number of clients returned
+     * @return a view of up to {@code limit} clients in ID order
+     */
+    public List<Client> page(long afterId, int limit) {
+        int low = 0;
+        int high = clients.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (clients.get(middle).getId() <= afterId) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return clients.subList(low, Math.min(clients.size(), low + limit));
+    }
+
+    public Optional<Client> findById(Long id) {
+        return Optional.ofNullable(clientsById.get(id));
+    }
+
+    public int size() {
+        return clients.size();
+    }
+
+    public Instant getBuiltAt() {
+        return builtAt;
+    }
+
+    /**
+     * Age metrics computed from the running sums, using the same population
+     * formula as the database query.
+     */
+    public ClientMetrics toMetrics() {
+        long total = clients.size();
+        if (total == 0) {
+            return new ClientMetrics(0.0, 0.0, 0);
+        }
+        double average = (double) ageSum / total;
+        double variance = (double) ageSumOfSquares / total - average * average;
+        return new ClientMetrics(average, Math.sqrt(Math.max(variance, 0.0)), total);
+    }
+
+    /**
+     * Group clients by the given dimensions with a parallel fork-join pass;
+     * each task folds its slice into partial aggregates that are then merged.
+     * @param dimensions dimensions to group by, in order
+     * @return one entry per non-empty segment
+     */
+    public List<ClientSegmentMetrics> segmentMetrics(List<SegmentDimension> dimensions) {
+        Map<List<String>, AgeAggregate> grouped = clients.parallelStream()
+                .collect(Collectors.groupingBy(
+                        client -> dimensions.stream().map(dimension -> dimension.segmentOf(client)).toList(),
+                        AgeAggregate.collector(Client::getAge)));
+
+        List<ClientSegmentMetrics> result = new ArrayList<>(grouped.size());
+        grouped.forEach((labels, ages) -> {
+            Map<SegmentDimension, String> segment = new LinkedHashMap<>();
+            for (int i = 0; i < dimensions.size(); i++) {
+                segment.put(dimensions.get(i), labels.get(i));
+            }
+            result.add(new ClientSegmentMetrics(segment, ages));
+        });
+        return result;
+    }
+
+    public ClientTableFingerprint fingerprint() {
+        return new ClientTableFingerprint((long) clients.size(), maxId, ageSum);
+    }
+}
@@ -0,0 +1,57 @@
+package com.microservice.mscclientes.infrastructure.persistence.readmodel;
+
+import java.util.Objects;
+
+/**
+ * Cheap summary of the clients table used to detect drift between the
+ * in-memory read model and the database.
+ */
+public final class ClientTableFingerprint {
+    private final long count;
+    private final long maxId;
+    private final long ageSum;
+
+    /**
+     * Also used by the JPQL constructor expression, where MAX and SUM return
+     * null on an empty table.
+     */
+    public ClientTableFingerprint(Long count, Long maxId, Long ageSum) {
+        this.count = count != null ? count : 0L;
+        this.maxId = maxId != null ? maxId : 0L;
+        this.ageSum = ageSum != null ? ageSum : 0L;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getMaxId() {
+        return maxId;
+    }
+
+    public long getAgeSum() {
+        return ageSum;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ClientTableFingerprint that = (ClientTableFingerprint) o;
+        return count == that.count && maxId == that.maxId && ageSum == that.ageSum;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(count, maxId, ageSum);
+    }
+
+    @Override
+    public String toString() {
+        return "ClientTableFingerprint{" +
+                "count=" + count +
+                ", maxId=" + maxId +
+                ", ageSum=" + ageSum +
+                '}';
+    }
+}
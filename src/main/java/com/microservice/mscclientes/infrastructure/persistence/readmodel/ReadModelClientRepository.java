@@ -0,0 +1,159 @@
+package com.microservice.mscclientes.infrastructure.persistence.readmodel;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionChunk;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionCriteria;
+import com.microservice.mscclientes.domain.valueobject.ClientField;
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
+import com.microservice.mscclientes.domain.valueobject.ClientMetrics;
+import com.microservice.mscclientes.domain.valueobject.ClientNameStatistics;
+import com.microservice.mscclientes.domain.valueobject.ClientPatch;
+import com.microservice.mscclientes.domain.valueobject.ClientSegmentMetrics;
+import com.microservice.mscclientes.domain.valueobject.SegmentDimension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * ClientRepository decorator that answers reads from the in-memory read model
+ * and forwards writes to the database, patching the snapshot after commit.
+ * Falls back to the database until the initial snapshot has been loaded.
+ */
+public class ReadModelClientRepository implements ClientRepository {
+
+    private final ClientRepository delegate;
+    private final ClientReadModel readModel;
+
+    public ReadModelClientRepository(ClientRepository delegate, ClientReadModel readModel) {
+        this.delegate = delegate;
+        this.readModel = readModel;
+    }
+
+    @Override
+    public Client save(Client client) {
+        Client savedClient = delegate.save(client);
+        readModel.upsertAfterCommit(savedClient);
+        return savedClient;
+    }
+
+    @Override
+    public Optional<Client> findById(Long id) {
+        if (!readModel.isReady()) {
+            return delegate.findById(id);
+        }
+        return readModel.current().findById(id);
+    }
+
+    @Override
+    public List<Client> findAllById(Collection<Long> ids) {
+        if (!readModel.isReady()) {
+            return delegate.findAllById(ids);
+        }
+        ClientSnapshot snapshot = readModel.current();
+        List<Client> clients = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            snapshot.findById(id).ifPresent(clients::add);
+        }
+        return clients;
+    }
+
+    @Override
+    public Optional<Client> update(Long id, ClientPatch patch, Long expectedVersion) {
+        Optional<Client> updated = delegate.update(id, patch, expectedVersion);
+        updated.ifPresent(readModel::upsertAfterCommit);
+        return updated;
+    }
+
+    @Override
+    public List<Client> findAll() {
+        if (!readModel.isReady()) {
+            return delegate.findAll();
+        }
+        return readModel.current().getClients();
+    }
+
+    /**
+     * The snapshot holds whole clients, so they are returned as they are
+     */
+    @Override
+    public List<Client> findAll(Set<ClientField> fields) {
+        if (!readModel.isReady()) {
+            return delegate.findAll(fields);
+        }
+        return readModel.current().getClients();
+    }
+
+    @Override
+    public List<Client> findPage(long afterId, int limit) {
+        if (!readModel.isReady()) {
+            return delegate.findPage(afterId, limit);
+        }
+        return readModel.current().page(afterId, limit);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        readModel.removeAfterCommit(id);
+    }
+
+    @Override
+    public ClientDeletionChunk deleteChunk(ClientDeletionCriteria criteria, long afterId, int limit) {
+        ClientDeletionChunk chunk = delegate.deleteChunk(criteria, afterId, limit);
+        chunk.getDeletedIds().forEach(readModel::removeAfterCommit);
+        return chunk;
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        if (!readModel.isReady()) {
+            return delegate.existsById(id);
+        }
+        return readModel.current().findById(id).isPresent();
+    }
+
+    @Override
+    public boolean existsByIdentity(ClientIdentity identity) {
+        return delegate.existsByIdentity(identity);
+    }
+
+    @Override
+    public long count() {
+        if (!readModel.isReady()) {
+            return delegate.count();
+        }
+        return readModel.current().size();
+    }
+
+    @Override
+    public ClientMetrics calculateAgeMetrics() {
+        if (!readModel.isReady()) {
+            return delegate.calculateAgeMetrics();
+        }
+        return readModel.current().toMetrics();
+    }
+
+    @Override
+    public List<ClientSegmentMetrics> calculateSegmentedAgeMetrics(List<SegmentDimension> dimensions) {
+        if (!readModel.isReady()) {
+            return delegate.calculateSegmentedAgeMetrics(dimensions);
+        }
+        return readModel.current().segmentMetrics(dimensions);
+    }
+
+    @Override
+    public AgeAggregate aggregateAgesCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        return delegate.aggregateAgesCreatedBetween(from, to);
+    }
+
+    @Override
+    public ClientNameStatistics calculateNameStatistics(int topLastNames) {
+        return delegate.calculateNameStatistics(topLastNames);
+    }
+}
@@ -0,0 +1,44 @@
+package com.microservice.mscclientes.infrastructure.persistence.repository;
+
+import com.microservice.mscclientes.infrastructure.persistence.entity.CacheEpochJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for CacheEpochJpaEntity.
+ * Queries are native so timestamps come from the database clock,
+ * which every instance shares.
+ */
+@Repository
+public interface CacheEpochJpaRepository extends JpaRepository<CacheEpochJpaEntity, String> {
+
+    /**
+     * Increment the epoch of a data set; the row stays locked until the transaction ends,
+     * so call it from a short transaction of its own
+     * @return number of rows updated, 0 if the data set has no row yet
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE cache_epochs SET epoch = epoch + 1, updated_at = LOCALTIMESTAMP(3) WHERE name = :name",
+           nativeQuery = true)
+    int increment(@Param("name") String name);
+
+    /**
+     * Read the current epoch of a data set
+     * @return epoch, or null if the data set has no row yet
+     */
+    @Query(value = "SELECT epoch FROM cache_epochs WHERE name = :name", nativeQuery = true)
+    Long findEpoch(@Param("name") String name);
+
+    /**
+     * Read the epoch, its last update time and the database time in one round trip
+     * @return a single row of [epoch, updated_at, now], or no row if the data set is missing
+     */
+    @Query(value = "SELECT epoch, updated_at, LOCALTIMESTAMP(3) FROM cache_epochs WHERE name = :name",
+           nativeQuery = true)
+    List<Object[]> findEpochWithTimestamps(@Param("name") String name);
+}
@@ -0,0 +1,84 @@
+package com.microservice.mscclientes.infrastructure.persistence.repository;
+
+import com.microservice.mscclientes.infrastructure.persistence.entity.ClientChangeJpaEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Spring Data JPA repository for ClientChangeJpaEntity.
+ * Provides cursor reads and retention queries over the change feed.
+ */
+@Repository
+public interface ClientChangeJpaRepository extends JpaRepository<ClientChangeJpaEntity, Long> {
+
+    /**
+     * Find changes after a sequence that are old enough to be visible
+     * @return changes ordered by sequence, limited by the pageable
+     */
+    @Query("SELECT c FROM ClientChangeJpaEntity c " +
+           "WHERE c.sequence > :sequence AND c.changedAt < :visibleBefore ORDER BY c.sequence")
+    List<ClientChangeJpaEntity> findAfter(@Param("sequence") long sequence,
+                                          @Param("visibleBefore") LocalDateTime visibleBefore,
+                                          Pageable pageable);
+
+    /**
+     * Find the oldest retained sequence
+     * @return oldest sequence or null if the feed is empty
+     */
+    @Query("SELECT MIN(c.sequence) FROM ClientChangeJpaEntity c")
+    Long findOldestSequence();
+
+    /**
+     * Find the newest sequence
+     * @return newest sequence or null if the feed is empty
+     */
+    @Query("SELECT MAX(c.sequence) FROM ClientChangeJpaEntity c")
+    Long findLatestSequence();
+
+    /**
+     * Find sequences of changes that occurred before an instant, newest first
+     * @return sequences limited by the pageable
+     */
+    @Query("SELECT c.sequence FROM ClientChangeJpaEntity c WHERE c.changedAt < :before ORDER BY c.sequence DESC")
+    List<Long> findSequencesBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+    /**
+     * Find the time of the oldest retained change
+     * @return oldest change time or null if the feed is empty
+     */
+    @Query("SELECT MIN(c.changedAt) FROM ClientChangeJpaEntity c")
+    LocalDateTime findOldestChangedAt();
+
+    /**
+     * Aggregate the ages recorded by changes of one type in a time range
+     * @return a single row of count, sum, sum of squares, min and max
+     */
+    @Query("SELECT COUNT(c), SUM(c.age), SUM(c.age * c.age), MIN(c.age), MAX(c.age) " +
+           "FROM ClientChangeJpaEntity c " +
+           "WHERE c.changeType = :changeType AND c.changedAt >= :from AND c.changedAt < :to")
+    List<Object[]> aggregateAges(@Param("changeType") String changeType,
+                                 @Param("from") LocalDateTime from,
+                                 @Param("to") LocalDateTime to);
+
+    /**
+     * Find sequences of changes older than the cutoff, oldest first
+     * @return sequences limited by the pageable
+     */
+    @Query("SELECT c.sequence FROM ClientChangeJpaEntity c WHERE c.changedAt < :cutoff ORDER BY c.sequence")
+    List<Long> findSequencesOlderThan(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * Delete changes up to a sequence that are older than the cutoff
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM ClientChangeJpaEntity c WHERE c.sequence <= :maxSequence AND c.changedAt < :cutoff")
+    int deleteUpTo(@Param("maxSequence") long maxSequence, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -0,0 +1,92 @@
+package com.microservice.mscclientes.infrastructure.persistence.repository;
+
+import com.microservice.mscclientes.domain.entity.ClientChange;
+import com.microservice.mscclientes.domain.repository.ClientChangeRepository;
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+import com.microservice.mscclientes.infrastructure.persistence.entity.ClientChangeJpaEntity;
+import com.microservice.mscclientes.infrastructure.persistence.mapper.ClientChangeMapper;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of ClientChangeRepository using Spring Data JPA.
+ * Adapts between domain and infrastructure layers.
+ */
+@Repository
+public class ClientChangeRepositoryImpl implements ClientChangeRepository {
+
+    private final ClientChangeJpaRepository jpaRepository;
+    private final ClientChangeMapper mapper;
+
+    public ClientChangeRepositoryImpl(ClientChangeJpaRepository jpaRepository, ClientChangeMapper mapper) {
+        this.jpaRepository = jpaRepository;
+        this.mapper = mapper;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public ClientChange append(ClientChange change) {
+        ClientChangeJpaEntity savedEntity = jpaRepository.save(mapper.toJpaEntity(change));
+        return mapper.toDomainEntity(savedEntity);
+    }
+
+    @Override
+    public List<ClientChange> findAfter(long sequence, LocalDateTime visibleBefore, int limit) {
+        return jpaRepository.findAfter(sequence, visibleBefore, PageRequest.of(0, limit))
+                .stream()
+                .map(mapper::toDomainEntity)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<Long> findOldestSequence() {
+        return Optional.ofNullable(jpaRepository.findOldestSequence());
+    }
+
+    @Override
+    public Optional<Long> findLatestSequence() {
+        return Optional.ofNullable(jpaRepository.findLatestSequence());
+    }
+
+    @Override
+    public Optional<Long> findLatestSequenceBefore(LocalDateTime before) {
+        return jpaRepository.findSequencesBefore(before, PageRequest.of(0, 1)).stream().findFirst();
+    }
+
+    @Override
+    public Optional<LocalDateTime> findOldestChangeTime() {
+        return Optional.ofNullable(jpaRepository.findOldestChangedAt());
+    }
+
+    @Override
+    public AgeAggregate aggregateCreatedAgesBetween(LocalDateTime from, LocalDateTime to) {
+        Object[] row = jpaRepository.aggregateAges(ClientChange.Type.CREATED.name(), from, to).get(0);
+        long count = ((Number) row[0]).longValue();
+        if (count == 0) {
+            return AgeAggregate.EMPTY;
+        }
+        return new AgeAggregate(
+                count,
+                ((Number) row[1]).longValue(),
+                ((Number) row[2]).longValue(),
+                ((Number) row[3]).intValue(),
+                ((Number) row[4]).intValue());
+    }
+
+    @Override
+    @Transactional
+    public int deleteOlderThan(LocalDateTime cutoff, int batchSize) {
+        List<Long> sequences = jpaRepository.findSequencesOlderThan(cutoff, PageRequest.of(0, batchSize));
+        if (sequences.isEmpty()) {
+            return 0;
+        }
+        return jpaRepository.deleteUpTo(sequences.get(sequences.size() - 1), cutoff);
+    }
+}
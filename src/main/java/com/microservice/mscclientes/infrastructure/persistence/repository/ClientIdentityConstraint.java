@@ -0,0 +1,29 @@
+package com.microservice.mscclientes.infrastructure.persistence.repository;
+
+import com.microservice.mscclientes.infrastructure.persistence.entity.ClientJpaEntity;
+
+import java.util.Locale;
+
+/**
+ * Recognizes violations of the unique index on the normalized client identity.
+ * Drivers report the index by name in the message, in upper case on H2 and
+ * qualified with the table on MySQL, whether the statement came from JPA or JDBC.
+ */
+final class ClientIdentityConstraint {
+
+    private ClientIdentityConstraint() {
+    }
+
+    static boolean isViolatedBy(Throwable exception) {
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(ClientJpaEntity.IDENTITY_CONSTRAINT)) {
+                return true;
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return false;
+    }
+}
@@ -1,6 +1,7 @@
 package com.microservice.mscclientes.infrastructure.persistence.repository;
 
 import com.microservice.mscclientes.infrastructure.persistence.entity.ClientJpaEntity;
+import com.microservice.mscclientes.infrastructure.persistence.readmodel.ClientTableFingerprint;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
@@ -25,4 +26,12 @@ public interface ClientJpaRepository extends JpaRepository<ClientJpaEntity, Long
      */
     @Query("SELECT COALESCE(SQRT(AVG(c.age * c.age) - AVG(c.age) * AVG(c.age)), 0.0) FROM ClientJpaEntity c")
     Double calculateAgeStandardDeviation();
+    
+    /**
+     * Summarize the table for read model consistency checks
+     * @return row count, highest ID and sum of ages
+     */
+    @Query("SELECT new com.microservice.mscclientes.infrastructure.persistence.readmodel.ClientTableFingerprint(" +
+           "COUNT(c), MAX(c.id), SUM(c.age)) FROM ClientJpaEntity c")
+    ClientTableFingerprint calculateFingerprint();
 }
@@ -0,0 +1,117 @@
+package com.microservice.mscclientes.infrastructure.persistence.repository;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.valueobject.ClientField;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Select list for reading only some columns of the clients table, in JPQL
+ * or SQL, and the mapping of its rows back to clients. The ID and version
+ * are always selected; fields left out stay null on the returned clients.
+ */
+final class ClientProjection {
+
+    private final List<ClientField> fields;
+
+    private ClientProjection(List<ClientField> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Projection reading the stored fields behind the given ones
+     */
+    static ClientProjection of(Set<ClientField> fields) {
+        List<ClientField> stored = new ArrayList<>(ClientField.storedFieldsFor(fields));
+        stored.remove(ClientField.ID);
+        return new ClientProjection(stored);
+    }
+
+    /**
+     * JPQL select list over ClientJpaEntity with the given alias
+     */
+    String jpqlSelectList(String alias) {
+        StringBuilder select = new StringBuilder(alias).append(".id, ").append(alias).append(".version");
+        for (ClientField field : fields) {
+            select.append(", ").append(alias).append('.').append(field.getParameterName());
+        }
+        return select.toString();
+    }
+
+    /**
+     * SQL select list over the clients table
+     */
+    String sqlSelectList() {
+        StringBuilder select = new StringBuilder("id, version");
+        for (ClientField field : fields) {
+            select.append(", ").append(column(field));
+        }
+        return select.toString();
+    }
+
+    /**
+     * Client from a JPQL row selected with {@link #jpqlSelectList(String)}
+     */
+    Client toClient(Object[] row) {
+        Object[] values = new Object[ClientField.values().length];
+        for (int i = 0; i < fields.size(); i++) {
+            values[fields.get(i).ordinal()] = row[i + 2];
+        }
+        return assemble((Long) row[0], (Long) row[1], values);
+    }
+
+    /**
+     * Row mapper for SQL selected with {@link #sqlSelectList()}
+     * @param toGlobalId maps the stored ID to the ID callers see
+     */
+    RowMapper<Client> rowMapper(LongUnaryOperator toGlobalId) {
+        return (rs, rowNum) -> {
+            Object[] values = new Object[ClientField.values().length];
+            for (ClientField field : fields) {
+                values[field.ordinal()] = rs.getObject(column(field), type(field));
+            }
+            return assemble(toGlobalId.applyAsLong(rs.getLong("id")), rs.getLong("version"), values);
+        };
+    }
+
+    private static Client assemble(Long id, Long version, Object[] values) {
+        return Client.reconstitute(
+                id,
+                (String) values[ClientField.FIRST_NAME.ordinal()],
+                (String) values[ClientField.LAST_NAME.ordinal()],
+                (Integer) values[ClientField.AGE.ordinal()],
+                (LocalDate) values[ClientField.BIRTH_DATE.ordinal()],
+                (LocalDateTime) values[ClientField.CREATED_AT.ordinal()],
+                (LocalDateTime) values[ClientField.UPDATED_AT.ordinal()],
+                version
+        );
+    }
+
+    private static String column(ClientField field) {
+        return switch (field) {
+            case FIRST_NAME -> "first_name";
+            case LAST_NAME -> "last_name";
+            case AGE -> "age";
+            case BIRTH_DATE -> "birth_date";
+            case CREATED_AT -> "created_at";
+            case UPDATED_AT -> "updated_at";
+            default -> throw new IllegalArgumentException("Not a stored column: " + field);
+        };
+    }
+
+    private static Class<?> type(ClientField field) {
+        return switch (field) {
+            case FIRST_NAME, LAST_NAME -> String.class;
+            case AGE -> Integer.class;
+            case BIRTH_DATE -> LocalDate.class;
+            case CREATED_AT, UPDATED_AT -> LocalDateTime.class;
+            default -> throw new IllegalArgumentException("Not a stored column: " + field);
+        };
+    }
+}
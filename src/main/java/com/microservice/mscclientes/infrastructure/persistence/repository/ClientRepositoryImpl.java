@@ -1,14 +1,41 @@
 package com.microservice.mscclientes.infrastructure.persistence.repository;
 
 import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.entity.ClientChange;
+import com.microservice.mscclientes.domain.exception.ClientVersionConflictException;
+import com.microservice.mscclientes.domain.exception.DuplicateClientException;
+import com.microservice.mscclientes.domain.repository.ClientChangeRepository;
 import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+import com.microservice.mscclientes.domain.valueobject.CardinalityEstimate;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionChunk;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionCriteria;
+import com.microservice.mscclientes.domain.valueobject.ClientField;
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
 import com.microservice.mscclientes.domain.valueobject.ClientMetrics;
+import com.microservice.mscclientes.domain.valueobject.ClientNameStatistics;
+import com.microservice.mscclientes.domain.valueobject.ClientPatch;
+import com.microservice.mscclientes.domain.valueobject.ClientSegmentMetrics;
+import com.microservice.mscclientes.domain.valueobject.NameFrequency;
+import com.microservice.mscclientes.domain.valueobject.SegmentDimension;
+import com.microservice.mscclientes.infrastructure.cache.ClientCacheCoherence;
 import com.microservice.mscclientes.infrastructure.persistence.entity.ClientJpaEntity;
 import com.microservice.mscclientes.infrastructure.persistence.mapper.ClientMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.persistence.Query;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -20,17 +47,43 @@ public class ClientRepositoryImpl implements ClientRepository {
     
     private final ClientJpaRepository jpaRepository;
     private final ClientMapper mapper;
+    private final EntityManager entityManager;
+    private final ClientChangeRepository changeRepository;
+    private final ClientCacheCoherence cacheCoherence;
     
-    public ClientRepositoryImpl(ClientJpaRepository jpaRepository, ClientMapper mapper) {
+    public ClientRepositoryImpl(ClientJpaRepository jpaRepository, ClientMapper mapper, EntityManager entityManager,
+                                ClientChangeRepository changeRepository, ClientCacheCoherence cacheCoherence) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.changeRepository = changeRepository;
+        this.cacheCoherence = cacheCoherence;
     }
     
+    /**
+     * Save a client and record the write in the change feed within the same transaction.
+     * The cache epoch is bumped once the transaction commits.
+     * @throws DuplicateClientException if another client has the same normalized identity
+     */
     @Override
+    @Transactional
     public Client save(Client client) {
+        boolean created = client.getId() == null;
         ClientJpaEntity jpaEntity = mapper.toJpaEntity(client);
-        ClientJpaEntity savedEntity = jpaRepository.save(jpaEntity);
-        return mapper.toDomainEntity(savedEntity);
+        ClientJpaEntity savedEntity;
+        try {
+            savedEntity = jpaRepository.saveAndFlush(jpaEntity);
+        } catch (DataIntegrityViolationException e) {
+            if (ClientIdentityConstraint.isViolatedBy(e)) {
+                throw new DuplicateClientException(
+                        ClientIdentity.of(client.getFirstName(), client.getLastName(), client.getBirthDate()));
+            }
+            throw e;
+        }
+        Client savedClient = mapper.toDomainEntity(savedEntity);
+        changeRepository.append(created ? ClientChange.created(savedClient) : ClientChange.updated(savedClient));
+        cacheCoherence.recordWrite();
+        return savedClient;
     }
     
     @Override
@@ -39,6 +92,103 @@ public class ClientRepositoryImpl implements ClientRepository {
                 .map(mapper::toDomainEntity);
     }
     
+    @Override
+    public List<Client> findAllById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return entityManager.createQuery(
+                "SELECT c FROM ClientJpaEntity c WHERE c.id IN :ids", ClientJpaEntity.class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .stream()
+                .map(mapper::toDomainEntity)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Apply a patch with a single UPDATE that sets only the patched columns and
+     * checks the version in its WHERE clause, so no row is read or locked before
+     * the write and a stale version is detected by the database itself. The row
+     * is read back afterwards, under the lock the UPDATE already holds, for the
+     * change feed and the caller. The bulk UPDATE bypasses the persistence
+     * context, so a copy loaded earlier in the same transaction (the duplicate
+     * guard reads the client first) is detached before the re-read. A patch to
+     * a name or the birth date then rewrites the identity key from the new row.
+     * @throws DuplicateClientException if the patch gives the client the
+     *         normalized identity of another client
+     */
+    @Override
+    @Transactional
+    public Optional<Client> update(Long id, ClientPatch patch, Long expectedVersion) {
+        StringBuilder jpql = new StringBuilder(
+                "UPDATE ClientJpaEntity c SET c.version = c.version + 1, c.updatedAt = :updatedAt");
+        if (patch.getFirstName() != null) {
+            jpql.append(", c.firstName = :firstName");
+        }
+        if (patch.getLastName() != null) {
+            jpql.append(", c.lastName = :lastName");
+        }
+        if (patch.getAge() != null) {
+            jpql.append(", c.age = :age");
+        }
+        if (patch.getBirthDate() != null) {
+            jpql.append(", c.birthDate = :birthDate");
+        }
+        jpql.append(" WHERE c.id = :id");
+        if (expectedVersion != null) {
+            jpql.append(" AND c.version = :expectedVersion");
+        }
+    
+        Query query = entityManager.createQuery(jpql.toString())
+                .setParameter("updatedAt", LocalDateTime.now())
+                .setParameter("id", id);
+        if (patch.getFirstName() != null) {
+            query.setParameter("firstName", patch.getFirstName());
+        }
+        if (patch.getLastName() != null) {
+            query.setParameter("lastName", patch.getLastName());
+        }
+        if (patch.getAge() != null) {
+            query.setParameter("age", patch.getAge());
+        }
+        if (patch.getBirthDate() != null) {
+            query.setParameter("birthDate", patch.getBirthDate());
+        }
+        if (expectedVersion != null) {
+            query.setParameter("expectedVersion", expectedVersion);
+        }
+    
+        if (query.executeUpdate() == 0) {
+            if (expectedVersion != null && jpaRepository.existsById(id)) {
+                throw new ClientVersionConflictException(id, expectedVersion);
+            }
+            return Optional.empty();
+        }
+    
+        entityManager.detach(entityManager.getReference(ClientJpaEntity.class, id));
+        Client updated = jpaRepository.findById(id)
+                .map(mapper::toDomainEntity)
+                .orElseThrow();
+        if (patch.getFirstName() != null || patch.getLastName() != null || patch.getBirthDate() != null) {
+            ClientIdentity identity = ClientIdentity.of(updated.getFirstName(), updated.getLastName(), updated.getBirthDate());
+            try {
+                entityManager.createQuery("UPDATE ClientJpaEntity c SET c.identityKey = :identityKey WHERE c.id = :id")
+                        .setParameter("identityKey", identity.getKey())
+                        .setParameter("id", id)
+                        .executeUpdate();
+            } catch (PersistenceException e) {
+                if (ClientIdentityConstraint.isViolatedBy(e)) {
+                    throw new DuplicateClientException(identity);
+                }
+                throw e;
+            }
+        }
+        changeRepository.append(ClientChange.updated(updated));
+        cacheCoherence.recordWrite();
+        return Optional.of(updated);
+    }
+    
     @Override
     public List<Client> findAll() {
         return jpaRepository.findAll()
@@ -47,9 +197,129 @@ public class ClientRepositoryImpl implements ClientRepository {
                 .collect(Collectors.toList());
     }
     
+    /**
+     * Selects only the columns behind the requested fields, so listing IDs and
+     * names reads and maps no date columns
+     */
+    @Override
+    public List<Client> findAll(Set<ClientField> fields) {
+        ClientProjection projection = ClientProjection.of(fields);
+        return entityManager.createQuery(
+                "SELECT " + projection.jpqlSelectList("c") + " FROM ClientJpaEntity c", Object[].class)
+                .getResultList()
+                .stream()
+                .map(projection::toClient)
+                .collect(Collectors.toList());
+    }
+    
     @Override
+    public List<Client> findPage(long afterId, int limit) {
+        List<ClientJpaEntity> page = entityManager.createQuery(
+                "SELECT c FROM ClientJpaEntity c WHERE c.id > :afterId ORDER BY c.id", ClientJpaEntity.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .getResultList();
+        return page.stream()
+                .map(mapper::toDomainEntity)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * Delete a client and record the deletion in the change feed within the same transaction
+     */
+    @Override
+    @Transactional
     public void deleteById(Long id) {
         jpaRepository.deleteById(id);
+        changeRepository.append(ClientChange.deleted(id));
+        cacheCoherence.recordWrite();
+    }
+    
+    /**
+     * Delete one chunk of a bulk deletion.
+     * The chunk covers the next {@code limit} ids after the cursor, found by walking
+     * the primary key, so every chunk reads and locks a bounded range however
+     * sparse the matches are. For a range criteria the walk is confined to the
+     * lowest and highest ids still matching, read through idx_clients_created_at or
+     * idx_birth_date, so the ids before the first match and after the last one are
+     * never scanned. Matching ids in that range are deleted and recorded in the
+     * change feed; the cache epoch is bumped once per chunk.
+     */
+    @Override
+    @Transactional
+    @SuppressWarnings("unchecked")
+    public ClientDeletionChunk deleteChunk(ClientDeletionCriteria criteria, long afterId, int limit) {
+        List<Long> candidates;
+        if (criteria.getType() == ClientDeletionCriteria.Type.IDS) {
+            candidates = criteria.getIds().stream()
+                    .filter(id -> id > afterId)
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        } else {
+            Object[] bounds = (Object[]) bindCriteria(entityManager.createQuery(
+                    "SELECT MIN(c.id), MAX(c.id) FROM ClientJpaEntity c WHERE " + criteriaFilter(criteria)), criteria)
+                    .getSingleResult();
+            if (bounds[1] == null || (Long) bounds[1] <= afterId) {
+                return ClientDeletionChunk.empty(afterId);
+            }
+            candidates = entityManager.createQuery(
+                    "SELECT c.id FROM ClientJpaEntity c WHERE c.id > :afterId AND c.id <= :lastMatch ORDER BY c.id")
+                    .setParameter("afterId", Math.max(afterId, (Long) bounds[0] - 1))
+                    .setParameter("lastMatch", bounds[1])
+                    .setMaxResults(limit)
+                    .getResultList();
+        }
+        if (candidates.isEmpty()) {
+            return ClientDeletionChunk.empty(afterId);
+        }
+        long first = candidates.get(0);
+        long last = candidates.get(candidates.size() - 1);
+    
+        Query query = entityManager.createQuery("SELECT c.id FROM ClientJpaEntity c WHERE c.id BETWEEN :first AND :last"
+                        + " AND " + criteriaFilter(criteria) + " ORDER BY c.id")
+                .setParameter("first", first)
+                .setParameter("last", last);
+        if (criteria.getType() == ClientDeletionCriteria.Type.IDS) {
+            query.setParameter("ids", candidates);
+        } else {
+            bindCriteria(query, criteria);
+        }
+        List<Long> matching = query.getResultList();
+    
+        if (!matching.isEmpty()) {
+            entityManager.createQuery("DELETE FROM ClientJpaEntity c WHERE c.id IN :ids")
+                    .setParameter("ids", matching)
+                    .executeUpdate();
+            for (Long id : matching) {
+                changeRepository.append(ClientChange.deleted(id));
+            }
+            cacheCoherence.recordWrite();
+        }
+        return new ClientDeletionChunk(last, candidates.size(), matching);
+    }
+    
+    private static String criteriaFilter(ClientDeletionCriteria criteria) {
+        switch (criteria.getType()) {
+            case CREATED_BETWEEN:
+                return "c.createdAt >= :createdFrom AND c.createdAt < :createdTo";
+            case AGE_BETWEEN:
+                return "c.birthDate > :bornAfter AND c.birthDate <= :bornOnOrBefore";
+            default:
+                return "c.id IN :ids";
+        }
+    }
+    
+    private static Query bindCriteria(Query query, ClientDeletionCriteria criteria) {
+        switch (criteria.getType()) {
+            case CREATED_BETWEEN:
+                return query.setParameter("createdFrom", criteria.getCreatedFrom())
+                        .setParameter("createdTo", criteria.getCreatedTo());
+            case AGE_BETWEEN:
+                return query.setParameter("bornAfter", criteria.getBornAfter())
+                        .setParameter("bornOnOrBefore", criteria.getBornOnOrBefore());
+            default:
+                return query;
+        }
     }
     
     @Override
@@ -57,12 +327,31 @@ public class ClientRepositoryImpl implements ClientRepository {
         return jpaRepository.existsById(id);
     }
     
+    /**
+     * Looks up candidates through idx_birth_date and compares normalized names
+     * here, so matching does not depend on the column collation
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public boolean existsByIdentity(ClientIdentity identity) {
+        List<Object[]> candidates = entityManager.createNativeQuery(
+                "SELECT first_name, last_name FROM clients WHERE birth_date = :birthDate")
+                .setParameter("birthDate", identity.getBirthDate())
+                .getResultList();
+        
+        return candidates.stream()
+                .anyMatch(row -> identity.equals(
+                        ClientIdentity.of((String) row[0], (String) row[1], identity.getBirthDate())));
+    }
+    
     @Override
     public long count() {
         return jpaRepository.count();
     }
     
     @Override
+    @Transactional(readOnly = true)
     public ClientMetrics calculateAgeMetrics() {
         long totalClients = jpaRepository.count();
         
@@ -79,4 +368,121 @@ public class ClientRepositoryImpl implements ClientRepository {
                 totalClients
         );
     }
+    
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public List<ClientSegmentMetrics> calculateSegmentedAgeMetrics(List<SegmentDimension> dimensions) {
+        List<String> expressions = dimensions.stream()
+                .map(ClientRepositoryImpl::segmentExpression)
+                .collect(Collectors.toList());
+        
+        StringBuilder sql = new StringBuilder("SELECT ");
+        expressions.forEach(expression -> sql.append(expression).append(", "));
+        sql.append("COUNT(*), SUM(age), SUM(age * age), MIN(age), MAX(age) FROM clients");
+        if (!expressions.isEmpty()) {
+            sql.append(" GROUP BY ").append(String.join(", ", expressions));
+        }
+        
+        List<Object[]> rows = entityManager.createNativeQuery(sql.toString()).getResultList();
+        
+        List<ClientSegmentMetrics> result = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            int offset = dimensions.size();
+            long count = ((Number) row[offset]).longValue();
+            if (count == 0) {
+                continue;
+            }
+            Map<SegmentDimension, String> segment = new LinkedHashMap<>();
+            for (int i = 0; i < offset; i++) {
+                segment.put(dimensions.get(i), segmentLabel(dimensions.get(i), (Number) row[i]));
+            }
+            AgeAggregate ages = new AgeAggregate(
+                    count,
+                    ((Number) row[offset + 1]).longValue(),
+                    ((Number) row[offset + 2]).longValue(),
+                    ((Number) row[offset + 3]).intValue(),
+                    ((Number) row[offset + 4]).intValue()
+            );
+            result.add(new ClientSegmentMetrics(segment, ages));
+        }
+        return result;
+    }
+    
+    /**
+     * Range aggregation over created_at, served by idx_clients_created_at
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public AgeAggregate aggregateAgesCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        Query query = entityManager.createNativeQuery(
+                "SELECT COUNT(*), SUM(age), SUM(age * age), MIN(age), MAX(age) FROM clients " +
+                "WHERE created_at >= :from AND created_at < :to");
+        query.setParameter("from", from);
+        query.setParameter("to", to);
+        Object[] row = (Object[]) query.getSingleResult();
+        
+        long count = ((Number) row[0]).longValue();
+        if (count == 0) {
+            return AgeAggregate.EMPTY;
+        }
+        return new AgeAggregate(
+                count,
+                ((Number) row[1]).longValue(),
+                ((Number) row[2]).longValue(),
+                ((Number) row[3]).intValue(),
+                ((Number) row[4]).intValue()
+        );
+    }
+    
+    /**
+     * Exact name statistics; needs a full scan plus a GROUP BY over last_name
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @SuppressWarnings("unchecked")
+    public ClientNameStatistics calculateNameStatistics(int topLastNames) {
+        Object[] counts = (Object[]) entityManager.createNativeQuery(
+                "SELECT COUNT(*), COUNT(DISTINCT first_name), COUNT(DISTINCT last_name) FROM clients")
+                .getSingleResult();
+        
+        List<Object[]> rows = entityManager.createNativeQuery(
+                "SELECT last_name, COUNT(*) FROM clients GROUP BY last_name ORDER BY COUNT(*) DESC, last_name")
+                .setMaxResults(topLastNames)
+                .getResultList();
+        List<NameFrequency> top = rows.stream()
+                .map(row -> new NameFrequency((String) row[0], ((Number) row[1]).longValue(), 0))
+                .collect(Collectors.toList());
+        
+        return new ClientNameStatistics(
+                ((Number) counts[0]).longValue(),
+                CardinalityEstimate.exact(((Number) counts[1]).longValue()),
+                CardinalityEstimate.exact(((Number) counts[2]).longValue()),
+                top,
+                false
+        );
+    }
+    
+    /**
+     * SQL expression computing the numeric segment key of a dimension.
+     * Restricted to functions shared by MySQL and H2.
+     */
+    static String segmentExpression(SegmentDimension dimension) {
+        return switch (dimension) {
+            case ADULT -> "CASE WHEN age >= 18 THEN 1 ELSE 0 END";
+            case BIRTH_DECADE -> "FLOOR(YEAR(birth_date) / 10) * 10";
+            case CREATED_MONTH -> "YEAR(created_at) * 100 + MONTH(created_at)";
+        };
+    }
+    
+    static String segmentLabel(SegmentDimension dimension, Number key) {
+        if (key == null) {
+            return "unknown";
+        }
+        return switch (dimension) {
+            case ADULT -> SegmentDimension.adultLabel(key.intValue() == 1);
+            case BIRTH_DECADE -> Integer.toString(key.intValue());
+            case CREATED_MONTH -> String.format("%04d-%02d", key.intValue() / 100, key.intValue() % 100);
+        };
+    }
 }
@@ -0,0 +1,405 @@
+package com.microservice.mscclientes.infrastructure.persistence.repository;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.exception.ClientVersionConflictException;
+import com.microservice.mscclientes.domain.exception.DuplicateClientException;
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionCriteria;
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
+import com.microservice.mscclientes.domain.valueobject.ClientPatch;
+import com.microservice.mscclientes.domain.valueobject.ClientSegmentMetrics;
+import com.microservice.mscclientes.domain.valueobject.SegmentDimension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.EmptyResultDataAccessException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Clients table of one shard, accessed with plain JDBC.
+ * Takes and returns global IDs; only the SQL sees the shard's local ones.
+ * Writes of more than one statement run in a transaction on the shard's own
+ * DataSource.
+ */
+class ClientShard {
+
+    private static final String COLUMNS = "id, first_name, last_name, age, birth_date, created_at, updated_at, version";
+    private static final String AGGREGATE_COLUMNS = "COUNT(*), SUM(age), SUM(age * age), MIN(age), MAX(age)";
+
+    private final int index;
+    private final ShardedClientIds ids;
+    private final DataSource dataSource;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final RowMapper<Client> clientMapper;
+
+    ClientShard(int index, ShardedClientIds ids, DataSource dataSource) {
+        this.index = index;
+        this.ids = ids;
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.clientMapper = (rs, rowNum) -> Client.reconstitute(
+                ids.toGlobal(index, rs.getLong("id")),
+                rs.getString("first_name"),
+                rs.getString("last_name"),
+                rs.getInt("age"),
+                rs.getObject("birth_date", LocalDate.class),
+                rs.getObject("created_at", LocalDateTime.class),
+                rs.getObject("updated_at", LocalDateTime.class),
+                rs.getLong("version")
+        );
+    }
+
+    int getIndex() {
+        return index;
+    }
+
+    DataSource getDataSource() {
+        return dataSource;
+    }
+
+    Client insert(Client client) {
+        LocalDateTime now = LocalDateTime.now();
+        ClientIdentity identity = ClientIdentity.of(client.getFirstName(), client.getLastName(), client.getBirthDate());
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        try {
+            jdbcTemplate.update(
+                    "INSERT INTO clients (first_name, last_name, age, birth_date, created_at, updated_at, version, identity_key) " +
+                    "VALUES (:firstName, :lastName, :age, :birthDate, :now, :now, 0, :identityKey)",
+                    new MapSqlParameterSource()
+                            .addValue("firstName", client.getFirstName())
+                            .addValue("lastName", client.getLastName())
+                            .addValue("age", client.getAge())
+                            .addValue("birthDate", client.getBirthDate())
+                            .addValue("now", now)
+                            .addValue("identityKey", identity.getKey()),
+                    keyHolder, new String[]{"id"});
+        } catch (DataIntegrityViolationException e) {
+            throw duplicateOr(e, identity);
+        }
+        long localId = keyHolder.getKeyAs(Number.class).longValue();
+        return Client.reconstitute(ids.toGlobal(index, localId), client.getFirstName(), client.getLastName(),
+                client.getAge(), client.getBirthDate(), now, now, 0L);
+    }
+
+    /**
+     * Overwrite every field of an existing client and increment its version
+     */
+    Client replace(Client client) {
+        ClientIdentity identity = ClientIdentity.of(client.getFirstName(), client.getLastName(), client.getBirthDate());
+        return transactionTemplate.execute(status -> {
+            int updated;
+            try {
+                updated = jdbcTemplate.update(
+                        "UPDATE clients SET first_name = :firstName, last_name = :lastName, age = :age, " +
+                        "birth_date = :birthDate, updated_at = :now, version = version + 1, " +
+                        "identity_key = :identityKey WHERE id = :id",
+                        new MapSqlParameterSource()
+                                .addValue("firstName", client.getFirstName())
+                                .addValue("lastName", client.getLastName())
+                                .addValue("age", client.getAge())
+                                .addValue("birthDate", client.getBirthDate())
+                                .addValue("now", LocalDateTime.now())
+                                .addValue("identityKey", identity.getKey())
+                                .addValue("id", ids.toLocal(client.getId())));
+            } catch (DataIntegrityViolationException e) {
+                throw duplicateOr(e, identity);
+            }
+            if (updated == 0) {
+                throw new EmptyResultDataAccessException("No client with id " + client.getId(), 1);
+            }
+            return findById(client.getId()).orElseThrow();
+        });
+    }
+
+    /**
+     * Same conditional UPDATE as the single-database repository, followed by
+     * a read of the new row in the same transaction and, when the patch touches
+     * the identity, a rewrite of its key. The unique index only spans this
+     * shard, so a rename can still match a client placed on another one.
+     */
+    Optional<Client> update(long id, ClientPatch patch, Long expectedVersion) {
+        return transactionTemplate.execute(status -> {
+            StringBuilder sql = new StringBuilder("UPDATE clients SET version = version + 1, updated_at = :updatedAt");
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("updatedAt", LocalDateTime.now())
+                    .addValue("id", ids.toLocal(id));
+            if (patch.getFirstName() != null) {
+                sql.append(", first_name = :firstName");
+                params.addValue("firstName", patch.getFirstName());
+            }
+            if (patch.getLastName() != null) {
+                sql.append(", last_name = :lastName");
+                params.addValue("lastName", patch.getLastName());
+            }
+            if (patch.getAge() != null) {
+                sql.append(", age = :age");
+                params.addValue("age", patch.getAge());
+            }
+            if (patch.getBirthDate() != null) {
+                sql.append(", birth_date = :birthDate");
+                params.addValue("birthDate", patch.getBirthDate());
+            }
+            sql.append(" WHERE id = :id");
+            if (expectedVersion != null) {
+                sql.append(" AND version = :expectedVersion");
+                params.addValue("expectedVersion", expectedVersion);
+            }
+
+            if (jdbcTemplate.update(sql.toString(), params) == 0) {
+                if (expectedVersion != null && existsById(id)) {
+                    throw new ClientVersionConflictException(id, expectedVersion);
+                }
+                return Optional.<Client>empty();
+            }
+            Optional<Client> updated = findById(id);
+            if (updated.isPresent()
+                    && (patch.getFirstName() != null || patch.getLastName() != null || patch.getBirthDate() != null)) {
+                Client client = updated.get();
+                ClientIdentity identity = ClientIdentity.of(client.getFirstName(), client.getLastName(), client.getBirthDate());
+                try {
+                    jdbcTemplate.update("UPDATE clients SET identity_key = :identityKey WHERE id = :id",
+                            new MapSqlParameterSource()
+                                    .addValue("identityKey", identity.getKey())
+                                    .addValue("id", ids.toLocal(id)));
+                } catch (DataIntegrityViolationException e) {
+                    throw duplicateOr(e, identity);
+                }
+            }
+            return updated;
+        });
+    }
+
+    private static RuntimeException duplicateOr(DataIntegrityViolationException e, ClientIdentity identity) {
+        return ClientIdentityConstraint.isViolatedBy(e) ? new DuplicateClientException(identity) : e;
+    }
+
+    boolean delete(long id) {
+        return jdbcTemplate.update("DELETE FROM clients WHERE id = :id",
+                new MapSqlParameterSource("id", ids.toLocal(id))) > 0;
+    }
+
+    /**
+     * Delete the clients among the given IDs that match the criteria
+     * @param globalIds IDs on this shard
+     * @return IDs deleted, ascending
+     */
+    List<Long> deleteMatching(ClientDeletionCriteria criteria, List<Long> globalIds) {
+        List<Long> localIds = globalIds.stream().map(ids::toLocal).collect(Collectors.toList());
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", localIds);
+        String sql = "SELECT id FROM clients WHERE id IN (:ids)" + criteriaFilter(criteria, params) + " ORDER BY id";
+
+        return transactionTemplate.execute(status -> {
+            List<Long> matching = jdbcTemplate.queryForList(sql, params, Long.class);
+            if (!matching.isEmpty()) {
+                jdbcTemplate.update("DELETE FROM clients WHERE id IN (:ids)", new MapSqlParameterSource("ids", matching));
+            }
+            return matching.stream().map(localId -> ids.toGlobal(index, localId)).collect(Collectors.toList());
+        });
+    }
+
+    /**
+     * The first IDs above a global cursor that may hold a client matching a range
+     * criteria, ascending. The primary key walk is confined to the lowest and
+     * highest local IDs still matching, read through the criteria column index,
+     * so a shard without matches after the cursor returns none.
+     */
+    List<Long> findCandidatesAfter(ClientDeletionCriteria criteria, long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        Map<String, Object> bounds = jdbcTemplate.queryForMap(
+                "SELECT MIN(id) AS first_match, MAX(id) AS last_match FROM clients WHERE 1 = 1"
+                        + criteriaFilter(criteria, params), params);
+        Number firstMatch = (Number) bounds.get("first_match");
+        Number lastMatch = (Number) bounds.get("last_match");
+        long localAfter = ids.localAfter(index, afterId);
+        if (lastMatch == null || lastMatch.longValue() <= localAfter) {
+            return List.of();
+        }
+        return jdbcTemplate.queryForList(
+                        "SELECT id FROM clients WHERE id > :afterId AND id <= :lastMatch ORDER BY id LIMIT :limit",
+                        new MapSqlParameterSource()
+                                .addValue("afterId", Math.max(localAfter, firstMatch.longValue() - 1))
+                                .addValue("lastMatch", lastMatch.longValue())
+                                .addValue("limit", limit),
+                        Long.class)
+                .stream()
+                .map(localId -> ids.toGlobal(index, localId))
+                .collect(Collectors.toList());
+    }
+
+    private static String criteriaFilter(ClientDeletionCriteria criteria, MapSqlParameterSource params) {
+        switch (criteria.getType()) {
+            case CREATED_BETWEEN:
+                params.addValue("createdFrom", criteria.getCreatedFrom())
+                        .addValue("createdTo", criteria.getCreatedTo());
+                return " AND created_at >= :createdFrom AND created_at < :createdTo";
+            case AGE_BETWEEN:
+                params.addValue("bornAfter", criteria.getBornAfter())
+                        .addValue("bornOnOrBefore", criteria.getBornOnOrBefore());
+                return " AND birth_date > :bornAfter AND birth_date <= :bornOnOrBefore";
+            default:
+                return "";
+        }
+    }
+
+    Optional<Client> findById(long id) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM clients WHERE id = :id",
+                        new MapSqlParameterSource("id", ids.toLocal(id)), clientMapper)
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * The clients among the given global IDs, all of which belong to this shard
+     */
+    List<Client> findAllById(Collection<Long> globalIds) {
+        List<Long> localIds = globalIds.stream().map(ids::toLocal).collect(Collectors.toList());
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM clients WHERE id IN (:ids)",
+                new MapSqlParameterSource("ids", localIds), clientMapper);
+    }
+
+    /**
+     * Every client of the shard, ascending by ID
+     */
+    List<Client> findAll() {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM clients ORDER BY id", clientMapper);
+    }
+
+    /**
+     * Every client of the shard with only the projected columns, ascending by ID
+     */
+    List<Client> findAll(ClientProjection projection) {
+        return jdbcTemplate.query("SELECT " + projection.sqlSelectList() + " FROM clients ORDER BY id",
+                projection.rowMapper(localId -> ids.toGlobal(index, localId)));
+    }
+
+    /**
+     * The first clients above a global cursor, ascending
+     */
+    List<Client> findPage(long afterId, int limit) {
+        return jdbcTemplate.query("SELECT " + COLUMNS + " FROM clients WHERE id > :afterId ORDER BY id LIMIT :limit",
+                new MapSqlParameterSource()
+                        .addValue("afterId", ids.localAfter(index, afterId))
+                        .addValue("limit", limit),
+                clientMapper);
+    }
+
+    boolean existsById(long id) {
+        Integer found = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM clients WHERE id = :id",
+                new MapSqlParameterSource("id", ids.toLocal(id)), Integer.class);
+        return found != null && found > 0;
+    }
+
+    boolean existsByIdentity(ClientIdentity identity) {
+        return jdbcTemplate.query("SELECT first_name, last_name FROM clients WHERE birth_date = :birthDate",
+                        new MapSqlParameterSource("birthDate", identity.getBirthDate()),
+                        (rs, rowNum) -> ClientIdentity.of(rs.getString(1), rs.getString(2), identity.getBirthDate()))
+                .stream()
+                .anyMatch(identity::equals);
+    }
+
+    long count() {
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM clients", new MapSqlParameterSource(), Long.class);
+        return count != null ? count : 0L;
+    }
+
+    AgeAggregate aggregateAges() {
+        return aggregate("SELECT " + AGGREGATE_COLUMNS + " FROM clients", new MapSqlParameterSource());
+    }
+
+    AgeAggregate aggregateAgesCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        return aggregate("SELECT " + AGGREGATE_COLUMNS + " FROM clients WHERE created_at >= :from AND created_at < :to",
+                new MapSqlParameterSource().addValue("from", from).addValue("to", to));
+    }
+
+    List<ClientSegmentMetrics> segmentMetrics(List<SegmentDimension> dimensions) {
+        List<String> expressions = dimensions.stream()
+                .map(ClientRepositoryImpl::segmentExpression)
+                .collect(Collectors.toList());
+        StringBuilder sql = new StringBuilder("SELECT ");
+        expressions.forEach(expression -> sql.append(expression).append(", "));
+        sql.append(AGGREGATE_COLUMNS).append(" FROM clients");
+        if (!expressions.isEmpty()) {
+            sql.append(" GROUP BY ").append(String.join(", ", expressions));
+        }
+
+        int offset = dimensions.size();
+        List<ClientSegmentMetrics> result = new ArrayList<>();
+        jdbcTemplate.query(sql.toString(), rs -> {
+            long count = rs.getLong(offset + 1);
+            if (count == 0) {
+                return;
+            }
+            Map<SegmentDimension, String> segment = new LinkedHashMap<>();
+            for (int i = 0; i < offset; i++) {
+                segment.put(dimensions.get(i), ClientRepositoryImpl.segmentLabel(dimensions.get(i),
+                        (Number) rs.getObject(i + 1)));
+            }
+            result.add(new ClientSegmentMetrics(segment, new AgeAggregate(count, rs.getLong(offset + 2),
+                    rs.getLong(offset + 3), rs.getInt(offset + 4), rs.getInt(offset + 5))));
+        });
+        return result;
+    }
+
+    /**
+     * Distinct first names and per last name counts, which merge exactly
+     * across shards where distinct counts and a top list would not
+     */
+    NameCounts nameCounts() {
+        Set<String> firstNames = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT DISTINCT first_name FROM clients", new MapSqlParameterSource(), String.class));
+        Map<String, Long> lastNames = new HashMap<>();
+        long[] total = new long[1];
+        jdbcTemplate.query("SELECT last_name, COUNT(*) FROM clients GROUP BY last_name", rs -> {
+            long count = rs.getLong(2);
+            lastNames.put(rs.getString(1), count);
+            total[0] += count;
+        });
+        return new NameCounts(total[0], firstNames, lastNames);
+    }
+
+    private AgeAggregate aggregate(String sql, MapSqlParameterSource params) {
+        return jdbcTemplate.queryForObject(sql, params, (rs, rowNum) -> {
+            long count = rs.getLong(1);
+            if (count == 0) {
+                return AgeAggregate.EMPTY;
+            }
+            return new AgeAggregate(count, rs.getLong(2), rs.getLong(3), rs.getInt(4), rs.getInt(5));
+        });
+    }
+
+    /**
+     * Name counts of one shard
+     */
+    static final class NameCounts {
+
+        final long clients;
+        final Set<String> firstNames;
+        final Map<String, Long> lastNames;
+
+        NameCounts(long clients, Set<String> firstNames, Map<String, Long> lastNames) {
+            this.clients = clients;
+            this.firstNames = firstNames;
+            this.lastNames = lastNames;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.microservice.mscclientes.infrastructure.persistence.repository;
+
+import com.microservice.mscclientes.domain.entity.ClientDeletionJob;
+import com.microservice.mscclientes.domain.repository.ClientDeletionJobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Implementation of ClientDeletionJobRepository kept in memory.
+ * Jobs run on the instance that accepted them, so status is only known there
+ * and is lost on restart. The oldest finished jobs are dropped once more than
+ * the retained number are stored; running and queued jobs are always kept.
+ */
+@Repository
+public class InMemoryClientDeletionJobRepository implements ClientDeletionJobRepository {
+
+    private final int retainedJobs;
+    private final Map<String, ClientDeletionJob> jobs = new LinkedHashMap<>();
+
+    public InMemoryClientDeletionJobRepository(@Value("${clients.bulk-delete.retained-jobs:100}") int retainedJobs) {
+        this.retainedJobs = retainedJobs;
+    }
+
+    @Override
+    public synchronized void save(ClientDeletionJob job) {
+        jobs.put(job.getId(), job);
+        Iterator<ClientDeletionJob> oldest = jobs.values().iterator();
+        while (jobs.size() > retainedJobs && oldest.hasNext()) {
+            if (oldest.next().getStatus().isFinished()) {
+                oldest.remove();
+            }
+        }
+    }
+
+    @Override
+    public synchronized Optional<ClientDeletionJob> findById(String id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+}
@@ -0,0 +1,55 @@
+package com.microservice.mscclientes.infrastructure.persistence.repository;
+
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
+
+/**
+ * Client IDs that encode their shard.
+ * Each shard assigns local IDs from its own AUTO_INCREMENT column, and the
+ * service exposes {@code local * shardCount + shard}. IDs are therefore
+ * unique across shards without any coordination, any ID routes to its shard
+ * with a modulo, and ID order within a shard matches global ID order. The
+ * shard count is part of every ID, so it cannot change without rewriting them.
+ */
+final class ShardedClientIds {
+
+    private final int shardCount;
+
+    ShardedClientIds(int shardCount) {
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("At least one shard is required");
+        }
+        this.shardCount = shardCount;
+    }
+
+    int getShardCount() {
+        return shardCount;
+    }
+
+    long toGlobal(int shard, long localId) {
+        return localId * shardCount + shard;
+    }
+
+    int shardOf(long globalId) {
+        return (int) Math.floorMod(globalId, (long) shardCount);
+    }
+
+    long toLocal(long globalId) {
+        return Math.floorDiv(globalId, shardCount);
+    }
+
+    /**
+     * Exclusive local ID cursor of a shard matching a global one: every local
+     * ID above it maps to a global ID above {@code globalAfter}
+     */
+    long localAfter(int shard, long globalAfter) {
+        return Math.floorDiv(globalAfter - shard, shardCount);
+    }
+
+    /**
+     * Shard that stores a new client. Hashing the identity spreads creations
+     * evenly and does not depend on which instance handles the request.
+     */
+    int shardFor(ClientIdentity identity) {
+        return Math.floorMod(identity.getKey().hashCode(), shardCount);
+    }
+}
@@ -0,0 +1,425 @@
+package com.microservice.mscclientes.infrastructure.persistence.repository;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.entity.ClientChange;
+import com.microservice.mscclientes.domain.repository.ClientChangeRepository;
+import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+import com.microservice.mscclientes.domain.valueobject.CardinalityEstimate;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionChunk;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionCriteria;
+import com.microservice.mscclientes.domain.valueobject.ClientField;
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
+import com.microservice.mscclientes.domain.valueobject.ClientMetrics;
+import com.microservice.mscclientes.domain.valueobject.ClientNameStatistics;
+import com.microservice.mscclientes.domain.valueobject.ClientPatch;
+import com.microservice.mscclientes.domain.valueobject.ClientSegmentMetrics;
+import com.microservice.mscclientes.domain.valueobject.NameFrequency;
+import com.microservice.mscclientes.domain.valueobject.SegmentDimension;
+import com.microservice.mscclientes.infrastructure.cache.ClientCacheCoherence;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import org.flywaydb.core.Flyway;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * ClientRepository spreading the clients table over several databases.
+ * Writes go to the shard encoded in the client ID, and new clients to the
+ * shard their identity hashes to. Reads that span every client run on all
+ * shards in parallel and are merged here: ID-ordered results with a k-way
+ * merge, and aggregates from partial count, sum and sum-of-squares values,
+ * which merge exactly, so the standard deviation matches a single database.
+ * <p>
+ * The change feed and cache epochs stay in the primary database. Each write
+ * commits on its shard first and is then recorded in the primary database's
+ * transaction; no distributed transaction spans the two, so a crash in
+ * between leaves a write without its change record.
+ */
+@Repository
+@ConditionalOnProperty(name = "clients.sharding.enabled", havingValue = "true")
+public class ShardedClientRepository implements ClientRepository {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShardedClientRepository.class);
+
+    private static final String MIGRATIONS = "classpath:db/shard";
+
+    private final ShardedClientIds ids;
+    private final List<ClientShard> shards;
+    private final ClientChangeRepository changeRepository;
+    private final ClientCacheCoherence cacheCoherence;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService fanOutExecutor;
+
+    @Autowired
+    public ShardedClientRepository(ClientChangeRepository changeRepository,
+                                   ClientCacheCoherence cacheCoherence,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${clients.sharding.urls:}") String urls,
+                                   @Value("${clients.sharding.username:}") String username,
+                                   @Value("${clients.sharding.password:}") String password,
+                                   @Value("${clients.sharding.pool-size:10}") int poolSize) {
+        this(shardDataSources(urls, username, password, poolSize), changeRepository, cacheCoherence, transactionManager,
+                poolSize);
+    }
+
+    /**
+     * The fan-out executor gets one thread per pooled connection of every shard
+     * but the one each fan-out queries on the calling thread, so concurrent
+     * requests wait for connections rather than for each other. Once its
+     * bounded queue is full, further shard queries also run on the caller.
+     */
+    ShardedClientRepository(List<DataSource> dataSources,
+                            ClientChangeRepository changeRepository,
+                            ClientCacheCoherence cacheCoherence,
+                            PlatformTransactionManager transactionManager,
+                            int poolSize) {
+        this.ids = new ShardedClientIds(dataSources.size());
+        this.shards = new ArrayList<>(dataSources.size());
+        for (int index = 0; index < dataSources.size(); index++) {
+            Flyway.configure()
+                    .dataSource(dataSources.get(index))
+                    .locations(MIGRATIONS)
+                    .load()
+                    .migrate();
+            shards.add(new ClientShard(index, ids, dataSources.get(index)));
+        }
+        this.changeRepository = changeRepository;
+        this.cacheCoherence = cacheCoherence;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        int threads = Math.max(1, (dataSources.size() - 1) * poolSize);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(threads), runnable -> {
+                    Thread thread = new Thread(runnable, "client-shard-query");
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        this.fanOutExecutor = executor;
+        logger.info("Client repository sharded over {} databases", dataSources.size());
+    }
+
+    private static List<DataSource> shardDataSources(String urls, String username, String password, int poolSize) {
+        List<String> jdbcUrls = Arrays.stream(urls.split(","))
+                .map(String::trim)
+                .filter(url -> !url.isEmpty())
+                .collect(Collectors.toList());
+        if (jdbcUrls.isEmpty()) {
+            throw new IllegalStateException("clients.sharding.urls must list at least one JDBC URL");
+        }
+        List<DataSource> dataSources = new ArrayList<>(jdbcUrls.size());
+        for (int index = 0; index < jdbcUrls.size(); index++) {
+            HikariConfig config = new HikariConfig();
+            config.setPoolName("client-shard-" + index);
+            config.setJdbcUrl(jdbcUrls.get(index));
+            config.setUsername(username);
+            config.setPassword(password);
+            config.setMaximumPoolSize(poolSize);
+            dataSources.add(new HikariDataSource(config));
+        }
+        return dataSources;
+    }
+
+    @PreDestroy
+    public void close() {
+        fanOutExecutor.shutdown();
+        for (ClientShard shard : shards) {
+            if (shard.getDataSource() instanceof HikariDataSource pool) {
+                pool.close();
+            }
+        }
+    }
+
+    /**
+     * DataSources of every shard, for components that stream the clients table
+     */
+    public List<DataSource> getShardDataSources() {
+        return shards.stream().map(ClientShard::getDataSource).collect(Collectors.toList());
+    }
+
+    @Override
+    public Client save(Client client) {
+        boolean created = client.getId() == null;
+        return transactionTemplate.execute(status -> {
+            Client saved = created
+                    ? shards.get(ids.shardFor(ClientIdentity.of(
+                            client.getFirstName(), client.getLastName(), client.getBirthDate()))).insert(client)
+                    : shardOf(client.getId()).replace(client);
+            changeRepository.append(created ? ClientChange.created(saved) : ClientChange.updated(saved));
+            cacheCoherence.recordWrite();
+            return saved;
+        });
+    }
+
+    @Override
+    public Optional<Client> findById(Long id) {
+        return shardOf(id).findById(id);
+    }
+
+    /**
+     * IDs are grouped by the shard they encode; only shards owning one of
+     * them are queried, in parallel.
+     */
+    @Override
+    public List<Client> findAllById(Collection<Long> clientIds) {
+        Map<Integer, List<Long>> idsByShard = clientIds.stream()
+                .collect(Collectors.groupingBy(ids::shardOf, TreeMap::new, Collectors.toList()));
+        List<Client> clients = new ArrayList<>(clientIds.size());
+        fanOut(shard -> {
+            List<Long> shardIds = idsByShard.get(shard.getIndex());
+            return shardIds == null ? List.<Client>of() : shard.findAllById(shardIds);
+        }).forEach(clients::addAll);
+        return clients;
+    }
+
+    @Override
+    public Optional<Client> update(Long id, ClientPatch patch, Long expectedVersion) {
+        return transactionTemplate.execute(status -> {
+            Optional<Client> updated = shardOf(id).update(id, patch, expectedVersion);
+            updated.ifPresent(client -> {
+                changeRepository.append(ClientChange.updated(client));
+                cacheCoherence.recordWrite();
+            });
+            return updated;
+        });
+    }
+
+    @Override
+    public List<Client> findAll() {
+        return mergeSorted(fanOut(ClientShard::findAll), Comparator.comparing(Client::getId), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<Client> findAll(Set<ClientField> fields) {
+        ClientProjection projection = ClientProjection.of(fields);
+        return mergeSorted(fanOut(shard -> shard.findAll(projection)), Comparator.comparing(Client::getId), Integer.MAX_VALUE);
+    }
+
+    /**
+     * Each shard returns its first {@code limit} clients after the cursor and
+     * the merge keeps the lowest, so a page never holds more than
+     * {@code limit} rows per shard.
+     */
+    @Override
+    public List<Client> findPage(long afterId, int limit) {
+        return mergeSorted(fanOut(shard -> shard.findPage(afterId, limit)), Comparator.comparing(Client::getId), limit);
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (shardOf(id).delete(id)) {
+                changeRepository.append(ClientChange.deleted(id));
+                cacheCoherence.recordWrite();
+            }
+        });
+    }
+
+    /**
+     * The chunk is the next {@code limit} IDs after the cursor across all
+     * shards: each shard contributes its first {@code limit} between its lowest
+     * and highest matching IDs and the merge keeps the lowest. Matches are then
+     * deleted shard by shard.
+     */
+    @Override
+    public ClientDeletionChunk deleteChunk(ClientDeletionCriteria criteria, long afterId, int limit) {
+        List<Long> candidates;
+        if (criteria.getType() == ClientDeletionCriteria.Type.IDS) {
+            candidates = criteria.getIds().stream()
+                    .filter(id -> id > afterId)
+                    .limit(limit)
+                    .collect(Collectors.toList());
+        } else {
+            candidates = mergeSorted(fanOut(shard -> shard.findCandidatesAfter(criteria, afterId, limit)), Comparator.naturalOrder(), limit);
+        }
+        if (candidates.isEmpty()) {
+            return ClientDeletionChunk.empty(afterId);
+        }
+        Map<Integer, List<Long>> candidatesByShard = candidates.stream()
+                .collect(Collectors.groupingBy(ids::shardOf, TreeMap::new, Collectors.toList()));
+
+        List<Long> deleted = transactionTemplate.execute(status -> {
+            List<Long> matching = new ArrayList<>();
+            candidatesByShard.forEach((shard, shardIds) -> matching.addAll(shards.get(shard).deleteMatching(criteria, shardIds)));
+            if (!matching.isEmpty()) {
+                for (Long id : matching) {
+                    changeRepository.append(ClientChange.deleted(id));
+                }
+                cacheCoherence.recordWrite();
+            }
+            return matching;
+        });
+        deleted.sort(Comparator.naturalOrder());
+        return new ClientDeletionChunk(candidates.get(candidates.size() - 1), candidates.size(), deleted);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return shardOf(id).existsById(id);
+    }
+
+    /**
+     * Asks every shard: a client stays on the shard it was created on, so a
+     * later rename can leave it on a different one than its identity hashes to
+     */
+    @Override
+    public boolean existsByIdentity(ClientIdentity identity) {
+        return fanOut(shard -> shard.existsByIdentity(identity)).contains(Boolean.TRUE);
+    }
+
+    @Override
+    public long count() {
+        return fanOut(ClientShard::count).stream().mapToLong(Long::longValue).sum();
+    }
+
+    @Override
+    public ClientMetrics calculateAgeMetrics() {
+        return fanOut(ClientShard::aggregateAges).stream()
+                .reduce(AgeAggregate.EMPTY, AgeAggregate::merge)
+                .toClientMetrics();
+    }
+
+    @Override
+    public List<ClientSegmentMetrics> calculateSegmentedAgeMetrics(List<SegmentDimension> dimensions) {
+        Map<Map<SegmentDimension, String>, AgeAggregate> merged = new LinkedHashMap<>();
+        for (List<ClientSegmentMetrics> segments : fanOut(shard -> shard.segmentMetrics(dimensions))) {
+            for (ClientSegmentMetrics segment : segments) {
+                merged.merge(segment.getSegment(), segment.getAges(), AgeAggregate::merge);
+            }
+        }
+        return merged.entrySet().stream()
+                .map(entry -> new ClientSegmentMetrics(entry.getKey(), entry.getValue()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public AgeAggregate aggregateAgesCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        return fanOut(shard -> shard.aggregateAgesCreatedBetween(from, to)).stream()
+                .reduce(AgeAggregate.EMPTY, AgeAggregate::merge);
+    }
+
+    /**
+     * Exact statistics merged from each shard's distinct first names and
+     * per last name counts. Names are compared as stored, so two spellings
+     * differing only in case count as two even under a case-insensitive
+     * collation.
+     */
+    @Override
+    public ClientNameStatistics calculateNameStatistics(int topLastNames) {
+        long clients = 0;
+        Set<String> firstNames = new HashSet<>();
+        Map<String, Long> lastNames = new LinkedHashMap<>();
+        for (ClientShard.NameCounts counts : fanOut(ClientShard::nameCounts)) {
+            clients += counts.clients;
+            firstNames.addAll(counts.firstNames);
+            counts.lastNames.forEach((name, count) -> lastNames.merge(name, count, Long::sum));
+        }
+        List<NameFrequency> top = lastNames.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .limit(topLastNames)
+                .map(entry -> new NameFrequency(entry.getKey(), entry.getValue(), 0))
+                .collect(Collectors.toList());
+        return new ClientNameStatistics(
+                clients,
+                CardinalityEstimate.exact(firstNames.size()),
+                CardinalityEstimate.exact(lastNames.size()),
+                top,
+                false
+        );
+    }
+
+    private ClientShard shardOf(long id) {
+        return shards.get(ids.shardOf(id));
+    }
+
+    /**
+     * Run a query on every shard in parallel, the first one on the calling thread
+     * @return one result per shard, in shard order
+     */
+    private <T> List<T> fanOut(Function<ClientShard, T> query) {
+        if (shards.size() == 1) {
+            return List.of(query.apply(shards.get(0)));
+        }
+        List<CompletableFuture<T>> futures = shards.subList(1, shards.size()).stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> query.apply(shard), fanOutExecutor))
+                .collect(Collectors.toList());
+        List<T> results = new ArrayList<>(shards.size());
+        results.add(query.apply(shards.get(0)));
+        for (CompletableFuture<T> future : futures) {
+            try {
+                results.add(future.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * K-way merge of sorted lists, stopping after {@code limit} elements
+     */
+    static <T> List<T> mergeSorted(List<List<T>> sortedLists, Comparator<? super T> order, int limit) {
+        int total = sortedLists.stream().mapToInt(List::size).sum();
+        List<T> merged = new ArrayList<>(Math.min(total, limit));
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>((a, b) -> order.compare(a.value, b.value));
+        for (List<T> list : sortedLists) {
+            Iterator<T> iterator = list.iterator();
+            if (iterator.hasNext()) {
+                heads.add(new Head<>(iterator.next(), iterator));
+            }
+        }
+        while (!heads.isEmpty() && merged.size() < limit) {
+            Head<T> head = heads.poll();
+            merged.add(head.value);
+            if (head.rest.hasNext()) {
+                heads.add(new Head<>(head.rest.next(), head.rest));
+            }
+        }
+        return merged;
+    }
+
+    private static final class Head<T> {
+
+        private final T value;
+        private final Iterator<T> rest;
+
+        private Head(T value, Iterator<T> rest) {
+            this.value = value;
+            this.rest = rest;
+        }
+    }
+}
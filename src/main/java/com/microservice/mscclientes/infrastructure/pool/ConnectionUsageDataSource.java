@@ -0,0 +1,174 @@
+package com.microservice.mscclientes.infrastructure.pool;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataSource wrapper timing how long callers wait for a pooled connection and
+ * how long they hold it, tagged by the use case that borrowed it. Statement
+ * executions are timed too, untagged, as the database latency the pool tuner
+ * watches: hold time also counts the application's work between statements. The use case
+ * comes from UseCaseContext, falling back to the class in the transaction's
+ * name; it is read when the first statement is created because the
+ * transaction manager borrows the connection before it names the transaction.
+ */
+public class ConnectionUsageDataSource extends DelegatingDataSource {
+
+    static final String NO_TRANSACTION = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final PoolWindowStats windowStats;
+    private final Map<String, String> useCasesByTransaction = new ConcurrentHashMap<>();
+    private final Map<String, Timer> acquireTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> usageTimers = new ConcurrentHashMap<>();
+
+    public ConnectionUsageDataSource(DataSource target, MeterRegistry meterRegistry, PoolWindowStats windowStats) {
+        super(target);
+        this.meterRegistry = meterRegistry;
+        this.windowStats = windowStats;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        long start = System.nanoTime();
+        return track(obtainTargetDataSource().getConnection(), start);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        long start = System.nanoTime();
+        return track(obtainTargetDataSource().getConnection(username, password), start);
+    }
+
+    private Connection track(Connection connection, long start) {
+        long acquiredAt = System.nanoTime();
+        windowStats.acquired();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                new TrackedConnection(connection, acquiredAt - start, acquiredAt));
+    }
+
+    private String currentUseCase() {
+        String useCase = UseCaseContext.current();
+        if (useCase != null) {
+            return useCase;
+        }
+        String transactionName = TransactionSynchronizationManager.getCurrentTransactionName();
+        if (transactionName == null) {
+            return NO_TRANSACTION;
+        }
+        return useCasesByTransaction.computeIfAbsent(transactionName, ConnectionUsageDataSource::useCaseOf);
+    }
+
+    // "com.example.FooUseCase.execute" -> "FooUseCase"
+    static String useCaseOf(String transactionName) {
+        int methodDot = transactionName.lastIndexOf('.');
+        if (methodDot <= 0) {
+            return transactionName;
+        }
+        int classDot = transactionName.lastIndexOf('.', methodDot - 1);
+        return transactionName.substring(classDot + 1, methodDot);
+    }
+
+    private void record(String useCase, long acquireNanos, long usageNanos) {
+        windowStats.released(acquireNanos, usageNanos);
+        acquireTimers.computeIfAbsent(useCase, tag -> Timer.builder("clients.db.connection.acquire")
+                        .description("Time spent waiting for a pooled connection")
+                        .tag("use_case", tag)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(acquireNanos, TimeUnit.NANOSECONDS);
+        usageTimers.computeIfAbsent(useCase, tag -> Timer.builder("clients.db.connection.usage")
+                        .description("Time a pooled connection was held before being returned")
+                        .tag("use_case", tag)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(usageNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private final class TrackedConnection implements InvocationHandler {
+
+        private final Connection target;
+        private final long acquireNanos;
+        private final long acquiredAt;
+        private String useCase;
+        private boolean closed;
+
+        TrackedConnection(Connection target, long acquireNanos, long acquiredAt) {
+            this.target = target;
+            this.acquireNanos = acquireNanos;
+            this.acquiredAt = acquiredAt;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("close")) {
+                if (!closed) {
+                    closed = true;
+                    record(useCase != null ? useCase : currentUseCase(), acquireNanos, System.nanoTime() - acquiredAt);
+                }
+            } else if (name.startsWith("prepare") || name.equals("createStatement")) {
+                if (useCase == null) {
+                    useCase = currentUseCase();
+                }
+                Object statement = invokeTarget(target, method, args);
+                return Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                        new Class<?>[] {method.getReturnType()}, new TimedStatement(statement));
+            } else if (name.equals("equals")) {
+                return proxy == args[0];
+            } else if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            return invokeTarget(target, method, args);
+        }
+    }
+
+    private final class TimedStatement implements InvocationHandler {
+
+        private final Object target;
+
+        TimedStatement(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                long start = System.nanoTime();
+                try {
+                    return invokeTarget(target, method, args);
+                } finally {
+                    windowStats.executed(System.nanoTime() - start);
+                }
+            } else if (name.equals("equals")) {
+                return proxy == args[0];
+            } else if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            return invokeTarget(target, method, args);
+        }
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
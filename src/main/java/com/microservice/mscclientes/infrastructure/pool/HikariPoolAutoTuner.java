@@ -0,0 +1,92 @@
+package com.microservice.mscclientes.infrastructure.pool;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Resizes the Hikari pool at runtime within configured bounds.
+ * Every interval the connection activity recorded by ConnectionUsageDataSource
+ * is fed to a PoolSizeTuner and its decision is applied through Hikari's
+ * config MBean; minimum idle never exceeds the new maximum.
+ */
+@Component
+@ConditionalOnProperty(name = "clients.pool-tuner.enabled", havingValue = "true")
+public class HikariPoolAutoTuner {
+
+    private static final Logger logger = LoggerFactory.getLogger(HikariPoolAutoTuner.class);
+
+    private final HikariDataSource hikari;
+    private final PoolWindowStats windowStats;
+    private final PoolSizeTuner tuner;
+    private final int configuredMinimumIdle;
+
+    private volatile PoolSample lastSample;
+
+    public HikariPoolAutoTuner(DataSource dataSource,
+                               PoolWindowStats windowStats,
+                               MeterRegistry meterRegistry,
+                               @Value("${clients.pool-tuner.min-size:5}") int minSize,
+                               @Value("${clients.pool-tuner.max-size:50}") int maxSize,
+                               @Value("${clients.pool-tuner.step:2}") int step,
+                               @Value("${clients.pool-tuner.wait-ratio:0.1}") double waitRatio,
+                               @Value("${clients.pool-tuner.latency-tolerance:1.25}") double latencyTolerance,
+                               @Value("${clients.pool-tuner.min-connections:50}") long minConnections,
+                               @Value("${clients.pool-tuner.ceiling-ticks:30}") int ceilingTicks,
+                               @Value("${clients.pool-tuner.baseline-ticks:360}") int baselineTicks) throws SQLException {
+        this.hikari = dataSource.unwrap(HikariDataSource.class);
+        this.windowStats = windowStats;
+        this.tuner = new PoolSizeTuner(minSize, maxSize, step, waitRatio, latencyTolerance, minConnections,
+                ceilingTicks, baselineTicks);
+        this.configuredMinimumIdle = hikari.getMinimumIdle();
+        Gauge.builder("clients.db.pool.target_size", hikari, HikariDataSource::getMaximumPoolSize)
+                .description("Maximum pool size currently chosen by the pool auto-tuner")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Sample the last interval and resize the pool if needed
+     */
+    @Scheduled(fixedDelayString = "${clients.pool-tuner.interval:10000}",
+               initialDelayString = "${clients.pool-tuner.interval:10000}")
+    public synchronized void tune() {
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        PoolSample sample = windowStats.drain(pool != null ? pool.getThreadsAwaitingConnection() : 0);
+        lastSample = sample;
+
+        HikariConfigMXBean config = hikari.getHikariConfigMXBean();
+        int current = config.getMaximumPoolSize();
+        int next = tuner.next(current, sample);
+        if (next == current) {
+            return;
+        }
+
+        if (next < current) {
+            config.setMinimumIdle(Math.min(configuredMinimumIdle, next));
+            config.setMaximumPoolSize(next);
+        } else {
+            config.setMaximumPoolSize(next);
+            config.setMinimumIdle(Math.min(configuredMinimumIdle, next));
+        }
+        logger.info("Resized connection pool from {} to {} after {}", current, next, sample);
+    }
+
+    public PoolSample getLastSample() {
+        return lastSample;
+    }
+
+    public PoolSizeTuner getTuner() {
+        return tuner;
+    }
+}
@@ -0,0 +1,79 @@
+package com.microservice.mscclientes.infrastructure.pool;
+
+/**
+ * Connection pool activity observed over one tuning interval.
+ */
+public final class PoolSample {
+
+    private final long connections;
+    private final double meanAcquireNanos;
+    private final double meanUsageNanos;
+    private final double meanStatementNanos;
+    private final int peakInUse;
+    private final int pending;
+
+    public PoolSample(long connections, double meanAcquireNanos, double meanUsageNanos, double meanStatementNanos,
+                      int peakInUse, int pending) {
+        this.connections = connections;
+        this.meanAcquireNanos = meanAcquireNanos;
+        this.meanUsageNanos = meanUsageNanos;
+        this.meanStatementNanos = meanStatementNanos;
+        this.peakInUse = peakInUse;
+        this.pending = pending;
+    }
+
+    /**
+     * @return connections returned to the pool during the interval
+     */
+    public long getConnections() {
+        return connections;
+    }
+
+    /**
+     * @return mean time spent waiting for a connection
+     */
+    public double getMeanAcquireNanos() {
+        return meanAcquireNanos;
+    }
+
+    /**
+     * @return mean time a connection was held, including application work between statements
+     */
+    public double getMeanUsageNanos() {
+        return meanUsageNanos;
+    }
+
+    /**
+     * @return mean time a statement took to execute, i.e. database latency as seen by the application;
+     *         0 if no statement ran
+     */
+    public double getMeanStatementNanos() {
+        return meanStatementNanos;
+    }
+
+    /**
+     * @return highest number of connections borrowed at the same time
+     */
+    public int getPeakInUse() {
+        return peakInUse;
+    }
+
+    /**
+     * @return threads waiting for a connection when the interval closed
+     */
+    public int getPending() {
+        return pending;
+    }
+
+    @Override
+    public String toString() {
+        return "PoolSample{" +
+                "connections=" + connections +
+                ", meanAcquireMillis=" + meanAcquireNanos / 1_000_000 +
+                ", meanUsageMillis=" + meanUsageNanos / 1_000_000 +
+                ", meanStatementMillis=" + meanStatementNanos / 1_000_000 +
+                ", peakInUse=" + peakInUse +
+                ", pending=" + pending +
+                '}';
+    }
+}
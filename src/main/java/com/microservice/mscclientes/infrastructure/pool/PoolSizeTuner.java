@@ -0,0 +1,103 @@
+package com.microservice.mscclientes.infrastructure.pool;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Decides the next pool size from one interval of pool activity.
+ * The pool grows while callers wait for connections for a noticeable share of
+ * the time they then hold them, and shrinks when the peak borrow count leaves
+ * plenty of idle headroom. Mean statement execution time is the database
+ * latency seen by the application; its lowest mean over the last
+ * {@code baselineTicks} busy intervals is the uncontended baseline, so the
+ * baseline follows latency that rises for good, as the tables grow, instead
+ * of reading it as saturation forever.
+ * When latency climbs past the tolerated factor over that baseline the database
+ * itself is saturated, so the pool backs off a step and does not grow back to
+ * that size until the ceiling expires, since more connections would only queue
+ * inside the database instead of in the pool.
+ */
+public class PoolSizeTuner {
+
+    private final int minSize;
+    private final int maxSize;
+    private final int step;
+    private final double waitRatio;
+    private final double latencyTolerance;
+    private final long minConnections;
+    private final int ceilingTicks;
+    private final int baselineTicks;
+    private final Deque<Double> recentLatencies = new ArrayDeque<>();
+
+    private double baselineLatencyNanos;
+    private int ceiling = Integer.MAX_VALUE;
+    private int ticksSinceCeiling;
+
+    public PoolSizeTuner(int minSize, int maxSize, int step, double waitRatio,
+                         double latencyTolerance, long minConnections, int ceilingTicks, int baselineTicks) {
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.step = step;
+        this.waitRatio = waitRatio;
+        this.latencyTolerance = latencyTolerance;
+        this.minConnections = minConnections;
+        this.ceilingTicks = ceilingTicks;
+        this.baselineTicks = baselineTicks;
+    }
+
+    /**
+     * Compute the pool size for the next interval
+     * @param current pool size during the sampled interval
+     * @param sample activity observed during the interval
+     * @return new pool size within the configured bounds
+     */
+    public int next(int current, PoolSample sample) {
+        if (ceiling != Integer.MAX_VALUE && ++ticksSinceCeiling >= ceilingTicks) {
+            ceiling = Integer.MAX_VALUE;
+        }
+        if (sample.getConnections() < minConnections) {
+            return clamp(current);
+        }
+
+        double usage = sample.getMeanUsageNanos();
+        double latency = sample.getMeanStatementNanos() > 0 ? sample.getMeanStatementNanos() : usage;
+        recentLatencies.addLast(latency);
+        if (recentLatencies.size() > baselineTicks) {
+            recentLatencies.removeFirst();
+        }
+        baselineLatencyNanos = recentLatencies.stream().mapToDouble(Double::doubleValue).min().orElse(latency);
+
+        if (latency > baselineLatencyNanos * latencyTolerance) {
+            ceiling = current;
+            ticksSinceCeiling = 0;
+            return clamp(current - step);
+        }
+        if (sample.getMeanAcquireNanos() > usage * waitRatio) {
+            int grown = clamp(current + step);
+            return grown < ceiling ? grown : clamp(current);
+        }
+        if (sample.getMeanAcquireNanos() < usage * waitRatio / 4 && sample.getPeakInUse() + 2 * step <= current) {
+            return clamp(current - step);
+        }
+        return clamp(current);
+    }
+
+    public int getMinSize() {
+        return minSize;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @return lowest mean statement time over the baseline window, in nanoseconds, or 0 before the first sample
+     */
+    public double getBaselineLatencyNanos() {
+        return baselineLatencyNanos;
+    }
+
+    private int clamp(int size) {
+        return Math.max(minSize, Math.min(maxSize, size));
+    }
+}
@@ -0,0 +1,78 @@
+package com.microservice.mscclientes.infrastructure.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint at /actuator/pool showing the current connection pool state
+ * and, when enabled, the auto-tuner's bounds and last observed interval.
+ */
+@Component
+@Endpoint(id = "pool")
+public class PoolStateEndpoint {
+
+    private final DataSource dataSource;
+    private final PoolWindowStats windowStats;
+    private final ObjectProvider<HikariPoolAutoTuner> autoTuner;
+
+    public PoolStateEndpoint(DataSource dataSource, PoolWindowStats windowStats,
+                             ObjectProvider<HikariPoolAutoTuner> autoTuner) {
+        this.dataSource = dataSource;
+        this.windowStats = windowStats;
+        this.autoTuner = autoTuner;
+    }
+
+    @ReadOperation
+    public Map<String, Object> pool() throws SQLException {
+        Map<String, Object> state = new LinkedHashMap<>();
+        if (!dataSource.isWrapperFor(HikariDataSource.class)) {
+            state.put("type", dataSource.getClass().getName());
+            return state;
+        }
+
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+        state.put("name", hikari.getPoolName());
+        state.put("maximumPoolSize", hikari.getMaximumPoolSize());
+        state.put("minimumIdle", hikari.getMinimumIdle());
+        state.put("connectionTimeoutMillis", hikari.getConnectionTimeout());
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        if (pool != null) {
+            state.put("active", pool.getActiveConnections());
+            state.put("idle", pool.getIdleConnections());
+            state.put("total", pool.getTotalConnections());
+            state.put("pending", pool.getThreadsAwaitingConnection());
+        }
+        state.put("borrowed", windowStats.getInUse());
+
+        HikariPoolAutoTuner tuner = autoTuner.getIfAvailable();
+        Map<String, Object> tuning = new LinkedHashMap<>();
+        tuning.put("enabled", tuner != null);
+        if (tuner != null) {
+            tuning.put("minSize", tuner.getTuner().getMinSize());
+            tuning.put("maxSize", tuner.getTuner().getMaxSize());
+            tuning.put("baselineLatencyMillis", tuner.getTuner().getBaselineLatencyNanos() / 1_000_000);
+            PoolSample sample = tuner.getLastSample();
+            if (sample != null) {
+                Map<String, Object> last = new LinkedHashMap<>();
+                last.put("connections", sample.getConnections());
+                last.put("meanAcquireMillis", sample.getMeanAcquireNanos() / 1_000_000);
+                last.put("meanUsageMillis", sample.getMeanUsageNanos() / 1_000_000);
+                last.put("meanStatementMillis", sample.getMeanStatementNanos() / 1_000_000);
+                last.put("peakInUse", sample.getPeakInUse());
+                last.put("pending", sample.getPending());
+                tuning.put("lastInterval", last);
+            }
+        }
+        state.put("autoTuner", tuning);
+        return state;
+    }
+}
@@ -0,0 +1,58 @@
+package com.microservice.mscclientes.infrastructure.pool;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Connection acquire, usage and statement totals accumulated between two tuning intervals.
+ */
+public class PoolWindowStats {
+
+    private final LongAdder connections = new LongAdder();
+    private final LongAdder acquireNanos = new LongAdder();
+    private final LongAdder usageNanos = new LongAdder();
+    private final LongAdder statements = new LongAdder();
+    private final LongAdder statementNanos = new LongAdder();
+    private final AtomicInteger inUse = new AtomicInteger();
+    private final AtomicInteger peakInUse = new AtomicInteger();
+
+    void acquired() {
+        int current = inUse.incrementAndGet();
+        peakInUse.accumulateAndGet(current, Math::max);
+    }
+
+    void released(long acquireNanos, long usageNanos) {
+        inUse.decrementAndGet();
+        connections.increment();
+        this.acquireNanos.add(acquireNanos);
+        this.usageNanos.add(usageNanos);
+    }
+
+    void executed(long statementNanos) {
+        statements.increment();
+        this.statementNanos.add(statementNanos);
+    }
+
+    public int getInUse() {
+        return inUse.get();
+    }
+
+    /**
+     * Close the current interval and start a new one
+     * @param pending threads waiting for a connection right now
+     * @return activity since the previous call
+     */
+    public PoolSample drain(int pending) {
+        long count = connections.sumThenReset();
+        long acquire = acquireNanos.sumThenReset();
+        long usage = usageNanos.sumThenReset();
+        long executed = statements.sumThenReset();
+        long statement = statementNanos.sumThenReset();
+        int peak = peakInUse.getAndSet(inUse.get());
+        double meanStatement = executed == 0 ? 0 : (double) statement / executed;
+        if (count == 0) {
+            return new PoolSample(0, 0, 0, meanStatement, peak, pending);
+        }
+        return new PoolSample(count, (double) acquire / count, (double) usage / count, meanStatement, peak, pending);
+    }
+}
@@ -0,0 +1,38 @@
+package com.microservice.mscclientes.infrastructure.pool;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+/**
+ * Remembers which application use case the current thread is executing, so
+ * connections are attributed to it even when a repository call nested inside
+ * opens its own transaction. The outermost use case wins.
+ */
+@Aspect
+@Component
+public class UseCaseContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    @Around("execution(public * com.microservice.mscclientes.application.usecase..*(..))")
+    public Object track(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (CURRENT.get() != null) {
+            return joinPoint.proceed();
+        }
+        CURRENT.set(joinPoint.getSignature().getDeclaringType().getSimpleName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * @return simple class name of the use case running on this thread, or null outside one
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+}
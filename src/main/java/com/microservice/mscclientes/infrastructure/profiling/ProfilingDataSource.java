@@ -0,0 +1,190 @@
+package com.microservice.mscclientes.infrastructure.profiling;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * DataSource wrapper feeding statement timings to the QueryProfiler.
+ * Connections the profiler does not sample are returned as they are. Sampled
+ * connections hand out statement proxies that time each execute call and
+ * result set proxies that count rows and time the iteration; an execution is
+ * recorded once its result set is exhausted or closed, the statement is
+ * re-executed, or the statement is closed.
+ */
+public class ProfilingDataSource extends DelegatingDataSource {
+
+    private final QueryProfiler profiler;
+
+    public ProfilingDataSource(DataSource target, QueryProfiler profiler) {
+        super(target);
+        this.profiler = profiler;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return profile(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return profile(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection profile(Connection connection) {
+        if (!profiler.shouldProfile()) {
+            return connection;
+        }
+        return proxy(Connection.class, new ProfiledConnection(connection));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(ProfilingDataSource.class.getClassLoader(), new Class<?>[] {type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private final class ProfiledConnection implements InvocationHandler {
+
+        private final Connection target;
+
+        ProfiledConnection(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("equals")) {
+                return proxy == args[0];
+            }
+            if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            Object result = ProfilingDataSource.invoke(target, method, args);
+            if (result instanceof Statement statement
+                    && (name.equals("createStatement") || name.startsWith("prepare"))) {
+                String sql = args != null && args.length > 0 && args[0] instanceof String text ? text : null;
+                return proxy(method.getReturnType(), new ProfiledStatement(statement, sql));
+            }
+            return result;
+        }
+    }
+
+    private final class ProfiledStatement implements InvocationHandler {
+
+        private final Statement target;
+        private String sql;
+        private boolean pending;
+        private long executeNanos;
+        private long fetchNanos;
+        private long rows;
+
+        ProfiledStatement(Statement target, String sql) {
+            this.target = target;
+            this.sql = sql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                flush();
+                if (args != null && args.length > 0 && args[0] instanceof String text) {
+                    sql = text;
+                }
+                long start = System.nanoTime();
+                Object result = ProfilingDataSource.invoke(target, method, args);
+                pending = true;
+                executeNanos = System.nanoTime() - start;
+                if (result instanceof ResultSet resultSet) {
+                    return proxy(ResultSet.class, new ProfiledResultSet(this, resultSet));
+                }
+                if (!Boolean.TRUE.equals(result)) {
+                    flush();
+                }
+                return result;
+            }
+            if (name.equals("addBatch") && args != null && args.length > 0 && args[0] instanceof String text) {
+                sql = text;
+            } else if (name.equals("close")) {
+                flush();
+            } else if (name.equals("equals")) {
+                return proxy == args[0];
+            } else if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            Object result = ProfilingDataSource.invoke(target, method, args);
+            if (name.equals("getResultSet") && result instanceof ResultSet resultSet && pending) {
+                return proxy(ResultSet.class, new ProfiledResultSet(this, resultSet));
+            }
+            return result;
+        }
+
+        void fetched(long nanos, boolean row) {
+            fetchNanos += nanos;
+            if (row) {
+                rows++;
+            }
+        }
+
+        void flush() {
+            if (!pending) {
+                return;
+            }
+            pending = false;
+            profiler.record(sql, executeNanos, fetchNanos, rows);
+            executeNanos = 0;
+            fetchNanos = 0;
+            rows = 0;
+        }
+    }
+
+    private static final class ProfiledResultSet implements InvocationHandler {
+
+        private final ProfiledStatement statement;
+        private final ResultSet target;
+
+        ProfiledResultSet(ProfiledStatement statement, ResultSet target) {
+            this.statement = statement;
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.equals("next")) {
+                long start = System.nanoTime();
+                boolean row = (Boolean) ProfilingDataSource.invoke(target, method, args);
+                statement.fetched(System.nanoTime() - start, row);
+                if (!row) {
+                    statement.flush();
+                }
+                return row;
+            }
+            if (name.equals("close")) {
+                statement.flush();
+            } else if (name.equals("equals")) {
+                return proxy == args[0];
+            } else if (name.equals("hashCode")) {
+                return System.identityHashCode(proxy);
+            }
+            return ProfilingDataSource.invoke(target, method, args);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.microservice.mscclientes.infrastructure.profiling;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint at /actuator/queries listing the heaviest statement
+ * fingerprints seen by the QueryProfiler, e.g. ?limit=20&sort=mean.
+ * An unknown sort key is rejected with 422 like other invalid arguments.
+ * DELETE clears the aggregated statistics.
+ */
+@Component
+@Endpoint(id = "queries")
+@ConditionalOnProperty(name = "clients.query-profiler.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryProfileEndpoint {
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 500;
+
+    private final QueryProfiler profiler;
+
+    public QueryProfileEndpoint(QueryProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @ReadOperation
+    public Map<String, Object> queries(@Nullable Integer limit, @Nullable String sort) {
+        int top = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(MAX_LIMIT, limit));
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("sampleRate", profiler.getSampleRate());
+        result.put("fingerprints", profiler.getFingerprintCount());
+        result.put("sort", sort == null ? "total" : sort);
+        result.put("queries", profiler.top(top, sort));
+        return result;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        profiler.reset();
+    }
+}
@@ -0,0 +1,211 @@
+package com.microservice.mscclientes.infrastructure.profiling;
+
+import com.microservice.mscclientes.infrastructure.logging.RateLimitedLogger;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Aggregates JDBC statement timings by fingerprint for a sample of requests.
+ * The sampling decision is taken once per request, so a sampled request has
+ * all of its statements recorded and can be checked for N+1 patterns, while
+ * unsampled requests get unwrapped connections and pay nothing. Statements
+ * issued outside a request, such as scheduled polls, are sampled one
+ * connection at a time. The number of fingerprints is bounded; once full,
+ * new fingerprints are folded into a single overflow entry.
+ */
+@Component
+@ConditionalOnProperty(name = "clients.query-profiler.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryProfiler {
+
+    static final String OVERFLOW = "<other>";
+
+    private static final Logger logger = LoggerFactory.getLogger(QueryProfiler.class);
+    private static final RateLimitedLogger warnings = new RateLimitedLogger(logger, 10, 60_000);
+
+    // Marks a request that was not sampled, as opposed to work outside any request
+    private static final RequestProfile NOT_SAMPLED = new RequestProfile();
+    private static final ThreadLocal<RequestProfile> currentRequest = new ThreadLocal<>();
+
+    private final double sampleRate;
+    private final long slowThresholdNanos;
+    private final int nPlusOneThreshold;
+    private final int maxFingerprints;
+    private final DoubleSupplier random;
+    private final Map<String, QueryStats> stats = new ConcurrentHashMap<>();
+    private final Counter slowStatements;
+    private final Counter nPlusOnePatterns;
+    private final DistributionSummary statementsPerRequest;
+
+    @Autowired
+    public QueryProfiler(MeterRegistry meterRegistry,
+                         @Value("${clients.query-profiler.sample-rate:0.05}") double sampleRate,
+                         @Value("${clients.query-profiler.slow-threshold:200}") long slowThresholdMillis,
+                         @Value("${clients.query-profiler.n-plus-one-threshold:10}") int nPlusOneThreshold,
+                         @Value("${clients.query-profiler.max-fingerprints:500}") int maxFingerprints) {
+        this(meterRegistry, sampleRate, slowThresholdMillis, nPlusOneThreshold, maxFingerprints,
+                () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    QueryProfiler(MeterRegistry meterRegistry, double sampleRate, long slowThresholdMillis,
+                  int nPlusOneThreshold, int maxFingerprints, DoubleSupplier random) {
+        this.sampleRate = sampleRate;
+        this.slowThresholdNanos = slowThresholdMillis * 1_000_000L;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.maxFingerprints = maxFingerprints;
+        this.random = random;
+        this.slowStatements = Counter.builder("clients.sql.slow")
+                .description("Sampled statements slower than the slow-query threshold")
+                .register(meterRegistry);
+        this.nPlusOnePatterns = Counter.builder("clients.sql.n_plus_one")
+                .description("Sampled requests repeating one SELECT at least the N+1 threshold times")
+                .register(meterRegistry);
+        this.statementsPerRequest = DistributionSummary.builder("clients.sql.statements_per_request")
+                .description("Statements issued by sampled requests")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * Start profiling the request running on this thread if it is sampled
+     * @return whether the request was sampled
+     */
+    public boolean beginRequest() {
+        boolean sampled = random.getAsDouble() < sampleRate;
+        currentRequest.set(sampled ? new RequestProfile() : NOT_SAMPLED);
+        return sampled;
+    }
+
+    /**
+     * Finish the request running on this thread and check it for N+1 patterns.
+     * Only SELECTs without an IN list count: batched reads such as the
+     * findAllById chunks of a lookup repeat by design.
+     * @param description request method and path, used in warnings
+     */
+    public void endRequest(String description) {
+        RequestProfile profile = currentRequest.get();
+        currentRequest.remove();
+        if (profile == null || profile == NOT_SAMPLED) {
+            return;
+        }
+        statementsPerRequest.record(profile.getStatements());
+        for (Map.Entry<String, Integer> entry : profile.getExecutionsByFingerprint().entrySet()) {
+            if (entry.getValue() >= nPlusOneThreshold && SqlFingerprint.isSelect(entry.getKey())
+                    && !SqlFingerprint.isBatched(entry.getKey())) {
+                nPlusOnePatterns.increment();
+                statsFor(entry.getKey()).flagNPlusOne();
+                warnings.warn("Possible N+1: {} ran {} times in {}", entry.getKey(), entry.getValue(), description);
+            }
+        }
+    }
+
+    /**
+     * @return whether connections borrowed on this thread right now should be profiled
+     */
+    public boolean shouldProfile() {
+        RequestProfile profile = currentRequest.get();
+        if (profile != null) {
+            return profile != NOT_SAMPLED;
+        }
+        return random.getAsDouble() < sampleRate;
+    }
+
+    /**
+     * Record one executed statement
+     * @param sql statement text as sent to the driver
+     * @param executeNanos time spent in the execute call
+     * @param fetchNanos time spent iterating the result set
+     * @param rows rows read from the result set
+     */
+    public void record(String sql, long executeNanos, long fetchNanos, long rows) {
+        String fingerprint = SqlFingerprint.of(sql);
+        long total = executeNanos + fetchNanos;
+        boolean slow = total >= slowThresholdNanos;
+        statsFor(fingerprint).record(executeNanos, fetchNanos, rows, slow);
+
+        RequestProfile profile = currentRequest.get();
+        if (profile != null && profile != NOT_SAMPLED) {
+            profile.record(fingerprint, total);
+        }
+        if (slow) {
+            slowStatements.increment();
+            warnings.warn("Slow query ({} ms, {} rows): {}", total / 1_000_000, rows, fingerprint);
+        }
+    }
+
+    /**
+     * Aggregated statistics of the heaviest fingerprints
+     * @param limit maximum number of entries
+     * @param sortBy total, mean, max, count, rows or nPlusOne
+     * @return summaries in descending order of the sort key
+     */
+    public List<Map<String, Object>> top(int limit, String sortBy) {
+        return stats.values().stream()
+                .sorted(comparator(sortBy).reversed())
+                .limit(limit)
+                .map(QueryStats::summary)
+                .collect(Collectors.toList());
+    }
+
+    public int getFingerprintCount() {
+        return stats.size();
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Drop every aggregated statistic
+     */
+    public void reset() {
+        stats.clear();
+    }
+
+    private QueryStats statsFor(String fingerprint) {
+        QueryStats existing = stats.get(fingerprint);
+        if (existing != null) {
+            return existing;
+        }
+        if (stats.size() >= maxFingerprints) {
+            return stats.computeIfAbsent(OVERFLOW, QueryStats::new);
+        }
+        return stats.computeIfAbsent(fingerprint, QueryStats::new);
+    }
+
+    private static Comparator<QueryStats> comparator(String sortBy) {
+        if (sortBy == null) {
+            return Comparator.comparingLong(QueryStats::totalNanos);
+        }
+        switch (sortBy) {
+            case "mean":
+                return Comparator.comparingDouble(QueryStats::meanNanos);
+            case "max":
+                return Comparator.comparingLong(QueryStats::maxNanos);
+            case "count":
+                return Comparator.comparingLong(QueryStats::executions);
+            case "rows":
+                return Comparator.comparingLong(QueryStats::rows);
+            case "nPlusOne":
+                return Comparator.comparingLong(QueryStats::nPlusOne);
+            case "total":
+                return Comparator.comparingLong(QueryStats::totalNanos);
+            default:
+                throw new IllegalArgumentException("Unknown sort key: " + sortBy);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.microservice.mscclientes.infrastructure.profiling;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Takes the per-request sampling decision of the QueryProfiler and closes the
+ * request's profile, checking it for N+1 patterns, once the response is written.
+ */
+@Component
+@ConditionalOnProperty(name = "clients.query-profiler.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryProfilingFilter extends OncePerRequestFilter {
+
+    private final QueryProfiler profiler;
+
+    public QueryProfilingFilter(QueryProfiler profiler) {
+        this.profiler = profiler;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        profiler.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            profiler.endRequest(request.getMethod() + " " + request.getRequestURI());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.microservice.mscclientes.infrastructure.profiling;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Running totals for one statement fingerprint.
+ */
+final class QueryStats {
+
+    private final String fingerprint;
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder executeNanos = new LongAdder();
+    private final LongAdder fetchNanos = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+    private final LongAdder slow = new LongAdder();
+    private final LongAdder nPlusOne = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    QueryStats(String fingerprint) {
+        this.fingerprint = fingerprint;
+    }
+
+    void record(long executeNanos, long fetchNanos, long rows, boolean slow) {
+        executions.increment();
+        this.executeNanos.add(executeNanos);
+        this.fetchNanos.add(fetchNanos);
+        this.rows.add(rows);
+        if (slow) {
+            this.slow.increment();
+        }
+        maxNanos.accumulateAndGet(executeNanos + fetchNanos, Math::max);
+    }
+
+    void flagNPlusOne() {
+        nPlusOne.increment();
+    }
+
+    long executions() {
+        return executions.sum();
+    }
+
+    long totalNanos() {
+        return executeNanos.sum() + fetchNanos.sum();
+    }
+
+    long maxNanos() {
+        return maxNanos.get();
+    }
+
+    long rows() {
+        return rows.sum();
+    }
+
+    long nPlusOne() {
+        return nPlusOne.sum();
+    }
+
+    double meanNanos() {
+        long count = executions();
+        return count == 0 ? 0 : (double) totalNanos() / count;
+    }
+
+    Map<String, Object> summary() {
+        long count = executions();
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("fingerprint", fingerprint);
+        summary.put("executions", count);
+        summary.put("totalMillis", totalNanos() / 1_000_000.0);
+        summary.put("meanMillis", meanNanos() / 1_000_000);
+        summary.put("maxMillis", maxNanos() / 1_000_000.0);
+        summary.put("executeMillis", executeNanos.sum() / 1_000_000.0);
+        summary.put("fetchMillis", fetchNanos.sum() / 1_000_000.0);
+        summary.put("rows", rows());
+        summary.put("meanRows", count == 0 ? 0 : (double) rows() / count);
+        summary.put("slow", slow.sum());
+        summary.put("nPlusOne", nPlusOne());
+        return summary;
+    }
+}
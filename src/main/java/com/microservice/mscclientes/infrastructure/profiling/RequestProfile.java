@@ -0,0 +1,32 @@
+package com.microservice.mscclientes.infrastructure.profiling;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Statements issued by one sampled request; confined to the request thread.
+ */
+final class RequestProfile {
+
+    private final Map<String, Integer> executionsByFingerprint = new HashMap<>();
+    private int statements;
+    private long databaseNanos;
+
+    void record(String fingerprint, long nanos) {
+        executionsByFingerprint.merge(fingerprint, 1, Integer::sum);
+        statements++;
+        databaseNanos += nanos;
+    }
+
+    Map<String, Integer> getExecutionsByFingerprint() {
+        return executionsByFingerprint;
+    }
+
+    int getStatements() {
+        return statements;
+    }
+
+    long getDatabaseNanos() {
+        return databaseNanos;
+    }
+}
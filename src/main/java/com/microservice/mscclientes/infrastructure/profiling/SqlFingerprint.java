@@ -0,0 +1,61 @@
+package com.microservice.mscclientes.infrastructure.profiling;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes SQL text so statements differing only in literal values, IN-list
+ * length or whitespace aggregate under one fingerprint.
+ */
+final class SqlFingerprint {
+
+    private static final int MAX_LENGTH = 2000;
+    private static final int MAX_CACHED = 10_000;
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?(?![\\w.])");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    // Prepared statements repeat the same text, so most lookups never run the regexes
+    private static final Map<String, String> cache = new ConcurrentHashMap<>();
+
+    private SqlFingerprint() {
+    }
+
+    static String of(String sql) {
+        if (sql == null) {
+            return "<unknown>";
+        }
+        String cached = cache.get(sql);
+        if (cached != null) {
+            return cached;
+        }
+        String fingerprint = normalize(sql);
+        if (cache.size() < MAX_CACHED) {
+            cache.put(sql, fingerprint);
+        }
+        return fingerprint;
+    }
+
+    static String normalize(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        return normalized.length() > MAX_LENGTH ? normalized.substring(0, MAX_LENGTH) : normalized;
+    }
+
+    static boolean isSelect(String fingerprint) {
+        return fingerprint.regionMatches(true, 0, "select", 0, 6);
+    }
+
+    /**
+     * Whether the statement reads a batch of keys through an IN list. Paging
+     * through a list in fixed-size batches repeats such a statement by design.
+     */
+    static boolean isBatched(String fingerprint) {
+        return fingerprint.contains("(?)");
+    }
+}
@@ -0,0 +1,176 @@
+package com.microservice.mscclientes.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Per-subject token buckets with bounded memory.
+ * Buckets are created on first use and evicted once they have fully refilled,
+ * which loses no state. A token can be obtained for any username, so a client
+ * could mint a new subject per request to always start from a full bucket. To
+ * stop that, new buckets are themselves admitted through a shared token bucket;
+ * subjects arriving faster than that, or while the table is still full after
+ * eviction, share a single overflow bucket instead of getting their own.
+ * A full table is swept inline at most once per eviction interval, and only
+ * for subjects already admitted, so minting subjects cannot force a scan of
+ * every bucket per request.
+ * Allowed and rejected requests are counted by cost class, never by subject,
+ * so the number of meters does not grow with the number of subjects.
+ */
+@Component
+public class SubjectRateLimiter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SubjectRateLimiter.class);
+
+    static final String OVERFLOW_SUBJECT = "_overflow";
+
+    private final double tokensPerSecond;
+    private final int capacity;
+    private final int maxSubjects;
+    private final long evictionIntervalNanos;
+    private final TokenBucket newSubjects;
+    private final MeterRegistry meterRegistry;
+    private final LongSupplier clock;
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Outcomes> outcomes = new ConcurrentHashMap<>();
+    private final Counter overflowed;
+    private final AtomicLong lastInlineEviction;
+
+    @Autowired
+    public SubjectRateLimiter(@Value("${clients.rate-limit.tokens-per-second:50}") double tokensPerSecond,
+                              @Value("${clients.rate-limit.capacity:100}") int capacity,
+                              @Value("${clients.rate-limit.max-subjects:10000}") int maxSubjects,
+                              @Value("${clients.rate-limit.new-subjects.per-second:10}") double newSubjectsPerSecond,
+                              @Value("${clients.rate-limit.new-subjects.burst:100}") int newSubjectsBurst,
+                              @Value("${clients.rate-limit.eviction-interval:60000}") long evictionIntervalMillis,
+                              MeterRegistry meterRegistry) {
+        this(tokensPerSecond, capacity, maxSubjects, newSubjectsPerSecond, newSubjectsBurst,
+                evictionIntervalMillis, meterRegistry, System::nanoTime);
+    }
+
+    SubjectRateLimiter(double tokensPerSecond, int capacity, int maxSubjects,
+                       double newSubjectsPerSecond, int newSubjectsBurst, long evictionIntervalMillis,
+                       MeterRegistry meterRegistry, LongSupplier clock) {
+        this.tokensPerSecond = tokensPerSecond;
+        this.capacity = capacity;
+        this.maxSubjects = maxSubjects;
+        this.evictionIntervalNanos = TimeUnit.MILLISECONDS.toNanos(evictionIntervalMillis);
+        this.lastInlineEviction = new AtomicLong(clock.getAsLong() - evictionIntervalNanos);
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.newSubjects = new TokenBucket(newSubjectsPerSecond, newSubjectsBurst, clock.getAsLong());
+        this.overflowed = Counter.builder("clients.rate_limit.overflow")
+                .description("Requests from subjects without a bucket of their own, charged to the shared overflow bucket")
+                .register(meterRegistry);
+        Gauge.builder("clients.rate_limit.buckets", buckets, ConcurrentMap::size)
+                .description("Subjects with an active rate limit bucket")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Take tokens for a request
+     * @param subject authenticated subject
+     * @param costClass endpoint class the cost was taken from, used as the metric tag
+     * @param cost tokens charged for the endpoint
+     * @return 0 if the request may proceed, otherwise nanoseconds until it could
+     */
+    public long tryAcquire(String subject, String costClass, int cost) {
+        long now = clock.getAsLong();
+        TokenBucket bucket = bucketFor(subject, now);
+        long waitNanos = bucket.tryAcquire(Math.min(cost, capacity), now);
+        Outcomes counters = outcomes.computeIfAbsent(costClass, this::newOutcomes);
+        if (waitNanos == 0) {
+            counters.allowed.increment();
+        } else {
+            counters.rejected.increment();
+        }
+        return waitNanos;
+    }
+
+    /**
+     * Drop buckets that have fully refilled
+     */
+    @Scheduled(fixedDelayString = "${clients.rate-limit.eviction-interval:60000}")
+    public void evictIdle() {
+        evictIdle(clock.getAsLong());
+    }
+
+    int size() {
+        return buckets.size();
+    }
+
+    private void evictIdle(long now) {
+        int before = buckets.size();
+        buckets.entrySet().removeIf(entry -> entry.getValue().isFull(now));
+        int evicted = before - buckets.size();
+        if (evicted > 0) {
+            logger.debug("Evicted {} idle rate limit buckets", evicted);
+        }
+    }
+
+    private TokenBucket bucketFor(String subject, long now) {
+        TokenBucket bucket = buckets.get(subject);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (newSubjects.tryAcquire(1, now) == 0 && hasRoom(now)) {
+            return buckets.computeIfAbsent(subject, key -> newBucket(now));
+        }
+        overflowed.increment();
+        return buckets.computeIfAbsent(OVERFLOW_SUBJECT, key -> newBucket(now));
+    }
+
+    /**
+     * Whether the table can take another subject, sweeping it first if it is
+     * full and no request has swept it within the last eviction interval
+     */
+    private boolean hasRoom(long now) {
+        if (buckets.size() < maxSubjects) {
+            return true;
+        }
+        long last = lastInlineEviction.get();
+        if (now - last >= evictionIntervalNanos && lastInlineEviction.compareAndSet(last, now)) {
+            evictIdle(now);
+        }
+        return buckets.size() < maxSubjects;
+    }
+
+    private TokenBucket newBucket(long now) {
+        return new TokenBucket(tokensPerSecond, capacity, now);
+    }
+
+    private Outcomes newOutcomes(String costClass) {
+        return new Outcomes(counter(costClass, "allowed"), counter(costClass, "rejected"));
+    }
+
+    private Counter counter(String costClass, String outcome) {
+        return Counter.builder("clients.rate_limit.requests")
+                .description("Requests checked against the per-subject rate limit")
+                .tag("cost_class", costClass)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static final class Outcomes {
+        private final Counter allowed;
+        private final Counter rejected;
+
+        private Outcomes(Counter allowed, Counter rejected) {
+            this.allowed = allowed;
+            this.rejected = rejected;
+        }
+    }
+}
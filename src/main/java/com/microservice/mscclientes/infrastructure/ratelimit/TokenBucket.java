@@ -0,0 +1,69 @@
+package com.microservice.mscclientes.infrastructure.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free token bucket implemented with the generic cell rate algorithm (GCRA).
+ * The whole bucket state is a single theoretical arrival time updated by CAS,
+ * so acquiring never blocks and a full bucket needs no background refill.
+ */
+public final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final AtomicLong theoreticalArrival;
+
+    /**
+     * @param tokensPerSecond sustained refill rate
+     * @param capacity maximum burst, in tokens
+     * @param nowNanos current monotonic time; the bucket starts full
+     */
+    public TokenBucket(double tokensPerSecond, int capacity, long nowNanos) {
+        if (tokensPerSecond <= 0 || capacity <= 0) {
+            throw new IllegalArgumentException("Rate and capacity must be positive");
+        }
+        this.emissionIntervalNanos = Math.max(1L, (long) (1_000_000_000L / tokensPerSecond));
+        this.burstToleranceNanos = emissionIntervalNanos * capacity;
+        this.theoreticalArrival = new AtomicLong(nowNanos);
+    }
+
+    /**
+     * Try to take tokens from the bucket
+     * @param cost number of tokens to take
+     * @param nowNanos current monotonic time
+     * @return 0 if the tokens were taken, otherwise nanoseconds until they will be available
+     */
+    public long tryAcquire(int cost, long nowNanos) {
+        long increment = emissionIntervalNanos * cost;
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, nowNanos) + increment;
+            long waitNanos = next - nowNanos - burstToleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Tokens currently available, rounded down
+     * @param nowNanos current monotonic time
+     * @return available tokens
+     */
+    public long available(long nowNanos) {
+        long used = Math.max(0, theoreticalArrival.get() - nowNanos);
+        return (burstToleranceNanos - used) / emissionIntervalNanos;
+    }
+
+    /**
+     * Whether the bucket has fully refilled, so dropping it loses no state
+     * @param nowNanos current monotonic time
+     * @return true if the bucket is full
+     */
+    public boolean isFull(long nowNanos) {
+        return theoreticalArrival.get() <= nowNanos;
+    }
+}
@@ -0,0 +1,83 @@
+package com.microservice.mscclientes.infrastructure.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.regex.Pattern;
+
+/**
+ * Classification of requests to the clients API, shared by the filters that
+ * charge or prioritize requests by how expensive the endpoint is.
+ */
+public enum ClientEndpoint {
+    LIST(true),
+    METRICS(true),
+    LOOKUP(false),
+    CHANGES(false),
+    CREATE(false),
+    UPDATE(false),
+    BULK_DELETE(false),
+    OTHER(false);
+
+    private static final Pattern SINGLE_CLIENT = Pattern.compile("/clients/\\d+");
+
+    private final boolean heavy;
+
+    ClientEndpoint(boolean heavy) {
+        this.heavy = heavy;
+    }
+
+    /**
+     * Whether the endpoint scans the whole clients table
+     */
+    public boolean isHeavy() {
+        return heavy;
+    }
+
+    /**
+     * Classify a request by method and path
+     * @param request incoming request
+     * @return matching endpoint, OTHER if none
+     */
+    public static ClientEndpoint of(HttpServletRequest request) {
+        String path = pathWithinApplication(request);
+        String method = request.getMethod();
+        boolean root = path.equals("/clients") || path.equals("/clients/");
+        if ("GET".equals(method)) {
+            if (root) {
+                return request.getParameter("ids") != null ? LOOKUP : LIST;
+            }
+            if (path.startsWith("/clients/metrics")) {
+                return METRICS;
+            }
+            if (path.startsWith("/clients/changes")) {
+                return CHANGES;
+            }
+        } else if ("POST".equals(method)) {
+            if (root) {
+                return CREATE;
+            }
+            if (path.equals("/clients/lookup")) {
+                return LOOKUP;
+            }
+            if (path.equals("/clients/bulk-delete") || path.equals("/clients/bulk-delete/")) {
+                return BULK_DELETE;
+            }
+        } else if ("PATCH".equals(method) && SINGLE_CLIENT.matcher(path).matches()) {
+            return UPDATE;
+        }
+        return OTHER;
+    }
+
+    /**
+     * Whether a request targets the clients API
+     * @param request incoming request
+     * @return true for paths under /clients
+     */
+    public static boolean isClientsPath(HttpServletRequest request) {
+        return pathWithinApplication(request).startsWith("/clients");
+    }
+
+    private static String pathWithinApplication(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+}
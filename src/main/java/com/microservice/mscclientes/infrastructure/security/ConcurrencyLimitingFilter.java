@@ -0,0 +1,97 @@
+package com.microservice.mscclientes.infrastructure.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.mscclientes.infrastructure.concurrency.AdaptiveConcurrencyLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Load shedding filter applied after rate limiting.
+ * Admits client requests up to the adaptive concurrency limit and answers the
+ * rest immediately with 503, instead of letting them queue on Tomcat threads
+ * until the connection pool times out. Heavy endpoints are shed first.
+ * Unauthenticated requests are rejected later without touching the database,
+ * so they neither take a slot nor feed the latency baseline.
+ */
+@Component
+public class ConcurrencyLimitingFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConcurrencyLimitingFilter.class);
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final boolean enabled;
+
+    public ConcurrencyLimitingFilter(AdaptiveConcurrencyLimiter limiter,
+                                     @Value("${clients.concurrency.enabled:true}") boolean enabled) {
+        this.limiter = limiter;
+        this.enabled = enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        boolean heavy = ClientEndpoint.of(request).isHeavy();
+        int inflight = limiter.tryAcquire(heavy);
+        if (inflight < 0) {
+            logger.debug("Shedding {} {} at concurrency limit {}", request.getMethod(), request.getRequestURI(),
+                    limiter.getLimit());
+            writeServiceUnavailable(request, response);
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean dropped = true;
+        try {
+            filterChain.doFilter(request, response);
+            dropped = response.getStatus() >= HttpStatus.INTERNAL_SERVER_ERROR.value();
+        } finally {
+            limiter.release(heavy, inflight, System.nanoTime() - start, dropped);
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !ClientEndpoint.isClientsPath(request);
+    }
+
+    private void writeServiceUnavailable(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now().toString());
+        errorResponse.put("status", HttpStatus.SERVICE_UNAVAILABLE.value());
+        errorResponse.put("error", "Service Unavailable");
+        errorResponse.put("message", "Server is at capacity, retry shortly");
+        errorResponse.put("path", request.getRequestURI());
+
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
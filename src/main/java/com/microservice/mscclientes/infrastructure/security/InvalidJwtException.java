@@ -0,0 +1,17 @@
+package com.microservice.mscclientes.infrastructure.security;
+
+/**
+ * Thrown when a JWT token cannot be parsed or verified.
+ * Captures no stack trace, as invalid tokens are expected input.
+ */
+public class InvalidJwtException extends IllegalArgumentException {
+
+    public InvalidJwtException(String message) {
+        super("Invalid JWT token: " + message);
+    }
+
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        return this;
+    }
+}
@@ -1,6 +1,6 @@
 package com.microservice.mscclientes.infrastructure.security;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.mscclientes.infrastructure.logging.RateLimitedLogger;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
@@ -10,38 +10,74 @@ import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  * JWT Authentication Entry Point to handle authentication failures.
  * Returns structured error response for unauthorized access attempts.
+ * The constant part of the body is serialized once; only the path and
+ * timestamp are appended per request.
  */
 @Component
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
     
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationEntryPoint.class);
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final RateLimitedLogger rejectionLogger = new RateLimitedLogger(logger, 10, 1000);
+    
+    private static final byte[] BODY_PREFIX = ("{\"status\":" + HttpServletResponse.SC_UNAUTHORIZED
+            + ",\"error\":\"Unauthorized\""
+            + ",\"message\":\"Authentication required to access this resource\""
+            + ",\"path\":\"").getBytes(StandardCharsets.UTF_8);
+    private static final byte[] TIMESTAMP_FIELD = "\",\"timestamp\":\"".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] BODY_SUFFIX = "\"}".getBytes(StandardCharsets.UTF_8);
     
     @Override
     public void commence(HttpServletRequest request, 
                         HttpServletResponse response,
                         AuthenticationException authException) throws IOException {
         
-        logger.warn("Unauthorized access attempt to: {} - {}", request.getRequestURI(), authException.getMessage());
+        rejectionLogger.warn("Unauthorized access attempt to: {} - {}", request.getRequestURI(), authException.getMessage());
         
+        byte[] body = body(request.getRequestURI(), LocalDateTime.now().toString());
         response.setContentType(MediaType.APPLICATION_JSON_VALUE);
         response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
-        
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("timestamp", LocalDateTime.now().toString());
-        errorResponse.put("status", HttpServletResponse.SC_UNAUTHORIZED);
-        errorResponse.put("error", "Unauthorized");
-        errorResponse.put("message", "Authentication required to access this resource");
-        errorResponse.put("path", request.getRequestURI());
-        
-        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+    
+    static byte[] body(String path, String timestamp) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(BODY_PREFIX.length + path.length() + 64);
+        out.writeBytes(BODY_PREFIX);
+        out.writeBytes(escape(path).getBytes(StandardCharsets.UTF_8));
+        out.writeBytes(TIMESTAMP_FIELD);
+        out.writeBytes(timestamp.getBytes(StandardCharsets.US_ASCII));
+        out.writeBytes(BODY_SUFFIX);
+        return out.toByteArray();
+    }
+    
+    /**
+     * Escape a request path for embedding in a JSON string
+     */
+    private static String escape(String value) {
+        StringBuilder escaped = null;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                if (escaped == null) {
+                    escaped = new StringBuilder(value.length() + 16).append(value, 0, i);
+                }
+                if (c == '"' || c == '\\') {
+                    escaped.append('\\').append(c);
+                } else {
+                    escaped.append(String.format("\\u%04x", (int) c));
+                }
+            } else if (escaped != null) {
+                escaped.append(c);
+            }
+        }
+        return escaped != null ? escaped.toString() : value;
     }
 }
@@ -39,30 +39,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         
         final String authorizationHeader = request.getHeader(AUTHORIZATION_HEADER);
         
-        String username = null;
-        String jwt = null;
-        
-        // Extract JWT token from Authorization header
-        if (authorizationHeader != null && authorizationHeader.startsWith(BEARER_PREFIX)) {
-            jwt = authorizationHeader.substring(BEARER_PREFIX.length());
-            try {
-                username = jwtUtil.extractUsername(jwt);
-            } catch (Exception e) {
-                logger.error("Error extracting username from JWT token: {}", e.getMessage());
-            }
-        }
-        
-        // Validate token and set authentication context
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            if (jwtUtil.isTokenValid(jwt)) {
+        // Extract and validate JWT token from Authorization header in a single parse
+        if (authorizationHeader != null && authorizationHeader.startsWith(BEARER_PREFIX)
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            String username = jwtUtil.validateAndExtractUsername(authorizationHeader.substring(BEARER_PREFIX.length()));
+            if (username != null) {
                 UsernamePasswordAuthenticationToken authToken = 
                     new UsernamePasswordAuthenticationToken(username, null, new ArrayList<>());
                 authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                 SecurityContextHolder.getContext().setAuthentication(authToken);
                 
                 logger.debug("JWT authentication successful for user: {}", username);
-            } else {
-                logger.warn("Invalid JWT token for user: {}", username);
             }
         }
         
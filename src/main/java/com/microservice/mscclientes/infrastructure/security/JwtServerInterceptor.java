@@ -0,0 +1,53 @@
+package com.microservice.mscclientes.infrastructure.security;
+
+import io.grpc.Context;
+import io.grpc.Contexts;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import io.grpc.Status;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * gRPC counterpart of JwtAuthenticationFilter.
+ * Every call must carry "authorization: Bearer <jwt>" metadata; the token is
+ * checked once per call with the same JwtUtil as REST requests, and calls
+ * without a valid one are closed with UNAUTHENTICATED before reaching the service.
+ */
+@Component
+@ConditionalOnProperty(name = "clients.grpc.enabled", havingValue = "true")
+public class JwtServerInterceptor implements ServerInterceptor {
+
+    /**
+     * Authenticated username, readable from the call's context
+     */
+    public static final Context.Key<String> USERNAME = Context.key("username");
+
+    private static final Metadata.Key<String> AUTHORIZATION =
+            Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER);
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtUtil jwtUtil;
+
+    public JwtServerInterceptor(JwtUtil jwtUtil) {
+        this.jwtUtil = jwtUtil;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call,
+                                                                 Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        String authorization = headers.get(AUTHORIZATION);
+        String username = authorization != null && authorization.startsWith(BEARER_PREFIX)
+                ? jwtUtil.validateAndExtractUsername(authorization.substring(BEARER_PREFIX.length()))
+                : null;
+        if (username == null) {
+            call.close(Status.UNAUTHENTICATED.withDescription("A valid bearer token is required"), new Metadata());
+            return new ServerCall.Listener<>() {
+            };
+        }
+        return Contexts.interceptCall(Context.current().withValue(USERNAME, username), call, headers, next);
+    }
+}
@@ -1,7 +1,9 @@
 package com.microservice.mscclientes.infrastructure.security;
 
+import com.microservice.mscclientes.infrastructure.logging.RateLimitedLogger;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -17,11 +19,19 @@ import java.util.function.Function;
 /**
  * JWT utility class for token generation and validation.
  * Implements Singleton pattern through Spring's @Component.
+ * The signing key and parser are built once; rejected tokens are logged
+ * through a rate-limited logger so token floods stay cheap.
  */
 @Component
 public class JwtUtil {
     
     private static final Logger logger = LoggerFactory.getLogger(JwtUtil.class);
+    private static final RateLimitedLogger rejectionLogger = new RateLimitedLogger(logger, 10, 1000);
+    
+    /**
+     * Upper bound on accepted token length; real tokens are a few hundred bytes
+     */
+    private static final int MAX_TOKEN_LENGTH = 8192;
     
     @Value("${spring.security.jwt.secret}")
     private String secret;
@@ -29,8 +39,19 @@ public class JwtUtil {
     @Value("${spring.security.jwt.expiration}")
     private Long expiration;
     
+    private SecretKey signingKey;
+    private JwtParser parser;
+    
+    @PostConstruct
+    void initialize() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+    
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        return signingKey;
     }
     
     /**
@@ -102,24 +123,31 @@ public class JwtUtil {
      */
     private Claims extractAllClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return parser.parseSignedClaims(token).getPayload();
         } catch (JwtException e) {
-            logger.error("Error parsing JWT token: {}", e.getMessage());
-            throw new IllegalArgumentException("Invalid JWT token", e);
+            rejectionLogger.warn("Error parsing JWT token: {}", e.getMessage());
+            throw new InvalidJwtException(e.getMessage());
         }
     }
     
     /**
-     * Check if JWT token is expired
+     * Validate a token and extract its subject with a single parse.
+     * Signature and expiry are both checked by the parser; tokens that are not
+     * even shaped like a signed JWT are rejected without invoking it.
      * @param token JWT token
-     * @return true if expired
+     * @return username, or null if the token is malformed, forged or expired
      */
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    public String validateAndExtractUsername(String token) {
+        if (!isWellFormed(token)) {
+            rejectionLogger.warn("Rejected malformed JWT token");
+            return null;
+        }
+        try {
+            return parser.parseSignedClaims(token).getPayload().getSubject();
+        } catch (JwtException | IllegalArgumentException e) {
+            rejectionLogger.warn("Rejected JWT token: {}", e.getMessage());
+            return null;
+        }
     }
     
     /**
@@ -129,21 +157,16 @@ public class JwtUtil {
      * @return true if valid
      */
     public Boolean validateToken(String token, String username) {
-        try {
-            final String extractedUsername = extractUsername(token);
-            boolean isValid = extractedUsername.equals(username) && !isTokenExpired(token);
-            
-            if (isValid) {
-                logger.debug("JWT token validated successfully for user: {}", username);
-            } else {
-                logger.warn("JWT token validation failed for user: {}", username);
-            }
-            
-            return isValid;
-        } catch (Exception e) {
-            logger.error("JWT token validation error: {}", e.getMessage());
-            return false;
+        String extractedUsername = validateAndExtractUsername(token);
+        boolean isValid = extractedUsername != null && extractedUsername.equals(username);
+        
+        if (isValid) {
+            logger.debug("JWT token validated successfully for user: {}", username);
+        } else {
+            rejectionLogger.warn("JWT token validation failed for user: {}", username);
         }
+        
+        return isValid;
     }
     
     /**
@@ -152,12 +175,30 @@ public class JwtUtil {
      * @return true if valid
      */
     public Boolean isTokenValid(String token) {
-        try {
-            extractAllClaims(token);
-            return !isTokenExpired(token);
-        } catch (Exception e) {
-            logger.error("JWT token validation error: {}", e.getMessage());
+        return validateAndExtractUsername(token) != null;
+    }
+    
+    /**
+     * Cheap structural check: three non-empty base64url segments separated by dots
+     */
+    static boolean isWellFormed(String token) {
+        if (token == null || token.isEmpty() || token.length() > MAX_TOKEN_LENGTH) {
             return false;
         }
+        int dots = 0;
+        char previous = '.';
+        for (int i = 0; i < token.length(); i++) {
+            char c = token.charAt(i);
+            if (c == '.') {
+                if (previous == '.' || ++dots > 2) {
+                    return false;
+                }
+            } else if (!((c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')
+                    || c == '-' || c == '_')) {
+                return false;
+            }
+            previous = c;
+        }
+        return dots == 2 && previous != '.';
     }
 }
@@ -0,0 +1,133 @@
+package com.microservice.mscclientes.infrastructure.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.mscclientes.infrastructure.ratelimit.SubjectRateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Rate limiting filter applied after JWT authentication.
+ * Charges each request against the token bucket of its JWT subject, with a
+ * configurable cost per endpoint so full-table reads drain the budget faster
+ * than creates. Requests over the limit get 429 with a Retry-After header.
+ * Unauthenticated requests pass through and are rejected by the entry point.
+ */
+@Component
+public class RateLimitingFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitingFilter.class);
+
+    private final SubjectRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final boolean enabled;
+    private final int listCost;
+    private final int metricsCost;
+    private final int lookupCost;
+    private final int changesCost;
+    private final int createCost;
+    private final int updateCost;
+    private final int bulkDeleteCost;
+    private final int defaultCost;
+
+    public RateLimitingFilter(SubjectRateLimiter rateLimiter,
+                              @Value("${clients.rate-limit.enabled:true}") boolean enabled,
+                              @Value("${clients.rate-limit.cost.list:10}") int listCost,
+                              @Value("${clients.rate-limit.cost.metrics:5}") int metricsCost,
+                              @Value("${clients.rate-limit.cost.lookup:3}") int lookupCost,
+                              @Value("${clients.rate-limit.cost.changes:2}") int changesCost,
+                              @Value("${clients.rate-limit.cost.create:1}") int createCost,
+                              @Value("${clients.rate-limit.cost.update:1}") int updateCost,
+                              @Value("${clients.rate-limit.cost.bulk-delete:20}") int bulkDeleteCost,
+                              @Value("${clients.rate-limit.cost.default:1}") int defaultCost) {
+        this.rateLimiter = rateLimiter;
+        this.enabled = enabled;
+        this.listCost = listCost;
+        this.metricsCost = metricsCost;
+        this.lookupCost = lookupCost;
+        this.changesCost = changesCost;
+        this.createCost = createCost;
+        this.updateCost = updateCost;
+        this.bulkDeleteCost = bulkDeleteCost;
+        this.defaultCost = defaultCost;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        String subject = authentication.getName();
+        ClientEndpoint endpoint = ClientEndpoint.of(request);
+        long waitNanos = rateLimiter.tryAcquire(subject, endpoint.name().toLowerCase(Locale.ROOT), costOf(endpoint));
+        if (waitNanos == 0) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+        logger.debug("Rate limit exceeded for subject {} on {} {}", subject, request.getMethod(), request.getRequestURI());
+        writeTooManyRequests(request, response, retryAfterSeconds);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled || !ClientEndpoint.isClientsPath(request);
+    }
+
+    /**
+     * Tokens charged for a request to the given endpoint
+     */
+    int costOf(ClientEndpoint endpoint) {
+        return switch (endpoint) {
+            case LIST -> listCost;
+            case METRICS -> metricsCost;
+            case LOOKUP -> lookupCost;
+            case CHANGES -> changesCost;
+            case CREATE -> createCost;
+            case UPDATE -> updateCost;
+            case BULK_DELETE -> bulkDeleteCost;
+            case OTHER -> defaultCost;
+        };
+    }
+
+    private void writeTooManyRequests(HttpServletRequest request, HttpServletResponse response,
+                                      long retryAfterSeconds) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now().toString());
+        errorResponse.put("status", HttpStatus.TOO_MANY_REQUESTS.value());
+        errorResponse.put("error", "Too Many Requests");
+        errorResponse.put("message", "Rate limit exceeded, retry after " + retryAfterSeconds + " seconds");
+        errorResponse.put("path", request.getRequestURI());
+
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+}
@@ -0,0 +1,188 @@
+package com.microservice.mscclientes.infrastructure.warmstart;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.repository.ClientChangeRepository;
+import com.microservice.mscclientes.infrastructure.archive.ClientSegment;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Local snapshot of all clients, so in-memory client data can be loaded at
+ * startup without scanning MySQL.
+ * The snapshot is a client segment file named after the change feed sequence
+ * it is current to: every change up to that sequence is included. A loader
+ * replays the feed after it, which covers creations, updates and deletions
+ * alike. A snapshot is only used while that delta is still retained.
+ */
+@Component
+@ConditionalOnProperty(name = "clients.warm-start.enabled", havingValue = "true")
+public class ClientSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientSnapshotStore.class);
+
+    private static final String SNAPSHOT_PREFIX = "clients-";
+    private static final String SNAPSHOT_SUFFIX = ".seg";
+
+    private final ClientChangeRepository changeRepository;
+    private final Path directory;
+    private final int blockSize;
+
+    private Optional<StoredSnapshot> startupSnapshot; // null until validated
+
+    @Autowired
+    public ClientSnapshotStore(ClientChangeRepository changeRepository,
+                               @Value("${clients.warm-start.directory:./data/warm-start}") String directory,
+                               @Value("${clients.warm-start.block-size:256}") int blockSize) {
+        this(changeRepository, Paths.get(directory), blockSize);
+    }
+
+    ClientSnapshotStore(ClientChangeRepository changeRepository, Path directory, int blockSize) {
+        this.changeRepository = changeRepository;
+        this.directory = directory;
+        this.blockSize = blockSize;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not create snapshot directory " + directory, e);
+        }
+    }
+
+    /**
+     * The newest snapshot on disk, if the change feed still holds every change
+     * made after it. Checked once and shared by every loader at startup.
+     * @return the usable snapshot, or empty to load from the database
+     */
+    public synchronized Optional<StoredSnapshot> startupSnapshot() {
+        if (startupSnapshot == null) {
+            startupSnapshot = findNewest().filter(this::isCurrentWithFeed);
+        }
+        return startupSnapshot;
+    }
+
+    /**
+     * Replace the snapshot on disk.
+     * The new file is published atomically before older ones are removed, so
+     * a crash leaves at least one complete snapshot.
+     * @param sequence change feed sequence the clients are current to
+     * @param clients clients sorted by ascending ID
+     */
+    public synchronized void write(long sequence, List<Client> clients) {
+        if (clients.isEmpty()) {
+            return;
+        }
+        Path path = directory.resolve(String.format("%s%020d%s", SNAPSHOT_PREFIX, sequence, SNAPSHOT_SUFFIX));
+        ClientSegment.write(path, clients, blockSize);
+        for (Path older : listSnapshots()) {
+            if (!older.equals(path)) {
+                try {
+                    Files.deleteIfExists(older);
+                } catch (IOException e) {
+                    logger.warn("Could not delete old snapshot {}: {}", older, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private Optional<StoredSnapshot> findNewest() {
+        List<Path> snapshots = listSnapshots();
+        if (snapshots.isEmpty()) {
+            return Optional.empty();
+        }
+        Path newest = snapshots.get(snapshots.size() - 1);
+        try {
+            return Optional.of(new StoredSnapshot(sequenceOf(newest), ClientSegment.open(newest)));
+        } catch (RuntimeException e) {
+            logger.warn("Ignoring unreadable snapshot {}: {}", newest, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * The snapshot is usable if no change after it has been purged from the
+     * feed, and the feed has not been reset below it, as after restoring the
+     * database from a backup
+     */
+    private boolean isCurrentWithFeed(StoredSnapshot snapshot) {
+        try {
+            long latest = changeRepository.findLatestSequence().orElse(0L);
+            long oldest = changeRepository.findOldestSequence().orElse(latest + 1);
+            if (snapshot.getSequence() > latest) {
+                logger.info("Ignoring snapshot at sequence {}: change feed ends at {}", snapshot.getSequence(), latest);
+                return false;
+            }
+            if (oldest > snapshot.getSequence() + 1) {
+                logger.info("Ignoring snapshot at sequence {}: changes before {} are no longer retained",
+                        snapshot.getSequence(), oldest);
+                return false;
+            }
+            return true;
+        } catch (DataAccessException e) {
+            logger.warn("Could not check snapshot against the change feed: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private List<Path> listSnapshots() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                        String name = file.getFileName().toString();
+                        return name.startsWith(SNAPSHOT_PREFIX) && name.endsWith(SNAPSHOT_SUFFIX);
+                    })
+                    .sorted(Comparator.comparing(ClientSnapshotStore::sequenceOf))
+                    .collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list snapshot directory " + directory, e);
+        }
+    }
+
+    private static long sequenceOf(Path snapshot) {
+        String name = snapshot.getFileName().toString();
+        return Long.parseLong(name.substring(SNAPSHOT_PREFIX.length(), name.length() - SNAPSHOT_SUFFIX.length()));
+    }
+
+    /**
+     * Clients as of a change feed sequence
+     */
+    public static final class StoredSnapshot {
+
+        private final long sequence;
+        private final ClientSegment clients;
+
+        StoredSnapshot(long sequence, ClientSegment clients) {
+            this.sequence = sequence;
+            this.clients = clients;
+        }
+
+        /**
+         * Sequence of the last change included; loaders replay the feed after it
+         */
+        public long getSequence() {
+            return sequence;
+        }
+
+        public int size() {
+            return clients.getRowCount();
+        }
+
+        public void forEach(Consumer<Client> action) {
+            clients.forEach(action);
+        }
+    }
+}
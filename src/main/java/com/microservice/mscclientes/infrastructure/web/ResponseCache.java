@@ -0,0 +1,215 @@
+package com.microservice.mscclientes.infrastructure.web;
+
+import com.microservice.mscclientes.infrastructure.cache.ClientDataChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialized responses of read endpoints, kept as the bytes written to the wire.
+ * Entries are tagged with the data generation current when the request started;
+ * any write bumps the generation and drops every entry, and an entry computed
+ * across a bump is discarded instead of stored, so a response rendered from
+ * pre-write data is never cached after the write. Entries are evicted least
+ * recently used first to stay within the memory budget.
+ */
+@Component
+@ConditionalOnProperty(name = "clients.response-cache.enabled", havingValue = "true")
+public class ResponseCache {
+
+    private final long maxBytes;
+    private final long maxEntryBytes;
+    private final long ttlNanos;
+    private final boolean compress;
+    private final int compressMinBytes;
+    private final LongSupplier clock;
+    private final Counter invalidations;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long generation;
+    private long bytes;
+
+    @Autowired
+    public ResponseCache(MeterRegistry meterRegistry,
+                         @Value("${clients.response-cache.max-bytes:16777216}") long maxBytes,
+                         @Value("${clients.response-cache.ttl:60000}") long ttlMillis,
+                         @Value("${clients.response-cache.compress:true}") boolean compress,
+                         @Value("${clients.response-cache.compress-min-bytes:1024}") int compressMinBytes) {
+        this(meterRegistry, maxBytes, ttlMillis, compress, compressMinBytes, System::nanoTime);
+    }
+
+    ResponseCache(MeterRegistry meterRegistry, long maxBytes, long ttlMillis, boolean compress,
+                  int compressMinBytes, LongSupplier clock) {
+        this.maxBytes = maxBytes;
+        this.maxEntryBytes = maxBytes / 4;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.compress = compress;
+        this.compressMinBytes = compressMinBytes;
+        this.clock = clock;
+        this.invalidations = Counter.builder("clients.response_cache.invalidations")
+                .description("Times the response cache was cleared by a client write")
+                .register(meterRegistry);
+        Gauge.builder("clients.response_cache.bytes", this, ResponseCache::size)
+                .description("Bytes held by the response cache")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("clients.response_cache.entries", this, ResponseCache::entryCount)
+                .description("Responses held by the response cache")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Look up a live entry
+     * @param key request key
+     * @return cached entry, or null if absent or expired
+     */
+    public synchronized Entry get(String key) {
+        Entry entry = entries.get(key);
+        if (entry != null && clock.getAsLong() - entry.storedAt > ttlNanos) {
+            remove(key);
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * Generation to pass to {@link #put} for a response about to be computed
+     */
+    public synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Store a response unless a write happened since it started being computed
+     * @param key request key
+     * @param startGeneration generation read before the response was computed
+     * @param contentType response content type
+     * @param body serialized response body
+     * @return true if stored
+     */
+    public boolean put(String key, long startGeneration, String contentType, byte[] body) {
+        if (body.length > maxEntryBytes) {
+            return false;
+        }
+        byte[] gzipped = compress && body.length >= compressMinBytes ? gzip(body) : null;
+        Entry entry = new Entry(contentType, body, gzipped, clock.getAsLong());
+
+        synchronized (this) {
+            if (startGeneration != generation) {
+                return false;
+            }
+            remove(key);
+            entries.put(key, entry);
+            bytes += entry.size();
+            Iterator<Map.Entry<String, Entry>> eldest = entries.entrySet().iterator();
+            while (bytes > maxBytes && eldest.hasNext()) {
+                bytes -= eldest.next().getValue().size();
+                eldest.remove();
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Drop every entry and reject responses computed before this call
+     */
+    public synchronized void invalidate() {
+        generation++;
+        entries.clear();
+        bytes = 0;
+        invalidations.increment();
+    }
+
+    /**
+     * Invalidate after writes by other instances, and after local writes that
+     * bypass the repository decorators; ordered after the read model listener
+     * so responses are never rendered from the snapshot being replaced
+     * @param event client data change
+     */
+    @EventListener
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onClientDataChanged(ClientDataChangedEvent event) {
+        invalidate();
+    }
+
+    public boolean isCompress() {
+        return compress;
+    }
+
+    synchronized long size() {
+        return bytes;
+    }
+
+    synchronized int entryCount() {
+        return entries.size();
+    }
+
+    private void remove(String key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            bytes -= removed.size();
+        }
+    }
+
+    private static byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * One cached response in identity and, when worthwhile, gzip encoding
+     */
+    public static final class Entry {
+        private final String contentType;
+        private final byte[] body;
+        private final byte[] gzipped;
+        private final long storedAt;
+
+        Entry(String contentType, byte[] body, byte[] gzipped, long storedAt) {
+            this.contentType = contentType;
+            this.body = body;
+            this.gzipped = gzipped;
+            this.storedAt = storedAt;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        /**
+         * Gzip-encoded body, or null if the body was too small to compress
+         */
+        public byte[] getGzipped() {
+            return gzipped;
+        }
+
+        long size() {
+            return body.length + (gzipped != null ? gzipped.length : 0) + contentType.length() + 64L;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.microservice.mscclientes.infrastructure.web;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionChunk;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionCriteria;
+import com.microservice.mscclientes.domain.valueobject.ClientField;
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
+import com.microservice.mscclientes.domain.valueobject.ClientMetrics;
+import com.microservice.mscclientes.domain.valueobject.ClientNameStatistics;
+import com.microservice.mscclientes.domain.valueobject.ClientPatch;
+import com.microservice.mscclientes.domain.valueobject.ClientSegmentMetrics;
+import com.microservice.mscclientes.domain.valueobject.SegmentDimension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * ClientRepository decorator that clears the response cache after every write.
+ * It is the outermost decorator, so its after-commit callback is registered
+ * last and runs after the read model has applied the write.
+ */
+public class ResponseCacheClientRepository implements ClientRepository {
+
+    private final ClientRepository delegate;
+    private final ResponseCache cache;
+
+    public ResponseCacheClientRepository(ClientRepository delegate, ResponseCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Client save(Client client) {
+        Client saved = delegate.save(client);
+        invalidateAfterCommit();
+        return saved;
+    }
+
+    @Override
+    public void deleteById(Long id) {
+        delegate.deleteById(id);
+        invalidateAfterCommit();
+    }
+
+    @Override
+    public ClientDeletionChunk deleteChunk(ClientDeletionCriteria criteria, long afterId, int limit) {
+        ClientDeletionChunk chunk = delegate.deleteChunk(criteria, afterId, limit);
+        if (!chunk.getDeletedIds().isEmpty()) {
+            invalidateAfterCommit();
+        }
+        return chunk;
+    }
+
+    @Override
+    public Optional<Client> findById(Long id) {
+        return delegate.findById(id);
+    }
+
+    @Override
+    public List<Client> findAllById(Collection<Long> ids) {
+        return delegate.findAllById(ids);
+    }
+
+    @Override
+    public Optional<Client> update(Long id, ClientPatch patch, Long expectedVersion) {
+        Optional<Client> updated = delegate.update(id, patch, expectedVersion);
+        if (updated.isPresent()) {
+            invalidateAfterCommit();
+        }
+        return updated;
+    }
+
+    @Override
+    public List<Client> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Client> findAll(Set<ClientField> fields) {
+        return delegate.findAll(fields);
+    }
+
+    @Override
+    public List<Client> findPage(long afterId, int limit) {
+        return delegate.findPage(afterId, limit);
+    }
+
+    @Override
+    public boolean existsById(Long id) {
+        return delegate.existsById(id);
+    }
+
+    @Override
+    public boolean existsByIdentity(ClientIdentity identity) {
+        return delegate.existsByIdentity(identity);
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public ClientMetrics calculateAgeMetrics() {
+        return delegate.calculateAgeMetrics();
+    }
+
+    @Override
+    public List<ClientSegmentMetrics> calculateSegmentedAgeMetrics(List<SegmentDimension> dimensions) {
+        return delegate.calculateSegmentedAgeMetrics(dimensions);
+    }
+
+    @Override
+    public AgeAggregate aggregateAgesCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        return delegate.aggregateAgesCreatedBetween(from, to);
+    }
+
+    @Override
+    public ClientNameStatistics calculateNameStatistics(int topLastNames) {
+        return delegate.calculateNameStatistics(topLastNames);
+    }
+
+    private void invalidateAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate();
+            }
+        });
+    }
+}
@@ -0,0 +1,124 @@
+package com.microservice.mscclientes.infrastructure.web;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Serves cacheable GET endpoints from the ResponseCache.
+ * Registered as a plain servlet filter, so it runs after the security filter
+ * chain and only sees authenticated requests that passed rate and concurrency
+ * limits. On a hit the stored bytes are written straight to the output stream,
+ * skipping the controller, mapping and JSON serialization; on a miss the
+ * response is captured on its way out and stored. Responses do not depend on
+ * the caller, so entries are shared across users.
+ */
+@Component
+@ConditionalOnProperty(name = "clients.response-cache.enabled", havingValue = "true")
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    private static final String CACHE_HEADER = "X-Cache";
+
+    private final ResponseCache cache;
+    private final Set<String> paths;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ResponseCacheFilter(ResponseCache cache,
+                               MeterRegistry meterRegistry,
+                               @Value("${clients.response-cache.paths:/clients,/clients/metrics,/clients/metrics/segments}") List<String> paths) {
+        this.cache = cache;
+        this.paths = Set.copyOf(paths);
+        this.hits = Counter.builder("clients.response_cache.requests")
+                .description("Cacheable requests by cache outcome")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.misses = Counter.builder("clients.response_cache.requests")
+                .description("Cacheable requests by cache outcome")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Only whitelisted GET endpoints are cached. Window metrics are excluded
+     * because their result moves with the clock, not only with writes, and
+     * lookups by ids because each ID list would be an entry of its own.
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod())
+                || !paths.contains(request.getRequestURI().substring(request.getContextPath().length()))
+                || request.getParameter("window") != null
+                || request.getParameter("ids") != null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String key = key(request);
+        ResponseCache.Entry entry = cache.get(key);
+        if (entry != null) {
+            hits.increment();
+            write(entry, acceptsGzip(request), response);
+            return;
+        }
+
+        misses.increment();
+        long generation = cache.generation();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        wrapper.setHeader(CACHE_HEADER, "MISS");
+        if (cache.isCompress()) {
+            wrapper.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        try {
+            filterChain.doFilter(request, wrapper);
+            if (wrapper.getStatus() == HttpServletResponse.SC_OK && wrapper.getContentType() != null) {
+                cache.put(key, generation, wrapper.getContentType(), wrapper.getContentAsByteArray());
+            }
+        } finally {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private static String key(HttpServletRequest request) {
+        String query = request.getQueryString();
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return request.getRequestURI()
+                + (query != null ? "?" + query : "")
+                + '|' + (accept != null ? accept : "");
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        return acceptEncoding != null && acceptEncoding.contains("gzip");
+    }
+
+    private void write(ResponseCache.Entry entry, boolean gzip, HttpServletResponse response) throws IOException {
+        byte[] body = entry.getBody();
+        if (gzip && entry.getGzipped() != null) {
+            body = entry.getGzipped();
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        if (cache.isCompress()) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        response.setStatus(HttpServletResponse.SC_OK);
+        response.setHeader(CACHE_HEADER, "HIT");
+        response.setContentType(entry.getContentType());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
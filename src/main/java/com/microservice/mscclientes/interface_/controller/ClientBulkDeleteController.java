@@ -0,0 +1,173 @@
+package com.microservice.mscclientes.interface_.controller;
+
+import com.microservice.mscclientes.application.usecase.BulkDeleteClientsUseCase;
+import com.microservice.mscclientes.application.usecase.CancelClientDeletionJobUseCase;
+import com.microservice.mscclientes.application.usecase.GetClientDeletionJobUseCase;
+import com.microservice.mscclientes.domain.entity.ClientDeletionJob;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionCriteria;
+import com.microservice.mscclientes.interface_.dto.request.BulkDeleteClientsRequest;
+import com.microservice.mscclientes.interface_.dto.response.ClientDeletionJobResponse;
+import com.microservice.mscclientes.interface_.mapper.ClientDtoMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+/**
+ * REST Controller for bulk client deletion.
+ * Deletions run in the background; the job returned on submission is polled
+ * for progress until it reaches a final status.
+ */
+@RestController
+@RequestMapping("/clients/bulk-delete")
+@Tag(name = "Clients", description = "Client management endpoints")
+@SecurityRequirement(name = "bearerAuth")
+public class ClientBulkDeleteController {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientBulkDeleteController.class);
+
+    private final BulkDeleteClientsUseCase bulkDeleteClientsUseCase;
+    private final GetClientDeletionJobUseCase getClientDeletionJobUseCase;
+    private final CancelClientDeletionJobUseCase cancelClientDeletionJobUseCase;
+    private final ClientDtoMapper dtoMapper;
+
+    public ClientBulkDeleteController(BulkDeleteClientsUseCase bulkDeleteClientsUseCase,
+                                      GetClientDeletionJobUseCase getClientDeletionJobUseCase,
+                                      CancelClientDeletionJobUseCase cancelClientDeletionJobUseCase,
+                                      ClientDtoMapper dtoMapper) {
+        this.bulkDeleteClientsUseCase = bulkDeleteClientsUseCase;
+        this.getClientDeletionJobUseCase = getClientDeletionJobUseCase;
+        this.cancelClientDeletionJobUseCase = cancelClientDeletionJobUseCase;
+        this.dtoMapper = dtoMapper;
+    }
+
+    @PostMapping
+    @Operation(
+        summary = "Delete clients in bulk",
+        description = "Starts a background job deleting every client that matches one criterion: a list of ids, a creation range [createdFrom, createdTo) or a current age range [minAge, maxAge]. Clients are deleted in small chunks in id order, each in its own short transaction with a pause in between, so regular traffic keeps running. Follow the job at the returned Location."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "Deletion job accepted",
+            content = @Content(schema = @Schema(implementation = ClientDeletionJobResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - JWT token required",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Missing, ambiguous or invalid criteria",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Too many deletion jobs already queued",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content(schema = @Schema(implementation = String.class))
+        )
+    })
+    public ResponseEntity<ClientDeletionJobResponse> bulkDeleteClients(@RequestBody BulkDeleteClientsRequest request) {
+        try {
+            ClientDeletionCriteria criteria = dtoMapper.toDeletionCriteria(request);
+            logger.info("Starting bulk deletion of clients matching {}", criteria);
+            ClientDeletionJob job = bulkDeleteClientsUseCase.execute(criteria);
+            ClientDeletionJobResponse response = dtoMapper.toDeletionJobResponseDto(job);
+
+            return ResponseEntity.accepted()
+                    .location(ServletUriComponentsBuilder.fromCurrentRequestUri()
+                            .path("/{jobId}")
+                            .buildAndExpand(job.getId())
+                            .toUri())
+                    .body(response);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid bulk deletion request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+        } catch (IllegalStateException e) {
+            logger.warn("Bulk deletion rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        } catch (Exception e) {
+            logger.error("Error starting bulk deletion", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    @GetMapping("/{jobId}")
+    @Operation(
+        summary = "Get bulk deletion progress",
+        description = "Returns the status and progress of a bulk deletion job. Jobs are tracked by the instance that accepted them and only the most recent finished jobs are kept."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Job found",
+            content = @Content(schema = @Schema(implementation = ClientDeletionJobResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - JWT token required",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Unknown job",
+            content = @Content(schema = @Schema(implementation = String.class))
+        )
+    })
+    public ResponseEntity<ClientDeletionJobResponse> getDeletionJob(
+            @Parameter(description = "Job id returned on submission")
+            @PathVariable String jobId) {
+        return getClientDeletionJobUseCase.execute(jobId)
+                .map(dtoMapper::toDeletionJobResponseDto)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{jobId}")
+    @Operation(
+        summary = "Cancel a bulk deletion",
+        description = "Stops the job before its next chunk. Clients deleted by chunks already committed stay deleted. Finished jobs are returned unchanged."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Cancellation requested",
+            content = @Content(schema = @Schema(implementation = ClientDeletionJobResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - JWT token required",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Unknown job",
+            content = @Content(schema = @Schema(implementation = String.class))
+        )
+    })
+    public ResponseEntity<ClientDeletionJobResponse> cancelDeletionJob(
+            @Parameter(description = "Job id returned on submission")
+            @PathVariable String jobId) {
+        logger.info("Cancelling bulk deletion {}", jobId);
+        return cancelClientDeletionJobUseCase.execute(jobId)
+                .map(dtoMapper::toDeletionJobResponseDto)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+}
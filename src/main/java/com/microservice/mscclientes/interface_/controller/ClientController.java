@@ -2,14 +2,41 @@ package com.microservice.mscclientes.interface_.controller;
 
 import com.microservice.mscclientes.application.usecase.CreateClientUseCase;
 import com.microservice.mscclientes.application.usecase.GetAllClientsUseCase;
+import com.microservice.mscclientes.application.usecase.GetClientChangesUseCase;
 import com.microservice.mscclientes.application.usecase.GetClientMetricsUseCase;
+import com.microservice.mscclientes.application.usecase.GetClientNameMetricsUseCase;
+import com.microservice.mscclientes.application.usecase.GetClientSegmentMetricsUseCase;
+import com.microservice.mscclientes.application.usecase.GetClientUseCase;
+import com.microservice.mscclientes.application.usecase.GetClientWindowMetricsUseCase;
+import com.microservice.mscclientes.application.usecase.LookupClientsUseCase;
+import com.microservice.mscclientes.application.usecase.UpdateClientUseCase;
 import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.exception.ClientVersionConflictException;
+import com.microservice.mscclientes.domain.exception.DuplicateClientException;
+import com.microservice.mscclientes.domain.valueobject.ClientChangePage;
+import com.microservice.mscclientes.domain.valueobject.ClientField;
+import com.microservice.mscclientes.domain.valueobject.ClientLookup;
 import com.microservice.mscclientes.domain.valueobject.ClientMetrics;
+import com.microservice.mscclientes.domain.valueobject.ClientNameStatistics;
+import com.microservice.mscclientes.domain.valueobject.ClientSegmentMetrics;
+import com.microservice.mscclientes.domain.valueobject.ClientWindowMetrics;
+import com.microservice.mscclientes.domain.valueobject.MetricsWindow;
+import com.microservice.mscclientes.domain.valueobject.SegmentDimension;
+import com.microservice.mscclientes.infrastructure.logging.RateLimitedLogger;
 import com.microservice.mscclientes.interface_.dto.request.CreateClientRequest;
+import com.microservice.mscclientes.interface_.dto.request.LookupClientsRequest;
+import com.microservice.mscclientes.interface_.dto.request.PatchClientRequest;
+import com.microservice.mscclientes.interface_.dto.response.ClientChangesResponse;
+import com.microservice.mscclientes.interface_.dto.response.ClientLookupResponse;
 import com.microservice.mscclientes.interface_.dto.response.ClientMetricsResponse;
+import com.microservice.mscclientes.interface_.dto.response.ClientNameMetricsResponse;
 import com.microservice.mscclientes.interface_.dto.response.ClientResponse;
+import com.microservice.mscclientes.interface_.dto.response.ClientSegmentMetricsResponse;
+import com.microservice.mscclientes.interface_.dto.response.ClientWindowMetricsResponse;
 import com.microservice.mscclientes.interface_.mapper.ClientDtoMapper;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -19,11 +46,15 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * REST Controller for client management operations.
@@ -36,19 +67,41 @@ import java.util.List;
 public class ClientController {
     
     private static final Logger logger = LoggerFactory.getLogger(ClientController.class);
+    private static final RateLimitedLogger rejectionLogger = new RateLimitedLogger(logger, 10, 1000);
     
     private final CreateClientUseCase createClientUseCase;
     private final GetAllClientsUseCase getAllClientsUseCase;
+    private final GetClientUseCase getClientUseCase;
+    private final LookupClientsUseCase lookupClientsUseCase;
+    private final UpdateClientUseCase updateClientUseCase;
     private final GetClientMetricsUseCase getClientMetricsUseCase;
+    private final GetClientSegmentMetricsUseCase getClientSegmentMetricsUseCase;
+    private final GetClientChangesUseCase getClientChangesUseCase;
+    private final GetClientWindowMetricsUseCase getClientWindowMetricsUseCase;
+    private final GetClientNameMetricsUseCase getClientNameMetricsUseCase;
     private final ClientDtoMapper dtoMapper;
     
     public ClientController(CreateClientUseCase createClientUseCase,
                            GetAllClientsUseCase getAllClientsUseCase,
+                           GetClientUseCase getClientUseCase,
+                           LookupClientsUseCase lookupClientsUseCase,
+                           UpdateClientUseCase updateClientUseCase,
                            GetClientMetricsUseCase getClientMetricsUseCase,
+                           GetClientSegmentMetricsUseCase getClientSegmentMetricsUseCase,
+                           GetClientChangesUseCase getClientChangesUseCase,
+                           GetClientWindowMetricsUseCase getClientWindowMetricsUseCase,
+                           GetClientNameMetricsUseCase getClientNameMetricsUseCase,
                            ClientDtoMapper dtoMapper) {
         this.createClientUseCase = createClientUseCase;
         this.getAllClientsUseCase = getAllClientsUseCase;
+        this.getClientUseCase = getClientUseCase;
+        this.lookupClientsUseCase = lookupClientsUseCase;
+        this.updateClientUseCase = updateClientUseCase;
         this.getClientMetricsUseCase = getClientMetricsUseCase;
+        this.getClientSegmentMetricsUseCase = getClientSegmentMetricsUseCase;
+        this.getClientChangesUseCase = getClientChangesUseCase;
+        this.getClientWindowMetricsUseCase = getClientWindowMetricsUseCase;
+        this.getClientNameMetricsUseCase = getClientNameMetricsUseCase;
         this.dtoMapper = dtoMapper;
     }
     
@@ -68,6 +121,11 @@ public class ClientController {
             description = "Unauthorized - JWT token required",
             content = @Content(schema = @Schema(implementation = String.class))
         ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "A client with the same name and birth date already exists",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
         @ApiResponse(
             responseCode = "422",
             description = "Validation error - Invalid input data",
@@ -88,9 +146,12 @@ public class ClientController {
             ClientResponse response = dtoMapper.toResponseDto(createdClient);
             
             logger.info("Client created successfully with ID: {}", createdClient.getId());
-            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+            return withETag(ResponseEntity.status(HttpStatus.CREATED), createdClient).body(response);
+        } catch (DuplicateClientException e) {
+            rejectionLogger.warn("Duplicate client rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
         } catch (IllegalArgumentException e) {
-            logger.error("Validation error creating client: {}", e.getMessage());
+            rejectionLogger.warn("Validation error creating client: {}", e.getMessage());
             return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
         } catch (Exception e) {
             logger.error("Error creating client", e);
@@ -101,7 +162,7 @@ public class ClientController {
     @GetMapping
     @Operation(
         summary = "Get all clients",
-        description = "Retrieves all clients with complete information including estimated death date based on life expectancy."
+        description = "Retrieves all clients with complete information including estimated death date based on life expectancy. With fields=id,firstName,... only those fields are read from the database and written; the estimated death date is computed only when selected."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -114,27 +175,260 @@ public class ClientController {
             description = "Unauthorized - JWT token required",
             content = @Content(schema = @Schema(implementation = String.class))
         ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Empty or unknown field in fields",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
         @ApiResponse(
             responseCode = "500",
             description = "Internal server error",
             content = @Content(schema = @Schema(implementation = String.class))
         )
     })
-    public ResponseEntity<List<ClientResponse>> getAllClients() {
+    public ResponseEntity<List<ClientResponse>> getAllClients(
+            @Parameter(description = "Comma-separated fields to return; all when omitted", example = "id,firstName,lastName")
+            @RequestParam(name = "fields", required = false) List<String> fields) {
         logger.info("Retrieving all clients");
         
         try {
-            List<Client> clients = getAllClientsUseCase.execute();
-            List<ClientResponse> response = dtoMapper.toResponseDtoList(clients);
+            Set<ClientField> fieldSet = fields != null ? ClientField.fromParameterNames(fields) : null;
+            List<Client> clients = fieldSet != null
+                    ? getAllClientsUseCase.execute(fieldSet)
+                    : getAllClientsUseCase.execute();
+            List<ClientResponse> response = fieldSet != null
+                    ? dtoMapper.toResponseDtoList(clients, fieldSet)
+                    : dtoMapper.toResponseDtoList(clients);
             
             logger.info("Retrieved {} clients successfully", clients.size());
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid fieldset: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
         } catch (Exception e) {
             logger.error("Error retrieving clients", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
     
+    @GetMapping("/{id:\\d+}")
+    @Operation(
+        summary = "Get a client by ID",
+        description = "Retrieves one client. The ETag header carries the client version; send it back in If-Match when patching the client. With fields=id,firstName,... only those fields are written."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Client retrieved successfully",
+            content = @Content(schema = @Schema(implementation = ClientResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - JWT token required",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Client not found",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Empty or unknown field in fields",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content(schema = @Schema(implementation = String.class))
+        )
+    })
+    public ResponseEntity<ClientResponse> getClient(
+            @Parameter(description = "Client ID", example = "1")
+            @PathVariable("id") Long id,
+            @Parameter(description = "Comma-separated fields to return; all when omitted", example = "id,firstName,lastName")
+            @RequestParam(name = "fields", required = false) List<String> fields) {
+        logger.info("Retrieving client {}", id);
+        
+        try {
+            Set<ClientField> fieldSet = fields != null ? ClientField.fromParameterNames(fields) : null;
+            Optional<Client> client = getClientUseCase.execute(id);
+            if (client.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            }
+            return withETag(ResponseEntity.ok(), client.get()).body(dtoMapper.toResponseDto(client.get(), fieldSet));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid fieldset: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+        } catch (Exception e) {
+            logger.error("Error retrieving client {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @PostMapping("/lookup")
+    @Operation(
+        summary = "Get many clients by ID",
+        description = "Retrieves up to 5000 clients in one request. Duplicate ids are answered once; results follow the order of the requested ids and ids without a client are marked with found=false instead of failing the request."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lookup completed",
+            content = @Content(schema = @Schema(implementation = ClientLookupResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - JWT token required",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Missing, too many or non-positive ids",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content(schema = @Schema(implementation = String.class))
+        )
+    })
+    public ResponseEntity<ClientLookupResponse> lookupClients(@RequestBody LookupClientsRequest request) {
+        return lookup(request.getIds());
+    }
+    
+    @GetMapping(params = "ids")
+    @Operation(
+        summary = "Get many clients by ID",
+        description = "Same as POST /clients/lookup with the ids given as a comma-separated query parameter, for lists short enough to fit in a URL."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Lookup completed",
+            content = @Content(schema = @Schema(implementation = ClientLookupResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - JWT token required",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Missing, too many or non-positive ids",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content(schema = @Schema(implementation = String.class))
+        )
+    })
+    public ResponseEntity<ClientLookupResponse> getClientsByIds(
+            @Parameter(description = "Comma-separated client IDs", example = "1,2,3")
+            @RequestParam(name = "ids") List<Long> ids) {
+        return lookup(ids);
+    }
+    
+    private ResponseEntity<ClientLookupResponse> lookup(List<Long> ids) {
+        logger.info("Looking up {} clients", ids != null ? ids.size() : 0);
+        
+        try {
+            ClientLookup lookup = lookupClientsUseCase.execute(ids);
+            ClientLookupResponse response = dtoMapper.toLookupResponseDto(lookup);
+            
+            logger.info("Looked up {} clients: {} found", lookup.getIds().size(), lookup.getFoundCount());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid lookup request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+        } catch (Exception e) {
+            logger.error("Error looking up clients", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @PatchMapping("/{id:\\d+}")
+    @Operation(
+        summary = "Partially update a client",
+        description = "Updates only the fields present in the body. With If-Match set to the ETag from a previous read, the update is applied only if nobody changed the client since; otherwise 412 is returned and the client must be read again. Without If-Match, or with If-Match: *, the update is applied unconditionally."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Client updated successfully",
+            content = @Content(schema = @Schema(implementation = ClientResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - JWT token required",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Client not found",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "409",
+            description = "The update would duplicate another client's name and birth date",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "412",
+            description = "The client was modified since the given ETag, or If-Match is not a valid ETag",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Validation error - Invalid input data",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content(schema = @Schema(implementation = String.class))
+        )
+    })
+    public ResponseEntity<ClientResponse> patchClient(
+            @Parameter(description = "Client ID", example = "1")
+            @PathVariable("id") Long id,
+            @Parameter(description = "ETag of the client version being modified", example = "\"3\"")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody PatchClientRequest request) {
+        logger.info("Patching client {}", id);
+        
+        Long expectedVersion;
+        try {
+            expectedVersion = parseIfMatch(ifMatch);
+        } catch (IllegalArgumentException e) {
+            rejectionLogger.warn("Invalid If-Match for client {}: {}", id, ifMatch);
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        }
+        
+        try {
+            Optional<Client> updated = updateClientUseCase.execute(id, dtoMapper.toClientPatch(request), expectedVersion);
+            if (updated.isEmpty()) {
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+            }
+            
+            logger.info("Client {} patched successfully", id);
+            return withETag(ResponseEntity.ok(), updated.get()).body(dtoMapper.toResponseDto(updated.get()));
+        } catch (ClientVersionConflictException e) {
+            rejectionLogger.warn("Stale update rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
+        } catch (DuplicateClientException e) {
+            rejectionLogger.warn("Duplicate client rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (IllegalArgumentException e) {
+            rejectionLogger.warn("Validation error patching client: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+        } catch (Exception e) {
+            logger.error("Error patching client {}", id, e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
     @GetMapping("/metrics")
     @Operation(
         summary = "Get client age metrics",
@@ -171,4 +465,223 @@ public class ClientController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+    
+    @GetMapping(value = "/metrics", params = "window")
+    @Operation(
+        summary = "Get age metrics for recently created clients",
+        description = "Calculates count, average and standard deviation of ages of clients created within a rolling window ending now, e.g. 1h, 24h or 7d. "
+                + "Counts creations: every client created in the window, with the age it was created with, even if it was updated or deleted since. "
+                + "The part of the window older than the change feed retention (clients.changes.retention), or the whole window when "
+                + "clients.windowed-metrics.enabled=false, only counts clients that still exist, with their current age."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Window metrics calculated successfully",
+            content = @Content(schema = @Schema(implementation = ClientWindowMetricsResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - JWT token required",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Invalid window",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content(schema = @Schema(implementation = String.class))
+        )
+    })
+    public ResponseEntity<ClientWindowMetricsResponse> getClientWindowMetrics(
+            @Parameter(description = "Rolling window: amount followed by m, h or d", example = "24h")
+            @RequestParam(name = "window") String window) {
+        logger.info("Calculating client metrics for window {}", window);
+        
+        try {
+            ClientWindowMetrics metrics = getClientWindowMetricsUseCase.execute(MetricsWindow.parse(window));
+            ClientWindowMetricsResponse response = dtoMapper.toWindowMetricsResponseDto(metrics);
+            
+            logger.info("Client window metrics calculated successfully");
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid metrics window: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+        } catch (Exception e) {
+            logger.error("Error calculating client window metrics", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @GetMapping("/metrics/segments")
+    @Operation(
+        summary = "Get client age metrics by segment",
+        description = "Calculates count, average, standard deviation, minimum and maximum age per segment in a single grouped pass. Supported dimensions: adult, birthDecade, createdMonth."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Segment metrics calculated successfully",
+            content = @Content(array = @ArraySchema(schema = @Schema(implementation = ClientSegmentMetricsResponse.class)))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - JWT token required",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Unknown segment dimension",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content(schema = @Schema(implementation = String.class))
+        )
+    })
+    public ResponseEntity<List<ClientSegmentMetricsResponse>> getClientSegmentMetrics(
+            @Parameter(description = "Comma-separated segment dimensions", example = "adult,birthDecade,createdMonth")
+            @RequestParam(name = "by", defaultValue = "adult") List<String> by) {
+        logger.info("Calculating client metrics segmented by {}", by);
+        
+        try {
+            List<SegmentDimension> dimensions = by.stream()
+                    .map(SegmentDimension::fromParameterName)
+                    .collect(Collectors.toList());
+            List<ClientSegmentMetrics> segments = getClientSegmentMetricsUseCase.execute(dimensions);
+            List<ClientSegmentMetricsResponse> response = dtoMapper.toSegmentMetricsResponseDtoList(segments);
+            
+            logger.info("Client segment metrics calculated successfully");
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid segment dimension: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+        } catch (Exception e) {
+            logger.error("Error calculating client segment metrics", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @GetMapping("/metrics/names")
+    @Operation(
+        summary = "Get client name metrics",
+        description = "Returns the number of distinct first and last names and the most common last names. Figures come from sketches maintained in memory and are approximate: distinct counts carry a 95% confidence interval and each last name count is an upper bound with a guaranteed minimum."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Name metrics calculated successfully",
+            content = @Content(schema = @Schema(implementation = ClientNameMetricsResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - JWT token required",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Invalid number of top last names",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content(schema = @Schema(implementation = String.class))
+        )
+    })
+    public ResponseEntity<ClientNameMetricsResponse> getClientNameMetrics(
+            @Parameter(description = "Number of most common last names to return (1 to 100)", example = "10")
+            @RequestParam(name = "top", defaultValue = "10") int top) {
+        logger.info("Calculating client name metrics");
+        
+        try {
+            ClientNameStatistics statistics = getClientNameMetricsUseCase.execute(top);
+            ClientNameMetricsResponse response = dtoMapper.toNameMetricsResponseDto(statistics);
+            
+            logger.info("Client name metrics calculated successfully");
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid name metrics request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+        } catch (Exception e) {
+            logger.error("Error calculating client name metrics", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    @GetMapping("/changes")
+    @Operation(
+        summary = "Get client changes since a cursor",
+        description = "Returns creations, updates and deletions recorded after the given sequence, oldest first. Pass 'nextSince' from the response as 'since' to continue. If 'oldestAvailableSequence' is greater than since + 1, older changes were compacted and the reader must resync from GET /clients."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Changes retrieved successfully",
+            content = @Content(schema = @Schema(implementation = ClientChangesResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "401",
+            description = "Unauthorized - JWT token required",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "422",
+            description = "Invalid cursor or limit",
+            content = @Content(schema = @Schema(implementation = String.class))
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Internal server error",
+            content = @Content(schema = @Schema(implementation = String.class))
+        )
+    })
+    public ResponseEntity<ClientChangesResponse> getClientChanges(
+            @Parameter(description = "Sequence of the last change already processed", example = "0")
+            @RequestParam(name = "since", defaultValue = "0") long since,
+            @Parameter(description = "Maximum number of changes to return (capped at 1000)", example = "100")
+            @RequestParam(name = "limit", defaultValue = "100") int limit) {
+        logger.info("Retrieving client changes since sequence {}", since);
+        
+        try {
+            ClientChangePage page = getClientChangesUseCase.execute(since, limit);
+            ClientChangesResponse response = dtoMapper.toChangesResponseDto(page);
+            
+            logger.info("Retrieved {} client changes, next cursor {}", page.getChanges().size(), page.getNextSince());
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid change feed request: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).build();
+        } catch (Exception e) {
+            logger.error("Error retrieving client changes", e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+    
+    private static ResponseEntity.BodyBuilder withETag(ResponseEntity.BodyBuilder builder, Client client) {
+        return client.getVersion() != null ? builder.eTag(toETag(client.getVersion())) : builder;
+    }
+    
+    private static String toETag(long version) {
+        return "\"" + version + "\"";
+    }
+    
+    /**
+     * Strong ETags only: a weak validator cannot guard a write.
+     * @return the expected version, or null when no precondition applies
+     */
+    private static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            throw new IllegalArgumentException("If-Match must be a single strong ETag");
+        }
+        return Long.parseLong(tag.substring(1, tag.length() - 1));
+    }
 }
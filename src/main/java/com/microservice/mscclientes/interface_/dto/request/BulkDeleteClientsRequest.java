@@ -0,0 +1,77 @@
+package com.microservice.mscclientes.interface_.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for bulk deletion requests.
+ * Exactly one criterion must be given: ids, a creation range
+ * (createdFrom and createdTo) or an age range (minAge and maxAge).
+ */
+@Schema(description = "Request DTO selecting the clients to delete; give exactly one of ids, createdFrom/createdTo or minAge/maxAge")
+public class BulkDeleteClientsRequest {
+
+    @Schema(description = "Ids of the clients to delete (at most 10000)", example = "[1, 2, 3]")
+    private List<Long> ids;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    @Schema(description = "Delete clients created at or after this instant", example = "2024-01-01 00:00:00")
+    private LocalDateTime createdFrom;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    @Schema(description = "Delete clients created before this instant", example = "2024-02-01 00:00:00")
+    private LocalDateTime createdTo;
+
+    @Schema(description = "Delete clients whose current age is at least this", example = "18")
+    private Integer minAge;
+
+    @Schema(description = "Delete clients whose current age is at most this", example = "25")
+    private Integer maxAge;
+
+    // Default constructor
+    public BulkDeleteClientsRequest() {}
+
+    // Getters and Setters
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    public LocalDateTime getCreatedFrom() {
+        return createdFrom;
+    }
+
+    public void setCreatedFrom(LocalDateTime createdFrom) {
+        this.createdFrom = createdFrom;
+    }
+
+    public LocalDateTime getCreatedTo() {
+        return createdTo;
+    }
+
+    public void setCreatedTo(LocalDateTime createdTo) {
+        this.createdTo = createdTo;
+    }
+
+    public Integer getMinAge() {
+        return minAge;
+    }
+
+    public void setMinAge(Integer minAge) {
+        this.minAge = minAge;
+    }
+
+    public Integer getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(Integer maxAge) {
+        this.maxAge = maxAge;
+    }
+}
@@ -0,0 +1,39 @@
+package com.microservice.mscclientes.interface_.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for batch lookup requests.
+ */
+@Schema(description = "Request DTO listing the clients to retrieve")
+public class LookupClientsRequest {
+
+    @Schema(description = "Ids of the clients to retrieve (at most 5000); duplicates are answered once", example = "[1, 2, 3]")
+    private List<Long> ids;
+
+    // Default constructor
+    public LookupClientsRequest() {}
+
+    // Constructor with all fields
+    public LookupClientsRequest(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    // Getters and Setters
+    public List<Long> getIds() {
+        return ids;
+    }
+
+    public void setIds(List<Long> ids) {
+        this.ids = ids;
+    }
+
+    @Override
+    public String toString() {
+        return "LookupClientsRequest{" +
+                "ids=" + (ids != null ? ids.size() : 0) +
+                '}';
+    }
+}
@@ -0,0 +1,79 @@
+package com.microservice.mscclientes.interface_.dto.request;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.*;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for partial client updates.
+ * Omitted fields keep their stored value; present fields follow the same rules as on creation.
+ */
+@Schema(description = "Request DTO for partially updating a client; omitted fields are left unchanged")
+public class PatchClientRequest {
+
+    @Size(min = 2, max = 100, message = "First name must be between 2 and 100 characters")
+    @Pattern(regexp = "^[a-zA-ZÀ-ÿ\\s]+$", message = "First name can only contain letters and spaces")
+    @Schema(description = "Client's first name", example = "Juan")
+    private String firstName;
+
+    @Size(min = 2, max = 100, message = "Last name must be between 2 and 100 characters")
+    @Pattern(regexp = "^[a-zA-ZÀ-ÿ\\s]+$", message = "Last name can only contain letters and spaces")
+    @Schema(description = "Client's last name", example = "Pérez")
+    private String lastName;
+
+    @Min(value = 0, message = "Age must be at least 0")
+    @Max(value = 150, message = "Age must not exceed 150")
+    @Schema(description = "Client's age", example = "31")
+    private Integer age;
+
+    @Past(message = "Birth date must be in the past")
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @Schema(description = "Client's birth date", example = "1993-05-15")
+    private LocalDate birthDate;
+
+    // Default constructor
+    public PatchClientRequest() {}
+
+    // Constructor with all fields
+    public PatchClientRequest(String firstName, String lastName, Integer age, LocalDate birthDate) {
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.age = age;
+        this.birthDate = birthDate;
+    }
+
+    // Getters and Setters
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public void setAge(Integer age) {
+        this.age = age;
+    }
+
+    public LocalDate getBirthDate() {
+        return birthDate;
+    }
+
+    public void setBirthDate(LocalDate birthDate) {
+        this.birthDate = birthDate;
+    }
+}
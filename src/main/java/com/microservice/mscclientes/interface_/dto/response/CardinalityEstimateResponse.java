@@ -0,0 +1,77 @@
+package com.microservice.mscclientes.interface_.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for an estimated distinct count.
+ * Contains the estimate together with its error bounds.
+ */
+@Schema(description = "Estimated number of distinct values with error bounds")
+public class CardinalityEstimateResponse {
+
+    @Schema(description = "Estimated number of distinct values", example = "1523")
+    private long estimate;
+
+    @Schema(description = "Relative standard error of the estimate; 0 when exact", example = "0.008125")
+    private double relativeStandardError;
+
+    @Schema(description = "Lower bound of the 95% confidence interval", example = "1499")
+    private long lowerBound;
+
+    @Schema(description = "Upper bound of the 95% confidence interval", example = "1548")
+    private long upperBound;
+
+    // Default constructor
+    public CardinalityEstimateResponse() {}
+
+    // Constructor with all fields
+    public CardinalityEstimateResponse(long estimate, double relativeStandardError, long lowerBound, long upperBound) {
+        this.estimate = estimate;
+        this.relativeStandardError = relativeStandardError;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+    }
+
+    // Getters and Setters
+    public long getEstimate() {
+        return estimate;
+    }
+
+    public void setEstimate(long estimate) {
+        this.estimate = estimate;
+    }
+
+    public double getRelativeStandardError() {
+        return relativeStandardError;
+    }
+
+    public void setRelativeStandardError(double relativeStandardError) {
+        this.relativeStandardError = relativeStandardError;
+    }
+
+    public long getLowerBound() {
+        return lowerBound;
+    }
+
+    public void setLowerBound(long lowerBound) {
+        this.lowerBound = lowerBound;
+    }
+
+    public long getUpperBound() {
+        return upperBound;
+    }
+
+    public void setUpperBound(long upperBound) {
+        this.upperBound = upperBound;
+    }
+
+    @Override
+    public String toString() {
+        return "CardinalityEstimateResponse{" +
+                "estimate=" + estimate +
+                ", relativeStandardError=" + relativeStandardError +
+                ", lowerBound=" + lowerBound +
+                ", upperBound=" + upperBound +
+                '}';
+    }
+}
@@ -0,0 +1,134 @@
+package com.microservice.mscclientes.interface_.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * DTO for a single client change feed entry.
+ * Carries the client state after the change; client fields are omitted for deletions.
+ */
+@Schema(description = "Response DTO containing one client change")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ClientChangeResponse {
+
+    @Schema(description = "Sequence of the change in the feed", example = "1042")
+    private Long sequence;
+
+    @Schema(description = "Kind of change", example = "CREATED", allowableValues = {"CREATED", "UPDATED", "DELETED"})
+    private String type;
+
+    @Schema(description = "Identifier of the changed client", example = "1")
+    private Long clientId;
+
+    @Schema(description = "Client's first name after the change", example = "Juan")
+    private String firstName;
+
+    @Schema(description = "Client's last name after the change", example = "Pérez")
+    private String lastName;
+
+    @Schema(description = "Client's age after the change", example = "30")
+    private Integer age;
+
+    @JsonFormat(pattern = "yyyy-MM-dd")
+    @Schema(description = "Client's birth date after the change", example = "1994-05-15")
+    private LocalDate birthDate;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    @Schema(description = "Instant the change was recorded", example = "2024-01-15 10:30:00")
+    private LocalDateTime occurredAt;
+
+    // Default constructor
+    public ClientChangeResponse() {}
+
+    // Constructor with all fields
+    public ClientChangeResponse(Long sequence, String type, Long clientId, String firstName, String lastName,
+                                Integer age, LocalDate birthDate, LocalDateTime occurredAt) {
+        this.sequence = sequence;
+        this.type = type;
+        this.clientId = clientId;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.age = age;
+        this.birthDate = birthDate;
+        this.occurredAt = occurredAt;
+    }
+
+    // Getters and Setters
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(Long sequence) {
+        this.sequence = sequence;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getClientId() {
+        return clientId;
+    }
+
+    public void setClientId(Long clientId) {
+        this.clientId = clientId;
+    }
+
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+    }
+
+    public Integer getAge() {
+        return age;
+    }
+
+    public void setAge(Integer age) {
+        this.age = age;
+    }
+
+    public LocalDate getBirthDate() {
+        return birthDate;
+    }
+
+    public void setBirthDate(LocalDate birthDate) {
+        this.birthDate = birthDate;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientChangeResponse{" +
+                "sequence=" + sequence +
+                ", type='" + type + '\'' +
+                ", clientId=" + clientId +
+                ", occurredAt=" + occurredAt +
+                '}';
+    }
+}
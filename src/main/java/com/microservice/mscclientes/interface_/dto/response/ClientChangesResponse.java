@@ -0,0 +1,80 @@
+package com.microservice.mscclientes.interface_.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for a page of the client change feed.
+ * Clients pass {@code nextSince} back as {@code since} to read the following page.
+ */
+@Schema(description = "Response DTO containing a page of client changes")
+public class ClientChangesResponse {
+
+    @Schema(description = "Changes ordered by sequence")
+    private List<ClientChangeResponse> changes;
+
+    @Schema(description = "Cursor to pass as 'since' on the next request", example = "1042")
+    private long nextSince;
+
+    @Schema(description = "Whether more changes are available right away", example = "false")
+    private boolean hasMore;
+
+    @Schema(description = "Oldest sequence still retained; a cursor below it has missed compacted changes and must resync", example = "17")
+    private Long oldestAvailableSequence;
+
+    // Default constructor
+    public ClientChangesResponse() {}
+
+    // Constructor with all fields
+    public ClientChangesResponse(List<ClientChangeResponse> changes, long nextSince, boolean hasMore,
+                                 Long oldestAvailableSequence) {
+        this.changes = changes;
+        this.nextSince = nextSince;
+        this.hasMore = hasMore;
+        this.oldestAvailableSequence = oldestAvailableSequence;
+    }
+
+    // Getters and Setters
+    public List<ClientChangeResponse> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<ClientChangeResponse> changes) {
+        this.changes = changes;
+    }
+
+    public long getNextSince() {
+        return nextSince;
+    }
+
+    public void setNextSince(long nextSince) {
+        this.nextSince = nextSince;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+
+    public Long getOldestAvailableSequence() {
+        return oldestAvailableSequence;
+    }
+
+    public void setOldestAvailableSequence(Long oldestAvailableSequence) {
+        this.oldestAvailableSequence = oldestAvailableSequence;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientChangesResponse{" +
+                "changes=" + (changes != null ? changes.size() : 0) +
+                ", nextSince=" + nextSince +
+                ", hasMore=" + hasMore +
+                ", oldestAvailableSequence=" + oldestAvailableSequence +
+                '}';
+    }
+}
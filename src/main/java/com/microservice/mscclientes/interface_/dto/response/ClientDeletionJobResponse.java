@@ -0,0 +1,161 @@
+package com.microservice.mscclientes.interface_.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for the progress of a bulk deletion job.
+ */
+@Schema(description = "Response DTO containing the status of a bulk deletion job")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ClientDeletionJobResponse {
+
+    @Schema(description = "Job identifier", example = "6f1c2b9e-8a43-4a57-9a0e-2d5b7c1e4f10")
+    private String id;
+
+    @Schema(description = "Job status", example = "RUNNING",
+            allowableValues = {"PENDING", "RUNNING", "COMPLETED", "FAILED", "CANCELLED"})
+    private String status;
+
+    @Schema(description = "Criteria the job deletes by", example = "ageBetween(18, 25)")
+    private String criteria;
+
+    @Schema(description = "Clients examined so far", example = "12000")
+    private long scanned;
+
+    @Schema(description = "Clients deleted so far", example = "840")
+    private long deleted;
+
+    @Schema(description = "Chunks committed so far", example = "24")
+    private int chunks;
+
+    @Schema(description = "Id of the last client examined; the job resumes after it", example = "12873")
+    private long lastScannedId;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    @Schema(description = "When the job was submitted", example = "2024-01-15 10:30:00")
+    private LocalDateTime submittedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    @Schema(description = "When the job started running", example = "2024-01-15 10:30:00")
+    private LocalDateTime startedAt;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    @Schema(description = "When the job finished", example = "2024-01-15 10:32:41")
+    private LocalDateTime finishedAt;
+
+    @Schema(description = "Failure reason for FAILED jobs")
+    private String error;
+
+    // Default constructor
+    public ClientDeletionJobResponse() {}
+
+    // Constructor with all fields
+    public ClientDeletionJobResponse(String id, String status, String criteria, long scanned, long deleted,
+                                     int chunks, long lastScannedId, LocalDateTime submittedAt,
+                                     LocalDateTime startedAt, LocalDateTime finishedAt, String error) {
+        this.id = id;
+        this.status = status;
+        this.criteria = criteria;
+        this.scanned = scanned;
+        this.deleted = deleted;
+        this.chunks = chunks;
+        this.lastScannedId = lastScannedId;
+        this.submittedAt = submittedAt;
+        this.startedAt = startedAt;
+        this.finishedAt = finishedAt;
+        this.error = error;
+    }
+
+    // Getters and Setters
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getCriteria() {
+        return criteria;
+    }
+
+    public void setCriteria(String criteria) {
+        this.criteria = criteria;
+    }
+
+    public long getScanned() {
+        return scanned;
+    }
+
+    public void setScanned(long scanned) {
+        this.scanned = scanned;
+    }
+
+    public long getDeleted() {
+        return deleted;
+    }
+
+    public void setDeleted(long deleted) {
+        this.deleted = deleted;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(int chunks) {
+        this.chunks = chunks;
+    }
+
+    public long getLastScannedId() {
+        return lastScannedId;
+    }
+
+    public void setLastScannedId(long lastScannedId) {
+        this.lastScannedId = lastScannedId;
+    }
+
+    public LocalDateTime getSubmittedAt() {
+        return submittedAt;
+    }
+
+    public void setSubmittedAt(LocalDateTime submittedAt) {
+        this.submittedAt = submittedAt;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public void setStartedAt(LocalDateTime startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(LocalDateTime finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
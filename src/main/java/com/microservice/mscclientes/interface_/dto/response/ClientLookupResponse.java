@@ -0,0 +1,66 @@
+package com.microservice.mscclientes.interface_.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for the result of a batch lookup.
+ * Holds one entry per distinct requested id, in request order.
+ */
+@Schema(description = "Response DTO containing one result per distinct requested id, in request order")
+public class ClientLookupResponse {
+
+    @Schema(description = "Results in the order the ids were requested")
+    private List<ClientLookupResultResponse> results;
+
+    @Schema(description = "Number of ids with a client", example = "2")
+    private int found;
+
+    @Schema(description = "Number of ids without a client", example = "1")
+    private int notFound;
+
+    // Default constructor
+    public ClientLookupResponse() {}
+
+    // Constructor with all fields
+    public ClientLookupResponse(List<ClientLookupResultResponse> results, int found, int notFound) {
+        this.results = results;
+        this.found = found;
+        this.notFound = notFound;
+    }
+
+    // Getters and Setters
+    public List<ClientLookupResultResponse> getResults() {
+        return results;
+    }
+
+    public void setResults(List<ClientLookupResultResponse> results) {
+        this.results = results;
+    }
+
+    public int getFound() {
+        return found;
+    }
+
+    public void setFound(int found) {
+        this.found = found;
+    }
+
+    public int getNotFound() {
+        return notFound;
+    }
+
+    public void setNotFound(int notFound) {
+        this.notFound = notFound;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientLookupResponse{" +
+                "results=" + (results != null ? results.size() : 0) +
+                ", found=" + found +
+                ", notFound=" + notFound +
+                '}';
+    }
+}
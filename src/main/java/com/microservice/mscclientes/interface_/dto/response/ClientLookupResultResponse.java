@@ -0,0 +1,65 @@
+package com.microservice.mscclientes.interface_.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for the answer to one id of a batch lookup.
+ * The client is omitted when no client has the id.
+ */
+@Schema(description = "Response DTO for one requested id: the client, or found=false")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ClientLookupResultResponse {
+
+    @Schema(description = "Requested id", example = "1")
+    private Long id;
+
+    @Schema(description = "Whether a client has this id", example = "true")
+    private boolean found;
+
+    @Schema(description = "The client; absent when not found")
+    private ClientResponse client;
+
+    // Default constructor
+    public ClientLookupResultResponse() {}
+
+    // Constructor with all fields
+    public ClientLookupResultResponse(Long id, boolean found, ClientResponse client) {
+        this.id = id;
+        this.found = found;
+        this.client = client;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public boolean isFound() {
+        return found;
+    }
+
+    public void setFound(boolean found) {
+        this.found = found;
+    }
+
+    public ClientResponse getClient() {
+        return client;
+    }
+
+    public void setClient(ClientResponse client) {
+        this.client = client;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientLookupResultResponse{" +
+                "id=" + id +
+                ", found=" + found +
+                '}';
+    }
+}
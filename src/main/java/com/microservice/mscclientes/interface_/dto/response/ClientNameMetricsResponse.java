@@ -0,0 +1,95 @@
+package com.microservice.mscclientes.interface_.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO for client name metrics response data.
+ * Contains distinct name counts and the most common last names.
+ */
+@Schema(description = "Response DTO containing distinct name counts and the most common last names")
+public class ClientNameMetricsResponse {
+
+    @Schema(description = "Whether the figures are sketch estimates rather than exact counts", example = "true")
+    private boolean approximate;
+
+    @Schema(description = "Number of clients the figures are computed over", example = "250000")
+    private long clientsObserved;
+
+    @Schema(description = "Distinct first names")
+    private CardinalityEstimateResponse distinctFirstNames;
+
+    @Schema(description = "Distinct last names")
+    private CardinalityEstimateResponse distinctLastNames;
+
+    @Schema(description = "Most common last names, most frequent first")
+    private List<NameFrequencyResponse> topLastNames;
+
+    // Default constructor
+    public ClientNameMetricsResponse() {}
+
+    // Constructor with all fields
+    public ClientNameMetricsResponse(boolean approximate, long clientsObserved,
+                                     CardinalityEstimateResponse distinctFirstNames,
+                                     CardinalityEstimateResponse distinctLastNames,
+                                     List<NameFrequencyResponse> topLastNames) {
+        this.approximate = approximate;
+        this.clientsObserved = clientsObserved;
+        this.distinctFirstNames = distinctFirstNames;
+        this.distinctLastNames = distinctLastNames;
+        this.topLastNames = topLastNames;
+    }
+
+    // Getters and Setters
+    public boolean isApproximate() {
+        return approximate;
+    }
+
+    public void setApproximate(boolean approximate) {
+        this.approximate = approximate;
+    }
+
+    public long getClientsObserved() {
+        return clientsObserved;
+    }
+
+    public void setClientsObserved(long clientsObserved) {
+        this.clientsObserved = clientsObserved;
+    }
+
+    public CardinalityEstimateResponse getDistinctFirstNames() {
+        return distinctFirstNames;
+    }
+
+    public void setDistinctFirstNames(CardinalityEstimateResponse distinctFirstNames) {
+        this.distinctFirstNames = distinctFirstNames;
+    }
+
+    public CardinalityEstimateResponse getDistinctLastNames() {
+        return distinctLastNames;
+    }
+
+    public void setDistinctLastNames(CardinalityEstimateResponse distinctLastNames) {
+        this.distinctLastNames = distinctLastNames;
+    }
+
+    public List<NameFrequencyResponse> getTopLastNames() {
+        return topLastNames;
+    }
+
+    public void setTopLastNames(List<NameFrequencyResponse> topLastNames) {
+        this.topLastNames = topLastNames;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientNameMetricsResponse{" +
+                "approximate=" + approximate +
+                ", clientsObserved=" + clientsObserved +
+                ", distinctFirstNames=" + distinctFirstNames +
+                ", distinctLastNames=" + distinctLastNames +
+                ", topLastNames=" + topLastNames +
+                '}';
+    }
+}
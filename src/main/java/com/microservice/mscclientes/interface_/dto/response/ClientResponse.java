@@ -1,14 +1,18 @@
 package com.microservice.mscclientes.interface_.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.microservice.mscclientes.domain.valueobject.ClientField;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Set;
 
 /**
  * DTO for client response data.
- * Contains all client information including calculated fields.
+ * Contains all client information including calculated fields, or only the
+ * fields of a sparse fieldset when one was requested.
  */
 @Schema(description = "Response DTO containing client information")
 public class ClientResponse {
@@ -41,6 +45,10 @@ public class ClientResponse {
     @Schema(description = "Record last update timestamp", example = "2023-12-01 10:30:00")
     private LocalDateTime updatedAt;
     
+    @JsonIgnore
+    @Schema(hidden = true)
+    private Set<ClientField> fields;
+    
     // Default constructor
     public ClientResponse() {}
     
@@ -123,6 +131,17 @@ public class ClientResponse {
         this.updatedAt = updatedAt;
     }
     
+    /**
+     * Fields written to JSON; null writes them all
+     */
+    public Set<ClientField> getFields() {
+        return fields;
+    }
+    
+    public void setFields(Set<ClientField> fields) {
+        this.fields = fields;
+    }
+    
     @Override
     public String toString() {
         return "ClientResponse{" +
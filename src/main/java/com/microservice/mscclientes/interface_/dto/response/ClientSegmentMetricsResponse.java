@@ -0,0 +1,106 @@
+package com.microservice.mscclientes.interface_.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.Map;
+
+/**
+ * DTO for segmented client metrics response data.
+ * Contains age statistics for one combination of segment labels.
+ */
+@Schema(description = "Response DTO containing client age metrics for one segment")
+public class ClientSegmentMetricsResponse {
+
+    @Schema(description = "Segment label per requested dimension", example = "{\"adult\": \"adult\", \"birthDecade\": \"1990\"}")
+    private Map<String, String> segment;
+
+    @Schema(description = "Number of clients in the segment", example = "42")
+    private long totalClients;
+
+    @Schema(description = "Average age of clients in the segment", example = "31.4")
+    private double averageAge;
+
+    @Schema(description = "Standard deviation of client ages in the segment", example = "2.8")
+    private double standardDeviation;
+
+    @Schema(description = "Minimum age in the segment", example = "25")
+    private int minAge;
+
+    @Schema(description = "Maximum age in the segment", example = "34")
+    private int maxAge;
+
+    // Default constructor
+    public ClientSegmentMetricsResponse() {}
+
+    // Constructor with all fields
+    public ClientSegmentMetricsResponse(Map<String, String> segment, long totalClients, double averageAge,
+                                        double standardDeviation, int minAge, int maxAge) {
+        this.segment = segment;
+        this.totalClients = totalClients;
+        this.averageAge = averageAge;
+        this.standardDeviation = standardDeviation;
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+    }
+
+    // Getters and Setters
+    public Map<String, String> getSegment() {
+        return segment;
+    }
+
+    public void setSegment(Map<String, String> segment) {
+        this.segment = segment;
+    }
+
+    public long getTotalClients() {
+        return totalClients;
+    }
+
+    public void setTotalClients(long totalClients) {
+        this.totalClients = totalClients;
+    }
+
+    public double getAverageAge() {
+        return averageAge;
+    }
+
+    public void setAverageAge(double averageAge) {
+        this.averageAge = averageAge;
+    }
+
+    public double getStandardDeviation() {
+        return standardDeviation;
+    }
+
+    public void setStandardDeviation(double standardDeviation) {
+        this.standardDeviation = standardDeviation;
+    }
+
+    public int getMinAge() {
+        return minAge;
+    }
+
+    public void setMinAge(int minAge) {
+        this.minAge = minAge;
+    }
+
+    public int getMaxAge() {
+        return maxAge;
+    }
+
+    public void setMaxAge(int maxAge) {
+        this.maxAge = maxAge;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientSegmentMetricsResponse{" +
+                "segment=" + segment +
+                ", totalClients=" + totalClients +
+                ", averageAge=" + averageAge +
+                ", standardDeviation=" + standardDeviation +
+                ", minAge=" + minAge +
+                ", maxAge=" + maxAge +
+                '}';
+    }
+}
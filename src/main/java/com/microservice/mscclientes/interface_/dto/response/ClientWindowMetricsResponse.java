@@ -0,0 +1,109 @@
+package com.microservice.mscclientes.interface_.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for time-windowed client metrics response data.
+ * Contains age statistics for clients created within the requested window.
+ */
+@Schema(description = "Response DTO containing age metrics for clients created within a time window")
+public class ClientWindowMetricsResponse {
+
+    @Schema(description = "Requested window", example = "24h")
+    private String window;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    @Schema(description = "Start of the window", example = "2024-01-14 10:30:00")
+    private LocalDateTime from;
+
+    @JsonFormat(pattern = "yyyy-MM-dd HH:mm:ss")
+    @Schema(description = "End of the window", example = "2024-01-15 10:30:00")
+    private LocalDateTime to;
+
+    @Schema(description = "Number of clients created within the window", example = "42")
+    private long totalClients;
+
+    @Schema(description = "Average age of clients created within the window", example = "31.4")
+    private double averageAge;
+
+    @Schema(description = "Standard deviation of ages of clients created within the window", example = "2.8")
+    private double standardDeviation;
+
+    // Default constructor
+    public ClientWindowMetricsResponse() {}
+
+    // Constructor with all fields
+    public ClientWindowMetricsResponse(String window, LocalDateTime from, LocalDateTime to, long totalClients,
+                                       double averageAge, double standardDeviation) {
+        this.window = window;
+        this.from = from;
+        this.to = to;
+        this.totalClients = totalClients;
+        this.averageAge = averageAge;
+        this.standardDeviation = standardDeviation;
+    }
+
+    // Getters and Setters
+    public String getWindow() {
+        return window;
+    }
+
+    public void setWindow(String window) {
+        this.window = window;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public void setFrom(LocalDateTime from) {
+        this.from = from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public void setTo(LocalDateTime to) {
+        this.to = to;
+    }
+
+    public long getTotalClients() {
+        return totalClients;
+    }
+
+    public void setTotalClients(long totalClients) {
+        this.totalClients = totalClients;
+    }
+
+    public double getAverageAge() {
+        return averageAge;
+    }
+
+    public void setAverageAge(double averageAge) {
+        this.averageAge = averageAge;
+    }
+
+    public double getStandardDeviation() {
+        return standardDeviation;
+    }
+
+    public void setStandardDeviation(double standardDeviation) {
+        this.standardDeviation = standardDeviation;
+    }
+
+    @Override
+    public String toString() {
+        return "ClientWindowMetricsResponse{" +
+                "window='" + window + '\'' +
+                ", from=" + from +
+                ", to=" + to +
+                ", totalClients=" + totalClients +
+                ", averageAge=" + averageAge +
+                ", standardDeviation=" + standardDeviation +
+                '}';
+    }
+}
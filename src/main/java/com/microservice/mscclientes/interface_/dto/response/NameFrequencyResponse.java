@@ -0,0 +1,64 @@
+package com.microservice.mscclientes.interface_.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO for the frequency of one name.
+ * The true count lies between minCount and count.
+ */
+@Schema(description = "Number of clients sharing a name, with error bounds")
+public class NameFrequencyResponse {
+
+    @Schema(description = "Name", example = "García")
+    private String name;
+
+    @Schema(description = "Estimated number of clients with this name; never below the true count", example = "412")
+    private long count;
+
+    @Schema(description = "Number of clients guaranteed to have this name", example = "405")
+    private long minCount;
+
+    // Default constructor
+    public NameFrequencyResponse() {}
+
+    // Constructor with all fields
+    public NameFrequencyResponse(String name, long count, long minCount) {
+        this.name = name;
+        this.count = count;
+        this.minCount = minCount;
+    }
+
+    // Getters and Setters
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public void setCount(long count) {
+        this.count = count;
+    }
+
+    public long getMinCount() {
+        return minCount;
+    }
+
+    public void setMinCount(long minCount) {
+        this.minCount = minCount;
+    }
+
+    @Override
+    public String toString() {
+        return "NameFrequencyResponse{" +
+                "name='" + name + '\'' +
+                ", count=" + count +
+                ", minCount=" + minCount +
+                '}';
+    }
+}
@@ -1,5 +1,7 @@
 package com.microservice.mscclientes.interface_.exception;
 
+import com.microservice.mscclientes.domain.exception.DuplicateClientException;
+import com.microservice.mscclientes.infrastructure.logging.RateLimitedLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
@@ -22,6 +24,7 @@ import java.util.Map;
 public class GlobalExceptionHandler {
     
     private static final Logger logger = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+    private static final RateLimitedLogger rejectionLogger = new RateLimitedLogger(logger, 10, 1000);
     
     /**
      * Handle validation errors from @Valid annotations
@@ -30,7 +33,8 @@ public class GlobalExceptionHandler {
     public ResponseEntity<Map<String, Object>> handleValidationExceptions(
             MethodArgumentNotValidException ex, WebRequest request) {
         
-        logger.warn("Validation error occurred: {}", ex.getMessage());
+        rejectionLogger.warn("Validation error occurred: {} field errors on {}",
+                ex.getBindingResult().getErrorCount(), ex.getParameter().getExecutable().getName());
         
         Map<String, Object> errorResponse = new HashMap<>();
         Map<String, String> fieldErrors = new HashMap<>();
@@ -58,7 +62,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<Map<String, Object>> handleIllegalArgumentException(
             IllegalArgumentException ex, WebRequest request) {
         
-        logger.warn("Business logic validation error: {}", ex.getMessage());
+        rejectionLogger.warn("Business logic validation error: {}", ex.getMessage());
         
         Map<String, Object> errorResponse = new HashMap<>();
         errorResponse.put("timestamp", LocalDateTime.now().toString());
@@ -70,6 +74,25 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(errorResponse);
     }
     
+    /**
+     * Handle attempts to create a client that already exists
+     */
+    @ExceptionHandler(DuplicateClientException.class)
+    public ResponseEntity<Map<String, Object>> handleDuplicateClientException(
+            DuplicateClientException ex, WebRequest request) {
+        
+        rejectionLogger.warn("Duplicate client rejected: {}", ex.getMessage());
+        
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("timestamp", LocalDateTime.now().toString());
+        errorResponse.put("status", HttpStatus.CONFLICT.value());
+        errorResponse.put("error", "Conflict");
+        errorResponse.put("message", ex.getMessage());
+        errorResponse.put("path", request.getDescription(false).replace("uri=", ""));
+        
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    }
+    
     /**
      * Handle runtime exceptions
      */
@@ -0,0 +1,98 @@
+package com.microservice.mscclientes.interface_.grpc;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.valueobject.ClientMetrics;
+import com.microservice.mscclientes.interface_.dto.request.CreateClientRequest;
+import com.microservice.mscclientes.interface_.grpc.v1.ClientsProto;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * Mapper between gRPC messages and the REST DTOs and domain objects.
+ * Create requests are mapped onto the REST request DTO so both transports
+ * share one set of validation rules.
+ */
+@Component
+public class ClientGrpcMapper {
+
+    /**
+     * Convert a gRPC create request to the REST request DTO
+     * @param request gRPC message
+     * @return request DTO, still to be validated
+     * @throws IllegalArgumentException if the birth date is not an ISO-8601 date
+     */
+    public CreateClientRequest toCreateClientRequest(ClientsProto.CreateClientRequest request) {
+        return new CreateClientRequest(
+                emptyToNull(request.getFirstName()),
+                emptyToNull(request.getLastName()),
+                request.getAge(),
+                parseDate(request.getBirthDate())
+        );
+    }
+
+    /**
+     * Convert a domain client to its gRPC message
+     * @param client domain entity
+     * @return gRPC message
+     */
+    public ClientsProto.Client toMessage(Client client) {
+        ClientsProto.Client.Builder message = ClientsProto.Client.newBuilder()
+                .setId(client.getId())
+                .setFirstName(client.getFirstName())
+                .setLastName(client.getLastName())
+                .setAge(client.getAge())
+                .setBirthDate(client.getBirthDate().toString())
+                .setEstimatedDeathDate(client.calculateEstimatedDeathDate().toString());
+        if (client.getCreatedAt() != null) {
+            message.setCreatedAt(client.getCreatedAt().toString());
+        }
+        if (client.getUpdatedAt() != null) {
+            message.setUpdatedAt(client.getUpdatedAt().toString());
+        }
+        return message.build();
+    }
+
+    /**
+     * Convert a page of domain clients to one streamed message
+     * @param clients domain entities in id order
+     * @return gRPC message
+     */
+    public ClientsProto.ClientPage toPage(List<Client> clients) {
+        ClientsProto.ClientPage.Builder page = ClientsProto.ClientPage.newBuilder();
+        for (Client client : clients) {
+            page.addClients(toMessage(client));
+        }
+        return page.build();
+    }
+
+    /**
+     * Convert domain metrics to their gRPC message
+     * @param metrics domain value object
+     * @return gRPC message
+     */
+    public ClientsProto.ClientMetrics toMessage(ClientMetrics metrics) {
+        return ClientsProto.ClientMetrics.newBuilder()
+                .setAverageAge(metrics.getAverageAge())
+                .setStandardDeviation(metrics.getStandardDeviation())
+                .setTotalClients(metrics.getTotalClients())
+                .build();
+    }
+
+    private static String emptyToNull(String value) {
+        return value.isEmpty() ? null : value;
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Birth date must be an ISO-8601 date (yyyy-MM-dd)");
+        }
+    }
+}
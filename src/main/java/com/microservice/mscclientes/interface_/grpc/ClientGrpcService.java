@@ -0,0 +1,220 @@
+package com.microservice.mscclientes.interface_.grpc;
+
+import com.microservice.mscclientes.application.usecase.CreateClientUseCase;
+import com.microservice.mscclientes.application.usecase.GetAllClientsUseCase;
+import com.microservice.mscclientes.application.usecase.GetClientMetricsUseCase;
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.exception.DuplicateClientException;
+import com.microservice.mscclientes.interface_.dto.request.CreateClientRequest;
+import com.microservice.mscclientes.interface_.grpc.v1.ClientServiceGrpc;
+import com.microservice.mscclientes.interface_.grpc.v1.ClientsProto;
+import com.microservice.mscclientes.interface_.mapper.ClientDtoMapper;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * gRPC endpoint for internal callers, next to the REST controllers and
+ * backed by the same use cases.
+ * ListClients streams with manual flow control: it reads one page of clients
+ * at a time, sends it as one message and only reads the next while the
+ * transport is ready, so a slow reader holds the server at one page instead
+ * of the whole table.
+ */
+@Component
+@ConditionalOnProperty(name = "clients.grpc.enabled", havingValue = "true")
+public class ClientGrpcService extends ClientServiceGrpc.ClientServiceImplBase {
+
+    private static final Logger logger = LoggerFactory.getLogger(ClientGrpcService.class);
+
+    private final CreateClientUseCase createClientUseCase;
+    private final GetAllClientsUseCase getAllClientsUseCase;
+    private final GetClientMetricsUseCase getClientMetricsUseCase;
+    private final ClientDtoMapper dtoMapper;
+    private final ClientGrpcMapper grpcMapper;
+    private final Validator validator;
+    private final int listPageSize;
+    private final int maxBulkSize;
+
+    @Autowired
+    public ClientGrpcService(CreateClientUseCase createClientUseCase,
+                             GetAllClientsUseCase getAllClientsUseCase,
+                             GetClientMetricsUseCase getClientMetricsUseCase,
+                             ClientDtoMapper dtoMapper,
+                             ClientGrpcMapper grpcMapper,
+                             Validator validator,
+                             @Value("${clients.grpc.list-page-size:500}") int listPageSize,
+                             @Value("${clients.grpc.max-bulk-size:10000}") int maxBulkSize) {
+        this.createClientUseCase = createClientUseCase;
+        this.getAllClientsUseCase = getAllClientsUseCase;
+        this.getClientMetricsUseCase = getClientMetricsUseCase;
+        this.dtoMapper = dtoMapper;
+        this.grpcMapper = grpcMapper;
+        this.validator = validator;
+        this.listPageSize = listPageSize;
+        this.maxBulkSize = maxBulkSize;
+    }
+
+    @Override
+    public void createClient(ClientsProto.CreateClientRequest request,
+                             StreamObserver<ClientsProto.Client> responseObserver) {
+        try {
+            responseObserver.onNext(grpcMapper.toMessage(create(request)));
+            responseObserver.onCompleted();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatus(e).asRuntimeException());
+        }
+    }
+
+    @Override
+    public void getMetrics(ClientsProto.GetMetricsRequest request,
+                           StreamObserver<ClientsProto.ClientMetrics> responseObserver) {
+        try {
+            responseObserver.onNext(grpcMapper.toMessage(getClientMetricsUseCase.execute()));
+            responseObserver.onCompleted();
+        } catch (RuntimeException e) {
+            responseObserver.onError(toStatus(e).asRuntimeException());
+        }
+    }
+
+    @Override
+    public void listClients(ClientsProto.ListClientsRequest request,
+                            StreamObserver<ClientsProto.ClientPage> responseObserver) {
+        ServerCallStreamObserver<ClientsProto.ClientPage> call =
+                (ServerCallStreamObserver<ClientsProto.ClientPage>) responseObserver;
+        // Runs each time the transport drains; gRPC also runs it once after this method returns
+        call.setOnReadyHandler(new ClientPager(call, request.getAfterId()));
+        call.setOnCancelHandler(() -> logger.debug("ListClients cancelled by the caller"));
+    }
+
+    @Override
+    public StreamObserver<ClientsProto.CreateClientRequest> bulkCreateClients(
+            StreamObserver<ClientsProto.BulkCreateClientsResponse> responseObserver) {
+        return new StreamObserver<>() {
+
+            private final ClientsProto.BulkCreateClientsResponse.Builder response =
+                    ClientsProto.BulkCreateClientsResponse.newBuilder();
+            private int index;
+            private boolean rejected;
+
+            @Override
+            public void onNext(ClientsProto.CreateClientRequest request) {
+                if (rejected) {
+                    return;
+                }
+                if (index == maxBulkSize) {
+                    rejected = true;
+                    responseObserver.onError(Status.RESOURCE_EXHAUSTED
+                            .withDescription("At most " + maxBulkSize + " clients per stream; the first "
+                                    + response.getIdsCount() + " were created")
+                            .asRuntimeException());
+                    return;
+                }
+                try {
+                    response.addIds(create(request).getId());
+                } catch (RuntimeException e) {
+                    Status status = toStatus(e);
+                    response.addErrors(ClientsProto.BulkCreateError.newBuilder()
+                            .setIndex(index)
+                            .setCode(status.getCode().name())
+                            .setMessage(String.valueOf(status.getDescription())));
+                }
+                index++;
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                logger.debug("BulkCreateClients aborted by the caller after {} clients: {}", index, t.getMessage());
+            }
+
+            @Override
+            public void onCompleted() {
+                if (rejected) {
+                    return;
+                }
+                logger.info("Bulk created {} clients over gRPC, {} rejected", response.getIdsCount(),
+                        response.getErrorsCount());
+                responseObserver.onNext(response.build());
+                responseObserver.onCompleted();
+            }
+        };
+    }
+
+    private Client create(ClientsProto.CreateClientRequest message) {
+        CreateClientRequest request = grpcMapper.toCreateClientRequest(message);
+        Set<ConstraintViolation<CreateClientRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                    .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .collect(Collectors.joining(", ")));
+        }
+        return createClientUseCase.execute(dtoMapper.toDomainEntity(request));
+    }
+
+    /**
+     * Same mapping as the REST exception handler: invalid input, duplicates, and
+     * anything else as an internal error
+     */
+    private static Status toStatus(RuntimeException e) {
+        if (e instanceof IllegalArgumentException) {
+            return Status.INVALID_ARGUMENT.withDescription(e.getMessage());
+        }
+        if (e instanceof DuplicateClientException) {
+            return Status.ALREADY_EXISTS.withDescription(e.getMessage());
+        }
+        logger.error("Unexpected error in gRPC call", e);
+        return Status.INTERNAL.withDescription("An unexpected error occurred");
+    }
+
+    /**
+     * Writes one page per message while the call is ready, reading the next
+     * page only once the previous one has been handed to the transport. gRPC
+     * never runs the handler concurrently for one call, so the cursor needs
+     * no locking.
+     */
+    private final class ClientPager implements Runnable {
+
+        private final ServerCallStreamObserver<ClientsProto.ClientPage> call;
+        private long cursor;
+        private boolean done;
+
+        ClientPager(ServerCallStreamObserver<ClientsProto.ClientPage> call, long afterId) {
+            this.call = call;
+            this.cursor = afterId;
+        }
+
+        @Override
+        public void run() {
+            try {
+                while (!done && call.isReady()) {
+                    List<Client> page = getAllClientsUseCase.executePage(cursor, listPageSize);
+                    if (!page.isEmpty()) {
+                        cursor = page.get(page.size() - 1).getId();
+                        call.onNext(grpcMapper.toPage(page));
+                    }
+                    if (page.size() < listPageSize) {
+                        done = true;
+                        call.onCompleted();
+                    }
+                }
+            } catch (RuntimeException e) {
+                done = true;
+                call.onError(toStatus(e).asRuntimeException());
+            }
+        }
+    }
+}
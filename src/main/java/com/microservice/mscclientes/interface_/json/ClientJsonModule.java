@@ -0,0 +1,18 @@
+package com.microservice.mscclientes.interface_.json;
+
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.microservice.mscclientes.interface_.dto.response.ClientMetricsResponse;
+import com.microservice.mscclientes.interface_.dto.response.ClientResponse;
+
+/**
+ * Jackson module registering the hand-written serializers of the hot client DTOs.
+ * Spring Boot adds every Module bean to the application ObjectMapper.
+ */
+public class ClientJsonModule extends SimpleModule {
+
+    public ClientJsonModule() {
+        super("ClientJsonModule");
+        addSerializer(ClientResponse.class, new ClientResponseSerializer());
+        addSerializer(ClientMetricsResponse.class, new ClientMetricsResponseSerializer());
+    }
+}
@@ -0,0 +1,35 @@
+package com.microservice.mscclientes.interface_.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.microservice.mscclientes.interface_.dto.response.ClientMetricsResponse;
+
+import java.io.IOException;
+
+/**
+ * Writes ClientMetricsResponse straight to the generator with pre-encoded field names.
+ */
+public class ClientMetricsResponseSerializer extends StdSerializer<ClientMetricsResponse> {
+
+    private static final SerializedString AVERAGE_AGE = new SerializedString("averageAge");
+    private static final SerializedString STANDARD_DEVIATION = new SerializedString("standardDeviation");
+    private static final SerializedString TOTAL_CLIENTS = new SerializedString("totalClients");
+
+    public ClientMetricsResponseSerializer() {
+        super(ClientMetricsResponse.class);
+    }
+
+    @Override
+    public void serialize(ClientMetricsResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject(value);
+        gen.writeFieldName(AVERAGE_AGE);
+        gen.writeNumber(value.getAverageAge());
+        gen.writeFieldName(STANDARD_DEVIATION);
+        gen.writeNumber(value.getStandardDeviation());
+        gen.writeFieldName(TOTAL_CLIENTS);
+        gen.writeNumber(value.getTotalClients());
+        gen.writeEndObject();
+    }
+}
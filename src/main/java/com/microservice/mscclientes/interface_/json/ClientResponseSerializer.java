@@ -0,0 +1,165 @@
+package com.microservice.mscclientes.interface_.json;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.microservice.mscclientes.domain.valueobject.ClientField;
+import com.microservice.mscclientes.interface_.dto.response.ClientResponse;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Set;
+
+/**
+ * Writes ClientResponse straight to the generator with pre-encoded field names.
+ * Produces the same bytes as the annotation-driven bean serializer: fields in
+ * declaration order, nulls included, dates in the @JsonFormat patterns.
+ * A response carrying a sparse fieldset gets only those fields, still in
+ * declaration order.
+ */
+public class ClientResponseSerializer extends StdSerializer<ClientResponse> {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString FIRST_NAME = new SerializedString("firstName");
+    private static final SerializedString LAST_NAME = new SerializedString("lastName");
+    private static final SerializedString AGE = new SerializedString("age");
+    private static final SerializedString BIRTH_DATE = new SerializedString("birthDate");
+    private static final SerializedString ESTIMATED_DEATH_DATE = new SerializedString("estimatedDeathDate");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+
+    public ClientResponseSerializer() {
+        super(ClientResponse.class);
+    }
+
+    @Override
+    public void serialize(ClientResponse value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (value.getFields() != null) {
+            serializeFields(value, value.getFields(), gen);
+            return;
+        }
+        gen.writeStartObject(value);
+        gen.writeFieldName(ID);
+        writeNumber(gen, value.getId());
+        gen.writeFieldName(FIRST_NAME);
+        gen.writeString(value.getFirstName());
+        gen.writeFieldName(LAST_NAME);
+        gen.writeString(value.getLastName());
+        gen.writeFieldName(AGE);
+        writeNumber(gen, value.getAge());
+        gen.writeFieldName(BIRTH_DATE);
+        writeDate(gen, value.getBirthDate());
+        gen.writeFieldName(ESTIMATED_DEATH_DATE);
+        writeDate(gen, value.getEstimatedDeathDate());
+        gen.writeFieldName(CREATED_AT);
+        writeDateTime(gen, value.getCreatedAt());
+        gen.writeFieldName(UPDATED_AT);
+        writeDateTime(gen, value.getUpdatedAt());
+        gen.writeEndObject();
+    }
+
+    private static void serializeFields(ClientResponse value, Set<ClientField> fields, JsonGenerator gen)
+            throws IOException {
+        gen.writeStartObject(value);
+        if (fields.contains(ClientField.ID)) {
+            gen.writeFieldName(ID);
+            writeNumber(gen, value.getId());
+        }
+        if (fields.contains(ClientField.FIRST_NAME)) {
+            gen.writeFieldName(FIRST_NAME);
+            gen.writeString(value.getFirstName());
+        }
+        if (fields.contains(ClientField.LAST_NAME)) {
+            gen.writeFieldName(LAST_NAME);
+            gen.writeString(value.getLastName());
+        }
+        if (fields.contains(ClientField.AGE)) {
+            gen.writeFieldName(AGE);
+            writeNumber(gen, value.getAge());
+        }
+        if (fields.contains(ClientField.BIRTH_DATE)) {
+            gen.writeFieldName(BIRTH_DATE);
+            writeDate(gen, value.getBirthDate());
+        }
+        if (fields.contains(ClientField.ESTIMATED_DEATH_DATE)) {
+            gen.writeFieldName(ESTIMATED_DEATH_DATE);
+            writeDate(gen, value.getEstimatedDeathDate());
+        }
+        if (fields.contains(ClientField.CREATED_AT)) {
+            gen.writeFieldName(CREATED_AT);
+            writeDateTime(gen, value.getCreatedAt());
+        }
+        if (fields.contains(ClientField.UPDATED_AT)) {
+            gen.writeFieldName(UPDATED_AT);
+            writeDateTime(gen, value.getUpdatedAt());
+        }
+        gen.writeEndObject();
+    }
+
+    private static void writeNumber(JsonGenerator gen, Long value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.longValue());
+        }
+    }
+
+    private static void writeNumber(JsonGenerator gen, Integer value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else {
+            gen.writeNumber(value.intValue());
+        }
+    }
+
+    private static void writeDate(JsonGenerator gen, LocalDate value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else if (value.getYear() >= 0 && value.getYear() <= 9999) {
+            char[] buffer = new char[10];
+            appendDate(buffer, value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+            gen.writeString(buffer, 0, buffer.length);
+        } else {
+            gen.writeString(DATE_FORMAT.format(value));
+        }
+    }
+
+    private static void writeDateTime(JsonGenerator gen, LocalDateTime value) throws IOException {
+        if (value == null) {
+            gen.writeNull();
+        } else if (value.getYear() >= 0 && value.getYear() <= 9999) {
+            char[] buffer = new char[19];
+            appendDate(buffer, value.getYear(), value.getMonthValue(), value.getDayOfMonth());
+            buffer[10] = ' ';
+            appendTwoDigits(buffer, 11, value.getHour());
+            buffer[13] = ':';
+            appendTwoDigits(buffer, 14, value.getMinute());
+            buffer[16] = ':';
+            appendTwoDigits(buffer, 17, value.getSecond());
+            gen.writeString(buffer, 0, buffer.length);
+        } else {
+            gen.writeString(DATE_TIME_FORMAT.format(value));
+        }
+    }
+
+    // Writes yyyy-MM-dd into the first ten chars; the pattern formatters are only used outside 0..9999
+    private static void appendDate(char[] buffer, int year, int month, int day) {
+        appendTwoDigits(buffer, 0, year / 100);
+        appendTwoDigits(buffer, 2, year % 100);
+        buffer[4] = '-';
+        appendTwoDigits(buffer, 5, month);
+        buffer[7] = '-';
+        appendTwoDigits(buffer, 8, day);
+    }
+
+    private static void appendTwoDigits(char[] buffer, int offset, int value) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+    }
+}
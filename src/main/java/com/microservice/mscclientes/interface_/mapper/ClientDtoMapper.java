@@ -1,13 +1,41 @@
 package com.microservice.mscclientes.interface_.mapper;
 
 import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.entity.ClientChange;
+import com.microservice.mscclientes.domain.entity.ClientDeletionJob;
+import com.microservice.mscclientes.domain.valueobject.CardinalityEstimate;
+import com.microservice.mscclientes.domain.valueobject.ClientChangePage;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionCriteria;
+import com.microservice.mscclientes.domain.valueobject.ClientField;
+import com.microservice.mscclientes.domain.valueobject.ClientLookup;
 import com.microservice.mscclientes.domain.valueobject.ClientMetrics;
+import com.microservice.mscclientes.domain.valueobject.ClientNameStatistics;
+import com.microservice.mscclientes.domain.valueobject.ClientPatch;
+import com.microservice.mscclientes.domain.valueobject.ClientSegmentMetrics;
+import com.microservice.mscclientes.domain.valueobject.ClientWindowMetrics;
+import com.microservice.mscclientes.domain.valueobject.NameFrequency;
+import com.microservice.mscclientes.interface_.dto.request.BulkDeleteClientsRequest;
 import com.microservice.mscclientes.interface_.dto.request.CreateClientRequest;
+import com.microservice.mscclientes.interface_.dto.request.PatchClientRequest;
+import com.microservice.mscclientes.interface_.dto.response.CardinalityEstimateResponse;
+import com.microservice.mscclientes.interface_.dto.response.ClientChangeResponse;
+import com.microservice.mscclientes.interface_.dto.response.ClientChangesResponse;
+import com.microservice.mscclientes.interface_.dto.response.ClientDeletionJobResponse;
+import com.microservice.mscclientes.interface_.dto.response.ClientLookupResponse;
+import com.microservice.mscclientes.interface_.dto.response.ClientLookupResultResponse;
 import com.microservice.mscclientes.interface_.dto.response.ClientMetricsResponse;
+import com.microservice.mscclientes.interface_.dto.response.ClientNameMetricsResponse;
 import com.microservice.mscclientes.interface_.dto.response.ClientResponse;
+import com.microservice.mscclientes.interface_.dto.response.ClientSegmentMetricsResponse;
+import com.microservice.mscclientes.interface_.dto.response.ClientWindowMetricsResponse;
+import com.microservice.mscclientes.interface_.dto.response.NameFrequencyResponse;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -35,6 +63,21 @@ public class ClientDtoMapper {
                 .build();
     }
     
+    /**
+     * Convert PatchClientRequest DTO to domain ClientPatch
+     * @param request the request DTO
+     * @return domain value object
+     * @throws IllegalArgumentException if no field is set or a field is invalid
+     */
+    public ClientPatch toClientPatch(PatchClientRequest request) {
+        return new ClientPatch(
+                request.getFirstName(),
+                request.getLastName(),
+                request.getAge(),
+                request.getBirthDate()
+        );
+    }
+    
     /**
      * Convert domain Client entity to ClientResponse DTO
      * @param client domain entity
@@ -58,18 +101,59 @@ public class ClientDtoMapper {
     }
     
     /**
-     * Convert list of domain Client entities to list of ClientResponse DTOs
+     * Convert domain Client entity to a ClientResponse DTO limited to a sparse
+     * fieldset. The estimated death date is only computed when selected
+     * @param client domain entity, possibly holding only the stored fields behind the fieldset
+     * @param fields fields to write; null for all of them
+     * @return response DTO that serializes only the selected fields
+     */
+    public ClientResponse toResponseDto(Client client, Set<ClientField> fields) {
+        if (client == null || fields == null) {
+            return toResponseDto(client);
+        }
+        
+        ClientResponse response = new ClientResponse(
+                client.getId(),
+                client.getFirstName(),
+                client.getLastName(),
+                client.getAge(),
+                client.getBirthDate(),
+                fields.contains(ClientField.ESTIMATED_DEATH_DATE) ? client.calculateEstimatedDeathDate() : null,
+                client.getCreatedAt(),
+                client.getUpdatedAt()
+        );
+        response.setFields(fields);
+        return response;
+    }
+    
+    /**
+     * Convert list of domain Client entities to list of ClientResponse DTOs.
+     * The returned list maps each element when it is read, so serializing it
+     * writes the clients one by one without materializing every DTO first.
      * @param clients list of domain entities
-     * @return list of response DTOs
+     * @return read-only view of response DTOs
      */
     public List<ClientResponse> toResponseDtoList(List<Client> clients) {
         if (clients == null) {
             return null;
         }
         
-        return clients.stream()
-                .map(this::toResponseDto)
-                .collect(Collectors.toList());
+        return new MappedList<>(clients, this::toResponseDto);
+    }
+    
+    /**
+     * Convert list of domain Client entities to list of ClientResponse DTOs
+     * limited to a sparse fieldset, mapped as they are read
+     * @param clients list of domain entities
+     * @param fields fields to write; null for all of them
+     * @return read-only view of response DTOs
+     */
+    public List<ClientResponse> toResponseDtoList(List<Client> clients, Set<ClientField> fields) {
+        if (clients == null) {
+            return null;
+        }
+        
+        return new MappedList<>(clients, client -> toResponseDto(client, fields));
     }
     
     /**
@@ -88,4 +172,198 @@ public class ClientDtoMapper {
                 metrics.getTotalClients()
         );
     }
+    
+    /**
+     * Convert domain ClientWindowMetrics to ClientWindowMetricsResponse DTO
+     * @param metrics domain value object
+     * @return response DTO
+     */
+    public ClientWindowMetricsResponse toWindowMetricsResponseDto(ClientWindowMetrics metrics) {
+        if (metrics == null) {
+            return null;
+        }
+        
+        return new ClientWindowMetricsResponse(
+                metrics.getWindow().getLabel(),
+                metrics.getFrom(),
+                metrics.getTo(),
+                metrics.getAges().getCount(),
+                metrics.getAges().getAverage(),
+                metrics.getAges().getStandardDeviation()
+        );
+    }
+    
+    /**
+     * Convert list of domain ClientSegmentMetrics to list of response DTOs
+     * @param segments domain value objects
+     * @return list of response DTOs
+     */
+    public List<ClientSegmentMetricsResponse> toSegmentMetricsResponseDtoList(List<ClientSegmentMetrics> segments) {
+        if (segments == null) {
+            return null;
+        }
+        
+        return segments.stream()
+                .map(this::toSegmentMetricsResponseDto)
+                .collect(Collectors.toList());
+    }
+    
+    private ClientSegmentMetricsResponse toSegmentMetricsResponseDto(ClientSegmentMetrics metrics) {
+        Map<String, String> segment = new LinkedHashMap<>();
+        metrics.getSegment().forEach((dimension, label) -> segment.put(dimension.getParameterName(), label));
+        
+        return new ClientSegmentMetricsResponse(
+                segment,
+                metrics.getAges().getCount(),
+                metrics.getAges().getAverage(),
+                metrics.getAges().getStandardDeviation(),
+                metrics.getAges().getMin(),
+                metrics.getAges().getMax()
+        );
+    }
+    
+    /**
+     * Convert domain ClientChangePage to ClientChangesResponse DTO
+     * @param page domain value object
+     * @return response DTO
+     */
+    public ClientChangesResponse toChangesResponseDto(ClientChangePage page) {
+        if (page == null) {
+            return null;
+        }
+        
+        List<ClientChangeResponse> changes = page.getChanges().stream()
+                .map(this::toChangeResponseDto)
+                .collect(Collectors.toList());
+        
+        return new ClientChangesResponse(
+                changes,
+                page.getNextSince(),
+                page.isHasMore(),
+                page.getOldestAvailableSequence()
+        );
+    }
+    
+    /**
+     * Convert domain ClientNameStatistics to ClientNameMetricsResponse DTO
+     * @param statistics domain value object
+     * @return response DTO
+     */
+    public ClientNameMetricsResponse toNameMetricsResponseDto(ClientNameStatistics statistics) {
+        if (statistics == null) {
+            return null;
+        }
+        
+        List<NameFrequencyResponse> topLastNames = statistics.getTopLastNames().stream()
+                .map(this::toNameFrequencyResponseDto)
+                .collect(Collectors.toList());
+        
+        return new ClientNameMetricsResponse(
+                statistics.isApproximate(),
+                statistics.getClientsObserved(),
+                toCardinalityEstimateResponseDto(statistics.getDistinctFirstNames()),
+                toCardinalityEstimateResponseDto(statistics.getDistinctLastNames()),
+                topLastNames
+        );
+    }
+    
+    /**
+     * Convert BulkDeleteClientsRequest DTO to domain ClientDeletionCriteria
+     * @param request the request DTO
+     * @return domain value object
+     * @throws IllegalArgumentException if not exactly one criterion is given or it is invalid
+     */
+    public ClientDeletionCriteria toDeletionCriteria(BulkDeleteClientsRequest request) {
+        boolean byIds = request.getIds() != null;
+        boolean byCreation = request.getCreatedFrom() != null || request.getCreatedTo() != null;
+        boolean byAge = request.getMinAge() != null || request.getMaxAge() != null;
+        int given = (byIds ? 1 : 0) + (byCreation ? 1 : 0) + (byAge ? 1 : 0);
+        if (given != 1) {
+            throw new IllegalArgumentException("Exactly one of ids, createdFrom/createdTo or minAge/maxAge is required");
+        }
+        if (byIds) {
+            return ClientDeletionCriteria.byIds(request.getIds());
+        }
+        if (byCreation) {
+            return ClientDeletionCriteria.createdBetween(request.getCreatedFrom(), request.getCreatedTo());
+        }
+        return ClientDeletionCriteria.ageBetween(request.getMinAge(), request.getMaxAge());
+    }
+    
+    /**
+     * Convert domain ClientDeletionJob entity to ClientDeletionJobResponse DTO
+     * @param job domain entity
+     * @return response DTO
+     */
+    public ClientDeletionJobResponse toDeletionJobResponseDto(ClientDeletionJob job) {
+        if (job == null) {
+            return null;
+        }
+        
+        return new ClientDeletionJobResponse(
+                job.getId(),
+                job.getStatus().name(),
+                job.getCriteria().toString(),
+                job.getScanned(),
+                job.getDeleted(),
+                job.getChunks(),
+                job.getLastScannedId(),
+                job.getSubmittedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getError()
+        );
+    }
+    
+    /**
+     * Convert domain ClientLookup to ClientLookupResponse DTO
+     * @param lookup domain value object
+     * @return response DTO with one result per requested id, in request order
+     */
+    public ClientLookupResponse toLookupResponseDto(ClientLookup lookup) {
+        if (lookup == null) {
+            return null;
+        }
+        
+        List<ClientLookupResultResponse> results = new ArrayList<>(lookup.getIds().size());
+        for (Long id : lookup.getIds()) {
+            results.add(lookup.get(id)
+                    .map(client -> new ClientLookupResultResponse(id, true, toResponseDto(client)))
+                    .orElseGet(() -> new ClientLookupResultResponse(id, false, null)));
+        }
+        
+        return new ClientLookupResponse(results, lookup.getFoundCount(), lookup.getNotFoundCount());
+    }
+    
+    private ClientChangeResponse toChangeResponseDto(ClientChange change) {
+        Client client = change.getClient();
+        
+        return new ClientChangeResponse(
+                change.getSequence(),
+                change.getType().name(),
+                change.getClientId(),
+                client != null ? client.getFirstName() : null,
+                client != null ? client.getLastName() : null,
+                client != null ? client.getAge() : null,
+                client != null ? client.getBirthDate() : null,
+                change.getOccurredAt()
+        );
+    }
+    
+    private CardinalityEstimateResponse toCardinalityEstimateResponseDto(CardinalityEstimate estimate) {
+        return new CardinalityEstimateResponse(
+                estimate.getEstimate(),
+                estimate.getRelativeStandardError(),
+                estimate.getLowerBound(),
+                estimate.getUpperBound()
+        );
+    }
+    
+    private NameFrequencyResponse toNameFrequencyResponseDto(NameFrequency frequency) {
+        return new NameFrequencyResponse(
+                frequency.getName(),
+                frequency.getCount(),
+                frequency.getGuaranteedCount()
+        );
+    }
 }
@@ -0,0 +1,30 @@
+package com.microservice.mscclientes.interface_.mapper;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Read-only list view that applies a mapping function on every element access.
+ * Nothing is cached: reading an element twice maps it twice.
+ */
+class MappedList<S, T> extends AbstractList<T> {
+
+    private final List<S> source;
+    private final Function<? super S, ? extends T> mapper;
+
+    MappedList(List<S> source, Function<? super S, ? extends T> mapper) {
+        this.source = source;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public T get(int index) {
+        return mapper.apply(source.get(index));
+    }
+
+    @Override
+    public int size() {
+        return source.size();
+    }
+}
@@ -0,0 +1,81 @@
+package db.migration;
+
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Adds the normalized identity key to a clients table and makes it unique.
+ * Accents cannot be folded portably in SQL, so keys are computed here with
+ * ClientIdentity, a page of rows at a time. Where existing rows already share
+ * an identity, the oldest keeps the key and the others are left without one.
+ */
+public final class ClientIdentityKeys {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private ClientIdentityKeys() {
+    }
+
+    public static void addTo(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE clients ADD COLUMN identity_key VARCHAR(255) NULL");
+        }
+        backfill(connection);
+        clearDuplicates(connection);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE UNIQUE INDEX uk_clients_identity ON clients(identity_key)");
+        }
+    }
+
+    private static void backfill(Connection connection) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(
+                     "SELECT id, first_name, last_name, birth_date FROM clients WHERE id > ? ORDER BY id LIMIT " + PAGE_SIZE);
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE clients SET identity_key = ? WHERE id = ?")) {
+            long afterId = 0;
+            int read;
+            do {
+                select.setLong(1, afterId);
+                read = 0;
+                try (ResultSet rows = select.executeQuery()) {
+                    while (rows.next()) {
+                        afterId = rows.getLong(1);
+                        update.setString(1, ClientIdentity.of(rows.getString(2), rows.getString(3),
+                                rows.getDate(4).toLocalDate()).getKey());
+                        update.setLong(2, afterId);
+                        update.addBatch();
+                        read++;
+                    }
+                }
+                update.executeBatch();
+            } while (read == PAGE_SIZE);
+        }
+    }
+
+    private static void clearDuplicates(Connection connection) throws SQLException {
+        Map<String, Long> oldestByKey = new LinkedHashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery(
+                     "SELECT identity_key, MIN(id) FROM clients GROUP BY identity_key HAVING COUNT(*) > 1")) {
+            while (rows.next()) {
+                oldestByKey.put(rows.getString(1), rows.getLong(2));
+            }
+        }
+        try (PreparedStatement update = connection.prepareStatement(
+                "UPDATE clients SET identity_key = NULL WHERE identity_key = ? AND id <> ?")) {
+            for (Map.Entry<String, Long> duplicate : oldestByKey.entrySet()) {
+                update.setString(1, duplicate.getKey());
+                update.setLong(2, duplicate.getValue());
+                update.addBatch();
+            }
+            update.executeBatch();
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Unique index on the normalized client identity, so concurrent creates of the
+ * same person cannot both pass the duplicate check. Written in Java because
+ * the existing rows need their keys computed before the index is created.
+ */
+public class V7__Add_client_identity_key extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        ClientIdentityKeys.addTo(context.getConnection());
+    }
+}
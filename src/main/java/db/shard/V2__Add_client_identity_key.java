@@ -0,0 +1,17 @@
+package db.shard;
+
+import db.migration.ClientIdentityKeys;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Same identity key as the primary database's V7. Clients are placed on a
+ * shard by identity, so a unique index per shard rejects duplicate creates.
+ */
+public class V2__Add_client_identity_key extends BaseJavaMigration {
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        ClientIdentityKeys.addTo(context.getConnection());
+    }
+}
@@ -0,0 +1,13 @@
+-- Change feed (outbox) for clients, written in the same transaction as each write
+CREATE TABLE client_changes (
+    seq BIGINT AUTO_INCREMENT PRIMARY KEY,
+    client_id BIGINT NOT NULL,
+    change_type VARCHAR(16) NOT NULL,
+    first_name VARCHAR(100),
+    last_name VARCHAR(100),
+    age INT,
+    birth_date DATE,
+    changed_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    
+    INDEX idx_client_changes_changed_at (changed_at)
+);
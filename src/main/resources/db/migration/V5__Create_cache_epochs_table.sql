@@ -0,0 +1,9 @@
+-- One row per cached data set; bumped in the same transaction as every write so
+-- other instances can detect changes with a single primary-key read
+CREATE TABLE cache_epochs (
+    name VARCHAR(64) PRIMARY KEY,
+    epoch BIGINT NOT NULL,
+    updated_at TIMESTAMP(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3)
+);
+
+INSERT INTO cache_epochs (name, epoch) VALUES ('clients', 0);
@@ -0,0 +1,3 @@
+-- Optimistic concurrency for PATCH /clients/{id}: every update increments the
+-- version, and conditional updates only apply while it still matches
+ALTER TABLE clients ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
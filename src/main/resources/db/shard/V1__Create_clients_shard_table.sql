@@ -0,0 +1,19 @@
+-- Clients table of one shard. IDs are local to the shard; the service exposes
+-- local_id * shard_count + shard_index. The change feed and cache epochs stay
+-- in the primary database.
+CREATE TABLE clients (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    first_name VARCHAR(100) NOT NULL,
+    last_name VARCHAR(100) NOT NULL,
+    age INT NOT NULL CHECK (age >= 0 AND age <= 150),
+    birth_date DATE NOT NULL,
+    created_at TIMESTAMP NOT NULL,
+    updated_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE INDEX idx_age ON clients(age);
+CREATE INDEX idx_birth_date ON clients(birth_date);
+CREATE INDEX idx_full_name ON clients(first_name, last_name);
+CREATE INDEX idx_clients_created_at ON clients(created_at);
+CREATE INDEX idx_clients_updated_at ON clients(updated_at);
@@ -0,0 +1,166 @@
+package com.microservice.mscclientes.application.usecase;
+
+import com.microservice.mscclientes.domain.entity.ClientDeletionJob;
+import com.microservice.mscclientes.domain.event.ClientsBulkDeletedEvent;
+import com.microservice.mscclientes.domain.repository.ClientDeletionJobRepository;
+import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionChunk;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionCriteria;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BulkDeleteClientsUseCase.
+ * Jobs run on the calling thread so the chunk loop can be checked synchronously.
+ */
+@ExtendWith(MockitoExtension.class)
+class BulkDeleteClientsUseCaseTest {
+
+    private static final ClientDeletionCriteria CRITERIA = ClientDeletionCriteria.createdBetween(
+            LocalDateTime.of(2024, 1, 1, 0, 0), LocalDateTime.of(2024, 2, 1, 0, 0));
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    @Mock
+    private ClientDeletionJobRepository jobRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private BulkDeleteClientsUseCase useCase(Runnable... beforeEachTask) {
+        return new BulkDeleteClientsUseCase(clientRepository, jobRepository, eventPublisher,
+                task -> {
+                    for (Runnable before : beforeEachTask) {
+                        before.run();
+                    }
+                    task.run();
+                }, 2, 0, 0.0);
+    }
+
+    @Test
+    @DisplayName("Should resume each chunk after the last scanned id and complete on a short chunk")
+    void shouldDeleteInKeysetOrderedChunks() {
+        // Given
+        when(clientRepository.deleteChunk(CRITERIA, 0L, 2))
+                .thenReturn(new ClientDeletionChunk(7L, 2, List.of(3L, 7L)));
+        when(clientRepository.deleteChunk(CRITERIA, 7L, 2))
+                .thenReturn(new ClientDeletionChunk(12L, 2, List.of()));
+        when(clientRepository.deleteChunk(CRITERIA, 12L, 2))
+                .thenReturn(new ClientDeletionChunk(15L, 1, List.of(15L)));
+
+        // When
+        ClientDeletionJob job = useCase().execute(CRITERIA);
+
+        // Then
+        verify(jobRepository).save(job);
+        assertEquals(ClientDeletionJob.Status.COMPLETED, job.getStatus());
+        assertEquals(3, job.getChunks());
+        assertEquals(5, job.getScanned());
+        assertEquals(3, job.getDeleted());
+        assertEquals(15L, job.getLastScannedId());
+        assertNotNull(job.getStartedAt());
+        assertNotNull(job.getFinishedAt());
+
+        ArgumentCaptor<ClientsBulkDeletedEvent> event = ArgumentCaptor.forClass(ClientsBulkDeletedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(job.getId(), event.getValue().getJobId());
+        assertEquals(3, event.getValue().getDeleted());
+    }
+
+    @Test
+    @DisplayName("Should not publish a completion event when nothing was deleted")
+    void shouldNotPublishEventWhenNothingDeleted() {
+        // Given
+        when(clientRepository.deleteChunk(CRITERIA, 0L, 2)).thenReturn(ClientDeletionChunk.empty(0L));
+
+        // When
+        ClientDeletionJob job = useCase().execute(CRITERIA);
+
+        // Then
+        assertEquals(ClientDeletionJob.Status.COMPLETED, job.getStatus());
+        assertEquals(0, job.getDeleted());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should keep committed chunks and report the failure when a chunk fails")
+    void shouldFailJobWhenChunkFails() {
+        // Given
+        when(clientRepository.deleteChunk(CRITERIA, 0L, 2))
+                .thenReturn(new ClientDeletionChunk(4L, 2, List.of(4L)));
+        when(clientRepository.deleteChunk(CRITERIA, 4L, 2))
+                .thenThrow(new IllegalStateException("lock wait timeout"));
+
+        // When
+        ClientDeletionJob job = useCase().execute(CRITERIA);
+
+        // Then
+        assertEquals(ClientDeletionJob.Status.FAILED, job.getStatus());
+        assertEquals("lock wait timeout", job.getError());
+        assertEquals(1, job.getDeleted());
+        verify(eventPublisher).publishEvent(any(ClientsBulkDeletedEvent.class));
+    }
+
+    @Test
+    @DisplayName("Should cancel a queued job before it deletes anything")
+    void shouldCancelQueuedJob() {
+        // Given
+        List<ClientDeletionJob> saved = new ArrayList<>();
+        doAnswer(invocation -> saved.add(invocation.getArgument(0))).when(jobRepository).save(any());
+
+        // When
+        ClientDeletionJob job = useCase(() -> saved.get(0).requestCancel()).execute(CRITERIA);
+
+        // Then
+        assertEquals(ClientDeletionJob.Status.CANCELLED, job.getStatus());
+        verify(clientRepository, never()).deleteChunk(any(), anyLong(), anyInt());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    @DisplayName("Should fail the job and reject the request when the queue is full")
+    void shouldRejectWhenQueueIsFull() {
+        // Given
+        List<ClientDeletionJob> saved = new ArrayList<>();
+        doAnswer(invocation -> saved.add(invocation.getArgument(0))).when(jobRepository).save(any());
+        BulkDeleteClientsUseCase useCase = new BulkDeleteClientsUseCase(clientRepository, jobRepository,
+                eventPublisher, task -> { throw new RejectedExecutionException(); }, 2, 0, 0.0);
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> useCase.execute(CRITERIA));
+        assertEquals(ClientDeletionJob.Status.FAILED, saved.get(0).getStatus());
+    }
+
+    @Test
+    @DisplayName("Should reject empty, oversized and inverted criteria")
+    void shouldValidateCriteria() {
+        assertThrows(IllegalArgumentException.class, () -> ClientDeletionCriteria.byIds(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> ClientDeletionCriteria.byIds(List.of(1L, -2L)));
+        assertThrows(IllegalArgumentException.class,
+                () -> ClientDeletionCriteria.byIds(Collections.nCopies(10_001, 1L)));
+        assertThrows(IllegalArgumentException.class, () -> ClientDeletionCriteria.createdBetween(
+                LocalDateTime.of(2024, 2, 1, 0, 0), LocalDateTime.of(2024, 1, 1, 0, 0)));
+        assertThrows(IllegalArgumentException.class, () -> ClientDeletionCriteria.ageBetween(30, 20));
+        assertThrows(IllegalArgumentException.class, () -> ClientDeletionCriteria.ageBetween(null, 20));
+
+        assertEquals(List.of(2L, 5L, 9L), ClientDeletionCriteria.byIds(List.of(9L, 2L, 5L, 2L)).getIds());
+    }
+}
@@ -1,7 +1,9 @@
 package com.microservice.mscclientes.application.usecase;
 
 import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.exception.DuplicateClientException;
 import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,7 +32,7 @@ class CreateClientUseCaseTest {
     
     @BeforeEach
     void setUp() {
-        createClientUseCase = new CreateClientUseCase(clientRepository);
+        createClientUseCase = new CreateClientUseCase(clientRepository, false);
     }
     
     @Test
@@ -92,4 +94,44 @@ class CreateClientUseCaseTest {
         
         verify(clientRepository, times(1)).save(any(Client.class));
     }
+    
+    @Test
+    @DisplayName("Should reject a client whose normalized identity already exists when the guard is enabled")
+    void shouldRejectDuplicateWhenGuardEnabled() {
+        // Given
+        CreateClientUseCase guardedUseCase = new CreateClientUseCase(clientRepository, true);
+        Client inputClient = Client.builder()
+                .firstName(" juan ")
+                .lastName("PEREZ")
+                .age(30)
+                .birthDate(LocalDate.of(1993, 5, 15))
+                .build();
+        
+        when(clientRepository.existsByIdentity(ClientIdentity.of("Juan", "Pérez", LocalDate.of(1993, 5, 15))))
+                .thenReturn(true);
+        
+        // When & Then
+        assertThrows(DuplicateClientException.class, () -> guardedUseCase.execute(inputClient));
+        verify(clientRepository, never()).save(any(Client.class));
+    }
+    
+    @Test
+    @DisplayName("Should not check for duplicates when the guard is disabled")
+    void shouldSkipDuplicateCheckWhenGuardDisabled() {
+        // Given
+        Client inputClient = Client.builder()
+                .firstName("Juan")
+                .lastName("Pérez")
+                .age(30)
+                .birthDate(LocalDate.of(1993, 5, 15))
+                .build();
+        
+        when(clientRepository.save(any(Client.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        
+        // When
+        createClientUseCase.execute(inputClient);
+        
+        // Then
+        verify(clientRepository, never()).existsByIdentity(any());
+    }
 }
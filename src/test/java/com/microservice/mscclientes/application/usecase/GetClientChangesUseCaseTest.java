@@ -0,0 +1,98 @@
+package com.microservice.mscclientes.application.usecase;
+
+import com.microservice.mscclientes.domain.entity.ClientChange;
+import com.microservice.mscclientes.domain.repository.ClientChangeRepository;
+import com.microservice.mscclientes.domain.valueobject.ClientChangePage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for GetClientChangesUseCase.
+ * Tests cursor paging over the client change feed.
+ */
+@ExtendWith(MockitoExtension.class)
+class GetClientChangesUseCaseTest {
+    
+    @Mock
+    private ClientChangeRepository changeRepository;
+    
+    private GetClientChangesUseCase getClientChangesUseCase;
+    
+    @BeforeEach
+    void setUp() {
+        getClientChangesUseCase = new GetClientChangesUseCase(changeRepository, 2000);
+    }
+    
+    @Test
+    @DisplayName("Should return a full page and report more changes when the feed has extra rows")
+    void shouldReturnPageWithMoreChanges() {
+        // Given
+        when(changeRepository.findAfter(eq(10L), any(LocalDateTime.class), eq(3)))
+                .thenReturn(List.of(deleted(11L), deleted(12L), deleted(13L)));
+        when(changeRepository.findOldestSequence()).thenReturn(Optional.of(1L));
+        
+        // When
+        ClientChangePage page = getClientChangesUseCase.execute(10L, 2);
+        
+        // Then
+        assertEquals(2, page.getChanges().size());
+        assertEquals(12L, page.getNextSince());
+        assertTrue(page.isHasMore());
+        assertEquals(1L, page.getOldestAvailableSequence());
+    }
+    
+    @Test
+    @DisplayName("Should keep the cursor when no new changes are visible")
+    void shouldKeepCursorWhenNoChanges() {
+        // Given
+        when(changeRepository.findAfter(eq(42L), any(LocalDateTime.class), anyInt())).thenReturn(List.of());
+        when(changeRepository.findOldestSequence()).thenReturn(Optional.empty());
+        
+        // When
+        ClientChangePage page = getClientChangesUseCase.execute(42L, 100);
+        
+        // Then
+        assertTrue(page.getChanges().isEmpty());
+        assertEquals(42L, page.getNextSince());
+        assertFalse(page.isHasMore());
+        assertNull(page.getOldestAvailableSequence());
+    }
+    
+    @Test
+    @DisplayName("Should cap the page size at the maximum limit")
+    void shouldCapPageSize() {
+        // Given
+        when(changeRepository.findAfter(anyLong(), any(LocalDateTime.class), anyInt())).thenReturn(List.of());
+        
+        // When
+        getClientChangesUseCase.execute(0L, 50_000);
+        
+        // Then
+        verify(changeRepository).findAfter(eq(0L), any(LocalDateTime.class), eq(GetClientChangesUseCase.MAX_LIMIT + 1));
+    }
+    
+    @Test
+    @DisplayName("Should reject a non-positive limit")
+    void shouldRejectInvalidLimit() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> getClientChangesUseCase.execute(0L, 0));
+        verifyNoInteractions(changeRepository);
+    }
+    
+    private static ClientChange deleted(long sequence) {
+        return new ClientChange(sequence, sequence, ClientChange.Type.DELETED, null, LocalDateTime.now());
+    }
+}
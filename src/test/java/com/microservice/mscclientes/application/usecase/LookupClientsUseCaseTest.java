@@ -0,0 +1,96 @@
+package com.microservice.mscclientes.application.usecase;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.ClientLookup;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for LookupClientsUseCase.
+ * Tests de-duplication, request ordering, not-found results and chunking.
+ */
+@ExtendWith(MockitoExtension.class)
+class LookupClientsUseCaseTest {
+
+    @Mock
+    private ClientRepository clientRepository;
+
+    private LookupClientsUseCase lookupClientsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        lookupClientsUseCase = new LookupClientsUseCase(clientRepository, 3);
+    }
+
+    private static Client client(long id) {
+        return Client.reconstitute(id, "Juan", "Pérez", 30, LocalDate.of(1993, 5, 15), null, null, 0L);
+    }
+
+    @Test
+    @DisplayName("Should answer every distinct ID in request order and mark unknown IDs")
+    void shouldAnswerInRequestOrder() {
+        // Given
+        when(clientRepository.findAllById(List.of(2L, 5L, 9L))).thenReturn(List.of(client(9), client(2)));
+
+        // When
+        ClientLookup lookup = lookupClientsUseCase.execute(List.of(9L, 5L, 2L, 9L));
+
+        // Then
+        assertEquals(List.of(9L, 5L, 2L), lookup.getIds());
+        assertEquals(9L, lookup.get(9L).orElseThrow().getId());
+        assertTrue(lookup.get(5L).isEmpty());
+        assertEquals(2, lookup.getFoundCount());
+        assertEquals(1, lookup.getNotFoundCount());
+    }
+
+    @Test
+    @DisplayName("Should fetch sorted IDs in chunks of the configured size")
+    void shouldFetchInSortedChunks() {
+        // Given
+        List<Long> ids = LongStream.rangeClosed(1, 7).boxed().collect(Collectors.toCollection(ArrayList::new));
+        Collections.reverse(ids);
+        when(clientRepository.findAllById(anyCollection())).thenAnswer(invocation -> {
+            List<Long> chunk = invocation.getArgument(0);
+            return chunk.stream().map(LookupClientsUseCaseTest::client).collect(Collectors.toList());
+        });
+
+        // When
+        ClientLookup lookup = lookupClientsUseCase.execute(ids);
+
+        // Then
+        assertEquals(7, lookup.getFoundCount());
+        assertEquals(ids, lookup.getIds());
+        verify(clientRepository).findAllById(List.of(1L, 2L, 3L));
+        verify(clientRepository).findAllById(List.of(4L, 5L, 6L));
+        verify(clientRepository).findAllById(List.of(7L));
+    }
+
+    @Test
+    @DisplayName("Should reject empty, oversized and non-positive ID lists")
+    void shouldRejectInvalidIds() {
+        // Given
+        List<Long> tooMany = LongStream.rangeClosed(1, ClientLookup.MAX_IDS + 1).boxed().collect(Collectors.toList());
+
+        // When / Then
+        assertThrows(IllegalArgumentException.class, () -> lookupClientsUseCase.execute(List.of()));
+        assertThrows(IllegalArgumentException.class, () -> lookupClientsUseCase.execute(tooMany));
+        assertThrows(IllegalArgumentException.class, () -> lookupClientsUseCase.execute(List.of(1L, -4L)));
+        verifyNoInteractions(clientRepository);
+    }
+}
@@ -0,0 +1,79 @@
+package com.microservice.mscclientes.application.usecase;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.entity.ClientChange;
+import com.microservice.mscclientes.domain.repository.ClientChangeRepository;
+import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.ClientPatch;
+import io.opentelemetry.api.GlobalOpenTelemetry;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for UpdateClientUseCase against the JPA repository on H2.
+ * Runs with the duplicate guard on, so the client is loaded into the
+ * persistence context before the conditional UPDATE, inside one transaction.
+ * Its properties differ from the other Spring tests, so it gets a context of
+ * its own, whose OpenTelemetry bean registers the global instance again.
+ */
+@SpringBootTest(properties = {
+        "clients.duplicate-guard.enabled=true",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@ActiveProfiles("test")
+@Transactional
+class UpdateClientUseCaseIntegrationTest {
+
+    @Autowired
+    private UpdateClientUseCase updateClientUseCase;
+
+    @Autowired
+    private ClientRepository clientRepository;
+
+    @Autowired
+    private ClientChangeRepository changeRepository;
+
+    @BeforeAll
+    static void resetGlobalOpenTelemetry() {
+        GlobalOpenTelemetry.resetForTest();
+    }
+
+    @Test
+    @DisplayName("Should return and record the patched state and new version after a guarded update")
+    void shouldReturnPatchedStateAfterGuardedUpdate() {
+        // Given
+        Client saved = clientRepository.save(Client.builder()
+                .firstName("Juan")
+                .lastName("Pérez")
+                .age(30)
+                .birthDate(LocalDate.of(1993, 5, 15))
+                .build());
+
+        // When
+        Client updated = updateClientUseCase.execute(saved.getId(),
+                new ClientPatch("Pedro", "Gómez", null, null), saved.getVersion()).orElseThrow();
+
+        // Then
+        assertEquals(saved.getVersion() + 1, updated.getVersion());
+        assertEquals("Pedro", updated.getFirstName());
+        assertEquals("Gómez", updated.getLastName());
+        assertEquals("Pedro", clientRepository.findById(saved.getId()).orElseThrow().getFirstName());
+
+        List<ClientChange> changes = changeRepository.findAfter(0L, LocalDateTime.now().plusMinutes(1), 100);
+        ClientChange last = changes.get(changes.size() - 1);
+        assertEquals(ClientChange.Type.UPDATED, last.getType());
+        assertEquals("Pedro", last.getClient().getFirstName());
+        assertEquals("Gómez", last.getClient().getLastName());
+    }
+}
@@ -0,0 +1,114 @@
+package com.microservice.mscclientes.benchmark;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.infrastructure.persistence.entity.ClientJpaEntity;
+import com.microservice.mscclientes.infrastructure.persistence.mapper.ClientMapper;
+import com.microservice.mscclientes.interface_.dto.response.ClientResponse;
+import com.microservice.mscclientes.interface_.mapper.ClientDtoMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of mapping a page of loaded rows to domain clients and response
+ * DTOs, as GET /clients does. The baseline rebuilds each row through the
+ * validating builder and recomputes derived dates from LocalDate.now(), as the
+ * previous implementation did; rows/second = rows / (ms/op) * 1000.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientMappingBenchmark {
+
+    @Param({"100000"})
+    public int rows;
+
+    private List<ClientJpaEntity> entities;
+    private ClientMapper mapper;
+    private ClientDtoMapper dtoMapper;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = new ClientMapper();
+        dtoMapper = new ClientDtoMapper();
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        entities = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            int age = random.nextInt(0, 100);
+            ClientJpaEntity entity = new ClientJpaEntity();
+            entity.setId(i + 1L);
+            entity.setFirstName("Nombre" + random.nextInt(500));
+            entity.setLastName("Apellido" + random.nextInt(5_000));
+            entity.setAge(age);
+            entity.setBirthDate(today.minusYears(age).minusDays(random.nextInt(365)));
+            entity.setCreatedAt(now);
+            entity.setUpdatedAt(now);
+            entities.add(entity);
+        }
+    }
+
+    @Benchmark
+    public List<ClientResponse> mapToResponses() {
+        List<ClientResponse> responses = new ArrayList<>(entities.size());
+        for (ClientJpaEntity entity : entities) {
+            Client client = mapper.toDomainEntity(entity);
+            responses.add(dtoMapper.toResponseDto(client));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public List<ClientResponse> mapToResponsesBaseline() {
+        List<ClientResponse> responses = new ArrayList<>(entities.size());
+        for (ClientJpaEntity entity : entities) {
+            Client client = Client.builder()
+                    .id(entity.getId())
+                    .firstName(entity.getFirstName())
+                    .lastName(entity.getLastName())
+                    .age(entity.getAge())
+                    .birthDate(entity.getBirthDate())
+                    .createdAt(entity.getCreatedAt())
+                    .updatedAt(entity.getUpdatedAt())
+                    .build();
+            responses.add(new ClientResponse(
+                    client.getId(),
+                    client.getFirstName(),
+                    client.getLastName(),
+                    client.getAge(),
+                    client.getBirthDate(),
+                    client.getBirthDate().plusYears(78),
+                    client.getCreatedAt(),
+                    client.getUpdatedAt()));
+        }
+        return responses;
+    }
+
+    @Benchmark
+    public int currentAges() {
+        int sum = 0;
+        for (ClientJpaEntity entity : entities) {
+            sum += mapper.toDomainEntity(entity).calculateCurrentAge();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int currentAgesBaseline() {
+        int sum = 0;
+        for (ClientJpaEntity entity : entities) {
+            sum += Period.between(entity.getBirthDate(), LocalDate.now()).getYears();
+        }
+        return sum;
+    }
+}
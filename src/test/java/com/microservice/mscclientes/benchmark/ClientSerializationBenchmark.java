@@ -0,0 +1,115 @@
+package com.microservice.mscclientes.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.valueobject.ClientField;
+import com.microservice.mscclientes.interface_.dto.response.ClientMetricsResponse;
+import com.microservice.mscclientes.interface_.dto.response.ClientResponse;
+import com.microservice.mscclientes.interface_.json.ClientJsonModule;
+import com.microservice.mscclientes.interface_.mapper.ClientDtoMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of writing GET /clients and GET /clients/metrics bodies. The baseline
+ * builds the full DTO list and serializes it reflectively, as the previous
+ * implementation did; the tuned path streams a mapped list through the
+ * hand-written serializers. The sparse case writes ?fields=id,firstName,lastName
+ * from clients projected to those columns. Output goes to a discarding stream.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ClientSerializationBenchmark {
+
+    @Param({"10000"})
+    public int clients;
+
+    private List<Client> domainClients;
+    private List<Client> projectedClients;
+    private final Set<ClientField> nameFields = EnumSet.of(ClientField.ID, ClientField.FIRST_NAME, ClientField.LAST_NAME);
+    private ClientDtoMapper dtoMapper;
+    private ObjectMapper reflective;
+    private ObjectMapper tuned;
+    private ClientMetricsResponse metrics;
+    private final OutputStream sink = new DiscardingOutputStream();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dtoMapper = new ClientDtoMapper();
+        reflective = Jackson2ObjectMapperBuilder.json().build();
+        tuned = Jackson2ObjectMapperBuilder.json()
+                .modulesToInstall(new ClientJsonModule(), new BlackbirdModule())
+                .build();
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDate today = LocalDate.now();
+        LocalDateTime now = LocalDateTime.now();
+        domainClients = new ArrayList<>(clients);
+        projectedClients = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            int age = random.nextInt(0, 100);
+            Client client = Client.reconstitute(i + 1L, "Nombre" + random.nextInt(500),
+                    "Apellido" + random.nextInt(5_000), age,
+                    today.minusYears(age).minusDays(random.nextInt(365)), now, now);
+            domainClients.add(client);
+            projectedClients.add(Client.reconstitute(client.getId(), client.getFirstName(), client.getLastName(),
+                    null, null, null, null, 0L));
+        }
+        metrics = new ClientMetricsResponse(49.5, 28.86607004772212, clients);
+    }
+
+    @Benchmark
+    public void writeClients() throws IOException {
+        tuned.writeValue(sink, dtoMapper.toResponseDtoList(domainClients));
+    }
+
+    @Benchmark
+    public void writeClientsSparse() throws IOException {
+        tuned.writeValue(sink, dtoMapper.toResponseDtoList(projectedClients, nameFields));
+    }
+
+    @Benchmark
+    public void writeClientsBaseline() throws IOException {
+        List<ClientResponse> responses = new ArrayList<>(domainClients.size());
+        for (Client client : domainClients) {
+            responses.add(dtoMapper.toResponseDto(client));
+        }
+        reflective.writeValue(sink, responses);
+    }
+
+    @Benchmark
+    public void writeMetrics() throws IOException {
+        tuned.writeValue(sink, metrics);
+    }
+
+    @Benchmark
+    public void writeMetricsBaseline() throws IOException {
+        reflective.writeValue(sink, metrics);
+    }
+
+    private static final class DiscardingOutputStream extends OutputStream {
+
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    }
+}
@@ -0,0 +1,219 @@
+package com.microservice.mscclientes.benchmark;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Age updates from 8 threads spread over 16 hot clients in in-memory H2.
+ * {@code lockedLoadAndSave} is the naive path: lock the row with SELECT ... FOR
+ * UPDATE, then write every column back. {@code versionedUpdate} issues the row
+ * statement PATCH uses: one conditional UPDATE of the changed column,
+ * re-reading the version and retrying only when another writer got there first.
+ * With {@code changeFeed} off only the clients row is written. With it on, each
+ * update also does what the rest of PATCH does: re-read the row and insert a
+ * client_changes row in the same transaction, then bump the single cache_epochs
+ * row in a short transaction of its own after commit, so the epoch row lock is
+ * held only for that one statement.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class ClientUpdateContentionBenchmark {
+
+    private static final int HOT_ROWS = 16;
+
+    @Param({"false", "true"})
+    boolean changeFeed;
+
+    private JdbcDataSource h2;
+    private Connection keepAlive;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:update-contention-benchmark;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000");
+        keepAlive = h2.getConnection();
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("create table if not exists clients (id bigint primary key, first_name varchar(100), "
+                    + "last_name varchar(100), age int, birth_date date, updated_at timestamp, version bigint not null)");
+            statement.execute("merge into clients select x, 'Juan', 'Pérez', 30, date '1993-05-15', "
+                    + "current_timestamp, 0 from system_range(1, " + HOT_ROWS + ")");
+            statement.execute("create table if not exists client_changes (seq bigint auto_increment primary key, "
+                    + "client_id bigint not null, change_type varchar(16) not null, first_name varchar(100), "
+                    + "last_name varchar(100), age int, birth_date date, changed_at timestamp(3) not null)");
+            statement.execute("create table if not exists cache_epochs (name varchar(64) primary key, "
+                    + "epoch bigint not null, updated_at timestamp(3) not null)");
+            statement.execute("merge into cache_epochs values ('clients', 0, current_timestamp)");
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        keepAlive.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Writer {
+        Connection connection;
+        final long[] seenVersions = new long[HOT_ROWS + 1];
+
+        @Setup(Level.Trial)
+        public void setUp(ClientUpdateContentionBenchmark benchmark) throws SQLException {
+            connection = benchmark.h2.getConnection();
+            connection.setAutoCommit(false);
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() throws SQLException {
+            connection.close();
+        }
+    }
+
+    @Benchmark
+    public int lockedLoadAndSave(Writer writer) throws SQLException {
+        long id = ThreadLocalRandom.current().nextLong(1, HOT_ROWS + 1);
+        int age = ThreadLocalRandom.current().nextInt(0, 151);
+        Connection connection = writer.connection;
+        try {
+            String firstName;
+            String lastName;
+            Date birthDate;
+            long version;
+            try (PreparedStatement select = connection.prepareStatement(
+                    "select first_name, last_name, age, birth_date, version from clients where id = ? for update")) {
+                select.setLong(1, id);
+                try (ResultSet resultSet = select.executeQuery()) {
+                    resultSet.next();
+                    firstName = resultSet.getString(1);
+                    lastName = resultSet.getString(2);
+                    birthDate = resultSet.getDate(4);
+                    version = resultSet.getLong(5);
+                }
+            }
+            int updated;
+            try (PreparedStatement update = connection.prepareStatement(
+                    "update clients set first_name = ?, last_name = ?, age = ?, birth_date = ?, updated_at = ?, version = ? where id = ?")) {
+                update.setString(1, firstName);
+                update.setString(2, lastName);
+                update.setInt(3, age);
+                update.setDate(4, birthDate);
+                update.setTimestamp(5, new Timestamp(System.currentTimeMillis()));
+                update.setLong(6, version + 1);
+                update.setLong(7, id);
+                updated = update.executeUpdate();
+            }
+            if (changeFeed) {
+                recordChange(connection, id, firstName, lastName, age, birthDate);
+            }
+            connection.commit();
+            if (changeFeed) {
+                bumpEpoch(connection);
+            }
+            return updated;
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        }
+    }
+
+    @Benchmark
+    public int versionedUpdate(Writer writer) throws SQLException {
+        int id = ThreadLocalRandom.current().nextInt(1, HOT_ROWS + 1);
+        int age = ThreadLocalRandom.current().nextInt(0, 151);
+        Connection connection = writer.connection;
+        try (PreparedStatement update = connection.prepareStatement(
+                "update clients set version = version + 1, updated_at = ?, age = ? where id = ? and version = ?")) {
+            update.setInt(2, age);
+            update.setLong(3, id);
+            int attempts = 0;
+            while (true) {
+                attempts++;
+                update.setTimestamp(1, new Timestamp(System.currentTimeMillis()));
+                update.setLong(4, writer.seenVersions[id]);
+                if (update.executeUpdate() == 1) {
+                    if (changeFeed) {
+                        recordChangeFromRow(connection, id);
+                    }
+                    connection.commit();
+                    if (changeFeed) {
+                        bumpEpoch(connection);
+                    }
+                    writer.seenVersions[id]++;
+                    return attempts;
+                }
+                connection.rollback();
+                writer.seenVersions[id] = currentVersion(connection, id);
+            }
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        }
+    }
+
+    /**
+     * Re-read the updated row, as PATCH does to return it, and record it
+     */
+    private static void recordChangeFromRow(Connection connection, long id) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement(
+                "select first_name, last_name, age, birth_date from clients where id = ?")) {
+            select.setLong(1, id);
+            try (ResultSet resultSet = select.executeQuery()) {
+                resultSet.next();
+                recordChange(connection, id, resultSet.getString(1), resultSet.getString(2),
+                        resultSet.getInt(3), resultSet.getDate(4));
+            }
+        }
+    }
+
+    /**
+     * Change feed insert done by every write in the service
+     */
+    private static void recordChange(Connection connection, long id, String firstName, String lastName,
+                                     int age, Date birthDate) throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into client_changes (client_id, change_type, first_name, last_name, age, birth_date, changed_at) "
+                        + "values (?, 'UPDATED', ?, ?, ?, ?, current_timestamp(3))")) {
+            insert.setLong(1, id);
+            insert.setString(2, firstName);
+            insert.setString(3, lastName);
+            insert.setInt(4, age);
+            insert.setDate(5, birthDate);
+            insert.executeUpdate();
+        }
+    }
+
+    /**
+     * Cache epoch bump every write transaction makes after it commits
+     */
+    private static void bumpEpoch(Connection connection) throws SQLException {
+        try (PreparedStatement bump = connection.prepareStatement(
+                "update cache_epochs set epoch = epoch + 1, updated_at = current_timestamp(3) where name = 'clients'")) {
+            bump.executeUpdate();
+        }
+        connection.commit();
+    }
+
+    private static long currentVersion(Connection connection, long id) throws SQLException {
+        try (PreparedStatement select = connection.prepareStatement("select version from clients where id = ?")) {
+            select.setLong(1, id);
+            try (ResultSet resultSet = select.executeQuery()) {
+                resultSet.next();
+                return resultSet.getLong(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.microservice.mscclientes.benchmark;
+
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+import com.microservice.mscclientes.benchmark.columnar.ColumnarClientStore;
+import com.microservice.mscclientes.benchmark.columnar.ColumnarFilter;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scan throughput of the columnar client store.
+ * Builds a synthetic store with the configured number of rows and measures
+ * full-column scans; rows/second = rows / (ms/op) * 1000.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ColumnarClientStoreBenchmark {
+
+    private static final String[] FIRST_NAMES = {"Juan", "María", "Carlos", "Ana", "Luis", "Carmen", "Pedro", "Laura"};
+    private static final int LAST_NAME_CARDINALITY = 5_000;
+
+    @Param({"10000000"})
+    public int rows;
+
+    private ColumnarClientStore store;
+    private ColumnarFilter adults;
+    private ColumnarFilter bornInNineties;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        store = generate(rows);
+        adults = ColumnarFilter.all().ageBetween(18, 150);
+        bornInNineties = ColumnarFilter.all().bornBetween(LocalDate.of(1990, 1, 1), LocalDate.of(1999, 12, 31));
+    }
+
+    static ColumnarClientStore generate(int rows) {
+        SplittableRandom random = new SplittableRandom(42);
+        LocalDate today = LocalDate.now();
+        ColumnarClientStore.Builder builder = ColumnarClientStore.builder(rows);
+        for (int i = 0; i < rows; i++) {
+            int age = random.nextInt(0, 100);
+            builder.add(i + 1L,
+                    FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                    "Apellido" + random.nextInt(LAST_NAME_CARDINALITY),
+                    age,
+                    today.minusYears(age).minusDays(random.nextInt(365)));
+        }
+        return builder.build();
+    }
+
+    @Benchmark
+    public long countAdults() {
+        return store.count(adults);
+    }
+
+    @Benchmark
+    public AgeAggregate aggregateAgesBornInNineties() {
+        return store.aggregateAges(bornInNineties);
+    }
+
+    @Benchmark
+    public long[] findIdsBornInNineties() {
+        return store.findIds(bornInNineties);
+    }
+
+    @Benchmark
+    public long countByLastName() {
+        return store.countByLastName("Apellido42", ColumnarFilter.all());
+    }
+}
@@ -0,0 +1,213 @@
+package com.microservice.mscclientes.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.mscclientes.MscClientesApplication;
+import com.microservice.mscclientes.infrastructure.grpc.GrpcServerLifecycle;
+import com.microservice.mscclientes.infrastructure.security.JwtUtil;
+import com.microservice.mscclientes.interface_.grpc.v1.ClientServiceGrpc;
+import com.microservice.mscclientes.interface_.grpc.v1.ClientsProto;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.netty.shaded.io.grpc.netty.NettyChannelBuilder;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The same operations over REST (HTTP/1.1 + JSON) and gRPC (HTTP/2 +
+ * protobuf) against one in-process instance of the service on the simple
+ * profile, over loopback. Setup starts the application with both endpoints
+ * and the read model, so reads measure the transport rather than H2, seeds
+ * {@value #SEED_CLIENTS} clients through BulkCreateClients and issues a token
+ * with the application's own JwtUtil. Both clients reuse their connections
+ * and parse every response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class GrpcVsRestBenchmark {
+
+    private static final int SEED_CLIENTS = 10_000;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ConfigurableApplicationContext context;
+    private HttpClient http;
+    private String baseUrl;
+    private String authorization;
+    private ManagedChannel channel;
+    private ClientServiceGrpc.ClientServiceBlockingStub blockingStub;
+    private ClientServiceGrpc.ClientServiceStub asyncStub;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = new SpringApplicationBuilder(MscClientesApplication.class).run(
+                "--spring.profiles.active=simple",
+                "--server.port=0",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--logging.config=classpath:logback-benchmark.xml",
+                "--clients.rate-limit.enabled=false",
+                "--clients.read-model.enabled=true",
+                "--clients.grpc.enabled=true",
+                "--clients.grpc.port=0");
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1";
+        authorization = "Bearer " + context.getBean(JwtUtil.class).generateToken("benchmark");
+        http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        Metadata headers = new Metadata();
+        headers.put(Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER), authorization);
+        channel = NettyChannelBuilder.forAddress("localhost", context.getBean(GrpcServerLifecycle.class).getPort())
+                .usePlaintext()
+                .directExecutor()
+                .build();
+        blockingStub = ClientServiceGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+        asyncStub = ClientServiceGrpc.newStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+        seed();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        context.close();
+    }
+
+    private void seed() throws Exception {
+        CompletableFuture<ClientsProto.BulkCreateClientsResponse> done = new CompletableFuture<>();
+        StreamObserver<ClientsProto.CreateClientRequest> requests = asyncStub.bulkCreateClients(new StreamObserver<>() {
+            @Override
+            public void onNext(ClientsProto.BulkCreateClientsResponse response) {
+                done.complete(response);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                done.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        });
+        for (int i = 0; i < SEED_CLIENTS; i++) {
+            requests.onNext(nextClient());
+        }
+        requests.onCompleted();
+        ClientsProto.BulkCreateClientsResponse response = done.get(5, TimeUnit.MINUTES);
+        if (response.getIdsCount() != SEED_CLIENTS) {
+            throw new IllegalStateException("Seeding rejected " + response.getErrorsCount() + " clients");
+        }
+    }
+
+    /**
+     * A client with a unique identity: the sequence number spelled in letters as last name
+     */
+    private ClientsProto.CreateClientRequest nextClient() {
+        long n = sequence.incrementAndGet();
+        StringBuilder lastName = new StringBuilder("Apellido");
+        for (long rest = n; rest > 0; rest /= 26) {
+            lastName.append((char) ('a' + rest % 26));
+        }
+        int age = (int) (n % 90);
+        return ClientsProto.CreateClientRequest.newBuilder()
+                .setFirstName("Nombre")
+                .setLastName(lastName.toString())
+                .setAge(age)
+                .setBirthDate(LocalDate.now().minusYears(age).minusDays(1 + n % 300).toString())
+                .build();
+    }
+
+    /**
+     * Send a request and parse the JSON body, as gRPC stubs parse theirs
+     */
+    private JsonNode send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = http.send(request.header("Authorization", authorization).build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() >= 300) {
+            throw new IllegalStateException("HTTP " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    @Benchmark
+    public JsonNode restGetMetrics() throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/clients/metrics")));
+    }
+
+    @Benchmark
+    public ClientsProto.ClientMetrics grpcGetMetrics() {
+        return blockingStub.getMetrics(ClientsProto.GetMetricsRequest.getDefaultInstance());
+    }
+
+    @Benchmark
+    public JsonNode restCreateClient() throws IOException, InterruptedException {
+        ClientsProto.CreateClientRequest client = nextClient();
+        String json = "{\"firstName\":\"" + client.getFirstName() + "\",\"lastName\":\"" + client.getLastName()
+                + "\",\"age\":" + client.getAge() + ",\"birthDate\":\"" + client.getBirthDate() + "\"}";
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/clients"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json)));
+    }
+
+    @Benchmark
+    public ClientsProto.Client grpcCreateClient() {
+        return blockingStub.createClient(nextClient());
+    }
+
+    /**
+     * Every client as one JSON array
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int restListClients() throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/clients"))).size();
+    }
+
+    /**
+     * Every client as a stream of pages, read as they arrive on the
+     * channel's event loop
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int grpcListClients() throws Exception {
+        CompletableFuture<Integer> done = new CompletableFuture<>();
+        asyncStub.listClients(ClientsProto.ListClientsRequest.getDefaultInstance(), new StreamObserver<>() {
+            private int count;
+
+            @Override
+            public void onNext(ClientsProto.ClientPage page) {
+                count += page.getClientsCount();
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                done.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+                done.complete(count);
+            }
+        });
+        return done.get();
+    }
+}
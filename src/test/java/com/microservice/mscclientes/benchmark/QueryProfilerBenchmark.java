@@ -0,0 +1,88 @@
+package com.microservice.mscclientes.benchmark;
+
+import com.microservice.mscclientes.infrastructure.profiling.ProfilingDataSource;
+import com.microservice.mscclientes.infrastructure.profiling.QueryProfiler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.*;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-query overhead of the JDBC profiler against in-memory H2, where the
+ * database itself is as fast as it gets, so the proxies' share is an upper
+ * bound of what a networked MySQL would see. Each operation borrows a
+ * connection and reads 20 rows.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryProfilerBenchmark {
+
+    private DataSource raw;
+    private DataSource sampled;
+    private DataSource unsampled;
+    private Connection keepAlive;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        JdbcDataSource h2 = new JdbcDataSource();
+        h2.setURL("jdbc:h2:mem:profiler-benchmark;DB_CLOSE_DELAY=-1");
+        keepAlive = h2.getConnection();
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("create table if not exists clients (id int primary key, age int)");
+            statement.execute("merge into clients select x, x % 90 from system_range(1, 10000)");
+        }
+        raw = h2;
+        sampled = new ProfilingDataSource(h2, profiler(1.0));
+        unsampled = new ProfilingDataSource(h2, profiler(0.0));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        keepAlive.close();
+    }
+
+    private static QueryProfiler profiler(double sampleRate) {
+        return new QueryProfiler(new SimpleMeterRegistry(), sampleRate, 200, 10, 500);
+    }
+
+    @Benchmark
+    public long queryRaw() throws SQLException {
+        return query(raw);
+    }
+
+    @Benchmark
+    public long querySampled() throws SQLException {
+        return query(sampled);
+    }
+
+    @Benchmark
+    public long queryUnsampled() throws SQLException {
+        return query(unsampled);
+    }
+
+    private static long query(DataSource dataSource) throws SQLException {
+        long sum = 0;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("select id, age from clients where id between ? and ?")) {
+            statement.setInt(1, 100);
+            statement.setInt(2, 119);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    sum += resultSet.getInt(2);
+                }
+            }
+        }
+        return sum;
+    }
+}
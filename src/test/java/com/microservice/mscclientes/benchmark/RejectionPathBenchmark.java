@@ -0,0 +1,154 @@
+package com.microservice.mscclientes.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.infrastructure.security.JwtAuthenticationEntryPoint;
+import com.microservice.mscclientes.infrastructure.security.JwtUtil;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of rejected requests: forged and malformed JWT tokens answered
+ * with 401, and client payloads failing domain validation. Each "baseline"
+ * method reproduces the previous implementation (key and parser rebuilt per
+ * parse, ERROR logging, stack-carrying exceptions, per-request map
+ * serialization) so the two can be compared in one run.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Dlogback.configurationFile=logback-benchmark.xml"})
+public class RejectionPathBenchmark {
+
+    private static final Logger legacyLogger = LoggerFactory.getLogger("benchmark.legacy");
+    private static final String SECRET = "mySecretKey123456789012345678901234567890";
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationEntryPoint entryPoint;
+    private ObjectMapper objectMapper;
+    private MockHttpServletRequest request;
+    private InsufficientAuthenticationException authException;
+    private String forgedToken;
+    private String garbageToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86_400_000L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "initialize");
+        entryPoint = new JwtAuthenticationEntryPoint();
+        objectMapper = new ObjectMapper();
+        request = new MockHttpServletRequest("GET", "/api/v1/clients");
+        authException = new InsufficientAuthenticationException("Full authentication is required");
+
+        JwtUtil otherIssuer = new JwtUtil();
+        ReflectionTestUtils.setField(otherIssuer, "secret", "anotherSecretKey1234567890123456789012345");
+        ReflectionTestUtils.setField(otherIssuer, "expiration", 86_400_000L);
+        ReflectionTestUtils.invokeMethod(otherIssuer, "initialize");
+        forgedToken = otherIssuer.generateToken("admin");
+        garbageToken = "password123";
+    }
+
+    @Benchmark
+    public MockHttpServletResponse forgedToken() throws IOException {
+        return reject(forgedToken);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse forgedTokenBaseline() throws IOException {
+        return rejectBaseline(forgedToken);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse garbageToken() throws IOException {
+        return reject(garbageToken);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse garbageTokenBaseline() throws IOException {
+        return rejectBaseline(garbageToken);
+    }
+
+    @Benchmark
+    public Object invalidClient() {
+        try {
+            return Client.builder().firstName("Juan").lastName("Pérez").age(200)
+                    .birthDate(LocalDate.of(1993, 5, 15)).build();
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public Object invalidClientBaseline() {
+        try {
+            validateLegacy(200);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e;
+        }
+    }
+
+    private MockHttpServletResponse reject(String token) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        if (jwtUtil.validateAndExtractUsername(token) == null) {
+            entryPoint.commence(request, response, authException);
+        }
+        return response;
+    }
+
+    private MockHttpServletResponse rejectBaseline(String token) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        String username = null;
+        try {
+            username = Jwts.parser()
+                    .verifyWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload()
+                    .getSubject();
+        } catch (JwtException e) {
+            legacyLogger.error("Error parsing JWT token: {}", e.getMessage());
+            IllegalArgumentException wrapped = new IllegalArgumentException("Invalid JWT token", e);
+            legacyLogger.error("Error extracting username from JWT token: {}", wrapped.getMessage());
+        }
+        if (username == null) {
+            legacyLogger.warn("Unauthorized access attempt to: {} - {}", request.getRequestURI(), authException.getMessage());
+            response.setContentType("application/json");
+            response.setStatus(401);
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("timestamp", LocalDateTime.now().toString());
+            errorResponse.put("status", 401);
+            errorResponse.put("error", "Unauthorized");
+            errorResponse.put("message", "Authentication required to access this resource");
+            errorResponse.put("path", request.getRequestURI());
+            objectMapper.writeValue(response.getOutputStream(), errorResponse);
+        }
+        return response;
+    }
+
+    private static void validateLegacy(int age) {
+        if (age < 0 || age > 150) {
+            throw new IllegalArgumentException("Age must be between 0 and 150");
+        }
+    }
+}
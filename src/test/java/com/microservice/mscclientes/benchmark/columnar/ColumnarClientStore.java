@@ -0,0 +1,204 @@
+package com.microservice.mscclientes.benchmark.columnar;
+
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+
+/**
+ * Column-oriented, read-only copy of the clients table, measured by
+ * ColumnarClientStoreBenchmark; no use case queries it.
+ * Each attribute lives in its own primitive array and names are dictionary
+ * encoded, so a row costs about 24 bytes instead of the several hundred
+ * taken by a Client object graph, and scans are tight loops over arrays.
+ * Instances are immutable once built and safe to share between threads.
+ */
+public final class ColumnarClientStore {
+
+    public static final ColumnarClientStore EMPTY = new Builder(0).build();
+
+    private final int size;
+    private final long[] ids;
+    private final int[] ages;
+    private final int[] birthEpochDays;
+    private final int[] firstNameCodes;
+    private final int[] lastNameCodes;
+    private final NameDictionary firstNames;
+    private final NameDictionary lastNames;
+
+    private ColumnarClientStore(Builder builder) {
+        this.size = builder.size;
+        this.ids = builder.ids.length == size ? builder.ids : Arrays.copyOf(builder.ids, size);
+        this.ages = trim(builder.ages, size);
+        this.birthEpochDays = trim(builder.birthEpochDays, size);
+        this.firstNameCodes = trim(builder.firstNameCodes, size);
+        this.lastNameCodes = trim(builder.lastNameCodes, size);
+        this.firstNames = builder.firstNames;
+        this.lastNames = builder.lastNames;
+    }
+
+    private static int[] trim(int[] column, int size) {
+        return column.length == size ? column : Arrays.copyOf(column, size);
+    }
+
+    public static Builder builder(int expectedRows) {
+        return new Builder(expectedRows);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Count rows matching the filter
+     * @param filter age and birth date bounds
+     * @return number of matching rows
+     */
+    public long count(ColumnarFilter filter) {
+        long count = 0;
+        for (int i = 0; i < size; i++) {
+            if (filter.matches(ages[i], birthEpochDays[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Aggregate ages of rows matching the filter
+     * @param filter age and birth date bounds
+     * @return count, sum, sum of squares, min and max of matching ages
+     */
+    public AgeAggregate aggregateAges(ColumnarFilter filter) {
+        long count = 0;
+        long sum = 0;
+        long sumOfSquares = 0;
+        int min = Integer.MAX_VALUE;
+        int max = Integer.MIN_VALUE;
+        for (int i = 0; i < size; i++) {
+            int age = ages[i];
+            if (filter.matches(age, birthEpochDays[i])) {
+                count++;
+                sum += age;
+                sumOfSquares += (long) age * age;
+                min = Math.min(min, age);
+                max = Math.max(max, age);
+            }
+        }
+        return count == 0 ? AgeAggregate.EMPTY : new AgeAggregate(count, sum, sumOfSquares, min, max);
+    }
+
+    /**
+     * Collect IDs of rows matching the filter, in load order
+     * @param filter age and birth date bounds
+     * @return matching client IDs
+     */
+    public long[] findIds(ColumnarFilter filter) {
+        long[] matches = new long[16];
+        int found = 0;
+        for (int i = 0; i < size; i++) {
+            if (filter.matches(ages[i], birthEpochDays[i])) {
+                if (found == matches.length) {
+                    matches = Arrays.copyOf(matches, found * 2);
+                }
+                matches[found++] = ids[i];
+            }
+        }
+        return Arrays.copyOf(matches, found);
+    }
+
+    /**
+     * Count rows with the given last name that match the filter
+     * @param lastName exact last name
+     * @param filter age and birth date bounds
+     * @return number of matching rows
+     */
+    public long countByLastName(String lastName, ColumnarFilter filter) {
+        int code = lastNames.codeOf(lastName);
+        if (code == NameDictionary.NOT_FOUND) {
+            return 0;
+        }
+        long count = 0;
+        for (int i = 0; i < size; i++) {
+            if (lastNameCodes[i] == code && filter.matches(ages[i], birthEpochDays[i])) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public String firstNameAt(int row) {
+        return firstNames.decode(firstNameCodes[row]);
+    }
+
+    public String lastNameAt(int row) {
+        return lastNames.decode(lastNameCodes[row]);
+    }
+
+    public int distinctFirstNames() {
+        return firstNames.size();
+    }
+
+    public int distinctLastNames() {
+        return lastNames.size();
+    }
+
+    /**
+     * Approximate heap footprint of the columns and dictionaries
+     * @return bytes retained by this store
+     */
+    public long estimatedBytes() {
+        long columns = (long) size * (Long.BYTES + 4L * Integer.BYTES);
+        return columns + firstNames.estimatedBytes() + lastNames.estimatedBytes();
+    }
+
+    /**
+     * Incrementally appends rows into growable column arrays.
+     * The builder hands its arrays to the store and must not be reused after build().
+     */
+    public static final class Builder {
+        private int size;
+        private long[] ids;
+        private int[] ages;
+        private int[] birthEpochDays;
+        private int[] firstNameCodes;
+        private int[] lastNameCodes;
+        private final NameDictionary firstNames = new NameDictionary();
+        private final NameDictionary lastNames = new NameDictionary();
+
+        private Builder(int expectedRows) {
+            int capacity = Math.max(expectedRows, 16);
+            this.ids = new long[capacity];
+            this.ages = new int[capacity];
+            this.birthEpochDays = new int[capacity];
+            this.firstNameCodes = new int[capacity];
+            this.lastNameCodes = new int[capacity];
+        }
+
+        public Builder add(long id, String firstName, String lastName, int age, LocalDate birthDate) {
+            if (size == ids.length) {
+                grow();
+            }
+            ids[size] = id;
+            ages[size] = age;
+            birthEpochDays[size] = (int) birthDate.toEpochDay();
+            firstNameCodes[size] = firstNames.encode(firstName);
+            lastNameCodes[size] = lastNames.encode(lastName);
+            size++;
+            return this;
+        }
+
+        private void grow() {
+            int capacity = ids.length + (ids.length >> 1);
+            ids = Arrays.copyOf(ids, capacity);
+            ages = Arrays.copyOf(ages, capacity);
+            birthEpochDays = Arrays.copyOf(birthEpochDays, capacity);
+            firstNameCodes = Arrays.copyOf(firstNameCodes, capacity);
+            lastNameCodes = Arrays.copyOf(lastNameCodes, capacity);
+        }
+
+        public ColumnarClientStore build() {
+            return new ColumnarClientStore(this);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.microservice.mscclientes.benchmark.columnar;
+
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ColumnarClientStore.
+ * Tests column scans, filters and dictionary encoding.
+ */
+class ColumnarClientStoreTest {
+
+    private ColumnarClientStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = ColumnarClientStore.builder(2)
+                .add(1L, "Juan", "Pérez", 35, LocalDate.of(1989, 3, 15))
+                .add(2L, "María", "González", 28, LocalDate.of(1996, 7, 22))
+                .add(3L, "Carlos", "Pérez", 16, LocalDate.of(2008, 11, 8))
+                .add(4L, "Juan", "López", 42, LocalDate.of(1982, 1, 30))
+                .build();
+    }
+
+    @Test
+    @DisplayName("Should count rows matching age filter")
+    void shouldCountRowsMatchingAgeFilter() {
+        assertEquals(4, store.count(ColumnarFilter.all()));
+        assertEquals(3, store.count(ColumnarFilter.all().ageBetween(18, 150)));
+    }
+
+    @Test
+    @DisplayName("Should aggregate ages for birth date range")
+    void shouldAggregateAgesForBirthDateRange() {
+        // When
+        AgeAggregate aggregate = store.aggregateAges(
+                ColumnarFilter.all().bornBetween(LocalDate.of(1980, 1, 1), LocalDate.of(1990, 12, 31)));
+
+        // Then
+        assertEquals(2, aggregate.getCount());
+        assertEquals(77, aggregate.getSum());
+        assertEquals(35, aggregate.getMin());
+        assertEquals(42, aggregate.getMax());
+        assertEquals(38.5, aggregate.getAverage(), 0.0001);
+    }
+
+    @Test
+    @DisplayName("Should find IDs matching combined filter")
+    void shouldFindIdsMatchingCombinedFilter() {
+        // When
+        long[] ids = store.findIds(ColumnarFilter.all()
+                .ageBetween(18, 40)
+                .bornBetween(LocalDate.of(1985, 1, 1), LocalDate.of(2000, 1, 1)));
+
+        // Then
+        assertArrayEquals(new long[]{1L, 2L}, ids);
+    }
+
+    @Test
+    @DisplayName("Should dictionary encode names")
+    void shouldDictionaryEncodeNames() {
+        assertEquals(3, store.distinctFirstNames());
+        assertEquals(3, store.distinctLastNames());
+        assertEquals(2, store.countByLastName("Pérez", ColumnarFilter.all()));
+        assertEquals(0, store.countByLastName("Torres", ColumnarFilter.all()));
+        assertEquals("Juan", store.firstNameAt(3));
+    }
+
+    @Test
+    @DisplayName("Should return empty aggregate when nothing matches")
+    void shouldReturnEmptyAggregateWhenNothingMatches() {
+        assertEquals(AgeAggregate.EMPTY, store.aggregateAges(ColumnarFilter.all().ageBetween(100, 150)));
+        assertEquals(0, ColumnarClientStore.EMPTY.size());
+    }
+}
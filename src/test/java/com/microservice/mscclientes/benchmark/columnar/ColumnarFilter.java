@@ -0,0 +1,42 @@
+package com.microservice.mscclientes.benchmark.columnar;
+
+import java.time.LocalDate;
+
+/**
+ * Immutable row predicate over the age and birth date columns.
+ * Bounds are inclusive; an unset bound matches every row.
+ */
+public final class ColumnarFilter {
+
+    private static final ColumnarFilter ALL =
+            new ColumnarFilter(Integer.MIN_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+    final int minAge;
+    final int maxAge;
+    final int minBirthEpochDay;
+    final int maxBirthEpochDay;
+
+    private ColumnarFilter(int minAge, int maxAge, int minBirthEpochDay, int maxBirthEpochDay) {
+        this.minAge = minAge;
+        this.maxAge = maxAge;
+        this.minBirthEpochDay = minBirthEpochDay;
+        this.maxBirthEpochDay = maxBirthEpochDay;
+    }
+
+    public static ColumnarFilter all() {
+        return ALL;
+    }
+
+    public ColumnarFilter ageBetween(int min, int max) {
+        return new ColumnarFilter(min, max, minBirthEpochDay, maxBirthEpochDay);
+    }
+
+    public ColumnarFilter bornBetween(LocalDate from, LocalDate to) {
+        return new ColumnarFilter(minAge, maxAge, (int) from.toEpochDay(), (int) to.toEpochDay());
+    }
+
+    boolean matches(int age, int birthEpochDay) {
+        return age >= minAge && age <= maxAge
+                && birthEpochDay >= minBirthEpochDay && birthEpochDay <= maxBirthEpochDay;
+    }
+}
@@ -0,0 +1,64 @@
+package com.microservice.mscclientes.benchmark.columnar;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dictionary encoding for name columns.
+ * Each distinct name is stored once and rows refer to it by an int code.
+ * Not thread-safe while building; read-only once owned by a store.
+ */
+public final class NameDictionary {
+
+    public static final int NOT_FOUND = -1;
+
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+
+    /**
+     * Return the code for a name, assigning a new one on first sight
+     * @param name the name to encode
+     * @return dictionary code
+     */
+    int encode(String name) {
+        Integer code = codes.get(name);
+        if (code == null) {
+            code = names.size();
+            codes.put(name, code);
+            names.add(name);
+        }
+        return code;
+    }
+
+    /**
+     * Look up the code for a name without assigning one
+     * @param name the name to look up
+     * @return dictionary code or NOT_FOUND
+     */
+    public int codeOf(String name) {
+        Integer code = codes.get(name);
+        return code != null ? code : NOT_FOUND;
+    }
+
+    public String decode(int code) {
+        return names.get(code);
+    }
+
+    public int size() {
+        return names.size();
+    }
+
+    /**
+     * Rough heap footprint: String objects with their Latin-1 backing arrays,
+     * plus hash map entries and list slots.
+     */
+    long estimatedBytes() {
+        long bytes = 0;
+        for (String name : names) {
+            bytes += 24 + 16 + name.length() + 32 + 4;
+        }
+        return bytes;
+    }
+}
@@ -198,4 +198,27 @@ class ClientTest {
         // Then
         assertEquals(25, currentAge);
     }
+    
+    @Test
+    @DisplayName("Should reconstitute stored client without validation")
+    void shouldReconstituteStoredClientWithoutValidation() {
+        // Given
+        LocalDateTime createdAt = LocalDateTime.of(2024, 1, 15, 10, 30);
+        
+        // When
+        Client client = Client.reconstitute(7L, "Juan", "Pérez", 151, LocalDate.of(1990, 5, 15), createdAt, createdAt);
+        
+        // Then
+        assertEquals(7L, client.getId());
+        assertEquals(151, client.getAge());
+        assertEquals(createdAt, client.getCreatedAt());
+        assertEquals(LocalDate.of(2068, 5, 15), client.calculateEstimatedDeathDate());
+    }
+    
+    @Test
+    @DisplayName("Should use today's date for the day clock")
+    void shouldUseTodaysDateForDayClock() {
+        // When & Then
+        assertEquals(LocalDate.now(), DayClock.today());
+    }
 }
@@ -0,0 +1,107 @@
+package com.microservice.mscclientes.infrastructure.analytics;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.entity.ClientChange;
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ClientCreationRing.
+ * Tests per-minute aggregation and the covered sub-range reported to callers.
+ */
+class ClientCreationRingTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 15, 10, 0);
+
+    @Test
+    @DisplayName("Should answer nothing before coverage is declared")
+    void shouldAnswerNothingBeforeCoverage() {
+        // Given
+        ClientCreationRing ring = new ClientCreationRing(60);
+        ring.add(T0.plusSeconds(10), 30);
+
+        // When & Then
+        assertTrue(ring.query(T0, T0.plusMinutes(5)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should aggregate whole minutes and report the partial head and tail as uncovered")
+    void shouldReportCoveredRange() {
+        // Given
+        ClientCreationRing ring = new ClientCreationRing(60);
+        ring.add(T0.plusSeconds(10), 30);
+        ring.add(T0.plusMinutes(1).plusSeconds(5), 40);
+        ring.add(T0.plusMinutes(2).plusSeconds(20), 50);
+        ring.markCovered(T0, T0.plusMinutes(2).plusSeconds(30));
+
+        // When
+        ClientCreationRing.Answer answer = ring.query(T0.plusSeconds(30), T0.plusMinutes(3));
+
+        // Then
+        assertEquals(T0.plusMinutes(1), answer.getCoveredFrom());
+        assertEquals(T0.plusMinutes(2).plusSeconds(30), answer.getCoveredTo());
+        assertEquals(AgeAggregate.of(40).add(50), answer.getAges());
+    }
+
+    @Test
+    @DisplayName("Should stop at the last whole minute when the range ends before coverage")
+    void shouldTruncateToWholeMinutes() {
+        // Given
+        ClientCreationRing ring = new ClientCreationRing(60);
+        ring.add(T0.plusSeconds(10), 30);
+        ring.add(T0.plusMinutes(1).plusSeconds(5), 40);
+        ring.markCovered(T0, T0.plusMinutes(10));
+
+        // When
+        ClientCreationRing.Answer answer = ring.query(T0, T0.plusMinutes(1).plusSeconds(30));
+
+        // Then
+        assertEquals(T0.plusMinutes(1), answer.getCoveredTo());
+        assertEquals(AgeAggregate.of(30), answer.getAges());
+    }
+
+    @Test
+    @DisplayName("Should record only creations from applied changes and advance coverage")
+    void shouldApplyCreationsFromChanges() {
+        // Given
+        ClientCreationRing ring = new ClientCreationRing(60);
+        ring.markCovered(T0, T0);
+        Client client = Client.builder().id(1L).firstName("Ana").lastName("Lopez")
+                .age(30).birthDate(LocalDate.of(1994, 1, 1)).build();
+
+        // When
+        ring.apply(List.of(
+                new ClientChange(1L, 1L, ClientChange.Type.CREATED, client, T0.plusSeconds(5)),
+                new ClientChange(2L, 1L, ClientChange.Type.DELETED, null, T0.plusSeconds(6))
+        ), T0.plusMinutes(1));
+
+        // Then
+        ClientCreationRing.Answer answer = ring.query(T0, T0.plusMinutes(1));
+        assertEquals(1, answer.getAges().getCount());
+        assertEquals(T0.plusMinutes(1), answer.getCoveredTo());
+    }
+
+    @Test
+    @DisplayName("Should forget minutes that fell out of the ring")
+    void shouldEvictOldMinutes() {
+        // Given
+        ClientCreationRing ring = new ClientCreationRing(5);
+        ring.add(T0.plusSeconds(10), 30);
+        ring.markCovered(T0, T0.plusMinutes(1));
+
+        // When
+        ring.apply(List.of(), T0.plusMinutes(10));
+        ClientCreationRing.Answer answer = ring.query(T0, T0.plusMinutes(10));
+
+        // Then
+        assertEquals(T0.plusMinutes(6), answer.getCoveredFrom());
+        assertEquals(0, answer.getAges().getCount());
+    }
+}
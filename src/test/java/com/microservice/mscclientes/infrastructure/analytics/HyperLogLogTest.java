@@ -0,0 +1,72 @@
+package com.microservice.mscclientes.infrastructure.analytics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for HyperLogLog.
+ * Tests estimation accuracy, duplicate insensitivity and merging.
+ */
+class HyperLogLogTest {
+
+    @Test
+    @DisplayName("Should count small cardinalities almost exactly")
+    void shouldCountSmallCardinalities() {
+        // Given
+        HyperLogLog sketch = new HyperLogLog(14);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            sketch.offer("name-" + i);
+            sketch.offer("name-" + i);
+        }
+
+        // Then
+        assertEquals(100, sketch.estimate(), 1);
+    }
+
+    @Test
+    @DisplayName("Should estimate large cardinalities within three standard errors")
+    void shouldEstimateLargeCardinalities() {
+        // Given
+        HyperLogLog sketch = new HyperLogLog(14);
+        int distinct = 200_000;
+
+        // When
+        for (int i = 0; i < distinct; i++) {
+            sketch.offer("name-" + i);
+        }
+
+        // Then
+        double error = Math.abs(sketch.estimate() - distinct) / (double) distinct;
+        assertTrue(error < 3 * sketch.relativeStandardError(), "relative error " + error);
+    }
+
+    @Test
+    @DisplayName("Should estimate the union when merging overlapping sketches")
+    void shouldMergeOverlappingSketches() {
+        // Given
+        HyperLogLog first = new HyperLogLog(14);
+        HyperLogLog second = new HyperLogLog(14);
+        for (int i = 0; i < 30_000; i++) {
+            first.offer("name-" + i);
+            second.offer("name-" + (i + 20_000));
+        }
+
+        // When
+        first.merge(second);
+
+        // Then
+        double error = Math.abs(first.estimate() - 50_000) / 50_000.0;
+        assertTrue(error < 3 * first.relativeStandardError(), "relative error " + error);
+    }
+
+    @Test
+    @DisplayName("Should refuse to merge sketches with different precision")
+    void shouldRefuseMismatchedMerge() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> new HyperLogLog(12).merge(new HyperLogLog(14)));
+    }
+}
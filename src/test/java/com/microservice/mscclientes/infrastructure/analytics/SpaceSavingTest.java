@@ -0,0 +1,89 @@
+package com.microservice.mscclientes.infrastructure.analytics;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SpaceSaving.
+ * Tests exact counting below capacity and the error guarantee above it.
+ */
+class SpaceSavingTest {
+
+    @Test
+    @DisplayName("Should count exactly while fewer items than capacity are seen")
+    void shouldCountExactlyBelowCapacity() {
+        // Given
+        SpaceSaving sketch = new SpaceSaving(10);
+
+        // When
+        offer(sketch, "García", 5);
+        offer(sketch, "López", 3);
+        offer(sketch, "Pérez", 1);
+
+        // Then
+        List<SpaceSaving.Estimate> top = sketch.top(2);
+        assertEquals(2, top.size());
+        assertEquals("García", top.get(0).getItem());
+        assertEquals(5, top.get(0).getCount());
+        assertEquals(0, top.get(0).getError());
+        assertEquals("López", top.get(1).getItem());
+        assertEquals(0, sketch.maxError());
+    }
+
+    @Test
+    @DisplayName("Should keep heavy hitters and bound the overestimate when items exceed capacity")
+    void shouldKeepHeavyHittersAboveCapacity() {
+        // Given
+        SpaceSaving sketch = new SpaceSaving(20);
+
+        // When
+        for (int i = 0; i < 1_000; i++) {
+            sketch.offer("rare-" + i);
+            if (i % 4 == 0) {
+                sketch.offer("García");
+            }
+            if (i % 10 == 0) {
+                sketch.offer("López");
+            }
+        }
+
+        // Then
+        List<SpaceSaving.Estimate> top = sketch.top(2);
+        assertEquals("García", top.get(0).getItem());
+        assertEquals("López", top.get(1).getItem());
+        assertTrue(top.get(0).getCount() >= 250);
+        assertTrue(top.get(0).getCount() - top.get(0).getError() <= 250);
+        assertTrue(sketch.maxError() <= sketch.getTotal() / sketch.getCapacity());
+    }
+
+    @Test
+    @DisplayName("Should add counts of the same item when merging")
+    void shouldMergeCounts() {
+        // Given
+        SpaceSaving first = new SpaceSaving(10);
+        SpaceSaving second = new SpaceSaving(10);
+        offer(first, "García", 4);
+        offer(second, "García", 6);
+        offer(second, "López", 2);
+
+        // When
+        first.merge(second);
+
+        // Then
+        List<SpaceSaving.Estimate> top = first.top(5);
+        assertEquals(2, top.size());
+        assertEquals("García", top.get(0).getItem());
+        assertEquals(10, top.get(0).getCount());
+        assertEquals(12, first.getTotal());
+    }
+
+    private static void offer(SpaceSaving sketch, String item, int times) {
+        for (int i = 0; i < times; i++) {
+            sketch.offer(item);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.microservice.mscclientes.infrastructure.analytics;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.entity.ClientChange;
+import com.microservice.mscclientes.domain.repository.ClientChangeRepository;
+import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for WindowedMetricsClientRepository.
+ * Tests that the parts of a range outside the ring are read as creations.
+ */
+class WindowedMetricsClientRepositoryTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 1, 15, 10, 0);
+
+    private ClientRepository delegate;
+    private ClientChangeRepository changeRepository;
+    private ClientCreationRing ring;
+    private WindowedMetricsClientRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(ClientRepository.class);
+        changeRepository = mock(ClientChangeRepository.class);
+        ring = new ClientCreationRing(60);
+        repository = new WindowedMetricsClientRepository(delegate, ring, changeRepository, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("Should count a deleted client in the ring and read the uncovered edges from the change feed")
+    void shouldCountCreationsFromRingAndFeed() {
+        // Given
+        Client client = Client.reconstitute(1L, "Juan", "Pérez", 30, LocalDate.of(1993, 5, 15),
+                T0.plusMinutes(2), T0.plusMinutes(2), 0L);
+        ring.markCovered(T0, T0);
+        ring.apply(List.of(
+                new ClientChange(1L, 1L, ClientChange.Type.CREATED, client, T0.plusMinutes(2)),
+                new ClientChange(2L, 1L, ClientChange.Type.DELETED, null, T0.plusMinutes(3))),
+                T0.plusMinutes(10));
+        when(changeRepository.findOldestChangeTime()).thenReturn(Optional.of(T0));
+        when(changeRepository.aggregateCreatedAgesBetween(T0.plusMinutes(10), T0.plusMinutes(10).plusSeconds(30)))
+                .thenReturn(new AgeAggregate(1, 40, 1600, 40, 40));
+
+        // When
+        AgeAggregate ages = repository.aggregateAgesCreatedBetween(T0, T0.plusMinutes(10).plusSeconds(30));
+
+        // Then
+        assertEquals(2, ages.getCount());
+        assertEquals(35.0, ages.getAverage(), 0.001);
+        verify(delegate, never()).aggregateAgesCreatedBetween(any(), any());
+    }
+
+    @Test
+    @DisplayName("Should read only the part older than the retained feed from the clients table")
+    void shouldSplitFallbackAtOldestRetainedChange() {
+        // Given
+        when(changeRepository.findOldestChangeTime()).thenReturn(Optional.of(T0.plusMinutes(5)));
+        when(delegate.aggregateAgesCreatedBetween(T0, T0.plusMinutes(5)))
+                .thenReturn(new AgeAggregate(1, 20, 400, 20, 20));
+        when(changeRepository.aggregateCreatedAgesBetween(T0.plusMinutes(5), T0.plusMinutes(10)))
+                .thenReturn(new AgeAggregate(2, 100, 5000, 50, 50));
+
+        // When
+        AgeAggregate ages = repository.aggregateAgesCreatedBetween(T0, T0.plusMinutes(10));
+
+        // Then
+        assertEquals(3, ages.getCount());
+        assertEquals(20, ages.getMin());
+        assertEquals(50, ages.getMax());
+    }
+
+    @Test
+    @DisplayName("Should read the clients table alone when the change feed is empty")
+    void shouldUseClientsTableWithoutFeed() {
+        // Given
+        when(changeRepository.findOldestChangeTime()).thenReturn(Optional.empty());
+        when(delegate.aggregateAgesCreatedBetween(T0, T0.plusMinutes(10))).thenReturn(AgeAggregate.EMPTY);
+
+        // When
+        AgeAggregate ages = repository.aggregateAgesCreatedBetween(T0, T0.plusMinutes(10));
+
+        // Then
+        assertEquals(AgeAggregate.EMPTY, ages);
+        verify(changeRepository, never()).aggregateCreatedAgesBetween(any(), any());
+    }
+}
@@ -0,0 +1,203 @@
+package com.microservice.mscclientes.infrastructure.archive;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ClientArchive and ClientSegment.
+ * Tests segment round trips, sparse index lookups, tombstones and reopening.
+ */
+class ClientArchiveTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2023, 1, 1, 9, 30, 15, 123_456_789);
+
+    @TempDir
+    Path directory;
+
+    private ClientArchive archive;
+
+    @BeforeEach
+    void setUp() {
+        archive = new ClientArchive(directory, 16);
+    }
+
+    private static Client client(long id) {
+        return Client.reconstitute(id, "Nombre" + id, "Apellido" + (id % 7), (int) (id % 90),
+                LocalDate.of(1950, 1, 1).plusDays(id), BASE.plusHours(id), BASE.plusHours(id + 1), id % 3);
+    }
+
+    private static List<Client> clients(long fromId, long toId) {
+        return LongStream.rangeClosed(fromId, toId).mapToObj(ClientArchiveTest::client).collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("Should find every archived client through the sparse index")
+    void shouldFindEveryArchivedClient() {
+        // Given
+        ClientSegment segment = archive.append(clients(1, 1000));
+
+        // Then
+        assertEquals(1000, segment.getRowCount());
+        assertEquals(1000, archive.size());
+        for (long id = 1; id <= 1000; id += 37) {
+            Client found = archive.findById(id).orElseThrow();
+            Client expected = client(id);
+            assertEquals(expected.getFirstName(), found.getFirstName());
+            assertEquals(expected.getLastName(), found.getLastName());
+            assertEquals(expected.getAge(), found.getAge());
+            assertEquals(expected.getBirthDate(), found.getBirthDate());
+            assertEquals(expected.getCreatedAt(), found.getCreatedAt());
+            assertEquals(expected.getUpdatedAt(), found.getUpdatedAt());
+            assertEquals(expected.getVersion(), found.getVersion());
+        }
+        assertTrue(archive.findById(0).isEmpty());
+        assertTrue(archive.findById(1001).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should hide removed clients and keep tombstones across restarts")
+    void shouldHideRemovedClientsAcrossRestarts() {
+        // Given
+        archive.append(clients(1, 100));
+
+        // When
+        archive.remove(List.of(5L, 50L, 999L));
+        ClientArchive reopened = new ClientArchive(directory, 16);
+
+        // Then
+        assertEquals(98, archive.size());
+        assertEquals(98, reopened.size());
+        assertTrue(reopened.findById(5).isEmpty());
+        assertTrue(reopened.findById(50).isEmpty());
+        assertTrue(reopened.findById(6).isPresent());
+        assertEquals(98, reopened.findAll().size());
+    }
+
+    @Test
+    @DisplayName("Should show a client archived again after it was removed")
+    void shouldShowClientArchivedAgain() {
+        // Given
+        archive.append(clients(1, 10));
+        archive.remove(List.of(3L));
+
+        // When
+        Client renamed = Client.reconstitute(3L, "Otro", "Nombre", 20, LocalDate.of(2000, 1, 1),
+                BASE, BASE.plusDays(40), 7L);
+        archive.append(List.of(renamed));
+
+        // Then
+        Optional<Client> found = archive.findById(3);
+        assertTrue(found.isPresent());
+        assertEquals("Otro", found.get().getFirstName());
+        assertEquals(10, archive.size());
+        assertEquals(1, archive.findAll().stream().filter(client -> client.getId() == 3L).count());
+    }
+
+    @Test
+    @DisplayName("Should aggregate ages by creation range and after removals")
+    void shouldAggregateAges() {
+        // Given
+        archive.append(clients(1, 40));
+
+        // When
+        AgeAggregate firstDay = archive.aggregateAgesCreatedBetween(BASE.minusHours(1), BASE.plusHours(24));
+        archive.remove(List.of(40L));
+
+        // Then
+        assertEquals(23, firstDay.getCount());
+        assertEquals(39, archive.aggregateAges().getCount());
+        assertEquals(39, archive.aggregateAges().getMax());
+        assertEquals(AgeAggregate.EMPTY, archive.aggregateAgesCreatedBetween(BASE.plusYears(1), BASE.plusYears(2)));
+    }
+
+    @Test
+    @DisplayName("Should select matching IDs within a range")
+    void shouldFindIdsWithinRange() {
+        // Given
+        archive.append(clients(1, 100));
+        archive.append(clients(101, 200));
+
+        // When
+        List<Long> ids = archive.findIds(client -> client.getId() % 10 == 0, 50, 150);
+
+        // Then
+        assertEquals(List.of(60L, 70L, 80L, 90L, 100L, 110L, 120L, 130L, 140L, 150L), ids);
+    }
+
+    @Test
+    @DisplayName("Should detect archived identities")
+    void shouldDetectArchivedIdentities() {
+        // Given
+        archive.append(clients(1, 100));
+        Client archived = client(42);
+
+        // Then
+        assertTrue(archive.existsByIdentity(
+                ClientIdentity.of(archived.getFirstName(), archived.getLastName(), archived.getBirthDate())));
+        assertFalse(archive.existsByIdentity(
+                ClientIdentity.of("Nadie", "Nunca", archived.getBirthDate())));
+    }
+
+    @Test
+    @DisplayName("Should discard a segment left unfinished by a crash")
+    void shouldDiscardUnfinishedSegment() throws Exception {
+        // Given
+        archive.append(clients(1, 10));
+        Path leftover = directory.resolve("segment-00000002.seg.tmp");
+        Files.write(leftover, new byte[]{1, 2, 3});
+
+        // When
+        ClientArchive reopened = new ClientArchive(directory, 16);
+
+        // Then
+        assertFalse(Files.exists(leftover));
+        assertEquals(10, reopened.size());
+    }
+
+    @Test
+    @DisplayName("Should page through visible clients across segments in ID order")
+    void shouldPageAcrossSegments() {
+        // Given
+        archive.append(clients(1, 100));
+        archive.append(clients(101, 200));
+        archive.remove(List.of(40L, 41L, 150L));
+
+        // When
+        List<Long> ids = new ArrayList<>();
+        long cursor = 0;
+        List<Client> page;
+        do {
+            page = archive.findPage(cursor, 30);
+            page.forEach(client -> ids.add(client.getId()));
+            if (!page.isEmpty()) {
+                cursor = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == 30);
+
+        // Then
+        List<Long> expected = LongStream.rangeClosed(1, 200)
+                .filter(id -> id != 40 && id != 41 && id != 150)
+                .boxed()
+                .collect(Collectors.toList());
+        assertEquals(expected, ids);
+        assertEquals(List.of(95L, 96L, 97L, 98L, 99L, 100L, 101L, 102L),
+                archive.findPage(94, 8).stream().map(Client::getId).collect(Collectors.toList()));
+    }
+}
@@ -0,0 +1,144 @@
+package com.microservice.mscclientes.infrastructure.cache;
+
+import com.microservice.mscclientes.infrastructure.persistence.repository.CacheEpochJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClientCacheCoherence.
+ * Tests that only writes made by other instances raise remote invalidations
+ * and that each write transaction bumps the epoch once, after it commits.
+ */
+@ExtendWith(MockitoExtension.class)
+class ClientCacheCoherenceTest {
+
+    @Mock
+    private CacheEpochJpaRepository epochRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ClientCacheCoherence coherence;
+
+    @BeforeEach
+    void setUp() {
+        coherence = new ClientCacheCoherence(epochRepository, eventPublisher, transactionManager, new SimpleMeterRegistry());
+        coherence.observe(10);
+    }
+
+    @Test
+    @DisplayName("Should ignore epochs produced by local commits")
+    void shouldIgnoreLocalEpochs() {
+        // Given
+        coherence.onLocalCommit(11);
+        coherence.onLocalCommit(12);
+
+        // When
+        long remote = coherence.observe(12);
+
+        // Then
+        assertEquals(0, remote);
+        assertEquals(12, coherence.getLastSeenEpoch());
+    }
+
+    @Test
+    @DisplayName("Should count writes interleaved from other instances")
+    void shouldCountRemoteWrites() {
+        // Given
+        coherence.onLocalCommit(12);
+
+        // When
+        long remote = coherence.observe(14);
+
+        // Then
+        assertEquals(3, remote);
+    }
+
+    @Test
+    @DisplayName("Should treat an epoch that went backwards as a remote change")
+    void shouldInvalidateWhenEpochGoesBackwards() {
+        // When & Then
+        assertEquals(1, coherence.observe(3));
+        assertEquals(3, coherence.getLastSeenEpoch());
+    }
+
+    @Test
+    @DisplayName("Should publish a remote event when polling finds foreign writes")
+    void shouldPublishRemoteEventOnPoll() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = List.<Object[]>of(new Object[]{11L, now.minusNanos(250_000_000), now});
+        when(epochRepository.findEpochWithTimestamps(ClientCacheCoherence.CLIENTS)).thenReturn(rows);
+
+        // When
+        coherence.poll();
+
+        // Then
+        ArgumentCaptor<ClientDataChangedEvent> event = ArgumentCaptor.forClass(ClientDataChangedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertTrue(event.getValue().isRemote());
+        assertEquals(11, event.getValue().getEpoch());
+    }
+
+    @Test
+    @DisplayName("Should not publish when polling finds no new epoch")
+    void shouldNotPublishWithoutChanges() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> rows = List.<Object[]>of(new Object[]{10L, now, now});
+        when(epochRepository.findEpochWithTimestamps(ClientCacheCoherence.CLIENTS)).thenReturn(rows);
+
+        // When
+        coherence.poll();
+
+        // Then
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    @DisplayName("Should bump the epoch once per transaction, only after it commits")
+    void shouldBumpEpochOnceAfterCommit() {
+        // Given
+        when(epochRepository.increment(ClientCacheCoherence.CLIENTS)).thenReturn(1);
+        when(epochRepository.findEpoch(ClientCacheCoherence.CLIENTS)).thenReturn(11L);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            coherence.recordWrite();
+            coherence.recordWrite();
+
+            // Then
+            verify(epochRepository, never()).increment(any());
+            List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+            assertEquals(1, synchronizations.size());
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+            synchronizations.forEach(synchronization ->
+                    synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        verify(epochRepository, times(1)).increment(ClientCacheCoherence.CLIENTS);
+        assertFalse(TransactionSynchronizationManager.hasResource(coherence));
+        assertEquals(0, coherence.observe(11));
+    }
+}
@@ -0,0 +1,102 @@
+package com.microservice.mscclientes.infrastructure.concurrency;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for AdaptiveConcurrencyLimiter.
+ * Feeds synthetic latencies to check that the limit follows load.
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(5);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        limiter = new AdaptiveConcurrencyLimiter(20, 4, 200, 0.5, 0.2, 1.5, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("Should shrink the limit when latency rises above the baseline")
+    void shouldShrinkOnLatencyIncrease() {
+        // Given
+        for (int i = 0; i < 100; i++) {
+            limiter.release(false, 20, FAST, false);
+        }
+        int before = limiter.getLimit();
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            limiter.release(false, 20, SLOW, false);
+        }
+
+        // Then
+        assertTrue(limiter.getLimit() < before / 2, "limit " + limiter.getLimit() + " vs " + before);
+        assertTrue(limiter.getLimit() >= 4);
+    }
+
+    @Test
+    @DisplayName("Should grow the limit while latency is stable and the limit is in use")
+    void shouldGrowWhenHealthyAndBusy() {
+        // When
+        for (int i = 0; i < 100; i++) {
+            limiter.release(false, limiter.getLimit(), FAST, false);
+        }
+
+        // Then
+        assertTrue(limiter.getLimit() > 20);
+        assertTrue(limiter.getLimit() <= 200);
+    }
+
+    @Test
+    @DisplayName("Should not grow the limit while it is mostly unused")
+    void shouldNotGrowWhenIdle() {
+        // When
+        for (int i = 0; i < 100; i++) {
+            limiter.release(false, 1, FAST, false);
+        }
+
+        // Then
+        assertEquals(20, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should back off on server errors")
+    void shouldBackOffOnDrops() {
+        // When
+        limiter.release(false, 20, FAST, true);
+
+        // Then
+        assertEquals(18, limiter.getLimit());
+    }
+
+    @Test
+    @DisplayName("Should shed heavy requests before light ones")
+    void shouldPrioritizeLightRequests() {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire(true) > 0);
+        }
+
+        // When & Then
+        assertEquals(-1, limiter.tryAcquire(true));
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire(false) > 0);
+        }
+        assertEquals(-1, limiter.tryAcquire(false));
+        assertEquals(1.0, meterRegistry.get("clients.concurrency.rejected").tag("priority", "heavy").counter().count());
+        assertEquals(1.0, meterRegistry.get("clients.concurrency.rejected").tag("priority", "light").counter().count());
+        assertEquals(20, limiter.getInflight());
+    }
+}
@@ -0,0 +1,42 @@
+package com.microservice.mscclientes.infrastructure.duplicate;
+
+import com.microservice.mscclientes.domain.repository.ClientRepository;
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for BloomDuplicateClientRepository.
+ * Tests how database probes are counted before and after the filter is loaded.
+ */
+class BloomDuplicateClientRepositoryTest {
+
+    private static final ClientIdentity IDENTITY = ClientIdentity.of("Juan", "Pérez", LocalDate.of(1993, 5, 15));
+
+    @Test
+    @DisplayName("Should count probes made before the filter is loaded as unfiltered, not as false positives")
+    void shouldCountProbesBeforeLoadAsUnfiltered() {
+        // Given
+        ClientRepository delegate = mock(ClientRepository.class);
+        ClientIdentityFilter filter = mock(ClientIdentityFilter.class);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        BloomDuplicateClientRepository repository = new BloomDuplicateClientRepository(delegate, filter, meterRegistry);
+        when(filter.isReady()).thenReturn(false, true);
+        when(filter.mightContain(IDENTITY)).thenReturn(true);
+
+        // When
+        assertFalse(repository.existsByIdentity(IDENTITY));
+        assertFalse(repository.existsByIdentity(IDENTITY));
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("clients.duplicate_guard.probes").tag("result", "unfiltered").counter().count());
+        assertEquals(1.0, meterRegistry.get("clients.duplicate_guard.probes").tag("result", "false_positive").counter().count());
+        verify(delegate, times(2)).existsByIdentity(IDENTITY);
+    }
+}
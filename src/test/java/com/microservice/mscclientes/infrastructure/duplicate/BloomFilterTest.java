@@ -0,0 +1,60 @@
+package com.microservice.mscclientes.infrastructure.duplicate;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for BloomFilter.
+ * Tests the absence of false negatives and the false positive rate at the sized load.
+ */
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Should never report an inserted key as absent")
+    void shouldHaveNoFalseNegatives() {
+        // Given
+        BloomFilter filter = BloomFilter.create(10_000, 0.01);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("client-" + i);
+        }
+
+        // Then
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain("client-" + i));
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep the false positive rate near the target at the expected load")
+    void shouldMeetTargetFalsePositiveRate() {
+        // Given
+        BloomFilter filter = BloomFilter.create(50_000, 0.01);
+        for (int i = 0; i < 50_000; i++) {
+            filter.put("present-" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("absent-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        double observed = falsePositives / 100_000.0;
+        assertTrue(observed < 0.02, "observed false positive rate " + observed);
+        assertEquals(0.01, filter.expectedFalsePositiveRate(), 0.005);
+    }
+
+    @Test
+    @DisplayName("Should reject an invalid false positive rate")
+    void shouldRejectInvalidRate() {
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(100, 1.0));
+    }
+}
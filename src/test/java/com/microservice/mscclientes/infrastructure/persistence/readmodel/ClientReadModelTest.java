@@ -0,0 +1,93 @@
+package com.microservice.mscclientes.infrastructure.persistence.readmodel;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.entity.ClientChange;
+import com.microservice.mscclientes.domain.repository.ClientChangeRepository;
+import com.microservice.mscclientes.infrastructure.persistence.mapper.ClientMapper;
+import com.microservice.mscclientes.infrastructure.persistence.repository.ClientJpaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClientReadModel.
+ * Tests the change feed sequence recorded with a full load and the catch-up from the feed.
+ */
+class ClientReadModelTest {
+
+    @Test
+    @DisplayName("Should record the newest settled change as the sequence, not the newest change")
+    @SuppressWarnings("unchecked")
+    void shouldRecordSettledSequenceOnRebuild() {
+        // Given
+        ClientJpaRepository jpaRepository = mock(ClientJpaRepository.class);
+        ClientChangeRepository changeRepository = mock(ClientChangeRepository.class);
+        when(jpaRepository.findAll()).thenReturn(List.of());
+        when(changeRepository.findLatestSequence()).thenReturn(Optional.of(42L));
+        when(changeRepository.findLatestSequenceBefore(any())).thenReturn(Optional.of(40L));
+        ClientReadModel readModel = new ClientReadModel(jpaRepository, new ClientMapper(), changeRepository,
+                mock(ObjectProvider.class), mock(ObjectProvider.class), 2000, new SimpleMeterRegistry());
+
+        // When
+        LocalDateTime before = LocalDateTime.now();
+        readModel.rebuild();
+
+        // Then
+        assertEquals(40L, readModel.getSequence());
+        ArgumentCaptor<LocalDateTime> settledBefore = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(changeRepository).findLatestSequenceBefore(settledBefore.capture());
+        Duration setBack = Duration.between(settledBefore.getValue(), before);
+        assertTrue(setBack.compareTo(Duration.ofMillis(1900)) > 0 && setBack.compareTo(Duration.ofMillis(2000)) <= 0);
+    }
+
+    @Test
+    @DisplayName("Should reload only the clients changed in the feed when catching up")
+    @SuppressWarnings("unchecked")
+    void shouldCatchUpFromChangeFeed() {
+        // Given
+        ClientJpaRepository jpaRepository = mock(ClientJpaRepository.class);
+        ClientChangeRepository changeRepository = mock(ClientChangeRepository.class);
+        ClientMapper mapper = new ClientMapper();
+        Client kept = client(1L, "Juan");
+        Client renamed = client(2L, "Ana");
+        when(jpaRepository.findAll()).thenReturn(List.of(mapper.toJpaEntity(kept), mapper.toJpaEntity(client(2L, "Anna")),
+                mapper.toJpaEntity(client(3L, "Luis"))));
+        when(changeRepository.findLatestSequenceBefore(any())).thenReturn(Optional.of(10L), Optional.of(12L));
+        ClientReadModel readModel = new ClientReadModel(jpaRepository, mapper, changeRepository,
+                mock(ObjectProvider.class), mock(ObjectProvider.class), 2000, new SimpleMeterRegistry());
+        readModel.rebuild();
+        when(changeRepository.findAfter(eq(10L), any(), anyInt())).thenReturn(List.of(
+                new ClientChange(11L, 2L, ClientChange.Type.UPDATED, renamed, LocalDateTime.now()),
+                new ClientChange(12L, 3L, ClientChange.Type.DELETED, null, LocalDateTime.now())));
+        when(jpaRepository.findAllById(List.of(2L, 3L))).thenReturn(List.of(mapper.toJpaEntity(renamed)));
+
+        // When
+        readModel.catchUp();
+
+        // Then
+        ClientSnapshot snapshot = readModel.current();
+        assertEquals(List.of(1L, 2L), snapshot.getClients().stream().map(Client::getId).toList());
+        assertEquals("Ana", snapshot.getClients().get(1).getFirstName());
+        assertEquals(12L, readModel.getSequence());
+        verify(jpaRepository, times(1)).findAll();
+    }
+
+    private static Client client(Long id, String firstName) {
+        LocalDateTime now = LocalDateTime.now();
+        return Client.reconstitute(id, firstName, "Pérez", 30, LocalDate.of(1993, 5, 15), now, now, 0L);
+    }
+}
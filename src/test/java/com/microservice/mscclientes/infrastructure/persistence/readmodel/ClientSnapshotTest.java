@@ -0,0 +1,135 @@
+package com.microservice.mscclientes.infrastructure.persistence.readmodel;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.valueobject.ClientMetrics;
+import com.microservice.mscclientes.domain.valueobject.ClientSegmentMetrics;
+import com.microservice.mscclientes.domain.valueobject.SegmentDimension;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ClientSnapshot.
+ * Tests copy-on-write updates and metrics derived from the snapshot.
+ */
+class ClientSnapshotTest {
+
+    @Test
+    @DisplayName("Should keep clients ordered by ID")
+    void shouldKeepClientsOrderedById() {
+        // Given
+        ClientSnapshot snapshot = ClientSnapshot.of(List.of(client(3L, 40), client(1L, 20)));
+
+        // When
+        ClientSnapshot updated = snapshot.withClient(client(2L, 30));
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L), updated.getClients().stream().map(Client::getId).toList());
+        assertEquals(2, snapshot.size());
+    }
+
+    @Test
+    @DisplayName("Should replace existing client on upsert")
+    void shouldReplaceExistingClientOnUpsert() {
+        // Given
+        ClientSnapshot snapshot = ClientSnapshot.of(List.of(client(1L, 20), client(2L, 30)));
+
+        // When
+        ClientSnapshot updated = snapshot.withClient(client(1L, 25));
+
+        // Then
+        assertEquals(2, updated.size());
+        assertEquals(25, updated.findById(1L).orElseThrow().getAge());
+        assertEquals(20, snapshot.findById(1L).orElseThrow().getAge());
+    }
+
+    @Test
+    @DisplayName("Should remove client and ignore unknown IDs")
+    void shouldRemoveClientAndIgnoreUnknownIds() {
+        // Given
+        ClientSnapshot snapshot = ClientSnapshot.of(List.of(client(1L, 20), client(2L, 30)));
+
+        // When
+        ClientSnapshot removed = snapshot.withoutClient(1L);
+
+        // Then
+        assertEquals(1, removed.size());
+        assertTrue(removed.findById(1L).isEmpty());
+        assertSame(snapshot, snapshot.withoutClient(99L));
+    }
+
+    @Test
+    @DisplayName("Should calculate population metrics from running sums")
+    void shouldCalculatePopulationMetrics() {
+        // Given
+        ClientSnapshot snapshot = ClientSnapshot.of(List.of(client(1L, 20), client(2L, 30), client(3L, 40)));
+
+        // When
+        ClientMetrics metrics = snapshot.toMetrics();
+
+        // Then
+        assertEquals(30.0, metrics.getAverageAge(), 0.0001);
+        assertEquals(Math.sqrt(200.0 / 3), metrics.getStandardDeviation(), 0.0001);
+        assertEquals(3, metrics.getTotalClients());
+        assertEquals(new ClientTableFingerprint(3L, 3L, 90L), snapshot.fingerprint());
+    }
+
+    @Test
+    @DisplayName("Should return zero metrics for empty snapshot")
+    void shouldReturnZeroMetricsForEmptySnapshot() {
+        // When
+        ClientMetrics metrics = ClientSnapshot.EMPTY.toMetrics();
+
+        // Then
+        assertEquals(new ClientMetrics(0.0, 0.0, 0), metrics);
+    }
+
+    @Test
+    @DisplayName("Should merge partial aggregates per segment")
+    void shouldMergePartialAggregatesPerSegment() {
+        // Given
+        ClientSnapshot snapshot = ClientSnapshot.of(List.of(
+                client(1L, 12), client(2L, 30), client(3L, 40), client(4L, 16)));
+
+        // When
+        List<ClientSegmentMetrics> segments = snapshot.segmentMetrics(List.of(SegmentDimension.ADULT));
+
+        // Then
+        assertEquals(2, segments.size());
+        ClientSegmentMetrics minors = segments.stream()
+                .filter(segment -> segment.getSegment().get(SegmentDimension.ADULT).equals("minor"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2, minors.getAges().getCount());
+        assertEquals(14.0, minors.getAges().getAverage(), 0.0001);
+        assertEquals(12, minors.getAges().getMin());
+        assertEquals(16, minors.getAges().getMax());
+    }
+
+    @Test
+    @DisplayName("Should page through clients after an ID cursor")
+    void shouldPageAfterCursor() {
+        // Given
+        ClientSnapshot snapshot = ClientSnapshot.of(List.of(client(2L, 20), client(5L, 30), client(9L, 40)));
+
+        // When & Then
+        assertEquals(List.of(2L, 5L), snapshot.page(0, 2).stream().map(Client::getId).toList());
+        assertEquals(List.of(5L, 9L), snapshot.page(2, 5).stream().map(Client::getId).toList());
+        assertEquals(List.of(9L), snapshot.page(6, 5).stream().map(Client::getId).toList());
+        assertTrue(snapshot.page(9, 5).isEmpty());
+    }
+
+    private Client client(Long id, int age) {
+        return Client.builder()
+                .id(id)
+                .firstName("Juan")
+                .lastName("Pérez")
+                .age(age)
+                .birthDate(LocalDate.now().minusYears(age))
+                .build();
+    }
+}
@@ -0,0 +1,329 @@
+package com.microservice.mscclientes.infrastructure.persistence.repository;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.exception.ClientVersionConflictException;
+import com.microservice.mscclientes.domain.exception.DuplicateClientException;
+import com.microservice.mscclientes.domain.repository.ClientChangeRepository;
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionChunk;
+import com.microservice.mscclientes.domain.valueobject.ClientDeletionCriteria;
+import com.microservice.mscclientes.domain.valueobject.ClientField;
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
+import com.microservice.mscclientes.domain.valueobject.ClientMetrics;
+import com.microservice.mscclientes.domain.valueobject.ClientNameStatistics;
+import com.microservice.mscclientes.domain.valueobject.ClientPatch;
+import com.microservice.mscclientes.domain.valueobject.ClientSegmentMetrics;
+import com.microservice.mscclientes.domain.valueobject.SegmentDimension;
+import com.microservice.mscclientes.infrastructure.cache.ClientCacheCoherence;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ShardedClientRepository over three in-memory H2 databases.
+ * Tests ID routing, k-way merged reads, exact merged aggregates, optimistic
+ * updates, the unique identity index and chunked deletion across shards.
+ */
+@ExtendWith(MockitoExtension.class)
+class ShardedClientRepositoryTest {
+
+    private static final int SHARDS = 3;
+    private static final String[] LAST_NAMES = {"Lopez", "Perez", "Garcia", "Ruiz", "Lopez", "Lopez", "Perez"};
+
+    @Mock
+    private ClientChangeRepository changeRepository;
+
+    @Mock
+    private ClientCacheCoherence cacheCoherence;
+
+    private ShardedClientRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        String run = UUID.randomUUID().toString();
+        List<DataSource> shards = IntStream.range(0, SHARDS)
+                .mapToObj(shard -> dataSource(run + "-shard" + shard))
+                .collect(Collectors.toList());
+        repository = new ShardedClientRepository(shards, changeRepository, cacheCoherence,
+                new DataSourceTransactionManager(dataSource(run + "-primary")), 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        repository.close();
+    }
+
+    private static DataSource dataSource(String name) {
+        return new DriverManagerDataSource("jdbc:h2:mem:" + name + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    private List<Client> saveClients(int count) {
+        List<Client> saved = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            int age = (i * 7) % 60;
+            saved.add(repository.save(Client.builder()
+                    .firstName("Nombre" + (i % 11))
+                    .lastName(LAST_NAMES[i % LAST_NAMES.length])
+                    .age(age)
+                    .birthDate(LocalDate.now().minusYears(age).minusDays(10 + i))
+                    .build()));
+        }
+        return saved;
+    }
+
+    @Test
+    @DisplayName("Should reject a second client with the same normalized identity on insert and on rename")
+    void shouldRejectDuplicateIdentity() {
+        // Given
+        LocalDate birthDate = LocalDate.of(1990, 3, 15);
+        ShardedClientIds ids = new ShardedClientIds(SHARDS);
+        int shard = ids.shardFor(ClientIdentity.of("José", "Pérez", birthDate));
+        String otherName = IntStream.range(0, 100).mapToObj(i -> "Nombre" + i)
+                .filter(name -> ids.shardFor(ClientIdentity.of(name, "Pérez", birthDate)) == shard)
+                .findFirst().orElseThrow();
+        repository.save(Client.builder().firstName("José").lastName("Pérez").age(34).birthDate(birthDate).build());
+        Client other = repository.save(Client.builder().firstName(otherName).lastName("Pérez").age(34).birthDate(birthDate).build());
+
+        // When & Then
+        DuplicateClientException duplicate = assertThrows(DuplicateClientException.class, () -> repository.save(
+                Client.builder().firstName(" jose ").lastName("PEREZ").age(34).birthDate(birthDate).build()));
+        assertEquals(ClientIdentity.of("José", "Pérez", birthDate), duplicate.getIdentity());
+        assertThrows(DuplicateClientException.class,
+                () -> repository.update(other.getId(), new ClientPatch("Jose", null, null, null), null));
+        assertEquals(2, repository.count());
+        assertEquals(otherName, repository.findById(other.getId()).orElseThrow().getFirstName());
+    }
+
+    @Test
+    @DisplayName("Should route every client to a shard and merge reads in ID order")
+    void shouldRouteClientsAndMergeReads() {
+        // Given
+        List<Client> saved = saveClients(40);
+
+        // When
+        List<Client> all = repository.findAll();
+
+        // Then
+        Set<Long> shardsUsed = saved.stream().map(client -> client.getId() % SHARDS).collect(Collectors.toSet());
+        assertEquals(SHARDS, shardsUsed.size());
+        assertEquals(40, all.size());
+        assertEquals(40, repository.count());
+        for (int i = 1; i < all.size(); i++) {
+            assertTrue(all.get(i - 1).getId() < all.get(i).getId());
+        }
+        for (Client client : saved) {
+            Client found = repository.findById(client.getId()).orElseThrow();
+            assertEquals(client.getFirstName(), found.getFirstName());
+            assertEquals(client.getAge(), found.getAge());
+            assertTrue(repository.existsById(client.getId()));
+        }
+        Client first = saved.get(0);
+        assertTrue(repository.existsByIdentity(
+                ClientIdentity.of(first.getFirstName(), first.getLastName(), first.getBirthDate())));
+        verify(changeRepository, times(40)).append(any());
+    }
+
+    @Test
+    @DisplayName("Should merge age aggregates exactly across shards")
+    void shouldMergeAgeAggregatesExactly() {
+        // Given
+        List<Client> saved = saveClients(50);
+        AgeAggregate expected = saved.stream().collect(AgeAggregate.collector(Client::getAge));
+
+        // When
+        ClientMetrics metrics = repository.calculateAgeMetrics();
+        List<ClientSegmentMetrics> segments = repository.calculateSegmentedAgeMetrics(List.of(SegmentDimension.ADULT));
+        AgeAggregate created = repository.aggregateAgesCreatedBetween(
+                LocalDateTime.now().minusHours(1), LocalDateTime.now().plusHours(1));
+
+        // Then
+        assertEquals(expected.toClientMetrics().getTotalClients(), metrics.getTotalClients());
+        assertEquals(expected.getAverage(), metrics.getAverageAge(), 1e-9);
+        assertEquals(expected.getStandardDeviation(), metrics.getStandardDeviation(), 1e-9);
+        assertEquals(2, segments.size());
+        assertEquals(expected, segments.stream()
+                .map(ClientSegmentMetrics::getAges)
+                .reduce(AgeAggregate.EMPTY, AgeAggregate::merge));
+        assertEquals(expected, created);
+    }
+
+    @Test
+    @DisplayName("Should merge exact name statistics across shards")
+    void shouldMergeNameStatistics() {
+        // Given
+        saveClients(70);
+
+        // When
+        ClientNameStatistics statistics = repository.calculateNameStatistics(2);
+
+        // Then
+        assertEquals(70, statistics.getClientsObserved());
+        assertEquals(11, statistics.getDistinctFirstNames().getEstimate());
+        assertEquals(4, statistics.getDistinctLastNames().getEstimate());
+        assertEquals("Lopez", statistics.getTopLastNames().get(0).getName());
+        assertEquals(30, statistics.getTopLastNames().get(0).getCount());
+        assertEquals("Perez", statistics.getTopLastNames().get(1).getName());
+        assertEquals(20, statistics.getTopLastNames().get(1).getCount());
+    }
+
+    @Test
+    @DisplayName("Should page through every shard in global ID order")
+    void shouldPageAcrossShards() {
+        // Given
+        List<Long> expected = saveClients(25).stream().map(Client::getId).sorted().collect(Collectors.toList());
+
+        // When
+        List<Long> paged = new ArrayList<>();
+        long cursor = 0;
+        List<Client> page;
+        do {
+            page = repository.findPage(cursor, 4);
+            page.forEach(client -> paged.add(client.getId()));
+            if (!page.isEmpty()) {
+                cursor = page.get(page.size() - 1).getId();
+            }
+        } while (page.size() == 4);
+
+        // Then
+        assertEquals(expected, paged);
+    }
+
+    @Test
+    @DisplayName("Should find clients by ID on their owning shards and skip unknown IDs")
+    void shouldFindAllByIdAcrossShards() {
+        // Given
+        List<Client> saved = saveClients(12);
+        List<Long> requested = List.of(saved.get(0).getId(), saved.get(5).getId(), saved.get(11).getId(),
+                saved.get(11).getId() + SHARDS * 100L);
+
+        // When
+        List<Client> found = repository.findAllById(requested);
+
+        // Then
+        assertEquals(requested.subList(0, 3).stream().sorted().collect(Collectors.toList()),
+                found.stream().map(Client::getId).sorted().collect(Collectors.toList()));
+        assertEquals(saved.get(5).getLastName(), found.stream()
+                .filter(client -> client.getId().equals(saved.get(5).getId()))
+                .findFirst().orElseThrow().getLastName());
+    }
+
+    @Test
+    @DisplayName("Should read only the columns behind the requested fields from every shard")
+    void shouldProjectRequestedFields() {
+        // Given
+        List<Client> saved = saveClients(9);
+
+        // When
+        List<Client> projected = repository.findAll(EnumSet.of(ClientField.FIRST_NAME, ClientField.ESTIMATED_DEATH_DATE));
+
+        // Then
+        assertEquals(saved.stream().map(Client::getId).sorted().collect(Collectors.toList()),
+                projected.stream().map(Client::getId).collect(Collectors.toList()));
+        Client first = projected.stream().filter(client -> client.getId().equals(saved.get(0).getId())).findFirst().orElseThrow();
+        assertEquals(saved.get(0).getFirstName(), first.getFirstName());
+        assertEquals(saved.get(0).getBirthDate(), first.getBirthDate());
+        assertEquals(0L, first.getVersion());
+        assertNull(first.getLastName());
+        assertNull(first.getAge());
+        assertNull(first.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("Should update on the owning shard and reject a stale version")
+    void shouldRejectStaleVersion() {
+        // Given
+        Client client = saveClients(5).get(4);
+        ClientPatch patch = new ClientPatch("Otro", null, null, null);
+
+        // When
+        Client updated = repository.update(client.getId(), patch, 0L).orElseThrow();
+
+        // Then
+        assertEquals("Otro", updated.getFirstName());
+        assertEquals(1L, updated.getVersion());
+        assertThrows(ClientVersionConflictException.class, () -> repository.update(client.getId(), patch, 0L));
+        assertTrue(repository.update(client.getId() + SHARDS * 100L, patch, 0L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should delete matching clients chunk by chunk across shards")
+    void shouldDeleteInChunksAcrossShards() {
+        // Given
+        List<Client> saved = saveClients(30);
+        ClientDeletionCriteria minors = ClientDeletionCriteria.ageBetween(0, 17);
+
+        // When
+        List<Long> deleted = new ArrayList<>();
+        long cursor = 0;
+        ClientDeletionChunk chunk;
+        do {
+            chunk = repository.deleteChunk(minors, cursor, 4);
+            assertTrue(chunk.getLastScannedId() > cursor || chunk.getScanned() == 0);
+            cursor = chunk.getLastScannedId();
+            deleted.addAll(chunk.getDeletedIds());
+        } while (chunk.getScanned() == 4);
+
+        // Then
+        List<Long> expected = saved.stream()
+                .filter(client -> client.getAge() < 18)
+                .map(Client::getId)
+                .sorted()
+                .collect(Collectors.toList());
+        assertEquals(expected, deleted);
+        assertTrue(repository.findAll().stream().allMatch(Client::isAdult));
+    }
+
+    @Test
+    @DisplayName("Should scan only the IDs between the first and last match of a range criteria")
+    void shouldBoundChunksByMatchingIds() {
+        // Given
+        List<Client> saved = saveClients(30);
+        Client oldest = saved.get(17);
+        ClientDeletionCriteria oldestAge = ClientDeletionCriteria.ageBetween(59, 59);
+
+        // When
+        ClientDeletionChunk first = repository.deleteChunk(oldestAge, 0, 4);
+        ClientDeletionChunk next = repository.deleteChunk(oldestAge, first.getLastScannedId(), 4);
+
+        // Then
+        assertEquals(1, first.getScanned());
+        assertEquals(List.of(oldest.getId()), first.getDeletedIds());
+        assertEquals(oldest.getId().longValue(), first.getLastScannedId());
+        assertEquals(0, next.getScanned());
+    }
+
+    @Test
+    @DisplayName("Should map global ID cursors to each shard's local IDs")
+    void shouldMapCursorsToLocalIds() {
+        ShardedClientIds ids = new ShardedClientIds(SHARDS);
+        for (int shard = 0; shard < SHARDS; shard++) {
+            for (long globalAfter = 0; globalAfter < 30; globalAfter++) {
+                long localAfter = ids.localAfter(shard, globalAfter);
+                assertTrue(ids.toGlobal(shard, localAfter + 1) > globalAfter);
+                assertTrue(ids.toGlobal(shard, localAfter) <= globalAfter);
+                assertEquals(shard, ids.shardOf(ids.toGlobal(shard, localAfter + 1)));
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.microservice.mscclientes.infrastructure.pool;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for PoolSizeTuner.
+ * Drives the tuner against a simulated database under steady load and checks
+ * that the pool size converges and stays within its bounds.
+ */
+class PoolSizeTunerTest {
+
+    private static final double MILLIS = 1_000_000;
+
+    private PoolSizeTuner tuner() {
+        return new PoolSizeTuner(4, 60, 2, 0.1, 1.25, 50, 1_000, 1_000);
+    }
+
+    @Test
+    @DisplayName("Should grow an undersized pool until callers stop waiting")
+    void shouldGrowUndersizedPoolUntilWaitsVanish() {
+        // Given: 1000 queries/s of 10 ms each need ~10 connections; the database has 16 cores
+        List<Integer> sizes = run(tuner(), 4, 1_000, 10, 16, 100);
+
+        // Then
+        assertConverged(sizes, 11, 17);
+        assertTrue(simulate(last(sizes), 1_000, 10, 16).getMeanAcquireNanos()
+                < 0.1 * simulate(last(sizes), 1_000, 10, 16).getMeanUsageNanos());
+    }
+
+    @Test
+    @DisplayName("Should stop growing once the database saturates")
+    void shouldStopGrowingWhenDatabaseSaturates() {
+        // Given: demand for ~30 connections against a database with 16 cores
+        List<Integer> sizes = run(tuner(), 4, 3_000, 10, 16, 100);
+
+        // Then: more connections than ~1.25x the cores only inflate query latency
+        assertConverged(sizes, 16, 20);
+    }
+
+    @Test
+    @DisplayName("Should shrink an oversized pool with idle headroom")
+    void shouldShrinkOversizedPool() {
+        // Given
+        List<Integer> sizes = run(tuner(), 40, 500, 10, 16, 100);
+
+        // Then
+        assertConverged(sizes, 6, 12);
+    }
+
+    @Test
+    @DisplayName("Should keep the size within bounds and ignore quiet intervals")
+    void shouldRespectBoundsAndIgnoreQuietIntervals() {
+        // Given
+        PoolSizeTuner tuner = tuner();
+
+        // When & Then
+        assertEquals(60, tuner.next(60, new PoolSample(1_000, 50 * MILLIS, 10 * MILLIS, 10 * MILLIS, 60, 30)));
+        assertEquals(4, tuner.next(4, new PoolSample(1_000, 0, 10 * MILLIS, 10 * MILLIS, 0, 0)));
+        assertEquals(20, tuner.next(20, new PoolSample(10, 50 * MILLIS, 10 * MILLIS, 10 * MILLIS, 20, 5)));
+        assertEquals(60, tuner.next(100, new PoolSample(0, 0, 0, 0, 0, 0)));
+    }
+
+    @Test
+    @DisplayName("Should judge saturation by statement time, not by how long connections are held")
+    void shouldIgnoreHoldTimeOutsideStatements() {
+        // Given
+        PoolSizeTuner tuner = tuner();
+        tuner.next(20, new PoolSample(1_000, 0.2 * MILLIS, 10 * MILLIS, 10 * MILLIS, 20, 0));
+
+        // When: the application holds connections longer while statements stay as fast
+        int size = tuner.next(20, new PoolSample(1_000, 0.2 * MILLIS, 30 * MILLIS, 10 * MILLIS, 20, 0));
+
+        // Then
+        assertEquals(20, size);
+    }
+
+    @Test
+    @DisplayName("Should let the latency baseline follow a lasting rise once the window has passed")
+    void shouldDecayLatencyBaseline() {
+        // Given
+        PoolSizeTuner tuner = new PoolSizeTuner(4, 60, 2, 0.1, 1.25, 50, 1, 5);
+        tuner.next(20, new PoolSample(1_000, 0.2 * MILLIS, 10 * MILLIS, 10 * MILLIS, 20, 0));
+
+        // When: statements become slower for good, e.g. as the tables grow
+        List<Integer> sizes = new ArrayList<>();
+        for (int tick = 0; tick < 8; tick++) {
+            sizes.add(tuner.next(20, new PoolSample(1_000, 0.2 * MILLIS, 20 * MILLIS, 20 * MILLIS, 20, 0)));
+        }
+
+        // Then
+        assertEquals(18, sizes.get(0));
+        assertEquals(20, last(sizes));
+        assertEquals(20 * MILLIS, tuner.getBaselineLatencyNanos());
+    }
+
+    private List<Integer> run(PoolSizeTuner tuner, int initialSize, double queriesPerSecond,
+                              double serviceMillis, int databaseCores, int ticks) {
+        List<Integer> sizes = new ArrayList<>();
+        int size = initialSize;
+        for (int tick = 0; tick < ticks; tick++) {
+            size = tuner.next(size, simulate(size, queriesPerSecond, serviceMillis, databaseCores));
+            sizes.add(size);
+        }
+        return sizes;
+    }
+
+    /**
+     * One interval of a pool of the given size in front of a database whose
+     * query latency grows linearly once more queries run than it has cores.
+     * Waiting follows the Sakasegawa approximation of an M/M/c queue.
+     */
+    private PoolSample simulate(int poolSize, double queriesPerSecond, double serviceMillis, int databaseCores) {
+        double latencyMillis = serviceMillis;
+        double active = 0;
+        for (int i = 0; i < 100; i++) {
+            active = Math.min(poolSize, queriesPerSecond * latencyMillis / 1_000);
+            latencyMillis = serviceMillis * Math.max(1, active / databaseCores);
+        }
+        double offered = queriesPerSecond * latencyMillis / 1_000;
+        double utilization = offered / poolSize;
+        double waitMillis;
+        if (utilization >= 1) {
+            waitMillis = latencyMillis * (1 + (utilization - 1) * 100);
+        } else {
+            waitMillis = latencyMillis * Math.pow(utilization, Math.sqrt(2 * (poolSize + 1)) - 1)
+                    / (poolSize * (1 - utilization));
+        }
+        int peak = (int) Math.min(poolSize, Math.ceil(active * 1.2));
+        int pending = (int) Math.max(0, Math.ceil(offered - poolSize));
+        return new PoolSample((long) (queriesPerSecond * 10), waitMillis * MILLIS, latencyMillis * MILLIS,
+                latencyMillis * MILLIS, peak, pending);
+    }
+
+    private void assertConverged(List<Integer> sizes, int low, int high) {
+        List<Integer> tail = sizes.subList(sizes.size() - 50, sizes.size());
+        int min = tail.stream().mapToInt(Integer::intValue).min().orElseThrow();
+        int max = tail.stream().mapToInt(Integer::intValue).max().orElseThrow();
+        assertTrue(min >= low && max <= high, () -> "Pool sizes did not settle in [" + low + ", " + high + "]: " + sizes);
+        assertTrue(max - min <= 2, () -> "Pool size kept oscillating: " + sizes);
+    }
+
+    private int last(List<Integer> sizes) {
+        return sizes.get(sizes.size() - 1);
+    }
+}
@@ -0,0 +1,157 @@
+package com.microservice.mscclientes.infrastructure.profiling;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for QueryProfiler and ProfilingDataSource.
+ * Tests fingerprinting, N+1 and slow query detection, the fingerprint bound,
+ * and row counting through the JDBC proxies.
+ */
+class QueryProfilerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private QueryProfiler profiler(double sampleRate, int maxFingerprints) {
+        return new QueryProfiler(meterRegistry, sampleRate, 100, 10, maxFingerprints, () -> 0.5);
+    }
+
+    @Test
+    @DisplayName("Should fold literals, IN lists and whitespace into one fingerprint")
+    void shouldNormalizeStatements() {
+        // When & Then
+        assertEquals("select * from clients c1_0 where c1_0.id in (?) and c1_0.last_name = ?",
+                SqlFingerprint.normalize("select *  from clients c1_0\n where c1_0.id in (1, 2,3) and c1_0.last_name = 'O''Brien'"));
+        assertEquals(SqlFingerprint.normalize("SELECT age FROM clients WHERE age > 30 LIMIT 10"),
+                SqlFingerprint.normalize("SELECT age FROM clients WHERE age > -4.5 LIMIT 200"));
+    }
+
+    @Test
+    @DisplayName("Should flag a SELECT repeated within one sampled request as N+1")
+    void shouldFlagNPlusOne() {
+        // Given
+        QueryProfiler profiler = profiler(1.0, 100);
+
+        // When
+        assertTrue(profiler.beginRequest());
+        profiler.record("select * from clients", 1_000_000, 0, 20);
+        for (int i = 0; i < 20; i++) {
+            profiler.record("select * from client_changes where client_id = " + i, 100_000, 0, 1);
+        }
+        profiler.endRequest("GET /clients");
+
+        // Then
+        Map<String, Object> top = profiler.top(1, "nPlusOne").get(0);
+        assertEquals("select * from client_changes where client_id = ?", top.get("fingerprint"));
+        assertEquals(1L, top.get("nPlusOne"));
+        assertEquals(20L, top.get("executions"));
+        assertEquals(1.0, meterRegistry.get("clients.sql.n_plus_one").counter().count());
+        assertEquals(21.0, meterRegistry.get("clients.sql.statements_per_request").summary().totalAmount());
+    }
+
+    @Test
+    @DisplayName("Should not flag a SELECT over an IN list repeated in batches as N+1")
+    void shouldNotFlagBatchedReads() {
+        // Given
+        QueryProfiler profiler = profiler(1.0, 100);
+
+        // When
+        profiler.beginRequest();
+        for (int i = 0; i < 20; i++) {
+            profiler.record("select * from clients where id in (" + i + ", " + (i + 100) + ")", 100_000, 0, 2);
+        }
+        profiler.endRequest("POST /clients/lookup");
+
+        // Then
+        assertEquals(0L, profiler.top(1, "nPlusOne").get(0).get("nPlusOne"));
+        assertEquals(0.0, meterRegistry.get("clients.sql.n_plus_one").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should not profile connections of unsampled requests")
+    void shouldSkipUnsampledRequests() throws Exception {
+        // Given
+        QueryProfiler profiler = profiler(0.1, 100);
+        JdbcDataSource h2 = h2("unsampled");
+
+        // When
+        assertFalse(profiler.beginRequest());
+        try (Connection connection = new ProfilingDataSource(h2, profiler).getConnection()) {
+            // Then
+            assertFalse(Proxy.isProxyClass(connection.getClass()));
+        } finally {
+            profiler.endRequest("GET /clients");
+        }
+        assertEquals(0, profiler.getFingerprintCount());
+    }
+
+    @Test
+    @DisplayName("Should count rows and record slow statements through the JDBC proxies")
+    void shouldRecordStatementsThroughProxies() throws Exception {
+        // Given
+        QueryProfiler profiler = new QueryProfiler(meterRegistry, 1.0, 0, 10, 100, () -> 0.5);
+        JdbcDataSource h2 = h2("proxied");
+        try (Connection connection = h2.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("create table clients (id int primary key, age int)");
+            statement.execute("insert into clients select x, x % 90 from system_range(1, 250)");
+        }
+
+        // When
+        try (Connection connection = new ProfilingDataSource(h2, profiler).getConnection()) {
+            try (PreparedStatement statement = connection.prepareStatement("select id from clients where age > ?")) {
+                statement.setInt(1, 9);
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        resultSet.getInt(1);
+                    }
+                }
+            }
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("update clients set age = 1 where id = 1");
+            }
+        }
+
+        // Then
+        List<Map<String, Object>> top = profiler.top(10, "rows");
+        assertEquals("select id from clients where age > ?", top.get(0).get("fingerprint"));
+        assertEquals(221L, top.get(0).get("rows"));
+        assertEquals("update clients set age = ? where id = ?", top.get(1).get("fingerprint"));
+        assertEquals(1L, top.get(1).get("executions"));
+        assertEquals(2.0, meterRegistry.get("clients.sql.slow").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should fold fingerprints beyond the bound into the overflow entry")
+    void shouldBoundFingerprints() {
+        // Given
+        QueryProfiler profiler = profiler(1.0, 3);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            profiler.record("select * from table_" + (char) ('a' + i), 1_000, 0, 0);
+        }
+
+        // Then
+        assertEquals(4, profiler.getFingerprintCount());
+        assertEquals(7L, profiler.top(1, "count").get(0).get("executions"));
+        assertEquals(QueryProfiler.OVERFLOW, profiler.top(1, "count").get(0).get("fingerprint"));
+    }
+
+    private JdbcDataSource h2(String name) {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        return dataSource;
+    }
+}
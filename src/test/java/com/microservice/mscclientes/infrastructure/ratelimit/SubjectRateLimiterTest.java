@@ -0,0 +1,163 @@
+package com.microservice.mscclientes.infrastructure.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SubjectRateLimiter and TokenBucket.
+ * Uses a manual clock so refill timing is deterministic.
+ */
+class SubjectRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong(1_000_000_000L);
+    private SimpleMeterRegistry meterRegistry;
+    private SubjectRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new SubjectRateLimiter(10, 20, 2, 1, 3, 60_000, meterRegistry, clock::get);
+    }
+
+    @Test
+    @DisplayName("Should allow a full burst and then reject with the time until refill")
+    void shouldRejectAfterBurst() {
+        // Given
+        for (int i = 0; i < 20; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("alice", "default", 1));
+        }
+
+        // When
+        long waitNanos = rateLimiter.tryAcquire("alice", "default", 1);
+
+        // Then
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), waitNanos);
+    }
+
+    @Test
+    @DisplayName("Should charge endpoint cost and refill at the configured rate")
+    void shouldChargeCostAndRefill() {
+        // Given
+        assertEquals(0, rateLimiter.tryAcquire("alice", "default", 15));
+        assertTrue(rateLimiter.tryAcquire("alice", "default", 10) > 0);
+
+        // When
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(500));
+
+        // Then
+        assertEquals(0, rateLimiter.tryAcquire("alice", "default", 10));
+    }
+
+    @Test
+    @DisplayName("Should keep subjects independent")
+    void shouldIsolateSubjects() {
+        // Given
+        rateLimiter.tryAcquire("alice", "default", 20);
+
+        // When & Then
+        assertTrue(rateLimiter.tryAcquire("alice", "default", 1) > 0);
+        assertEquals(0, rateLimiter.tryAcquire("bob", "default", 1));
+    }
+
+    @Test
+    @DisplayName("Should evict refilled buckets and share an overflow bucket when full")
+    void shouldBoundMemory() {
+        // Given
+        rateLimiter.tryAcquire("alice", "default", 20);
+        rateLimiter.tryAcquire("bob", "default", 20);
+
+        // When
+        rateLimiter.tryAcquire("carol", "default", 1);
+
+        // Then
+        assertEquals(3, rateLimiter.size());
+        assertEquals(1.0, meterRegistry.get("clients.rate_limit.overflow").counter().count());
+
+        // When
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(3));
+        rateLimiter.evictIdle();
+
+        // Then
+        assertEquals(0, rateLimiter.size());
+    }
+
+    @Test
+    @DisplayName("Should sweep a full table inline at most once per eviction interval")
+    void shouldThrottleInlineEviction() {
+        // Given
+        rateLimiter.tryAcquire("alice", "default", 20);
+        rateLimiter.tryAcquire("bob", "default", 20);
+        rateLimiter.tryAcquire("carol", "default", 1);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(3));
+
+        // When
+        rateLimiter.tryAcquire("dave", "default", 1);
+
+        // Then
+        assertEquals(3, rateLimiter.size());
+        assertEquals(2.0, meterRegistry.get("clients.rate_limit.overflow").counter().count());
+
+        // When
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(60));
+        rateLimiter.tryAcquire("erin", "default", 1);
+
+        // Then
+        assertEquals(1, rateLimiter.size());
+        assertEquals(2.0, meterRegistry.get("clients.rate_limit.overflow").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should charge subjects minted faster than the admission rate to the overflow bucket")
+    void shouldNotResetBudgetForNewSubjects() {
+        // Given
+        rateLimiter = new SubjectRateLimiter(10, 20, 1000, 1, 3, 60_000, meterRegistry, clock::get);
+        for (int i = 0; i < 3; i++) {
+            assertEquals(0, rateLimiter.tryAcquire("minted-" + i, "default", 20));
+        }
+
+        // When
+        long first = rateLimiter.tryAcquire("minted-3", "default", 20);
+        long second = rateLimiter.tryAcquire("minted-4", "default", 1);
+
+        // Then
+        assertEquals(0, first);
+        assertTrue(second > 0);
+        assertEquals(4, rateLimiter.size());
+        assertEquals(2.0, meterRegistry.get("clients.rate_limit.overflow").counter().count());
+
+        // When
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(1));
+
+        // Then
+        assertEquals(0, rateLimiter.tryAcquire("minted-5", "default", 1));
+        assertEquals(5, rateLimiter.size());
+    }
+
+    @Test
+    @DisplayName("Should count allowed and rejected requests by cost class without a per-subject tag")
+    void shouldRecordMetricsByCostClass() {
+        // Given
+        rateLimiter.tryAcquire("alice", "list", 20);
+
+        // When
+        rateLimiter.tryAcquire("alice", "list", 1);
+        rateLimiter.tryAcquire("bob", "create", 1);
+
+        // Then
+        assertEquals(1.0, meterRegistry.get("clients.rate_limit.requests")
+                .tag("cost_class", "list").tag("outcome", "allowed").counter().count());
+        assertEquals(1.0, meterRegistry.get("clients.rate_limit.requests")
+                .tag("cost_class", "list").tag("outcome", "rejected").counter().count());
+        assertEquals(1.0, meterRegistry.get("clients.rate_limit.requests")
+                .tag("cost_class", "create").tag("outcome", "allowed").counter().count());
+        assertTrue(meterRegistry.getMeters().stream()
+                .noneMatch(meter -> meter.getId().getTag("subject") != null));
+    }
+}
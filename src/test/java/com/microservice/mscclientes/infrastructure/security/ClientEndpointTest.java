@@ -0,0 +1,44 @@
+package com.microservice.mscclientes.infrastructure.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ClientEndpoint.
+ * Tests that each clients API request is charged under its own cost class.
+ */
+class ClientEndpointTest {
+
+    private static ClientEndpoint classify(String method, String path, String ids) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v1" + path);
+        request.setContextPath("/api/v1");
+        if (ids != null) {
+            request.setParameter("ids", ids);
+        }
+        return ClientEndpoint.of(request);
+    }
+
+    @Test
+    @DisplayName("Should classify id lookups apart from the full listing")
+    void shouldClassifyLookups() {
+        // When & Then
+        assertEquals(ClientEndpoint.LIST, classify("GET", "/clients", null));
+        assertEquals(ClientEndpoint.LOOKUP, classify("GET", "/clients", "1,2,3"));
+        assertEquals(ClientEndpoint.LOOKUP, classify("POST", "/clients/lookup", null));
+        assertFalse(ClientEndpoint.LOOKUP.isHeavy());
+    }
+
+    @Test
+    @DisplayName("Should classify writes by method and path")
+    void shouldClassifyWrites() {
+        // When & Then
+        assertEquals(ClientEndpoint.CREATE, classify("POST", "/clients", null));
+        assertEquals(ClientEndpoint.UPDATE, classify("PATCH", "/clients/42", null));
+        assertEquals(ClientEndpoint.BULK_DELETE, classify("POST", "/clients/bulk-delete", null));
+        assertEquals(ClientEndpoint.OTHER, classify("GET", "/clients/bulk-delete/7", null));
+        assertEquals(ClientEndpoint.OTHER, classify("GET", "/clients/42", null));
+    }
+}
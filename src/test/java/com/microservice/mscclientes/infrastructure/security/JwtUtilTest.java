@@ -0,0 +1,86 @@
+package com.microservice.mscclientes.infrastructure.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for JwtUtil and the pre-serialized 401 body.
+ * Tests that every kind of bad token is rejected without throwing.
+ */
+class JwtUtilTest {
+
+    private static final String SECRET = "test-secret-key-that-is-long-enough-for-hmac-sha-256";
+
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = jwtUtil(SECRET, 60_000L);
+    }
+
+    @Test
+    @DisplayName("Should return the subject of a valid token")
+    void shouldAcceptValidToken() {
+        // Given
+        String token = jwtUtil.generateToken("admin");
+
+        // When & Then
+        assertEquals("admin", jwtUtil.validateAndExtractUsername(token));
+        assertTrue(jwtUtil.validateToken(token, "admin"));
+    }
+
+    @Test
+    @DisplayName("Should reject forged, expired and malformed tokens without throwing")
+    void shouldRejectBadTokens() {
+        // Given
+        String forged = jwtUtil("another-secret-key-that-is-long-enough-for-hmac-256", 60_000L).generateToken("admin");
+        String expired = jwtUtil(SECRET, -1_000L).generateToken("admin");
+
+        // When & Then
+        assertNull(jwtUtil.validateAndExtractUsername(forged));
+        assertNull(jwtUtil.validateAndExtractUsername(expired));
+        assertNull(jwtUtil.validateAndExtractUsername("not-a-token"));
+        assertNull(jwtUtil.validateAndExtractUsername("a.b."));
+        assertNull(jwtUtil.validateAndExtractUsername("a.b.c.d"));
+        assertFalse(jwtUtil.isTokenValid(forged));
+    }
+
+    @Test
+    @DisplayName("Should recognise only three non-empty base64url segments as well formed")
+    void shouldCheckTokenShape() {
+        assertTrue(JwtUtil.isWellFormed("eyJh.eyJz.c2ln-_"));
+        assertFalse(JwtUtil.isWellFormed(null));
+        assertFalse(JwtUtil.isWellFormed(".a.b"));
+        assertFalse(JwtUtil.isWellFormed("a..b"));
+        assertFalse(JwtUtil.isWellFormed("a.b.c="));
+        assertFalse(JwtUtil.isWellFormed("a b.c.d"));
+    }
+
+    @Test
+    @DisplayName("Should write a valid JSON 401 body with the path escaped")
+    void shouldWriteValidUnauthorizedBody() throws Exception {
+        // When
+        byte[] body = JwtAuthenticationEntryPoint.body("/api/v1/clients\"x\\y", "2024-01-15T10:30:00");
+
+        // Then
+        JsonNode json = new ObjectMapper().readTree(body);
+        assertEquals(401, json.get("status").asInt());
+        assertEquals("Unauthorized", json.get("error").asText());
+        assertEquals("/api/v1/clients\"x\\y", json.get("path").asText());
+        assertEquals("2024-01-15T10:30:00", json.get("timestamp").asText());
+    }
+
+    private static JwtUtil jwtUtil(String secret, long expiration) {
+        JwtUtil util = new JwtUtil();
+        ReflectionTestUtils.setField(util, "secret", secret);
+        ReflectionTestUtils.setField(util, "expiration", expiration);
+        util.initialize();
+        return util;
+    }
+}
@@ -0,0 +1,113 @@
+package com.microservice.mscclientes.infrastructure.warmstart;
+
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.repository.ClientChangeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClientSnapshotStore.
+ * Tests that snapshots round trip and are only used while the change feed
+ * still holds every change made after them.
+ */
+@ExtendWith(MockitoExtension.class)
+class ClientSnapshotStoreTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2023, 1, 1, 9, 30);
+
+    @Mock
+    private ClientChangeRepository changeRepository;
+
+    @TempDir
+    Path directory;
+
+    private ClientSnapshotStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = new ClientSnapshotStore(changeRepository, directory, 16);
+    }
+
+    private static List<Client> clients(long count) {
+        return LongStream.rangeClosed(1, count)
+                .mapToObj(id -> Client.reconstitute(id, "Nombre" + id, "Apellido" + id, (int) (id % 90),
+                        LocalDate.of(1980, 1, 1).plusDays(id), BASE.plusMinutes(id), BASE.plusMinutes(id), 0L))
+                .collect(Collectors.toList());
+    }
+
+    private ClientSnapshotStore reopened(long oldestSequence, long latestSequence) {
+        when(changeRepository.findOldestSequence()).thenReturn(Optional.of(oldestSequence));
+        when(changeRepository.findLatestSequence()).thenReturn(Optional.of(latestSequence));
+        return new ClientSnapshotStore(changeRepository, directory, 16);
+    }
+
+    @Test
+    @DisplayName("Should load the newest snapshot and keep only that file")
+    void shouldLoadNewestSnapshot() throws Exception {
+        // Given
+        store.write(40, clients(100));
+        store.write(55, clients(120));
+
+        // When
+        Optional<ClientSnapshotStore.StoredSnapshot> snapshot = reopened(10, 60).startupSnapshot();
+
+        // Then
+        assertTrue(snapshot.isPresent());
+        assertEquals(55, snapshot.get().getSequence());
+        assertEquals(120, snapshot.get().size());
+        List<Client> loaded = new ArrayList<>();
+        snapshot.get().forEach(loaded::add);
+        assertEquals("Nombre120", loaded.get(119).getFirstName());
+        assertEquals(BASE.plusMinutes(7), loaded.get(6).getCreatedAt());
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Should ignore a snapshot whose later changes were purged from the feed")
+    void shouldIgnoreSnapshotOlderThanRetainedFeed() {
+        // Given
+        store.write(40, clients(10));
+
+        // When & Then
+        assertTrue(reopened(42, 60).startupSnapshot().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should ignore a snapshot ahead of the change feed")
+    void shouldIgnoreSnapshotAheadOfFeed() {
+        // Given
+        store.write(40, clients(10));
+
+        // When & Then
+        assertTrue(reopened(1, 30).startupSnapshot().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Should start cold without a snapshot")
+    void shouldStartColdWithoutSnapshot() {
+        // When & Then
+        assertTrue(store.startupSnapshot().isEmpty());
+        verifyNoInteractions(changeRepository);
+    }
+}
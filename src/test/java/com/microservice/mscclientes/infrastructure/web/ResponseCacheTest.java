@@ -0,0 +1,113 @@
+package com.microservice.mscclientes.infrastructure.web;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ResponseCache.
+ * Tests write invalidation, the memory budget, expiry and compression.
+ */
+class ResponseCacheTest {
+
+    private final AtomicLong now = new AtomicLong();
+
+    private ResponseCache cache(long maxBytes) {
+        return new ResponseCache(new SimpleMeterRegistry(), maxBytes, 60_000, true, 16, now::get);
+    }
+
+    @Test
+    @DisplayName("Should not store a response computed across a write")
+    void shouldDiscardResponseComputedAcrossWrite() {
+        // Given
+        ResponseCache cache = cache(1_000_000);
+        long generation = cache.generation();
+
+        // When
+        cache.invalidate();
+        boolean stored = cache.put("/clients", generation, "application/json", body(100));
+
+        // Then
+        assertFalse(stored);
+        assertNull(cache.get("/clients"));
+    }
+
+    @Test
+    @DisplayName("Should drop every entry on invalidation")
+    void shouldDropEntriesOnInvalidation() {
+        // Given
+        ResponseCache cache = cache(1_000_000);
+        cache.put("/clients", cache.generation(), "application/json", body(100));
+
+        // When
+        cache.invalidate();
+
+        // Then
+        assertNull(cache.get("/clients"));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Should evict least recently used entries beyond the memory budget")
+    void shouldEvictLeastRecentlyUsed() {
+        // Given
+        ResponseCache cache = new ResponseCache(new SimpleMeterRegistry(), 1_000, 60_000, false, 16, now::get);
+        cache.put("a", cache.generation(), "application/json", body(200));
+        cache.put("b", cache.generation(), "application/json", body(200));
+        cache.get("a");
+
+        // When
+        cache.put("c", cache.generation(), "application/json", body(200));
+        cache.put("d", cache.generation(), "application/json", body(200));
+
+        // Then
+        assertNotNull(cache.get("a"));
+        assertNull(cache.get("b"));
+        assertTrue(cache.size() <= 1_000);
+    }
+
+    @Test
+    @DisplayName("Should expire entries after the time to live")
+    void shouldExpireEntries() {
+        // Given
+        ResponseCache cache = cache(1_000_000);
+        cache.put("/clients/metrics", cache.generation(), "application/json", body(100));
+
+        // When
+        now.addAndGet(60_001L * 1_000_000L);
+
+        // Then
+        assertNull(cache.get("/clients/metrics"));
+    }
+
+    @Test
+    @DisplayName("Should keep a gzip copy that decompresses to the original body")
+    void shouldKeepGzipCopy() throws IOException {
+        // Given
+        ResponseCache cache = cache(1_000_000);
+        byte[] body = body(2_000);
+
+        // When
+        cache.put("/clients", cache.generation(), "application/json", body);
+
+        // Then
+        ResponseCache.Entry entry = cache.get("/clients");
+        assertNotNull(entry.getGzipped());
+        assertTrue(entry.getGzipped().length < body.length);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(entry.getGzipped()))) {
+            assertArrayEquals(body, in.readAllBytes());
+        }
+    }
+
+    private static byte[] body(int length) {
+        return "{\"id\":1}".repeat(length / 8 + 1).substring(0, length).getBytes(StandardCharsets.UTF_8);
+    }
+}
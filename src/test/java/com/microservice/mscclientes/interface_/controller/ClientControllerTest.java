@@ -2,9 +2,27 @@ package com.microservice.mscclientes.interface_.controller;
 
 import com.microservice.mscclientes.application.usecase.CreateClientUseCase;
 import com.microservice.mscclientes.application.usecase.GetAllClientsUseCase;
+import com.microservice.mscclientes.application.usecase.GetClientChangesUseCase;
 import com.microservice.mscclientes.application.usecase.GetClientMetricsUseCase;
+import com.microservice.mscclientes.application.usecase.GetClientNameMetricsUseCase;
+import com.microservice.mscclientes.application.usecase.GetClientSegmentMetricsUseCase;
+import com.microservice.mscclientes.application.usecase.GetClientUseCase;
+import com.microservice.mscclientes.application.usecase.GetClientWindowMetricsUseCase;
+import com.microservice.mscclientes.application.usecase.LookupClientsUseCase;
+import com.microservice.mscclientes.application.usecase.UpdateClientUseCase;
 import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.exception.ClientVersionConflictException;
+import com.microservice.mscclientes.domain.valueobject.AgeAggregate;
+import com.microservice.mscclientes.domain.valueobject.ClientField;
+import com.microservice.mscclientes.domain.valueobject.ClientLookup;
 import com.microservice.mscclientes.domain.valueobject.ClientMetrics;
+import com.microservice.mscclientes.domain.valueobject.ClientPatch;
+import com.microservice.mscclientes.domain.valueobject.ClientSegmentMetrics;
+import com.microservice.mscclientes.domain.valueobject.SegmentDimension;
+import com.microservice.mscclientes.interface_.dto.request.LookupClientsRequest;
+import com.microservice.mscclientes.interface_.dto.request.PatchClientRequest;
+import com.microservice.mscclientes.interface_.dto.response.ClientLookupResponse;
+import com.microservice.mscclientes.interface_.dto.response.ClientResponse;
 import com.microservice.mscclientes.interface_.mapper.ClientDtoMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -18,7 +36,11 @@ import org.springframework.http.ResponseEntity;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -37,9 +59,30 @@ class ClientControllerTest {
     @Mock
     private GetAllClientsUseCase getAllClientsUseCase;
     
+    @Mock
+    private GetClientUseCase getClientUseCase;
+    
+    @Mock
+    private LookupClientsUseCase lookupClientsUseCase;
+    
+    @Mock
+    private UpdateClientUseCase updateClientUseCase;
+    
     @Mock
     private GetClientMetricsUseCase getClientMetricsUseCase;
     
+    @Mock
+    private GetClientSegmentMetricsUseCase getClientSegmentMetricsUseCase;
+    
+    @Mock
+    private GetClientChangesUseCase getClientChangesUseCase;
+    
+    @Mock
+    private GetClientWindowMetricsUseCase getClientWindowMetricsUseCase;
+    
+    @Mock
+    private GetClientNameMetricsUseCase getClientNameMetricsUseCase;
+    
     @Mock
     private ClientDtoMapper dtoMapper;
     
@@ -50,7 +93,14 @@ class ClientControllerTest {
         clientController = new ClientController(
                 createClientUseCase,
                 getAllClientsUseCase,
+                getClientUseCase,
+                lookupClientsUseCase,
+                updateClientUseCase,
                 getClientMetricsUseCase,
+                getClientSegmentMetricsUseCase,
+                getClientChangesUseCase,
+                getClientWindowMetricsUseCase,
+                getClientNameMetricsUseCase,
                 dtoMapper
         );
     }
@@ -75,7 +125,7 @@ class ClientControllerTest {
         when(dtoMapper.toResponseDtoList(clients)).thenReturn(Arrays.asList());
         
         // When
-        ResponseEntity<?> response = clientController.getAllClients();
+        ResponseEntity<?> response = clientController.getAllClients(null);
         
         // Then
         assertEquals(HttpStatus.OK, response.getStatusCode());
@@ -108,7 +158,7 @@ class ClientControllerTest {
         when(getAllClientsUseCase.execute()).thenThrow(new RuntimeException("Database error"));
         
         // When
-        ResponseEntity<?> response = clientController.getAllClients();
+        ResponseEntity<?> response = clientController.getAllClients(null);
         
         // Then
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
@@ -128,4 +178,172 @@ class ClientControllerTest {
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         verify(getClientMetricsUseCase, times(1)).execute();
     }
+    
+    @Test
+    @DisplayName("Should return segment metrics for requested dimensions")
+    void shouldReturnSegmentMetricsForRequestedDimensions() {
+        // Given
+        List<SegmentDimension> dimensions = List.of(SegmentDimension.ADULT, SegmentDimension.BIRTH_DECADE);
+        List<ClientSegmentMetrics> segments = List.of(new ClientSegmentMetrics(
+                Map.of(SegmentDimension.ADULT, "adult"), AgeAggregate.of(30)));
+        
+        when(getClientSegmentMetricsUseCase.execute(dimensions)).thenReturn(segments);
+        when(dtoMapper.toSegmentMetricsResponseDtoList(segments)).thenReturn(List.of());
+        
+        // When
+        ResponseEntity<?> response = clientController.getClientSegmentMetrics(List.of("adult", "birthDecade"));
+        
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(getClientSegmentMetricsUseCase, times(1)).execute(dimensions);
+    }
+    
+    @Test
+    @DisplayName("Should reject unknown segment dimension")
+    void shouldRejectUnknownSegmentDimension() {
+        // When
+        ResponseEntity<?> response = clientController.getClientSegmentMetrics(List.of("shoeSize"));
+        
+        // Then
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+        verifyNoInteractions(getClientSegmentMetricsUseCase);
+    }
+    
+    @Test
+    @DisplayName("Should reject malformed metrics window")
+    void shouldRejectMalformedMetricsWindow() {
+        // When
+        ResponseEntity<?> response = clientController.getClientWindowMetrics("yesterday");
+        
+        // Then
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+        verifyNoInteractions(getClientWindowMetricsUseCase);
+    }
+    
+    @Test
+    @DisplayName("Should reject out of range number of top last names")
+    void shouldRejectOutOfRangeTopLastNames() {
+        // Given
+        when(getClientNameMetricsUseCase.execute(0)).thenThrow(new IllegalArgumentException("Top must be between 1 and 100"));
+        
+        // When
+        ResponseEntity<?> response = clientController.getClientNameMetrics(0);
+        
+        // Then
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+        verifyNoInteractions(dtoMapper);
+    }
+    
+    @Test
+    @DisplayName("Should patch client at the version from If-Match and return the new ETag")
+    void shouldPatchClientAtExpectedVersion() {
+        // Given
+        PatchClientRequest request = new PatchClientRequest(null, null, 31, null);
+        ClientPatch patch = new ClientPatch(null, null, 31, null);
+        Client updated = Client.reconstitute(1L, "Juan", "Pérez", 31, LocalDate.of(1993, 5, 15),
+                LocalDateTime.now(), LocalDateTime.now(), 4L);
+        
+        when(dtoMapper.toClientPatch(request)).thenReturn(patch);
+        when(updateClientUseCase.execute(1L, patch, 3L)).thenReturn(Optional.of(updated));
+        
+        // When
+        ResponseEntity<?> response = clientController.patchClient(1L, "\"3\"", request);
+        
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("\"4\"", response.getHeaders().getETag());
+    }
+    
+    @Test
+    @DisplayName("Should return 412 when the client changed since the given ETag")
+    void shouldRejectStalePatch() {
+        // Given
+        PatchClientRequest request = new PatchClientRequest("Pedro", null, null, null);
+        ClientPatch patch = new ClientPatch("Pedro", null, null, null);
+        
+        when(dtoMapper.toClientPatch(request)).thenReturn(patch);
+        when(updateClientUseCase.execute(1L, patch, 3L)).thenThrow(new ClientVersionConflictException(1L, 3L));
+        
+        // When
+        ResponseEntity<?> response = clientController.patchClient(1L, "\"3\"", request);
+        
+        // Then
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+    }
+    
+    @Test
+    @DisplayName("Should reject weak ETag in If-Match without updating")
+    void shouldRejectWeakETagOnPatch() {
+        // When
+        ResponseEntity<?> response = clientController.patchClient(1L, "W/\"3\"",
+                new PatchClientRequest(null, null, 31, null));
+        
+        // Then
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        verifyNoInteractions(updateClientUseCase);
+    }
+    
+    @Test
+    @DisplayName("Should answer a batch lookup with the mapped results")
+    void shouldLookupClients() {
+        // Given
+        ClientLookup lookup = new ClientLookup(List.of(2L, 1L), Map.of());
+        ClientLookupResponse mapped = new ClientLookupResponse(List.of(), 0, 2);
+        
+        when(lookupClientsUseCase.execute(List.of(2L, 1L))).thenReturn(lookup);
+        when(dtoMapper.toLookupResponseDto(lookup)).thenReturn(mapped);
+        
+        // When
+        ResponseEntity<ClientLookupResponse> response = clientController.lookupClients(
+                new LookupClientsRequest(List.of(2L, 1L)));
+        
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(mapped, response.getBody());
+    }
+    
+    @Test
+    @DisplayName("Should return 422 for an invalid batch lookup")
+    void shouldRejectInvalidLookup() {
+        // Given
+        when(lookupClientsUseCase.execute(List.of(0L))).thenThrow(new IllegalArgumentException("ids must be positive"));
+        
+        // When
+        ResponseEntity<ClientLookupResponse> response = clientController.getClientsByIds(List.of(0L));
+        
+        // Then
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, response.getStatusCode());
+        verifyNoInteractions(dtoMapper);
+    }
+    
+    @Test
+    @DisplayName("Should read and map only the requested fields of every client")
+    void shouldReturnSparseFieldset() {
+        // Given
+        Set<ClientField> fields = EnumSet.of(ClientField.ID, ClientField.FIRST_NAME);
+        List<Client> clients = List.of(Client.reconstitute(1L, "Juan", null, null, null, null, null, 0L));
+        
+        when(getAllClientsUseCase.execute(fields)).thenReturn(clients);
+        when(dtoMapper.toResponseDtoList(clients, fields)).thenReturn(List.of());
+        
+        // When
+        ResponseEntity<List<ClientResponse>> response = clientController.getAllClients(List.of("id", "firstName", "ID"));
+        
+        // Then
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(getAllClientsUseCase, never()).execute();
+    }
+    
+    @Test
+    @DisplayName("Should return 422 for an unknown field without reading clients")
+    void shouldRejectUnknownField() {
+        // When
+        ResponseEntity<List<ClientResponse>> list = clientController.getAllClients(List.of("id", "password"));
+        ResponseEntity<ClientResponse> single = clientController.getClient(1L, List.of(""));
+        
+        // Then
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, list.getStatusCode());
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, single.getStatusCode());
+        verifyNoInteractions(getAllClientsUseCase, getClientUseCase);
+    }
 }
@@ -0,0 +1,277 @@
+package com.microservice.mscclientes.interface_.grpc;
+
+import com.microservice.mscclientes.application.usecase.CreateClientUseCase;
+import com.microservice.mscclientes.application.usecase.GetAllClientsUseCase;
+import com.microservice.mscclientes.application.usecase.GetClientMetricsUseCase;
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.exception.DuplicateClientException;
+import com.microservice.mscclientes.domain.valueobject.ClientIdentity;
+import com.microservice.mscclientes.domain.valueobject.ClientMetrics;
+import com.microservice.mscclientes.infrastructure.security.JwtServerInterceptor;
+import com.microservice.mscclientes.infrastructure.security.JwtUtil;
+import com.microservice.mscclientes.interface_.grpc.v1.ClientServiceGrpc;
+import com.microservice.mscclientes.interface_.grpc.v1.ClientsProto;
+import com.microservice.mscclientes.interface_.mapper.ClientDtoMapper;
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
+import io.grpc.Metadata;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.MetadataUtils;
+import io.grpc.stub.StreamObserver;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ClientGrpcService over an in-process channel.
+ * Tests JWT authentication, error status mapping, page-by-page streaming
+ * driven by the reader, and per-client results of bulk creation.
+ */
+@ExtendWith(MockitoExtension.class)
+class ClientGrpcServiceTest {
+
+    private static final int PAGE_SIZE = 3;
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2023, 1, 1, 9, 30);
+
+    @Mock
+    private CreateClientUseCase createClientUseCase;
+
+    @Mock
+    private GetAllClientsUseCase getAllClientsUseCase;
+
+    @Mock
+    private GetClientMetricsUseCase getClientMetricsUseCase;
+
+    private Server server;
+    private ManagedChannel channel;
+    private ClientServiceGrpc.ClientServiceBlockingStub blockingStub;
+    private ClientServiceGrpc.ClientServiceStub asyncStub;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "mySecretKey123456789012345678901234567890");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86_400_000L);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "initialize");
+
+        ClientGrpcService service = new ClientGrpcService(createClientUseCase, getAllClientsUseCase,
+                getClientMetricsUseCase, new ClientDtoMapper(), new ClientGrpcMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(), PAGE_SIZE, 100);
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .addService(ServerInterceptors.intercept(service, new JwtServerInterceptor(jwtUtil)))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+
+        Metadata headers = new Metadata();
+        headers.put(Metadata.Key.of("authorization", Metadata.ASCII_STRING_MARSHALLER),
+                "Bearer " + jwtUtil.generateToken("internal"));
+        blockingStub = ClientServiceGrpc.newBlockingStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+        asyncStub = ClientServiceGrpc.newStub(channel)
+                .withInterceptors(MetadataUtils.newAttachHeadersInterceptor(headers));
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private static Client client(long id) {
+        return Client.reconstitute(id, "Juan", "Pérez", 30, LocalDate.of(1993, 5, 15), CREATED_AT, null, 0L);
+    }
+
+    private static ClientsProto.CreateClientRequest request(String firstName) {
+        return ClientsProto.CreateClientRequest.newBuilder()
+                .setFirstName(firstName)
+                .setLastName("Pérez")
+                .setAge(30)
+                .setBirthDate("1993-05-15")
+                .build();
+    }
+
+    private static DuplicateClientException duplicate() {
+        return new DuplicateClientException(ClientIdentity.of("Juan", "Pérez", LocalDate.of(1993, 5, 15)));
+    }
+
+    private void stubPages(long total) {
+        when(getAllClientsUseCase.executePage(anyLong(), anyInt())).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            int limit = invocation.getArgument(1);
+            return LongStream.rangeClosed(afterId + 1, Math.min(total, afterId + limit))
+                    .mapToObj(ClientGrpcServiceTest::client)
+                    .collect(Collectors.toList());
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject calls without a valid bearer token")
+    void shouldRejectUnauthenticatedCalls() {
+        // Given
+        ClientServiceGrpc.ClientServiceBlockingStub anonymous = ClientServiceGrpc.newBlockingStub(channel);
+
+        // When
+        StatusRuntimeException exception = assertThrows(StatusRuntimeException.class,
+                () -> anonymous.getMetrics(ClientsProto.GetMetricsRequest.getDefaultInstance()));
+
+        // Then
+        assertEquals(Status.Code.UNAUTHENTICATED, exception.getStatus().getCode());
+        verifyNoInteractions(getClientMetricsUseCase);
+    }
+
+    @Test
+    @DisplayName("Should create a client and return metrics through the use cases")
+    void shouldCreateClientAndReturnMetrics() {
+        // Given
+        when(createClientUseCase.execute(any(Client.class))).thenReturn(client(7));
+        when(getClientMetricsUseCase.execute()).thenReturn(new ClientMetrics(30.0, 2.5, 4));
+
+        // When
+        ClientsProto.Client created = blockingStub.createClient(request("Juan"));
+        ClientsProto.ClientMetrics metrics =
+                blockingStub.getMetrics(ClientsProto.GetMetricsRequest.getDefaultInstance());
+
+        // Then
+        assertEquals(7, created.getId());
+        assertEquals("1993-05-15", created.getBirthDate());
+        assertEquals("2071-05-15", created.getEstimatedDeathDate());
+        assertEquals("2023-01-01T09:30", created.getCreatedAt());
+        assertEquals("", created.getUpdatedAt());
+        assertEquals(30.0, metrics.getAverageAge());
+        assertEquals(4, metrics.getTotalClients());
+    }
+
+    @Test
+    @DisplayName("Should map invalid input to INVALID_ARGUMENT and duplicates to ALREADY_EXISTS")
+    void shouldMapErrorsToStatusCodes() {
+        // Given
+        when(createClientUseCase.execute(any(Client.class))).thenThrow(duplicate());
+
+        // When
+        StatusRuntimeException invalid = assertThrows(StatusRuntimeException.class,
+                () -> blockingStub.createClient(request("J")));
+        StatusRuntimeException badDate = assertThrows(StatusRuntimeException.class,
+                () -> blockingStub.createClient(request("Juan").toBuilder().setBirthDate("15/05/1993").build()));
+        StatusRuntimeException duplicate = assertThrows(StatusRuntimeException.class,
+                () -> blockingStub.createClient(request("Juan")));
+
+        // Then
+        assertEquals(Status.Code.INVALID_ARGUMENT, invalid.getStatus().getCode());
+        assertTrue(invalid.getStatus().getDescription().startsWith("firstName"));
+        assertEquals(Status.Code.INVALID_ARGUMENT, badDate.getStatus().getCode());
+        assertEquals(Status.Code.ALREADY_EXISTS, duplicate.getStatus().getCode());
+        verify(createClientUseCase, times(1)).execute(any(Client.class));
+    }
+
+    @Test
+    @DisplayName("Should stream every client in ID order, one page per message")
+    void shouldStreamAllClientsPageByPage() {
+        // Given
+        stubPages(7);
+
+        // When
+        List<Long> ids = new ArrayList<>();
+        blockingStub.listClients(ClientsProto.ListClientsRequest.getDefaultInstance())
+                .forEachRemaining(page -> page.getClientsList().forEach(client -> ids.add(client.getId())));
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L), ids);
+        verify(getAllClientsUseCase).executePage(0L, PAGE_SIZE);
+        verify(getAllClientsUseCase).executePage(3L, PAGE_SIZE);
+        verify(getAllClientsUseCase).executePage(6L, PAGE_SIZE);
+        verifyNoMoreInteractions(getAllClientsUseCase);
+    }
+
+    @Test
+    @DisplayName("Should read the next page only when the caller consumes the current one")
+    void shouldFollowReaderDemand() {
+        // Given
+        stubPages(1000);
+        Context.CancellableContext context = Context.current().withCancellation();
+
+        // When
+        List<Long> ids = new ArrayList<>();
+        context.run(() -> {
+            Iterator<ClientsProto.ClientPage> stream = blockingStub.listClients(
+                    ClientsProto.ListClientsRequest.newBuilder().setAfterId(500).build());
+            stream.next().getClientsList().forEach(client -> ids.add(client.getId()));
+        });
+
+        // Then: the reader has asked for two messages, so the third page is never read
+        assertEquals(List.of(501L, 502L, 503L), ids);
+        verify(getAllClientsUseCase).executePage(500L, PAGE_SIZE);
+        verify(getAllClientsUseCase, never()).executePage(506L, PAGE_SIZE);
+        context.cancel(null);
+    }
+
+    @Test
+    @DisplayName("Should create streamed clients independently and report each rejection")
+    void shouldBulkCreateClients() throws Exception {
+        // Given
+        when(createClientUseCase.execute(any(Client.class)))
+                .thenReturn(client(1))
+                .thenThrow(duplicate())
+                .thenReturn(client(2));
+        CompletableFuture<ClientsProto.BulkCreateClientsResponse> result = new CompletableFuture<>();
+
+        // When
+        StreamObserver<ClientsProto.CreateClientRequest> requests = asyncStub.bulkCreateClients(new StreamObserver<>() {
+            @Override
+            public void onNext(ClientsProto.BulkCreateClientsResponse response) {
+                result.complete(response);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                result.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        });
+        requests.onNext(request("Juan"));
+        requests.onNext(request("Ana"));
+        requests.onNext(request("7"));
+        requests.onNext(request("Luis"));
+        requests.onCompleted();
+        ClientsProto.BulkCreateClientsResponse response = result.get(5, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(List.of(1L, 2L), response.getIdsList());
+        assertEquals(2, response.getErrorsCount());
+        assertEquals(1, response.getErrors(0).getIndex());
+        assertEquals("ALREADY_EXISTS", response.getErrors(0).getCode());
+        assertEquals(2, response.getErrors(1).getIndex());
+        assertEquals("INVALID_ARGUMENT", response.getErrors(1).getCode());
+    }
+}
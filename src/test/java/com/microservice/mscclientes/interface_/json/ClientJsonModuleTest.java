@@ -0,0 +1,114 @@
+package com.microservice.mscclientes.interface_.json;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.microservice.mscclientes.domain.entity.Client;
+import com.microservice.mscclientes.domain.valueobject.ClientField;
+import com.microservice.mscclientes.interface_.dto.response.ClientMetricsResponse;
+import com.microservice.mscclientes.interface_.dto.response.ClientResponse;
+import com.microservice.mscclientes.interface_.mapper.ClientDtoMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for ClientJsonModule.
+ * Compares the hand-written serializers byte for byte with the reflective output.
+ */
+class ClientJsonModuleTest {
+
+    private final ObjectMapper reflective = Jackson2ObjectMapperBuilder.json().build();
+    private final ObjectMapper tuned = Jackson2ObjectMapperBuilder.json()
+            .modulesToInstall(new ClientJsonModule(), new BlackbirdModule())
+            .build();
+
+    @Test
+    @DisplayName("Should write ClientResponse exactly like the reflective serializer")
+    void shouldWriteClientResponseLikeReflectiveSerializer() throws Exception {
+        // Given
+        List<ClientResponse> responses = List.of(
+                new ClientResponse(1L, "Juan", "Pérez", 30, LocalDate.of(1993, 5, 15), LocalDate.of(2071, 5, 15),
+                        LocalDateTime.of(2023, 12, 1, 10, 30, 5, 123_000_000), LocalDateTime.of(2023, 12, 1, 10, 30)),
+                new ClientResponse(Long.MAX_VALUE, "Ana \"la\" \\ </script>", "O'Brien\n\t\u0001", 0,
+                        LocalDate.of(2000, 1, 1), LocalDate.of(2078, 1, 1), null, null),
+                new ClientResponse(null, null, null, null, null, null, null, null),
+                new ClientResponse(2L, "名前", "😀", 150, LocalDate.of(-5, 2, 3), LocalDate.of(12000, 12, 31),
+                        LocalDateTime.of(1, 1, 1, 0, 0), LocalDateTime.of(9999, 12, 31, 23, 59, 59))
+        );
+
+        for (ClientResponse response : responses) {
+            // When & Then
+            assertArrayEquals(reflective.writeValueAsBytes(response), tuned.writeValueAsBytes(response),
+                    () -> "Mismatch for " + response);
+        }
+    }
+
+    @Test
+    @DisplayName("Should write ClientMetricsResponse exactly like the reflective serializer")
+    void shouldWriteMetricsResponseLikeReflectiveSerializer() throws Exception {
+        // Given
+        List<ClientMetricsResponse> responses = List.of(
+                new ClientMetricsResponse(35.5, 12.345678901234567, 150),
+                new ClientMetricsResponse(0.0, 0.0, 0),
+                new ClientMetricsResponse(Double.NaN, Double.POSITIVE_INFINITY, Long.MAX_VALUE),
+                new ClientMetricsResponse(1e-7, 1e21, -1)
+        );
+
+        for (ClientMetricsResponse response : responses) {
+            // When & Then
+            assertArrayEquals(reflective.writeValueAsBytes(response), tuned.writeValueAsBytes(response),
+                    () -> "Mismatch for " + response);
+        }
+    }
+
+    @Test
+    @DisplayName("Should stream mapped client lists with the same bytes as a built list")
+    void shouldStreamMappedListLikeBuiltList() throws Exception {
+        // Given
+        ClientDtoMapper mapper = new ClientDtoMapper();
+        List<Client> clients = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            clients.add(Client.reconstitute((long) i, "Nombre" + i, "Apellido" + i, 20 + i,
+                    LocalDate.of(2003 - i, 1 + i % 12, 1 + i % 28), LocalDateTime.of(2024, 1, 1, 0, 0), null));
+        }
+        List<ClientResponse> built = new ArrayList<>();
+        for (Client client : clients) {
+            built.add(mapper.toResponseDto(client));
+        }
+
+        // When
+        byte[] streamed = tuned.writeValueAsBytes(mapper.toResponseDtoList(clients));
+
+        // Then
+        assertArrayEquals(reflective.writeValueAsBytes(built), streamed);
+    }
+
+    @Test
+    @DisplayName("Should write only the fields of a sparse fieldset, without computing unselected derived ones")
+    void shouldWriteOnlySelectedFields() throws Exception {
+        // Given: a projected client read without its birth date
+        ClientDtoMapper mapper = new ClientDtoMapper();
+        Client projected = Client.reconstitute(7L, "Juan", "Pérez", null, null, null, null, 3L);
+        Client full = Client.reconstitute(8L, "Ana", "López", 30, LocalDate.of(1993, 5, 15),
+                LocalDateTime.of(2023, 12, 1, 10, 30), null, 0L);
+
+        // When
+        byte[] names = tuned.writeValueAsBytes(mapper.toResponseDtoList(List.of(projected),
+                EnumSet.of(ClientField.LAST_NAME, ClientField.ID)));
+        byte[] dates = tuned.writeValueAsBytes(mapper.toResponseDto(full,
+                EnumSet.of(ClientField.ESTIMATED_DEATH_DATE, ClientField.UPDATED_AT)));
+
+        // Then
+        assertEquals("[{\"id\":7,\"lastName\":\"Pérez\"}]", new String(names, StandardCharsets.UTF_8));
+        assertEquals("{\"estimatedDeathDate\":\"2071-05-15\",\"updatedAt\":null}", new String(dates, StandardCharsets.UTF_8));
+    }
+}
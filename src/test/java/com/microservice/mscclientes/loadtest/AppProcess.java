@@ -0,0 +1,89 @@
+package com.microservice.mscclientes.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The service under test started as a child JVM from the packaged jar.
+ * The rate limiter is disabled because every request carries the same token
+ * and would be throttled as a single subject; the SQL log of the simple
+ * profile is silenced so console output does not skew latencies.
+ */
+final class AppProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private final Process process;
+
+    private AppProcess(Process process) {
+        this.process = process;
+    }
+
+    static AppProcess start(LoadTestConfig config, HttpClient client) throws IOException, InterruptedException {
+        Files.createDirectories(config.reportDir);
+        Path log = config.reportDir.resolve(config.name + "-app.log");
+
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.add("-jar");
+        command.add(config.jar);
+        command.add("--spring.profiles.active=" + config.profile);
+        command.add("--server.port=" + URI.create(config.baseUrl).getPort());
+        command.add("--clients.rate-limit.enabled=false");
+        command.add("--spring.jpa.show-sql=false");
+        if (config.profile.equals("simple")) {
+            command.add("--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect");
+        }
+        command.addAll(config.appArgs);
+
+        System.out.println("Starting " + String.join(" ", command) + " (log: " + log + ")");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+        AppProcess app = new AppProcess(process);
+        try {
+            app.awaitHealthy(config.baseUrl, client);
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            app.close();
+            throw e;
+        }
+        return app;
+    }
+
+    private void awaitHealthy(String baseUrl, HttpClient client) throws IOException, InterruptedException {
+        HttpRequest health = HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health")).GET().build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IOException("Application exited with code " + process.exitValue());
+            }
+            try {
+                if (client.send(health, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // not listening yet
+            }
+            Thread.sleep(500);
+        }
+        throw new IOException("Application not healthy after " + STARTUP_TIMEOUT.toSeconds() + " s");
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+}
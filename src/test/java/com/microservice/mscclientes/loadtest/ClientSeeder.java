@@ -0,0 +1,137 @@
+package com.microservice.mscclientes.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Fills the clients table before the measured run.
+ * HTTP seeding goes through POST /clients and works against any profile,
+ * including the in-memory H2 of the simple profile. JDBC seeding inserts in
+ * batches straight into MySQL and is the practical way to reach millions of
+ * rows; it runs before the application starts so in-memory caches load the
+ * seeded rows.
+ */
+final class ClientSeeder {
+
+    private static final String[] SYLLABLES = {
+        "ma", "ri", "jo", "se", "lu", "ca", "an", "to", "ni", "pe", "ra", "le", "vi", "go", "me", "sa"
+    };
+    private static final int JDBC_BATCH = 10_000;
+
+    private final SplittableRandom random = new SplittableRandom(42);
+
+    void seedOverHttp(LoadTestConfig config, HttpClient client, String token) throws InterruptedException {
+        Semaphore permits = new Semaphore(config.seedConcurrency);
+        AtomicLong failures = new AtomicLong();
+        Map<String, Long> causes = new ConcurrentHashMap<>();
+        long start = System.nanoTime();
+        int step = Math.max(1, config.seed / 10);
+        for (int i = 0; i < config.seed; i++) {
+            permits.acquire();
+            HttpRequest request = HttpRequest.newBuilder(URI.create(config.baseUrl + "/clients"))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(nextClientJson()))
+                    .build();
+            client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        if (error != null || response.statusCode() != 201) {
+                            failures.incrementAndGet();
+                            causes.merge(error != null ? error.getClass().getSimpleName()
+                                    : String.valueOf(response.statusCode()), 1L, Long::sum);
+                        }
+                        permits.release();
+                    });
+            if ((i + 1) % step == 0) {
+                System.out.printf("Seeded %d/%d clients%n", i + 1, config.seed);
+            }
+        }
+        permits.acquire(config.seedConcurrency);
+        report(config.seed, failures.get(), start);
+        if (!causes.isEmpty()) {
+            System.out.println("Seeding failures by cause: " + causes);
+        }
+    }
+
+    void seedOverJdbc(LoadTestConfig config) throws SQLException {
+        long start = System.nanoTime();
+        try (Connection connection = DriverManager.getConnection(config.jdbcUrl, config.jdbcUser, config.jdbcPassword);
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO clients (first_name, last_name, age, birth_date, created_at, updated_at, version) VALUES (?, ?, ?, ?, ?, ?, 0)")) {
+            connection.setAutoCommit(false);
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            for (int i = 0; i < config.seed; i++) {
+                int age = random.nextInt(0, 100);
+                insert.setString(1, name());
+                insert.setString(2, name());
+                insert.setInt(3, age);
+                insert.setDate(4, Date.valueOf(birthDate(age)));
+                insert.setTimestamp(5, now);
+                insert.setTimestamp(6, now);
+                insert.addBatch();
+                if ((i + 1) % JDBC_BATCH == 0 || i + 1 == config.seed) {
+                    insert.executeBatch();
+                    connection.commit();
+                    System.out.printf("Seeded %d/%d clients%n", i + 1, config.seed);
+                }
+            }
+        }
+        report(config.seed, 0, start);
+    }
+
+    String nextClientJson() {
+        int age = random.nextInt(0, 100);
+        return "{\"firstName\":\"" + name() + "\",\"lastName\":\"" + name()
+                + "\",\"age\":" + age + ",\"birthDate\":\"" + birthDate(age) + "\"}";
+    }
+
+    private LocalDate birthDate(int age) {
+        return LocalDate.now().minusYears(age).minusDays(random.nextInt(1, 365));
+    }
+
+    private String name() {
+        StringBuilder name = new StringBuilder();
+        int syllables = random.nextInt(2, 4);
+        for (int i = 0; i < syllables; i++) {
+            name.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        name.setCharAt(0, Character.toUpperCase(name.charAt(0)));
+        return name.toString();
+    }
+
+    private static void report(int seeded, long failures, long startNanos) {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        System.out.printf("Seeded %d clients in %.1f s (%.0f/s), %d failures%n",
+                seeded - failures, seconds, seeded / seconds, failures);
+    }
+
+    static String obtainToken(LoadTestConfig config, HttpClient client) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(config.baseUrl + "/auth/token"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("{\"username\":\"load-test\",\"password\":\"load-test\"}"))
+                .build();
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("Token request failed with " + response.statusCode() + ": " + response.body());
+        }
+        return new ObjectMapper().readTree(response.body()).get("accessToken").asText();
+    }
+}
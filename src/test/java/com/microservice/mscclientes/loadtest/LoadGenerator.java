@@ -0,0 +1,136 @@
+package com.microservice.mscclientes.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop traffic generator.
+ * Requests are scheduled at a fixed arrival rate regardless of how fast the
+ * service answers, and each latency is measured from the request's scheduled
+ * start, so a stalled service shows up in the percentiles instead of silently
+ * lowering the offered load (coordinated omission). Requests that would
+ * exceed the in-flight cap are counted as dropped rather than delayed.
+ */
+final class LoadGenerator {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final LoadTestConfig config;
+    private final HttpClient client;
+    private final String token;
+    private final ClientSeeder bodies;
+    private final Operation[] schedule;
+    private final Map<Operation, Stats> stats = new EnumMap<>(Operation.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    LoadGenerator(LoadTestConfig config, HttpClient client, String token, ClientSeeder bodies) {
+        this.config = config;
+        this.client = client;
+        this.token = token;
+        this.bodies = bodies;
+        int totalWeight = config.mix.values().stream().mapToInt(Integer::intValue).sum();
+        this.schedule = new Operation[totalWeight];
+        int index = 0;
+        for (Map.Entry<Operation, Integer> entry : config.mix.entrySet()) {
+            for (int i = 0; i < entry.getValue(); i++) {
+                schedule[index++] = entry.getKey();
+            }
+            stats.put(entry.getKey(), new Stats());
+        }
+    }
+
+    /**
+     * Drive traffic for the given time
+     * @param duration how long to send requests
+     * @param record whether to keep the results; warm-up runs are discarded
+     * @return elapsed seconds including the drain of in-flight requests
+     */
+    double run(Duration duration, boolean record) throws InterruptedException {
+        SplittableRandom random = new SplittableRandom(7);
+        long intervalNanos = (long) (1_000_000_000L / config.rate);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (long i = 0; ; i++) {
+            long scheduled = start + i * intervalNanos;
+            if (scheduled >= end) {
+                break;
+            }
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            send(schedule[random.nextInt(schedule.length)], scheduled, record);
+        }
+        while (inFlight.get() > 0) {
+            Thread.sleep(10);
+        }
+        return (System.nanoTime() - start) / 1e9;
+    }
+
+    Map<Operation, Stats> getStats() {
+        return stats;
+    }
+
+    private void send(Operation operation, long scheduledNanos, boolean record) {
+        Stats target = record ? stats.get(operation) : null;
+        if (inFlight.incrementAndGet() > config.maxInFlight) {
+            inFlight.decrementAndGet();
+            if (target != null) {
+                target.dropped.increment();
+            }
+            return;
+        }
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(config.baseUrl + operation.getPath()))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(30));
+        if (operation == Operation.CREATE) {
+            builder.header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(bodies.nextClientJson()));
+        } else {
+            builder.GET();
+        }
+        client.sendAsync(builder.build(), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    inFlight.decrementAndGet();
+                    if (target == null) {
+                        return;
+                    }
+                    long micros = (System.nanoTime() - scheduledNanos) / 1_000;
+                    if (error == null && response.statusCode() == operation.getExpectedStatus()) {
+                        target.latency.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+                    } else {
+                        target.failed(error != null ? error.getClass().getSimpleName() : String.valueOf(response.statusCode()));
+                    }
+                });
+    }
+
+    /**
+     * Results of one operation type
+     */
+    static final class Stats {
+
+        final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+        final LongAdder errors = new LongAdder();
+        final LongAdder dropped = new LongAdder();
+        final Map<String, LongAdder> errorsByCause = new ConcurrentHashMap<>();
+
+        void failed(String cause) {
+            errors.increment();
+            errorsByCause.computeIfAbsent(cause, key -> new LongAdder()).increment();
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.microservice.mscclientes.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Load test settings parsed from --key=value arguments.
+ */
+final class LoadTestConfig {
+
+    String baseUrl = "http://localhost:8080/api/v1";
+    String jar;
+    String profile = "simple";
+    final List<String> appArgs = new ArrayList<>();
+
+    int seed = 10_000;
+    String seedMode = "http";
+    int seedConcurrency = 32;
+    String jdbcUrl = "jdbc:mysql://localhost:3306/clientes_db";
+    String jdbcUser = "root";
+    String jdbcPassword = "";
+
+    double rate = 200;
+    Duration warmup = Duration.ofSeconds(10);
+    Duration duration = Duration.ofSeconds(60);
+    int maxInFlight = 2_000;
+    final Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+
+    Path reportDir = Path.of("target", "load-test");
+    String name = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+    Path baseline;
+    double tolerance = 0.10;
+
+    private LoadTestConfig() {
+        mix.put(Operation.CREATE, 10);
+        mix.put(Operation.LIST, 10);
+        mix.put(Operation.METRICS, 80);
+    }
+
+    static LoadTestConfig parse(String[] args) {
+        LoadTestConfig config = new LoadTestConfig();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --key=value, got " + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            switch (key) {
+                case "base-url" -> config.baseUrl = value;
+                case "jar" -> config.jar = value;
+                case "profile" -> config.profile = value;
+                case "app-arg" -> config.appArgs.add(value);
+                case "seed" -> config.seed = Integer.parseInt(value.replace("_", ""));
+                case "seed-mode" -> config.seedMode = value;
+                case "seed-concurrency" -> config.seedConcurrency = Integer.parseInt(value);
+                case "jdbc-url" -> config.jdbcUrl = value;
+                case "jdbc-user" -> config.jdbcUser = value;
+                case "jdbc-password" -> config.jdbcPassword = value;
+                case "rate" -> config.rate = Double.parseDouble(value);
+                case "warmup" -> config.warmup = Duration.ofSeconds(Long.parseLong(value));
+                case "duration" -> config.duration = Duration.ofSeconds(Long.parseLong(value));
+                case "max-in-flight" -> config.maxInFlight = Integer.parseInt(value);
+                case "mix" -> config.parseMix(value);
+                case "report-dir" -> config.reportDir = Path.of(value);
+                case "name" -> config.name = value;
+                case "baseline" -> config.baseline = Path.of(value);
+                case "tolerance" -> config.tolerance = Double.parseDouble(value);
+                default -> throw new IllegalArgumentException("Unknown option --" + key);
+            }
+        }
+        if (!config.seedMode.equals("http") && !config.seedMode.equals("jdbc")) {
+            throw new IllegalArgumentException("--seed-mode must be http or jdbc");
+        }
+        return config;
+    }
+
+    // e.g. create:10,list:5,metrics:85
+    private void parseMix(String value) {
+        mix.clear();
+        for (String part : value.split(",")) {
+            String[] entry = part.split(":");
+            int weight = Integer.parseInt(entry[1]);
+            if (weight > 0) {
+                mix.put(Operation.fromKey(entry[0].trim()), weight);
+            }
+        }
+        if (mix.isEmpty()) {
+            throw new IllegalArgumentException("--mix needs at least one positive weight");
+        }
+    }
+
+    Map<String, Object> describe() {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("baseUrl", baseUrl);
+        description.put("profile", jar != null ? profile : null);
+        description.put("seed", seed);
+        description.put("seedMode", seedMode);
+        description.put("rate", rate);
+        description.put("warmupSeconds", warmup.toSeconds());
+        description.put("durationSeconds", duration.toSeconds());
+        Map<String, Integer> weights = new LinkedHashMap<>();
+        mix.forEach((operation, weight) -> weights.put(operation.getKey(), weight));
+        description.put("mix", weights);
+        return description;
+    }
+}
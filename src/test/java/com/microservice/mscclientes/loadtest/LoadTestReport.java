@@ -0,0 +1,145 @@
+package com.microservice.mscclientes.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-operation throughput and latency percentiles of one run.
+ * Written as JSON plus one HdrHistogram percentile distribution (.hgrm) per
+ * operation, and compared against a previous run's JSON to catch regressions.
+ */
+final class LoadTestReport {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String[] PERCENTILE_KEYS = {"p50Millis", "p90Millis", "p99Millis", "p999Millis"};
+
+    private final ObjectMapper mapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private final Map<String, Object> report = new LinkedHashMap<>();
+    private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+
+    LoadTestReport(LoadTestConfig config, Map<Operation, LoadGenerator.Stats> stats, double elapsedSeconds) {
+        report.put("name", config.name);
+        report.put("config", config.describe());
+        report.put("elapsedSeconds", elapsedSeconds);
+        Map<String, Object> operations = new LinkedHashMap<>();
+        Histogram total = new Histogram(3);
+        long totalErrors = 0;
+        long totalDropped = 0;
+        for (Map.Entry<Operation, LoadGenerator.Stats> entry : stats.entrySet()) {
+            LoadGenerator.Stats result = entry.getValue();
+            histograms.put(entry.getKey().getKey(), result.latency);
+            Map<String, Object> summary = summarize(result.latency, result.errors.sum(), result.dropped.sum(), elapsedSeconds);
+            Map<String, Long> causes = new TreeMap<>();
+            result.errorsByCause.forEach((cause, count) -> causes.put(cause, count.sum()));
+            summary.put("errorsByCause", causes);
+            operations.put(entry.getKey().getKey(), summary);
+            total.add(result.latency);
+            totalErrors += result.errors.sum();
+            totalDropped += result.dropped.sum();
+        }
+        histograms.put("total", total);
+        operations.put("total", summarize(total, totalErrors, totalDropped, elapsedSeconds));
+        report.put("operations", operations);
+    }
+
+    private static Map<String, Object> summarize(Histogram latency, long errors, long dropped, double elapsedSeconds) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", latency.getTotalCount());
+        summary.put("errors", errors);
+        summary.put("dropped", dropped);
+        summary.put("throughput", latency.getTotalCount() / elapsedSeconds);
+        for (int i = 0; i < PERCENTILES.length; i++) {
+            summary.put(PERCENTILE_KEYS[i], latency.getValueAtPercentile(PERCENTILES[i]) / 1_000.0);
+        }
+        summary.put("maxMillis", latency.getMaxValue() / 1_000.0);
+        return summary;
+    }
+
+    Path write(Path directory, String name) throws IOException {
+        Files.createDirectories(directory);
+        Path json = directory.resolve(name + ".json");
+        mapper.writeValue(json.toFile(), report);
+        for (Map.Entry<String, Histogram> entry : histograms.entrySet()) {
+            try (PrintStream out = new PrintStream(directory.resolve(name + "-" + entry.getKey() + ".hgrm").toFile())) {
+                entry.getValue().outputPercentileDistribution(out, 1_000.0);
+            }
+        }
+        return json;
+    }
+
+    @SuppressWarnings("unchecked")
+    void print(PrintStream out) {
+        out.printf("%-8s %10s %8s %8s %10s %9s %9s %9s %9s %9s%n",
+                "op", "requests", "errors", "dropped", "req/s", "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms");
+        Map<String, Map<String, Object>> operations = (Map<String, Map<String, Object>>) report.get("operations");
+        operations.forEach((operation, summary) -> out.printf("%-8s %10d %8d %8d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                operation, summary.get("requests"), summary.get("errors"), summary.get("dropped"), summary.get("throughput"),
+                summary.get("p50Millis"), summary.get("p90Millis"), summary.get("p99Millis"),
+                summary.get("p999Millis"), summary.get("maxMillis")));
+        operations.forEach((operation, summary) -> {
+            Object causes = summary.get("errorsByCause");
+            if (causes instanceof Map<?, ?> map && !map.isEmpty()) {
+                out.println("  " + operation + " errors: " + map);
+            }
+        });
+    }
+
+    /**
+     * @return whether the baseline ran with the same seed, rate, durations and mix
+     */
+    boolean sameConfig(Path baseline) throws IOException {
+        return mapper.readTree(baseline.toFile()).path("config").equals(mapper.valueToTree(report.get("config")));
+    }
+
+    /**
+     * Compare with a previous run
+     * @param baseline JSON written by an earlier run
+     * @param tolerance relative slack, e.g. 0.10 for 10%
+     * @return one line per regression; empty when the run is within tolerance
+     */
+    List<String> compare(Path baseline, double tolerance) throws IOException {
+        JsonNode previous = mapper.readTree(baseline.toFile()).path("operations");
+        JsonNode current = mapper.valueToTree(report).path("operations");
+        List<String> regressions = new ArrayList<>();
+        current.fields().forEachRemaining(entry -> {
+            JsonNode before = previous.path(entry.getKey());
+            if (before.isMissingNode()) {
+                return;
+            }
+            JsonNode after = entry.getValue();
+            for (String key : PERCENTILE_KEYS) {
+                double was = before.path(key).asDouble();
+                double is = after.path(key).asDouble();
+                if (was > 0 && is > was * (1 + tolerance)) {
+                    regressions.add(String.format("%s %s: %.2f -> %.2f ms (+%.0f%%)",
+                            entry.getKey(), key, was, is, (is / was - 1) * 100));
+                }
+            }
+            double was = before.path("throughput").asDouble();
+            double is = after.path("throughput").asDouble();
+            if (was > 0 && is < was * (1 - tolerance)) {
+                regressions.add(String.format("%s throughput: %.1f -> %.1f req/s (%.0f%%)",
+                        entry.getKey(), was, is, (is / was - 1) * 100));
+            }
+            if (after.path("errors").asLong() + after.path("dropped").asLong()
+                    > before.path("errors").asLong() + before.path("dropped").asLong()) {
+                regressions.add(String.format("%s failures: %d -> %d", entry.getKey(),
+                        before.path("errors").asLong() + before.path("dropped").asLong(),
+                        after.path("errors").asLong() + after.path("dropped").asLong()));
+            }
+        });
+        return regressions;
+    }
+}
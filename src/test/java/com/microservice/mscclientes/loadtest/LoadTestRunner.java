@@ -0,0 +1,71 @@
+package com.microservice.mscclientes.loadtest;
+
+import java.net.http.HttpClient;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Entry point of the HTTP load test: optionally boots the packaged service,
+ * seeds clients, obtains a token, warms up, drives an open-loop traffic mix
+ * and writes a report, failing with exit code 2 when a baseline is given and
+ * the run regressed beyond the tolerance. Options are documented in the README.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        ClientSeeder seeder = new ClientSeeder();
+
+        if (config.seed > 0 && config.seedMode.equals("jdbc")) {
+            seeder.seedOverJdbc(config);
+        }
+        int exitCode = 0;
+        AppProcess app = config.jar != null ? AppProcess.start(config, client) : null;
+        try {
+            String token = ClientSeeder.obtainToken(config, client);
+            if (config.seed > 0 && config.seedMode.equals("http")) {
+                seeder.seedOverHttp(config, client, token);
+            }
+
+            LoadGenerator generator = new LoadGenerator(config, client, token, seeder);
+            if (!config.warmup.isZero()) {
+                System.out.printf("Warming up for %d s at %.0f req/s%n", config.warmup.toSeconds(), config.rate);
+                generator.run(config.warmup, false);
+            }
+            System.out.printf("Measuring for %d s at %.0f req/s%n", config.duration.toSeconds(), config.rate);
+            double elapsed = generator.run(config.duration, true);
+
+            LoadTestReport report = new LoadTestReport(config, generator.getStats(), elapsed);
+            report.print(System.out);
+            Path written = report.write(config.reportDir, config.name);
+            System.out.println("Report written to " + written);
+
+            if (config.baseline != null) {
+                if (!report.sameConfig(config.baseline)) {
+                    System.out.println("Warning: " + config.baseline + " ran with different settings; throughput is not comparable");
+                }
+                List<String> regressions = report.compare(config.baseline, config.tolerance);
+                if (!regressions.isEmpty()) {
+                    System.out.println("Regressions against " + config.baseline + ":");
+                    regressions.forEach(line -> System.out.println("  " + line));
+                    exitCode = 2;
+                } else {
+                    System.out.println("No regressions against " + config.baseline);
+                }
+            }
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+        }
+        System.exit(exitCode);
+    }
+}
@@ -0,0 +1,48 @@
+package com.microservice.mscclientes.loadtest;
+
+/**
+ * Request types the load generator can send.
+ */
+enum Operation {
+
+    CREATE("create", "POST", "/clients", 201),
+    LIST("list", "GET", "/clients", 200),
+    METRICS("metrics", "GET", "/clients/metrics", 200);
+
+    private final String key;
+    private final String method;
+    private final String path;
+    private final int expectedStatus;
+
+    Operation(String key, String method, String path, int expectedStatus) {
+        this.key = key;
+        this.method = method;
+        this.path = path;
+        this.expectedStatus = expectedStatus;
+    }
+
+    String getKey() {
+        return key;
+    }
+
+    String getMethod() {
+        return method;
+    }
+
+    String getPath() {
+        return path;
+    }
+
+    int getExpectedStatus() {
+        return expectedStatus;
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown operation '" + key + "', expected create, list or metrics");
+    }
+}